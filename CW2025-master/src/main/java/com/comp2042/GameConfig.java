@@ -27,6 +27,14 @@ public final class GameConfig {
     public static final int BRICK_SPAWN_Y = 1;
     /** The size of a single brick square in pixels. */
     public static final int BRICK_SIZE = 20;
+    /** The most board rows drawn at once; taller boards show a window that follows the falling brick. */
+    public static final int VIEWPORT_ROWS = 40;
+    /** The rows the window keeps between the falling brick and its top or bottom edge. */
+    public static final int VIEWPORT_MARGIN = 6;
+    /** Height of the sandbox board (rows), used to stress-test the board code. */
+    public static final int SANDBOX_BOARD_HEIGHT = 2000;
+    /** Width of the sandbox board (columns). */
+    public static final int SANDBOX_BOARD_WIDTH = 100;
 
 
     // Timing and Difficulty
@@ -42,6 +50,12 @@ public final class GameConfig {
     public static final double SPEED_INCREASE_FACTOR = 0.95;
     /** The Y-offset for "Speed UP!" notifications to avoid overlapping score. */
     public static final double SPEEDUP_NOTIFICATION_Y_OFFSET = 30.0;
+    /** The Y-offset for finesse notifications, below the "Speed UP!" ones. */
+    public static final double FINESSE_NOTIFICATION_Y_OFFSET = 60.0;
+    /** The most notifications shown at once; a new one replaces the oldest beyond this. */
+    public static final int NOTIFICATION_POOL_SIZE = 3;
+    /** The number of times one sound effect can play at once; a further trigger cuts off the oldest. */
+    public static final int SOUND_EFFECT_POLYPHONY = 4;
 
 
     // UI
@@ -61,4 +75,18 @@ public final class GameConfig {
     public static final int SOFT_DROP_SCORE = 1;
     /** Score multiplier for a hard drop per row moved. */
     public static final int HARD_DROP_SCORE_MULTIPLIER = 2;
+    /** The number of games kept on each difficulty's leaderboard. */
+    public static final int LEADERBOARD_SIZE = 10;
+    /** The directory holding the game history log segments. */
+    public static final String HISTORY_DIR = "history";
+    /** The binary file holding the player's key bindings and leaderboards. */
+    public static final String PROFILE_FILE = "profile.dat";
+    /** The file holding the suspended game that can be resumed from the main menu. */
+    public static final String SAVE_FILE = "savegame.dat";
+    /** The precomputed early-game placements used by hints (built by PositionDatabaseBuilder). */
+    public static final String POSITION_DB_FILE = "positions.db";
+    /** The time between autosaves of a running game (in milliseconds). */
+    public static final int AUTOSAVE_INTERVAL_MS = 5000;
+    /** The most disk writes that may wait for the background writer at once. */
+    public static final int WRITE_QUEUE_CAPACITY = 64;
 }
@@ -0,0 +1,117 @@
+package com.comp2042.controller;
+
+import com.comp2042.metrics.LatencyRecorder;
+import com.comp2042.model.ai.BitBoard;
+import com.comp2042.model.ai.FinesseAnalyzer;
+import com.comp2042.model.ai.Placement;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntConsumer;
+
+/**
+ * Compares the keys the player pressed for each brick with the fewest inputs that would
+ * have reached the same placement (see {@link FinesseAnalyzer}).
+ * Presses are counted on the FX thread by the {@link InputHandler}; soft drops are not counted,
+ * just as {@link FinesseAnalyzer#minimalInputs} leaves them out. When a brick locks, the
+ * board is copied and the analysis runs on a background thread, so it never delays a frame.
+ */
+public class FinesseTracker {
+
+    /** One analysis thread shared by all games; it is a daemon so it never keeps the app alive. */
+    private static final ExecutorService SHARED_EXECUTOR = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "finesse-analysis");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private final ExecutorService executor;
+    private final IntConsumer onFault;
+    private final LatencyRecorder latency = new LatencyRecorder("finesse");
+
+    /** Presses for the current brick; only touched on the FX thread. */
+    private int presses;
+
+    private final AtomicInteger piecesAnalyzed = new AtomicInteger();
+    private final AtomicInteger faults = new AtomicInteger();
+    private final AtomicLong extraInputs = new AtomicLong();
+
+    /**
+     * Constructs a tracker that analyzes on the shared finesse thread.
+     *
+     * @param onFault Called on the analysis thread with the number of extra presses whenever
+     *                a brick was placed with more inputs than needed.
+     */
+    public FinesseTracker(IntConsumer onFault) {
+        this(SHARED_EXECUTOR, onFault);
+    }
+
+    /**
+     * Constructs a tracker that analyzes on the given executor.
+     *
+     * @param executor The executor that runs the analyses.
+     * @param onFault  Called with the number of extra presses for each finesse fault.
+     */
+    public FinesseTracker(ExecutorService executor, IntConsumer onFault) {
+        this.executor = executor;
+        this.onFault = onFault;
+    }
+
+    /**
+     * Records one key press for the falling brick.
+     */
+    public void recordPress() {
+        presses++;
+    }
+
+    /**
+     * Forgets the presses counted so far, e.g. when the brick is swapped with the hold slot.
+     */
+    public void resetPresses() {
+        presses = 0;
+    }
+
+    /**
+     * Queues the analysis of a brick that is about to lock and starts counting for the next one.
+     *
+     * @param boardMatrix The background board before the brick is merged.
+     * @param placement   Where the brick landed.
+     * @param hardDropped Whether the player hard-dropped the brick; otherwise it locked by gravity
+     *                    or a soft drop, and no drop input is expected.
+     */
+    public void pieceLocked(int[][] boardMatrix, Placement placement, boolean hardDropped) {
+        int pressed = presses;
+        presses = 0;
+        BitBoard board = BitBoard.fromMatrix(boardMatrix);
+        long start = System.nanoTime();
+        executor.execute(() -> analyze(board, placement, hardDropped, pressed, start));
+    }
+
+    private void analyze(BitBoard board, Placement placement, boolean hardDropped, int pressed, long start) {
+        int minimal = FinesseAnalyzer.minimalInputs(board, placement, hardDropped);
+        latency.recordSince(start);
+        // unreachable placements (e.g. an obstacle landed on the path) are not judged
+        if (minimal < 0) return;
+        piecesAnalyzed.incrementAndGet();
+        int extra = pressed - minimal;
+        if (extra > 0) {
+            faults.incrementAndGet();
+            extraInputs.addAndGet(extra);
+            onFault.accept(extra);
+        }
+    }
+
+    /** @return The number of bricks analyzed so far. */
+    public int getPiecesAnalyzed() { return piecesAnalyzed.get(); }
+
+    /** @return The number of bricks placed with more inputs than needed. */
+    public int getFaults() { return faults.get(); }
+
+    /** @return The total number of unnecessary inputs. */
+    public long getExtraInputs() { return extraInputs.get(); }
+
+    /** @return The analysis latency metric. */
+    public LatencyRecorder getLatency() { return latency; }
+}
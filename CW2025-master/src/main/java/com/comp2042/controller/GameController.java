@@ -1,13 +1,24 @@
 package com.comp2042.controller;
 
 import com.comp2042.GameConfig;
+import com.comp2042.metrics.PerformanceMonitor;
 import com.comp2042.model.*;
+import com.comp2042.model.ai.AutoPlayer;
+import com.comp2042.model.ai.HeuristicEvaluator;
+import com.comp2042.model.ai.HintService;
+import com.comp2042.model.ai.Placement;
+import com.comp2042.model.ai.PositionDatabase;
+import com.comp2042.model.history.GameHistoryLog;
+import com.comp2042.model.history.GameRecord;
+import com.comp2042.model.history.GameStatistics;
+import com.comp2042.view.AudioEngine;
 import com.comp2042.view.GuiController;
 import com.comp2042.view.InputEventListener;
+import javafx.animation.Animation;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
+import javafx.application.Platform;
 import javafx.util.Duration;
-import javafx.scene.media.MediaPlayer;
 
 /**
  * The main controller for the Tetris game, implementing the {@link InputEventListener} interface.
@@ -36,12 +47,21 @@ public class GameController implements InputEventListener {
     /** Timeline for spawning random obstacles in EXTRA HARD mode. */
     private Timeline obstacleSpawningTimeline;
 
+    /** Timeline that periodically hands a snapshot of the game to the {@link SaveGameStore}. */
+    private Timeline autosaveTimeline;
+
     /** Reference to the GUI controller for updating the view. */
     private final GuiController guiController;
 
     /** The difficulty level selected by the player. */
     private final Difficulty selectedDifficulty;
 
+    /**
+     * Whether this is a sandbox game on a board of any size: it is never saved or scored, and the
+     * hints and finesse checks, which look at the whole board, are off.
+     */
+    private final boolean sandbox;
+
     // ==================== GAME PROGRESSION FIELDS ====================
     
     /** Current milliseconds between automatic downward moves (decreases with level-ups). */
@@ -50,19 +70,37 @@ public class GameController implements InputEventListener {
     /** Number of lines needed to trigger next speed increase. */
     private int linesRequiredForNextSpeedUp;
 
-    // ==================== AUDIO FIELDS ====================
-    
-    /** Shared MediaPlayer for line-clear sound effect. */
-    private final MediaPlayer lineClearSoundPlayer;
+    /** Number of bricks locked this game (for the game history). */
+    private int piecesPlaced;
 
-    /** Shared MediaPlayer for speed-up notification sound effect. */
-    private final MediaPlayer speedUpNotificationSoundPlayer;
+    /** The placements that can be undone, or {@code null} if this difficulty has no undo. */
+    private final BoardHistory boardHistory;
+
+    /** Whether a placement was undone this game; such games stay off the leaderboard. */
+    private boolean undoUsed;
+
+    /** Play time of this game before the last pause, in nanoseconds. */
+    private long playedNanos;
+
+    /** When the game was last started or resumed ({@link System#nanoTime()}), or 0 while paused. */
+    private long playStartNanos;
 
     // ==================== PERSISTENCE FIELDS ====================
     
     /** Manager for saving/loading high scores to disk. */
     private final HighScoreManager highScoreManager;
 
+    /** Holds the suspended game that can be resumed from the main menu. */
+    private final SaveGameStore saveGameStore;
+
+    // ==================== HINT FIELDS ====================
+
+    /** Searches the best placement for each new brick on a background thread. */
+    private final HintService hintService;
+
+    /** Compares the player's key presses per brick with the fewest needed. */
+    private final FinesseTracker finesseTracker;
+
     // ==================== CONSTANTS ====================
     
     /** Probability threshold for spawning obstacles in EXTRA HARD mode (50%). */
@@ -75,8 +113,6 @@ public class GameController implements InputEventListener {
      * 
      * @param guiController              The {@link GuiController} (View) instance to manage.
      * @param difficulty                 The {@link Difficulty} level selected by the player.
-     * @param clearRowSoundPlayer        The shared {@link MediaPlayer} for the line clear sound.
-     * @param speedUpSoundPlayer         The shared {@link MediaPlayer} for the speed up sound.
      * @param gameSettings               The {@link GameSettings} object containing user keybindings.
      * 
      * REASONING: Constructor orchestrates initialization order carefully:
@@ -91,41 +127,102 @@ public class GameController implements InputEventListener {
     public GameController(
             GuiController guiController,
             Difficulty difficulty,
-            MediaPlayer clearRowSoundPlayer,
-            MediaPlayer speedUpSoundPlayer,
             GameSettings gameSettings) {
+        this(guiController, difficulty, null, gameSettings,
+            GameConfig.BOARD_HEIGHT, GameConfig.BOARD_WIDTH, false);
+    }
+
+    /**
+     * Creates a GameController that continues a suspended game exactly where it was saved.
+     *
+     * @param guiController              The {@link GuiController} (View) instance to manage.
+     * @param snapshot                   The saved game to resume.
+     * @param gameSettings               The {@link GameSettings} object containing user keybindings.
+     */
+    public GameController(
+            GuiController guiController,
+            GameSnapshot snapshot,
+            GameSettings gameSettings) {
+        this(guiController, snapshot.getDifficulty(), snapshot, gameSettings,
+            GameConfig.BOARD_HEIGHT, GameConfig.BOARD_WIDTH, false);
+    }
+
+    /**
+     * Creates a sandbox game on a board of any size, e.g. to stress-test the board code with
+     * {@link GameConfig#SANDBOX_BOARD_HEIGHT} rows. It plays like {@link Difficulty#EASY} without undo,
+     * and is never saved or added to the leaderboard.
+     *
+     * @param guiController              The {@link GuiController} (View) instance to manage.
+     * @param rows                       The number of rows of the board.
+     * @param columns                    The number of columns of the board.
+     * @param gameSettings               The {@link GameSettings} object containing user keybindings.
+     */
+    public GameController(
+            GuiController guiController,
+            int rows,
+            int columns,
+            GameSettings gameSettings) {
+        this(guiController, Difficulty.EASY, null, gameSettings, rows, columns, true);
+    }
+
+    private GameController(
+            GuiController guiController,
+            Difficulty difficulty,
+            GameSnapshot snapshot,
+            GameSettings gameSettings,
+            int rows,
+            int columns,
+            boolean sandbox) {
         
         // Store all references first (immutable initialization)
         this.guiController = guiController;
         this.selectedDifficulty = difficulty;
-        this.lineClearSoundPlayer = clearRowSoundPlayer;
-        this.speedUpNotificationSoundPlayer = speedUpSoundPlayer;
+        this.sandbox = sandbox;
         
         // Initialize board with explicit dimensions (prevents constructor parameter confusion)
-        this.gameBoard = new SimpleBoard(GameConfig.BOARD_HEIGHT, GameConfig.BOARD_WIDTH);
+        this.gameBoard = snapshot == null
+            ? new SimpleBoard(rows, columns)
+            : new SimpleBoard(rows, columns, snapshot.getSeed());
         
         // Setup event communication channel from input handler to this controller
         this.guiController.setEventListener(this, gameSettings);
         
-        // Register sound players with GUI for playback control
-        this.guiController.setupSoundPlayers(
-            this.lineClearSoundPlayer,
-            this.speedUpNotificationSoundPlayer
-        );
-        
         // Configure game parameters based on difficulty level
         initializeDifficultySettings(difficulty);
         
         // Setup high score persistence and display current best score
         this.highScoreManager = new HighScoreManager(this.selectedDifficulty);
-        this.guiController.updateHighScore(this.highScoreManager.getHighScore());
+        this.guiController.updateHighScore(sandbox ? 0 : this.highScoreManager.getHighScore());
+
+        // Hints are computed off the FX thread and handed back through runLater;
+        // early-game positions come straight from the position database when it was built
+        this.hintService = new HintService(
+            new AutoPlayer(new HeuristicEvaluator(), PositionDatabase.getDefault()),
+            () -> Platform.runLater(this::showReadyHint)
+        );
+
+        // Finesse faults are found off the FX thread and reported as a notification
+        this.finesseTracker = new FinesseTracker(extraPresses -> Platform.runLater(() ->
+            this.guiController.showNotification("Finesse +" + extraPresses, GameConfig.FINESSE_NOTIFICATION_Y_OFFSET)
+        ));
         
-        // Initialize first brick and setup board display
-        this.gameBoard.createNewBrick();
+        // Autosaves go to the shared store; the running game replaces any older save
+        this.saveGameStore = SaveGameStore.getDefault();
+
+        // EASY (no speed-ups, no obstacles) is the practice difficulty: placements can be undone
+        this.boardHistory = difficulty == Difficulty.EASY && !sandbox ? new BoardHistory() : null;
+
+        // Initialize first brick (or continue the saved one) and setup board display
+        if (snapshot == null) {
+            this.gameBoard.createNewBrick();
+        } else {
+            restoreSnapshot(snapshot);
+        }
         this.guiController.initGameView(
             this.gameBoard.getBoardMatrix(),
             this.gameBoard.getViewData()
         );
+        requestHint();
         
         // Bind score properties to UI (creates live two-way binding)
         this.guiController.bindScore(this.gameBoard.getScore().scoreProperty());
@@ -133,6 +230,8 @@ public class GameController implements InputEventListener {
         
         // Start the game loop (must be last to ensure all state initialized)
         startGameLoop();
+        startAutosaveTimer();
+        this.playStartNanos = System.nanoTime();
     }
 
     // ==================== GAME LOOP ====================
@@ -174,15 +273,76 @@ public class GameController implements InputEventListener {
      * - Separation of timeline setup from game logic
      */
     private void processAutomaticDownMovement() {
+        long tickStart = System.nanoTime();
         // Process the down movement and get state changes
         DownData downEventResult = onDownEvent(
             new MoveEvent(EventType.DOWN, EventSource.THREAD)
         );
+        PerformanceMonitor.getInstance().getTickTime().recordSince(tickStart);
         
         // Update screen to reflect new brick position
         this.guiController.refreshBrick(downEventResult.getViewData());
     }
 
+    // ==================== SUSPEND / RESUME ====================
+
+    /**
+     * Starts the timer that autosaves the running game every {@link GameConfig#AUTOSAVE_INTERVAL_MS}.
+     * The snapshot is taken here on the FX thread (a small packed copy); encoding and writing
+     * happen on the {@link SaveGameStore}'s background thread, so gameplay never waits on disk.
+     */
+    private void startAutosaveTimer() {
+        this.autosaveTimeline = new Timeline(
+            new KeyFrame(
+                Duration.millis(GameConfig.AUTOSAVE_INTERVAL_MS),
+                event -> autosave()
+            )
+        );
+        this.autosaveTimeline.setCycleCount(Timeline.INDEFINITE);
+        this.autosaveTimeline.play();
+    }
+
+    /**
+     * Hands the current game to the {@link SaveGameStore}.
+     */
+    private void autosave() {
+        if (this.sandbox) {
+            return;
+        }
+        this.saveGameStore.saveLater(createSnapshot());
+    }
+
+    /**
+     * Captures the whole game: the board state plus speed, level and play-time progression.
+     *
+     * @return An immutable snapshot of the game.
+     */
+    public GameSnapshot createSnapshot() {
+        return new GameSnapshot(
+            this.selectedDifficulty,
+            this.gameBoard.getSeed(),
+            this.gameBoard.saveState(),
+            this.gameSpeedMilliseconds,
+            this.linesRequiredForNextSpeedUp,
+            this.piecesPlaced,
+            getPlayedMillis()
+        );
+    }
+
+    /**
+     * Puts a saved game back on the board and restores its progression.
+     * Must run after {@link #initializeDifficultySettings}, whose defaults it overrides.
+     *
+     * @param snapshot The saved game.
+     */
+    private void restoreSnapshot(GameSnapshot snapshot) {
+        this.gameBoard.restoreState(snapshot.getBoard());
+        this.gameSpeedMilliseconds = snapshot.getGameSpeedMillis();
+        this.linesRequiredForNextSpeedUp = snapshot.getLinesRequiredForNextSpeedUp();
+        this.piecesPlaced = snapshot.getPiecesPlaced();
+        this.playedNanos = snapshot.getPlayedMillis() * 1_000_000;
+    }
+
     // ==================== OBSTACLE SPAWNING (EXTRA HARD MODE) ====================
 
     /**
@@ -222,6 +382,9 @@ public class GameController implements InputEventListener {
             
             // Force GUI to redraw background to show new obstacles
             this.guiController.refreshGameBackground(this.gameBoard.getBoardMatrix());
+
+            // The old hint may now overlap the obstacle
+            requestHint();
         }
     }
 
@@ -319,7 +482,7 @@ public class GameController implements InputEventListener {
                 this.gameSpeedMilliseconds = newSpeed;
                 
                 // Notify player of speed increase
-                this.guiController.playSound(this.speedUpNotificationSoundPlayer);
+                this.guiController.playSound(AudioEngine.Effect.SPEED_UP);
                 this.guiController.showNotification(
                     "Speed UP!",
                     GameConfig.SPEEDUP_NOTIFICATION_Y_OFFSET
@@ -335,7 +498,8 @@ public class GameController implements InputEventListener {
 
     /**
      * Saves the final game score and checks if it's a new high score.
-     * Updates high score file if necessary and displays notification to player.
+     * Adds the game to the leaderboard and displays notification to player.
+     * The file is written by a background thread, so game over never waits on disk.
      * 
      * REASONING: Called when game ends (game over or player quits).
      * Separated from game logic to isolate I/O operations.
@@ -343,12 +507,24 @@ public class GameController implements InputEventListener {
      */
     @Override
     public void saveGameScore() {
+        // A game with undone placements or a sandbox game is practice, not a result
+        if (this.undoUsed || this.sandbox) {
+            return;
+        }
+
         // Retrieve final score from board
         int finalScore = this.gameBoard.getScore().getScore();
         
-        // Attempt to save score (returns true if new high score)
-        boolean isNewHighScore = this.highScoreManager.saveHighScore(finalScore);
+        // Add the game to the leaderboard (returns immediately, written in the background)
+        boolean isNewHighScore = this.highScoreManager.saveScore(
+            finalScore,
+            this.gameBoard.getScore().getTotalLinesCleared(),
+            this.gameBoard.getSeed()
+        );
         
+        // Append the game to the history log (also written in the background)
+        recordGameHistory(finalScore);
+
         // If new high score, update GUI and show notification
         if (isNewHighScore) {
             this.guiController.updateHighScore(this.highScoreManager.getHighScore());
@@ -358,6 +534,44 @@ public class GameController implements InputEventListener {
         }
     }
 
+    /**
+     * Appends the finished game to the shared {@link GameHistoryLog} and {@link GameStatistics}.
+     * The level is derived from the lines cleared, matching the speed-ups of a fresh game.
+     *
+     * @param finalScore The final score of the game.
+     */
+    private void recordGameHistory(int finalScore) {
+        int lines = this.gameBoard.getScore().getTotalLinesCleared();
+        int level = this.selectedDifficulty == Difficulty.EASY ? 1 : 1 + lines / GameConfig.ROWS_PER_LEVEL;
+        GameRecord record = new GameRecord(
+            System.currentTimeMillis(),
+            this.selectedDifficulty,
+            this.gameBoard.getSeed(),
+            finalScore,
+            lines,
+            this.piecesPlaced,
+            getPlayedMillis(),
+            level
+        );
+
+        // Live statistics are updated in memory right away, the log is written in the background
+        GameStatistics.getDefault().record(record);
+        GameHistoryLog history = GameHistoryLog.getDefault();
+        if (history != null) {
+            history.appendLater(record);
+        }
+    }
+
+    /**
+     * Gets the time this game has been played, excluding pauses.
+     *
+     * @return The play time in milliseconds.
+     */
+    private long getPlayedMillis() {
+        long running = this.playStartNanos != 0 ? System.nanoTime() - this.playStartNanos : 0;
+        return (this.playedNanos + running) / 1_000_000;
+    }
+
     // ==================== INPUT HANDLERS (FROM InputEventListener) ====================
 
     /**
@@ -383,6 +597,11 @@ public class GameController implements InputEventListener {
         
         // CASE 1: Brick hit bottom - finalize turn
         if (!couldMoveDown) {
+            // Remember the board for undo and queue the finesse check before the brick
+            // becomes part of the background
+            recordHistory();
+            recordLockedBrick(false);
+
             // Merge brick into the background matrix (permanent placement)
             this.gameBoard.mergeBrickToBackground();
             
@@ -404,8 +623,9 @@ public class GameController implements InputEventListener {
             // Attempt to spawn next brick (returns true if game over)
             boolean isGameOver = this.gameBoard.createNewBrick();
             if (isGameOver) {
-                this.gameLoopTimeline.stop();
-                this.guiController.gameOver();
+                handleGameOver();
+            } else {
+                requestHint();
             }
             
             // Update background display (show newly placed bricks/obstacles)
@@ -437,6 +657,9 @@ public class GameController implements InputEventListener {
      */
     @Override
     public DownData onHardDropEvent() {
+        // Remember the board for undo before the drop bonus is added, so undo takes it back
+        recordHistory();
+
         // Drop brick instantly to bottom and get rows moved
         int rowsDropped = this.gameBoard.hardDrop();
         
@@ -448,7 +671,8 @@ public class GameController implements InputEventListener {
         // === SAME FINALIZATION LOGIC AS onDownEvent ===
         // (This duplication is intentional to avoid complex parameter passing)
         
-        // Merge brick into permanent placement
+        // Queue the finesse check, then merge brick into permanent placement
+        recordLockedBrick(true);
         this.gameBoard.mergeBrickToBackground();
         
         // Try to clear completed rows
@@ -464,8 +688,9 @@ public class GameController implements InputEventListener {
         // Spawn next brick (stop if game over)
         boolean isGameOver = this.gameBoard.createNewBrick();
         if (isGameOver) {
-            this.gameLoopTimeline.stop();
-            this.guiController.gameOver();
+            handleGameOver();
+        } else {
+            requestHint();
         }
         
         // Update background display
@@ -474,6 +699,21 @@ public class GameController implements InputEventListener {
         return new DownData(rowClearResult, this.gameBoard.getViewData());
     }
 
+    /**
+     * Ends the game after a brick could not spawn: stops the loop and pending hints,
+     * drops the autosave (a lost game cannot be resumed) and shows the game over screen.
+     */
+    private void handleGameOver() {
+        this.gameLoopTimeline.stop();
+        this.autosaveTimeline.stop();
+        if (!this.sandbox) {
+            this.saveGameStore.clear();
+        }
+        this.hintService.cancel();
+        this.guiController.clearHint();
+        this.guiController.gameOver();
+    }
+
     /**
      * Handles left movement input.
      * @param event The move event (unused - no special logic needed for left)
@@ -545,10 +785,139 @@ public class GameController implements InputEventListener {
      */
     @Override
     public ViewData onHoldEvent() {
-        this.gameBoard.swapHoldBrick();
+        // A successful swap brings in a different brick, so the old hint no longer applies
+        if (this.gameBoard.swapHoldBrick()) {
+            this.finesseTracker.resetPresses();
+            requestHint();
+        }
         return this.gameBoard.getViewData();
     }
 
+    /**
+     * {@inheritDoc}
+     * The board goes back to the moment the previous brick spawned; the game then no longer
+     * counts for the leaderboard.
+     */
+    @Override
+    public ViewData onUndoEvent() {
+        if (this.boardHistory != null && this.boardHistory.canUndo()) {
+            this.gameBoard.restoreVersion(this.boardHistory.undo(this.gameBoard.currentVersion()));
+            this.piecesPlaced--;
+            this.undoUsed = true;
+            afterHistoryStep();
+        }
+        return this.gameBoard.getViewData();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ViewData onRedoEvent() {
+        if (this.boardHistory != null && this.boardHistory.canRedo()) {
+            this.gameBoard.restoreVersion(this.boardHistory.redo(this.gameBoard.currentVersion()));
+            this.piecesPlaced++;
+            afterHistoryStep();
+        }
+        return this.gameBoard.getViewData();
+    }
+
+    /**
+     * Refreshes the background, finesse count and hint after the board jumped to another version.
+     */
+    private void afterHistoryStep() {
+        this.finesseTracker.resetPresses();
+        this.guiController.refreshGameBackground(this.gameBoard.getBoardMatrix());
+        requestHint();
+    }
+
+    /**
+     * {@inheritDoc}
+     * Counted per brick by the {@link FinesseTracker}.
+     */
+    @Override
+    public void recordKeyPress() {
+        this.finesseTracker.recordPress();
+    }
+
+    /**
+     * Records the board for undo (practice games only). Must be called before the placement
+     * changes the board or the score, so that undoing it restores both exactly.
+     */
+    private void recordHistory() {
+        if (this.boardHistory != null) {
+            this.boardHistory.record(this.gameBoard.currentVersion());
+        }
+    }
+
+    /**
+     * Hands the brick that is about to lock to the {@link FinesseTracker}.
+     * Must be called before {@code mergeBrickToBackground()}, while the board still lacks the brick.
+     *
+     * @param hardDropped Whether the brick was hard-dropped rather than locked by falling.
+     */
+    private void recordLockedBrick(boolean hardDropped) {
+        this.piecesPlaced++;
+        ViewData brick = this.gameBoard.getViewData();
+        Placement placement = new Placement(
+            this.gameBoard.getCurrentBrickType(),
+            this.gameBoard.getCurrentRotation(),
+            brick.getxPosition(),
+            brick.getyPosition(),
+            false
+        );
+        if (this.sandbox) {
+            return;
+        }
+        this.finesseTracker.pieceLocked(this.gameBoard.getBoardMatrix(), placement, hardDropped);
+    }
+
+    /**
+     * Gets the finesse tracker, e.g. to read the number of finesse faults.
+     *
+     * @return The {@link FinesseTracker} of this game.
+     */
+    public FinesseTracker getFinesseTracker() {
+        return this.finesseTracker;
+    }
+
+    // ==================== HINTS ====================
+
+    /**
+     * Hides the current hint and starts a background search for the brick that just spawned.
+     * Any search still running for the previous brick is cancelled by the {@link HintService}.
+     */
+    private void requestHint() {
+        this.guiController.clearHint();
+        if (this.sandbox) {
+            return;
+        }
+        this.hintService.requestHint(this.gameBoard.getBoardMatrix(), this.gameBoard.getCurrentBrickType());
+    }
+
+    /**
+     * Shows the hint that the background search just finished (runs on the FX thread).
+     * Stale hints are dropped by {@link HintService#takeHint()}, so nothing is drawn
+     * for a brick that already landed.
+     */
+    private void showReadyHint() {
+        Placement hint = this.hintService.takeHint();
+        if (hint == null) {
+            return;
+        }
+        int[][] shape = hint.getBrickType().createBrick().getShapeMatrix().get(hint.getRotation());
+        this.guiController.showHint(shape, hint.getX(), hint.getY());
+    }
+
+    /**
+     * Gets the hint service, e.g. to read its latency metric.
+     *
+     * @return The {@link HintService} of this game.
+     */
+    public HintService getHintService() {
+        return this.hintService;
+    }
+
     // ==================== GAME STATE CONTROL ====================
 
     /**
@@ -561,6 +930,18 @@ public class GameController implements InputEventListener {
     public void stopGame() {
         // Stop automatic brick movement
         this.gameLoopTimeline.stop();
+
+        // Stop the play clock
+        if (this.playStartNanos != 0) {
+            this.playedNanos += System.nanoTime() - this.playStartNanos;
+            this.playStartNanos = 0;
+        }
+
+        // Save right away (the player may leave for the menu) and stop autosaving while paused
+        if (this.autosaveTimeline.getStatus() == Animation.Status.RUNNING) {
+            this.autosaveTimeline.stop();
+            autosave();
+        }
         
         // Stop obstacle spawning if it exists (EXTRA mode only)
         if (this.obstacleSpawningTimeline != null) {
@@ -578,6 +959,12 @@ public class GameController implements InputEventListener {
     public void resumeGame() {
         // Resume automatic brick movement
         this.gameLoopTimeline.play();
+        this.autosaveTimeline.play();
+
+        // Restart the play clock
+        if (this.playStartNanos == 0) {
+            this.playStartNanos = System.nanoTime();
+        }
         
         // Resume obstacle spawning if it exists
         if (this.obstacleSpawningTimeline != null) {
@@ -600,6 +987,14 @@ public class GameController implements InputEventListener {
     public void createNewGame() {
         // Reset board to empty state and create first brick
         this.gameBoard.newGame();
+        this.finesseTracker.resetPresses();
+        this.piecesPlaced = 0;
+        this.undoUsed = false;
+        if (this.boardHistory != null) {
+            this.boardHistory.clear();
+        }
+        this.playedNanos = 0;
+        this.playStartNanos = System.nanoTime();
         
         // Clean up any existing obstacle spawning timeline
         if (this.obstacleSpawningTimeline != null) {
@@ -620,8 +1015,10 @@ public class GameController implements InputEventListener {
         
         // Update GUI to show new empty board
         this.guiController.refreshGameBackground(this.gameBoard.getBoardMatrix());
+        requestHint();
         
         // Restart game loop with current speed (will be reset by initializeDifficultySettings)
         this.gameLoopTimeline.play();
+        this.autosaveTimeline.play();
     }
 }
@@ -1,6 +1,8 @@
 package com.comp2042.controller;
 
+import com.comp2042.metrics.PerformanceMonitor;
 import com.comp2042.model.GameSettings;
+import com.comp2042.model.KeyAction;
 import com.comp2042.model.ViewData;
 import com.comp2042.view.GuiController;
 import com.comp2042.view.InputEventListener;
@@ -15,7 +17,7 @@ import javafx.scene.input.KeyEvent;
  * delegating actions to the GuiController and InputEventListener.
  * This separation adheres to the Single Responsibility Principle.
  */
-public class InputHandler implements EventHandler<KeyEvent> {
+public final class InputHandler implements EventHandler<KeyEvent> {
     // Reference to the GuiController
     private final GuiController guiController;
     private final InputEventListener gameController;
@@ -30,6 +32,8 @@ public class InputHandler implements EventHandler<KeyEvent> {
     private KeyCode K_MOVE_LEFT_MOST;
     private KeyCode K_MOVE_RIGHT_MOST;
     private KeyCode K_HOLD;
+    private KeyCode K_UNDO;
+    private KeyCode K_REDO;
 
     // TimeStamp for detecting double space
     private long lastSpacePressTime = 0;
@@ -52,16 +56,22 @@ public class InputHandler implements EventHandler<KeyEvent> {
     }
 
 
-    private void loadKeybindings() {
-        K_MOVE_LEFT = settings.getKeyCode("MOVE_LEFT");
-        K_MOVE_RIGHT = settings.getKeyCode("MOVE_RIGHT");
-        K_ROTATE_LEFT = settings.getKeyCode("ROTATE_LEFT");
-        K_ROTATE_RIGHT = settings.getKeyCode("ROTATE_RIGHT");
-        K_SOFT_DROP = settings.getKeyCode("SOFT_DROP");
-        K_HARD_DROP = settings.getKeyCode("HARD_DROP");
-        K_MOVE_LEFT_MOST = settings.getKeyCode("MOVE_LEFT_MOST");
-        K_MOVE_RIGHT_MOST = settings.getKeyCode("MOVE_RIGHT_MOST");
-        K_HOLD = settings.getKeyCode("HOLD");
+    /**
+     * Reads the key bindings from the settings again, e.g. after the settings file changed.
+     * Must be called on the FX thread, where the keys are also handled.
+     */
+    public void loadKeybindings() {
+        K_MOVE_LEFT = settings.getKeyCode(KeyAction.MOVE_LEFT);
+        K_MOVE_RIGHT = settings.getKeyCode(KeyAction.MOVE_RIGHT);
+        K_ROTATE_LEFT = settings.getKeyCode(KeyAction.ROTATE_LEFT);
+        K_ROTATE_RIGHT = settings.getKeyCode(KeyAction.ROTATE_RIGHT);
+        K_SOFT_DROP = settings.getKeyCode(KeyAction.SOFT_DROP);
+        K_HARD_DROP = settings.getKeyCode(KeyAction.HARD_DROP);
+        K_MOVE_LEFT_MOST = settings.getKeyCode(KeyAction.MOVE_LEFT_MOST);
+        K_MOVE_RIGHT_MOST = settings.getKeyCode(KeyAction.MOVE_RIGHT_MOST);
+        K_HOLD = settings.getKeyCode(KeyAction.HOLD);
+        K_UNDO = settings.getKeyCode(KeyAction.UNDO);
+        K_REDO = settings.getKeyCode(KeyAction.REDO);
     }
 
     /**
@@ -74,6 +84,16 @@ public class InputHandler implements EventHandler<KeyEvent> {
      */
     @Override
     public void handle(KeyEvent keyEvent) {
+        // the next frame measures how long this input took to show
+        PerformanceMonitor.getInstance().markInput(System.nanoTime());
+
+        // F3 toggles the performance overlay, whatever the game state
+        if (keyEvent.getCode() == KeyCode.F3) {
+            guiController.togglePerformanceHud();
+            keyEvent.consume();
+            return;
+        }
+
         // Moved to start to handle N key to restart the game when game over
         if (keyEvent.getCode() == KeyCode.N) {
             guiController.newGame(null);
@@ -84,22 +104,26 @@ public class InputHandler implements EventHandler<KeyEvent> {
 
             // SLASH(/) : LEFT MOST
             if (keyCode == K_MOVE_LEFT_MOST) {
+                gameController.recordKeyPress();
                 ViewData data = gameController.onLeftMostEvent();
                 guiController.refreshBrick(data);
                 keyEvent.consume();
             }
             // F -> LEFT
             if (keyCode == K_MOVE_LEFT) {
+                gameController.recordKeyPress();
                 guiController.refreshBrick(guiController.getEventListener().onLeftEvent(new MoveEvent(EventType.LEFT, EventSource.USER)));
                 keyEvent.consume();
             }
             // J -> RIGHT
             if (keyCode == K_MOVE_RIGHT) {
+                gameController.recordKeyPress();
                 guiController.refreshBrick(guiController.getEventListener().onRightEvent(new MoveEvent(EventType.RIGHT, EventSource.USER)));
                 keyEvent.consume();
             }
             // SHIFT -> RIGHT MOST
             if (keyCode == K_MOVE_RIGHT_MOST) {
+                gameController.recordKeyPress();
                 ViewData data = gameController.onRightMostEvent();
                 guiController.refreshBrick(data);
                 keyEvent.consume();
@@ -108,11 +132,13 @@ public class InputHandler implements EventHandler<KeyEvent> {
             // --- ROTATION ---
             // S -> ROTATE LEFT
             if (keyCode == K_ROTATE_LEFT) {
+                gameController.recordKeyPress();
                 guiController.refreshBrick(guiController.getEventListener().onRotateEvent(new MoveEvent(EventType.ROTATE, EventSource.USER)));
                 keyEvent.consume();
             }
             // L -> ROTATE RIGHT
             if (keyCode == K_ROTATE_RIGHT) {
+                gameController.recordKeyPress();
                 guiController.refreshBrick(guiController.getEventListener().onRotateRightEvent());
                 keyEvent.consume();
             }
@@ -123,19 +149,30 @@ public class InputHandler implements EventHandler<KeyEvent> {
                 keyEvent.consume();
             }
 
+            // Undo / redo placements (practice games)
+            if (keyCode == K_UNDO) {
+                guiController.refreshBrick(gameController.onUndoEvent());
+                keyEvent.consume();
+            }
+            if (keyCode == K_REDO) {
+                guiController.refreshBrick(gameController.onRedoEvent());
+                keyEvent.consume();
+            }
+
             if (K_SOFT_DROP == K_HARD_DROP) {
                 if (keyCode == K_SOFT_DROP) {
                     long now = System.currentTimeMillis();
 
                     if (now - lastSpacePressTime < DOUBLE_TAP_THRESHOLD) {
                         // DOUBLE SPACE -> HARD DROP
+                        // (not counted again: both taps together are one drop input)
                         guiController.handleHardDrop();
                         keyEvent.consume();
 
                         // Reset timer
                         lastSpacePressTime = 0;
                     } else {
-                        // DOWN
+                        // DOWN (soft drops are not finesse inputs)
                         guiController.moveDown(new MoveEvent(EventType.DOWN, EventSource.USER));
                         keyEvent.consume();
 
@@ -144,9 +181,11 @@ public class InputHandler implements EventHandler<KeyEvent> {
                 }
             } else {
                 if (keyCode == K_SOFT_DROP) {
+                    // soft drops are not finesse inputs
                     guiController.moveDown(new MoveEvent(EventType.DOWN, EventSource.USER));
                     keyEvent.consume();
                 } else if (keyCode == K_HARD_DROP) {
+                    gameController.recordKeyPress();
                     guiController.handleHardDrop();
                     keyEvent.consume();
                 }
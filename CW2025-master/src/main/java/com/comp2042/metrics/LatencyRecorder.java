@@ -0,0 +1,83 @@
+package com.comp2042.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free recorder of operation latencies.
+ * Any thread can call {@link #record(long)}; readers see the count, mean, maximum and most
+ * recent value without blocking the threads that record.
+ */
+public final class LatencyRecorder {
+
+    private final String name;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+    private final AtomicLong lastNanos = new AtomicLong();
+
+    /**
+     * Constructs a recorder.
+     *
+     * @param name A short name used when printing the recorder.
+     */
+    public LatencyRecorder(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Records one measured latency.
+     *
+     * @param nanos The latency in nanoseconds.
+     */
+    public void record(long nanos) {
+        count.increment();
+        totalNanos.add(nanos);
+        lastNanos.set(nanos);
+        maxNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    /**
+     * Records the time elapsed since a {@link System#nanoTime()} reading.
+     *
+     * @param startNanos The start time.
+     */
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    /** @return The recorder's name. */
+    public String getName() { return name; }
+
+    /** @return The number of recorded values. */
+    public long getCount() { return count.sum(); }
+
+    /** @return The mean latency in milliseconds, or 0 if nothing was recorded. */
+    public double getMeanMillis() {
+        long n = count.sum();
+        return n == 0 ? 0 : totalNanos.sum() / (n * 1e6);
+    }
+
+    /** @return The largest recorded latency in milliseconds. */
+    public double getMaxMillis() { return maxNanos.get() / 1e6; }
+
+    /** @return The most recently recorded latency in milliseconds. */
+    public double getLastMillis() { return lastNanos.get() / 1e6; }
+
+    /**
+     * Clears all recorded values.
+     * Values recorded concurrently with a reset may be partly kept.
+     */
+    public void reset() {
+        count.reset();
+        totalNanos.reset();
+        maxNanos.set(0);
+        lastNanos.set(0);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: n=%d mean=%.2fms max=%.2fms last=%.2fms",
+                name, getCount(), getMeanMillis(), getMaxMillis(), getLastMillis());
+    }
+}
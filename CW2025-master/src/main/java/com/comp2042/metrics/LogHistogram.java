@@ -0,0 +1,130 @@
+package com.comp2042.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A mergeable histogram of non-negative values with logarithmic buckets (in the style of an
+ * HDR histogram). Each power of two is split into {@code 2^SUB_BUCKET_BITS} equal buckets, so
+ * any percentile is reported within about 1.6% of the true value while the memory use stays
+ * fixed no matter how many values are recorded. No raw samples are kept.
+ * <p>
+ * Recording is lock-free and may happen from many threads. Histograms filled by separate
+ * workers can be combined with {@link #merge(LogHistogram)}.
+ */
+public final class LogHistogram {
+
+    /** log2 of the number of buckets per power of two. */
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    /** Enough buckets for every non-negative long. */
+    private static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong max = new AtomicLong(Long.MIN_VALUE);
+
+    /**
+     * Constructs an empty histogram.
+     */
+    public LogHistogram() {}
+
+    /**
+     * Records one value.
+     *
+     * @param value The value, which must not be negative.
+     * @throws IllegalArgumentException If the value is negative.
+     */
+    public void record(long value) {
+        if (value < 0) throw new IllegalArgumentException("Negative value: " + value);
+        counts.incrementAndGet(bucketOf(value));
+        count.increment();
+        sum.add(value);
+        min.accumulateAndGet(value, Math::min);
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Adds every value recorded by another histogram to this one.
+     *
+     * @param other The histogram to merge in; it is not changed.
+     */
+    public void merge(LogHistogram other) {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long c = other.counts.get(i);
+            if (c != 0) counts.addAndGet(i, c);
+        }
+        count.add(other.count.sum());
+        sum.add(other.sum.sum());
+        min.accumulateAndGet(other.min.get(), Math::min);
+        max.accumulateAndGet(other.max.get(), Math::max);
+    }
+
+    /**
+     * Clears all recorded values, e.g. to start a new measurement window.
+     * Values recorded concurrently with a reset may be partly kept.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            if (counts.get(i) != 0) counts.set(i, 0);
+        }
+        count.reset();
+        sum.reset();
+        min.set(Long.MAX_VALUE);
+        max.set(Long.MIN_VALUE);
+    }
+
+    /** @return The number of recorded values. */
+    public long getCount() { return count.sum(); }
+
+    /** @return The exact mean of the recorded values, or 0 if there are none. */
+    public double getMean() {
+        long n = count.sum();
+        return n == 0 ? 0 : (double) sum.sum() / n;
+    }
+
+    /** @return The smallest recorded value, or 0 if there are none. */
+    public long getMin() { return count.sum() == 0 ? 0 : min.get(); }
+
+    /** @return The largest recorded value, or 0 if there are none. */
+    public long getMax() { return count.sum() == 0 ? 0 : max.get(); }
+
+    /**
+     * Estimates a percentile.
+     *
+     * @param percentile The percentile, from 0 to 100.
+     * @return A value within one bucket of the true percentile, or 0 if nothing was recorded.
+     */
+    public long getPercentile(double percentile) {
+        long n = count.sum();
+        if (n == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * n));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.max(getMin(), Math.min(getMax(), middleOf(i)));
+            }
+        }
+        return getMax();
+    }
+
+    /** Maps a value to its bucket: exact below {@code SUB_BUCKETS}, logarithmic above. */
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) return (int) value;
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        int mantissa = (int) (value >>> shift);
+        return (shift + 1) * SUB_BUCKETS + (mantissa - SUB_BUCKETS);
+    }
+
+    /** The value in the middle of a bucket, used to report percentiles. */
+    static long middleOf(int bucket) {
+        if (bucket < SUB_BUCKETS) return bucket;
+        int shift = bucket / SUB_BUCKETS - 1;
+        long lower = (long) (bucket % SUB_BUCKETS + SUB_BUCKETS) << shift;
+        return lower + ((1L << shift) >> 1);
+    }
+}
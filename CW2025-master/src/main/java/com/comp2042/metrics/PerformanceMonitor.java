@@ -0,0 +1,309 @@
+package com.comp2042.metrics;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Collects the measurements shown by the in-game performance overlay.
+ * The game code only touches lock-free counters: {@link #markInput(long)} when a key is handled,
+ * {@link #frame(long)} once per rendered frame, and the {@link LatencyRecorder}s around model work.
+ * Everything that costs more (percentiles, the allocation and GC beans) happens in
+ * {@link #sample(long, int)}, which the overlay calls a few times a second; each sample covers
+ * the frames, inputs and ticks since the previous one.
+ */
+public final class PerformanceMonitor {
+
+    /** The upper limits of the frame-time buckets: 120, 60 and 30 frames per second. */
+    private static final long[] FRAME_LIMITS_NANOS = {8_333_333, 16_666_667, 33_333_333};
+    /** The labels of the frame-time buckets, the last one being the slow frames. */
+    private static final String[] FRAME_LABELS = {"<8ms", "<17ms", "<33ms", "slow"};
+
+    private static final PerformanceMonitor INSTANCE = new PerformanceMonitor();
+
+    /**
+     * The measurements of one sampling window.
+     */
+    public static final class Sample {
+        private final double fps;
+        private final double frameP50Millis;
+        private final double frameP99Millis;
+        private final double frameMaxMillis;
+        private final long[] frameBuckets;
+        private final double inputMeanMillis;
+        private final double inputMaxMillis;
+        private final double tickMeanMillis;
+        private final double tickMaxMillis;
+        private final double allocatedMegabytesPerSecond;
+        private final long gcCount;
+        private final long gcMillis;
+        private final int nodeCount;
+
+        private Sample(double fps, double frameP50Millis, double frameP99Millis, double frameMaxMillis,
+                       long[] frameBuckets, LatencyRecorder inputLatency, LatencyRecorder tickTime,
+                       double allocatedMegabytesPerSecond, long gcCount, long gcMillis, int nodeCount) {
+            this.fps = fps;
+            this.frameP50Millis = frameP50Millis;
+            this.frameP99Millis = frameP99Millis;
+            this.frameMaxMillis = frameMaxMillis;
+            this.frameBuckets = frameBuckets;
+            this.inputMeanMillis = inputLatency.getMeanMillis();
+            this.inputMaxMillis = inputLatency.getMaxMillis();
+            this.tickMeanMillis = tickTime.getMeanMillis();
+            this.tickMaxMillis = tickTime.getMaxMillis();
+            this.allocatedMegabytesPerSecond = allocatedMegabytesPerSecond;
+            this.gcCount = gcCount;
+            this.gcMillis = gcMillis;
+            this.nodeCount = nodeCount;
+        }
+
+        /** @return The frames per second over the window. */
+        public double getFps() { return fps; }
+
+        /** @return The median frame time in milliseconds. */
+        public double getFrameP50Millis() { return frameP50Millis; }
+
+        /** @return The 99th percentile frame time in milliseconds. */
+        public double getFrameP99Millis() { return frameP99Millis; }
+
+        /** @return The longest frame time in milliseconds. */
+        public double getFrameMaxMillis() { return frameMaxMillis; }
+
+        /**
+         * Gets the number of frames in one frame-time bucket.
+         *
+         * @param bucket 0 for under 8 ms, 1 for under 17 ms, 2 for under 33 ms, 3 for slower frames.
+         * @return The frame count.
+         */
+        public long getFrameBucket(int bucket) { return frameBuckets[bucket]; }
+
+        /** @return The mean latency from an input to the frame showing it, in milliseconds. */
+        public double getInputMeanMillis() { return inputMeanMillis; }
+
+        /** @return The longest latency from an input to the frame showing it, in milliseconds. */
+        public double getInputMaxMillis() { return inputMaxMillis; }
+
+        /** @return The mean time of a gravity tick in milliseconds. */
+        public double getTickMeanMillis() { return tickMeanMillis; }
+
+        /** @return The longest time of a gravity tick in milliseconds. */
+        public double getTickMaxMillis() { return tickMaxMillis; }
+
+        /** @return The allocation rate in megabytes per second, or -1 if the JVM cannot report it. */
+        public double getAllocatedMegabytesPerSecond() { return allocatedMegabytesPerSecond; }
+
+        /** @return The number of garbage collections in the window. */
+        public long getGcCount() { return gcCount; }
+
+        /** @return The time spent in garbage collection in the window, in milliseconds. */
+        public long getGcMillis() { return gcMillis; }
+
+        /** @return The number of nodes in the scene graph. */
+        public int getNodeCount() { return nodeCount; }
+
+        /**
+         * Formats the sample as the lines of the overlay.
+         *
+         * @return The overlay text.
+         */
+        public String format() {
+            StringBuilder text = new StringBuilder(256);
+            text.append(String.format("fps    %5.1f  p50 %.1fms  p99 %.1fms  max %.1fms%n",
+                    fps, frameP50Millis, frameP99Millis, frameMaxMillis));
+            text.append("frames");
+            for (int i = 0; i < frameBuckets.length; i++) {
+                text.append("  ").append(FRAME_LABELS[i]).append(' ').append(frameBuckets[i]);
+            }
+            text.append(String.format("%ninput  mean %.2fms  max %.2fms%n", inputMeanMillis, inputMaxMillis));
+            text.append(String.format("tick   mean %.3fms  max %.3fms%n", tickMeanMillis, tickMaxMillis));
+            if (allocatedMegabytesPerSecond >= 0) {
+                text.append(String.format("alloc  %.1f MB/s", allocatedMegabytesPerSecond));
+            } else {
+                text.append("alloc  n/a");
+            }
+            text.append(String.format("  gc %d (%dms)%nnodes  %d", gcCount, gcMillis, nodeCount));
+            return text.toString();
+        }
+    }
+
+    private final LatencyRecorder inputLatency = new LatencyRecorder("input");
+    private final LatencyRecorder tickTime = new LatencyRecorder("tick");
+    private final LatencyRecorder overlayTime = new LatencyRecorder("overlay");
+    private final LatencyRecorder screenLoadTime = new LatencyRecorder("screen load");
+    private final LatencyRecorder screenSwitchTime = new LatencyRecorder("screen switch");
+    private final LatencyRecorder effectDispatchTime = new LatencyRecorder("effect dispatch");
+    private final LatencyRecorder musicStartLatency = new LatencyRecorder("music start");
+    private final LogHistogram frameTimes = new LogHistogram();
+    private final AtomicLongArray frameBuckets = new AtomicLongArray(FRAME_LABELS.length);
+    /** The time of the oldest input not yet rendered, or 0. */
+    private final AtomicLong pendingInputNanos = new AtomicLong();
+    private final AtomicLong lastFrameNanos = new AtomicLong();
+
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private final List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+    private long windowStartNanos;
+    private long windowFrames;
+    private long lastAllocatedBytes = -1;
+    private long lastGcCount;
+    private long lastGcMillis;
+
+    /**
+     * Constructs a monitor; the game uses the shared one from {@link #getInstance()}.
+     */
+    public PerformanceMonitor() {
+        lastGcCount = totalGcCount();
+        lastGcMillis = totalGcMillis();
+    }
+
+    /** @return The monitor shared by the game. */
+    public static PerformanceMonitor getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Notes that an input was handled; the next frame records the latency from the oldest
+     * input it shows.
+     *
+     * @param nanos The {@link System#nanoTime()} of the input.
+     */
+    public void markInput(long nanos) {
+        pendingInputNanos.compareAndSet(0, nanos);
+    }
+
+    /**
+     * Notes that a frame was rendered.
+     *
+     * @param nanos The {@link System#nanoTime()} of the frame pulse.
+     */
+    public void frame(long nanos) {
+        long previous = lastFrameNanos.getAndSet(nanos);
+        if (previous != 0 && nanos > previous) {
+            long frameTime = nanos - previous;
+            frameTimes.record(frameTime);
+            int bucket = 0;
+            while (bucket < FRAME_LIMITS_NANOS.length && frameTime >= FRAME_LIMITS_NANOS[bucket]) bucket++;
+            frameBuckets.incrementAndGet(bucket);
+        }
+        long input = pendingInputNanos.getAndSet(0);
+        if (input != 0 && nanos > input) inputLatency.record(nanos - input);
+    }
+
+    /** @return The latency from a handled input to the frame that shows it. */
+    public LatencyRecorder getInputLatency() { return inputLatency; }
+
+    /** @return The time the model takes for one gravity tick. */
+    public LatencyRecorder getTickTime() { return tickTime; }
+
+    /** @return The time the overlay itself takes per frame. */
+    public LatencyRecorder getOverlayTime() { return overlayTime; }
+
+    /** @return The time taken to parse a screen's FXML file; every screen is parsed once. */
+    public LatencyRecorder getScreenLoadTime() { return screenLoadTime; }
+
+    /** @return The time from a navigation request until the new screen is in the stage. */
+    public LatencyRecorder getScreenSwitchTime() { return screenSwitchTime; }
+
+    /**
+     * Gets the time the game spends starting a sound effect, from the trigger until the play
+     * request is dispatched. {@code AudioClip} plays asynchronously and never reports when the
+     * sound reaches the output, so this is the game's own share of the latency, not the full delay.
+     *
+     * @return The effect dispatch time.
+     */
+    public LatencyRecorder getEffectDispatchTime() { return effectDispatchTime; }
+
+    /** @return The time from asking for a music track until its player reports that it plays. */
+    public LatencyRecorder getMusicStartLatency() { return musicStartLatency; }
+
+    /**
+     * Starts a new measurement window, forgetting the frames and inputs seen so far,
+     * e.g. when the overlay is shown again after a pause.
+     *
+     * @param nanos The {@link System#nanoTime()} the window starts at.
+     */
+    public void restart(long nanos) {
+        lastFrameNanos.set(0);
+        pendingInputNanos.set(0);
+        clearWindow(nanos);
+        inputLatency.reset();
+        tickTime.reset();
+        overlayTime.reset();
+        lastAllocatedBytes = allocatedBytes();
+        lastGcCount = totalGcCount();
+        lastGcMillis = totalGcMillis();
+    }
+
+    /**
+     * Summarises the window since the previous sample and starts a new one.
+     *
+     * @param nanos     The {@link System#nanoTime()} of the sample.
+     * @param nodeCount The number of nodes in the scene graph.
+     * @return The sample.
+     */
+    public Sample sample(long nanos, int nodeCount) {
+        double seconds = windowStartNanos == 0 ? 0 : (nanos - windowStartNanos) / 1e9;
+        long frames = frameTimes.getCount();
+        long[] buckets = new long[FRAME_LABELS.length];
+        for (int i = 0; i < buckets.length; i++) buckets[i] = frameBuckets.get(i);
+
+        long allocated = allocatedBytes();
+        double allocationRate = allocated < 0 || lastAllocatedBytes < 0 || seconds <= 0
+                ? -1 : (allocated - lastAllocatedBytes) / 1e6 / seconds;
+        lastAllocatedBytes = allocated;
+        long gcCount = totalGcCount();
+        long gcMillis = totalGcMillis();
+
+        Sample sample = new Sample(
+                seconds > 0 ? frames / seconds : 0,
+                frameTimes.getPercentile(50) / 1e6,
+                frameTimes.getPercentile(99) / 1e6,
+                frameTimes.getMax() / 1e6,
+                buckets,
+                inputLatency,
+                tickTime,
+                allocationRate,
+                gcCount - lastGcCount,
+                gcMillis - lastGcMillis,
+                nodeCount);
+        lastGcCount = gcCount;
+        lastGcMillis = gcMillis;
+        windowFrames += frames;
+        clearWindow(nanos);
+        inputLatency.reset();
+        tickTime.reset();
+        return sample;
+    }
+
+    /** @return The number of frames seen in all samples taken so far. */
+    public long getSampledFrameCount() { return windowFrames; }
+
+    private void clearWindow(long nanos) {
+        windowStartNanos = nanos;
+        frameTimes.reset();
+        for (int i = 0; i < frameBuckets.length(); i++) frameBuckets.set(i, 0);
+    }
+
+    /** The bytes allocated by all threads so far, or -1 if the JVM cannot tell. */
+    private long allocatedBytes() {
+        if (threads instanceof com.sun.management.ThreadMXBean sunThreads
+                && sunThreads.isThreadAllocatedMemorySupported() && sunThreads.isThreadAllocatedMemoryEnabled()) {
+            return sunThreads.getTotalThreadAllocatedBytes();
+        }
+        return -1;
+    }
+
+    private long totalGcCount() {
+        long total = 0;
+        for (GarbageCollectorMXBean collector : collectors) total += Math.max(0, collector.getCollectionCount());
+        return total;
+    }
+
+    private long totalGcMillis() {
+        long total = 0;
+        for (GarbageCollectorMXBean collector : collectors) total += Math.max(0, collector.getCollectionTime());
+        return total;
+    }
+}
@@ -1,5 +1,7 @@
 package com.comp2042.model;
 
+import com.comp2042.model.bricks.BrickType;
+
 /**
  * Defines the public contract for any class that represents the core Tetris game board and state.
  * Implementations are responsible for managing the matrix, brick position, and collision logic.
@@ -75,6 +77,24 @@ public interface Board {
      */
     int[][] getBoardMatrix();
 
+    /**
+     * Retrieves one row of the background without building the whole matrix.
+     *
+     * @param row The row index, 0 being the top; the returned array must not be modified.
+     * @return The row.
+     */
+    int[] getRow(int row);
+
+    /**
+     * Inserts a garbage row at the bottom of the background and pushes every other row up by one.
+     * The falling brick is not moved.
+     *
+     * @param row The cells of the new row, one colour id per column.
+     * @return true if a filled cell was pushed off the top of the board.
+     * @throws IllegalArgumentException If the row does not match the board width.
+     */
+    boolean insertGarbageRow(int[] row);
+
     /**
      * Generates and retrieves the current view data for the falling brick and the next brick preview.
      *
@@ -82,6 +102,14 @@ public interface Board {
      */
     ViewData getViewData();
 
+    /**
+     * Gets the version of the queue and hold. It changes whenever a brick spawns, a brick is held
+     * or the board is restored, and only then.
+     *
+     * @return The preview version.
+     */
+    int getPreviewVersion();
+
     /**
      * Swaps the currently falling brick with the brick in the "Hold" slot.
      * This action is typically only allowed once per new brick.
@@ -110,6 +138,27 @@ public interface Board {
      */
     ClearRow clearRows();
 
+    /**
+     * Gets the type of the currently falling brick.
+     *
+     * @return The {@link BrickType} of the active brick, or {@code null} before the first brick spawns.
+     */
+    BrickType getCurrentBrickType();
+
+    /**
+     * Gets the rotation index of the currently falling brick.
+     *
+     * @return The index into the brick's shape list (0 at spawn).
+     */
+    int getCurrentRotation();
+
+    /**
+     * Gets the random seed this board draws its bricks and obstacles from.
+     *
+     * @return The seed of the game.
+     */
+    long getSeed();
+
     /**
      * Retrieves the {@link Score} object managing the player's score.
      *
@@ -122,6 +171,37 @@ public interface Board {
      */
     void newGame();
 
+    /**
+     * Captures the board, falling brick, hold slot, queue and score so the game can be resumed later.
+     * The returned state does not change as the game goes on.
+     *
+     * @return A copy of the current state.
+     */
+    BoardState saveState();
+
+    /**
+     * Replaces the whole game state with a saved one.
+     *
+     * @param state A state taken by {@link #saveState()} on a board of the same size.
+     * @throws IllegalArgumentException If the saved board has a different size.
+     */
+    void restoreState(BoardState state);
+
+    /**
+     * Captures the board for undo without copying the matrix (see {@link BoardVersion}).
+     * The falling brick is recorded by type only; restoring puts it back at the spawn point.
+     *
+     * @return The current version.
+     */
+    BoardVersion currentVersion();
+
+    /**
+     * Returns the board to a version taken by {@link #currentVersion()}, with the brick at the spawn point.
+     *
+     * @param version The version to restore.
+     */
+    void restoreVersion(BoardVersion version);
+
     /**
      * Spawns a single obstacle block at a random X coordinate
      * and hard drops it into the board.
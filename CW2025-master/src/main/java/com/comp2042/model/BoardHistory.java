@@ -0,0 +1,95 @@
+package com.comp2042.model;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Unlimited undo and redo of brick placements, e.g. for practice games.
+ * The history is two stacks of {@link BoardVersion}s. Versions share the rows a placement did not
+ * change, so each step costs the rows it changed plus one array of row references, and undoing or
+ * redoing a step only swaps references.
+ * <p>
+ * Usage: {@link #record} the board before each placement; {@link #undo} and {@link #redo} take the
+ * board's current version and return the one to restore.
+ */
+public final class BoardHistory {
+
+    private final Deque<BoardVersion> undoStack = new ArrayDeque<>();
+    private final Deque<BoardVersion> redoStack = new ArrayDeque<>();
+
+    /**
+     * Records the board before a placement. Any undone steps can no longer be redone.
+     *
+     * @param before The version before the placement.
+     */
+    public void record(BoardVersion before) {
+        undoStack.push(before);
+        redoStack.clear();
+    }
+
+    /** @return Whether there is a placement to undo. */
+    public boolean canUndo() { return !undoStack.isEmpty(); }
+
+    /** @return Whether there is an undone placement to redo. */
+    public boolean canRedo() { return !redoStack.isEmpty(); }
+
+    /**
+     * Steps back one placement.
+     *
+     * @param current The board's current version, kept so it can be redone.
+     * @return The version to restore.
+     * @throws IllegalStateException If there is nothing to undo.
+     */
+    public BoardVersion undo(BoardVersion current) {
+        if (undoStack.isEmpty()) throw new IllegalStateException("Nothing to undo");
+        redoStack.push(current);
+        return undoStack.pop();
+    }
+
+    /**
+     * Steps forward one undone placement.
+     *
+     * @param current The board's current version, kept so it can be undone again.
+     * @return The version to restore.
+     * @throws IllegalStateException If there is nothing to redo.
+     */
+    public BoardVersion redo(BoardVersion current) {
+        if (redoStack.isEmpty()) throw new IllegalStateException("Nothing to redo");
+        undoStack.push(current);
+        return redoStack.pop();
+    }
+
+    /**
+     * Forgets every step, e.g. when a new game starts.
+     */
+    public void clear() {
+        undoStack.clear();
+        redoStack.clear();
+    }
+
+    /** @return The number of placements that can be undone. */
+    public int getUndoCount() { return undoStack.size(); }
+
+    /** @return The number of placements that can be redone. */
+    public int getRedoCount() { return redoStack.size(); }
+
+    /**
+     * Counts the distinct row arrays held by the history. With shared rows this grows with the
+     * rows each placement changed, not with the board size times the number of steps.
+     *
+     * @return The number of distinct rows.
+     */
+    public int countDistinctRows() {
+        Set<int[]> rows = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Deque<BoardVersion> stack : List.of(undoStack, redoStack)) {
+            for (BoardVersion version : stack) {
+                Collections.addAll(rows, version.getMatrix());
+            }
+        }
+        return rows.size();
+    }
+}
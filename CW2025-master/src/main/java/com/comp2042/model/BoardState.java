@@ -0,0 +1,155 @@
+package com.comp2042.model;
+
+import com.comp2042.model.bricks.BrickType;
+
+import java.util.List;
+
+/**
+ * An immutable copy of everything a {@link Board} needs to continue a game: the background
+ * cells, the falling brick with its rotation and offset, the hold slot, the upcoming bricks,
+ * the score and the lines cleared.
+ * The cells are packed into 4 bits each when the state is taken, so the copy is small and
+ * can be handed to another thread while the game keeps changing its own matrix.
+ */
+public final class BoardState {
+
+    /** The largest value a packed cell can hold. */
+    private static final int MAX_CELL = 15;
+
+    private final int rows;
+    private final int columns;
+    /** Two cells per byte, row by row; the first cell of a pair is in the high nibble. */
+    private final byte[] cells;
+    private final BrickType currentType;
+    private final int rotation;
+    private final int x;
+    private final int y;
+    private final BrickType holdType;
+    private final boolean canSwap;
+    private final List<BrickType> upcoming;
+    private final int score;
+    private final int lines;
+
+    /**
+     * Constructs a state, copying the background matrix.
+     *
+     * @param matrix      The background matrix ({@code [row][column]}); values must be 0 to 15.
+     * @param currentType The falling brick.
+     * @param rotation    The falling brick's rotation index.
+     * @param x           The falling brick's column offset.
+     * @param y           The falling brick's row offset.
+     * @param holdType    The held brick, or {@code null} if the hold slot is empty.
+     * @param canSwap     Whether the falling brick may still be swapped with the hold slot.
+     * @param upcoming    The upcoming bricks, next first.
+     * @param score       The score.
+     * @param lines       The number of lines cleared.
+     * @throws IllegalArgumentException If a cell does not fit in 4 bits.
+     */
+    public BoardState(int[][] matrix, BrickType currentType, int rotation, int x, int y,
+                      BrickType holdType, boolean canSwap, List<BrickType> upcoming, int score, int lines) {
+        this(matrix.length, matrix[0].length, pack(matrix), currentType, rotation, x, y,
+                holdType, canSwap, upcoming, score, lines);
+    }
+
+    /**
+     * Constructs a state from already packed cells (see {@link GameSnapshot#decode(byte[])}).
+     */
+    BoardState(int rows, int columns, byte[] cells, BrickType currentType, int rotation, int x, int y,
+               BrickType holdType, boolean canSwap, List<BrickType> upcoming, int score, int lines) {
+        if (cells.length != packedLength(rows, columns)) {
+            throw new IllegalArgumentException("Expected " + packedLength(rows, columns) + " cell bytes, got " + cells.length);
+        }
+        this.rows = rows;
+        this.columns = columns;
+        this.cells = cells;
+        this.currentType = currentType;
+        this.rotation = rotation;
+        this.x = x;
+        this.y = y;
+        this.holdType = holdType;
+        this.canSwap = canSwap;
+        this.upcoming = List.copyOf(upcoming);
+        this.score = score;
+        this.lines = lines;
+    }
+
+    /**
+     * Computes the number of bytes a packed board takes.
+     *
+     * @param rows    The number of rows.
+     * @param columns The number of columns.
+     * @return The packed size, two cells per byte.
+     */
+    static int packedLength(int rows, int columns) {
+        return (rows * columns + 1) / 2;
+    }
+
+    private static byte[] pack(int[][] matrix) {
+        int columns = matrix[0].length;
+        byte[] packed = new byte[packedLength(matrix.length, columns)];
+        for (int row = 0; row < matrix.length; row++) {
+            for (int col = 0; col < columns; col++) {
+                int value = matrix[row][col];
+                if (value < 0 || value > MAX_CELL) {
+                    throw new IllegalArgumentException("Cell value " + value + " does not fit in 4 bits");
+                }
+                int i = row * columns + col;
+                packed[i >> 1] |= (byte) ((i & 1) == 0 ? value << 4 : value);
+            }
+        }
+        return packed;
+    }
+
+    /**
+     * Unpacks the background cells into a new matrix.
+     *
+     * @return A fresh {@code [row][column]} matrix.
+     */
+    public int[][] toMatrix() {
+        int[][] matrix = new int[rows][columns];
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < columns; col++) {
+                int i = row * columns + col;
+                int b = cells[i >> 1];
+                matrix[row][col] = (i & 1) == 0 ? (b >> 4) & 0xF : b & 0xF;
+            }
+        }
+        return matrix;
+    }
+
+    /** @return The packed cells; shared, not copied, so callers must not modify them. */
+    byte[] packedCells() { return cells; }
+
+    /** @return The number of board rows. */
+    public int getRows() { return rows; }
+
+    /** @return The number of board columns. */
+    public int getColumns() { return columns; }
+
+    /** @return The falling brick. */
+    public BrickType getCurrentType() { return currentType; }
+
+    /** @return The falling brick's rotation index. */
+    public int getRotation() { return rotation; }
+
+    /** @return The falling brick's column offset. */
+    public int getX() { return x; }
+
+    /** @return The falling brick's row offset. */
+    public int getY() { return y; }
+
+    /** @return The held brick, or {@code null} if none. */
+    public BrickType getHoldType() { return holdType; }
+
+    /** @return Whether the falling brick may still be swapped with the hold slot. */
+    public boolean canSwap() { return canSwap; }
+
+    /** @return The upcoming bricks, next first. */
+    public List<BrickType> getUpcoming() { return upcoming; }
+
+    /** @return The score. */
+    public int getScore() { return score; }
+
+    /** @return The number of lines cleared. */
+    public int getLines() { return lines; }
+}
@@ -0,0 +1,71 @@
+package com.comp2042.model;
+
+import com.comp2042.model.bricks.BrickType;
+
+import java.util.List;
+
+/**
+ * One version of a board kept for undo: the background matrix, the brick to play, the hold slot,
+ * the upcoming bricks and the score.
+ * <p>
+ * Unlike {@link BoardState}, the matrix is not copied. The board's {@link RowBuffer} never changes
+ * a row in place (a merge replaces the row with a changed copy, and clearing or inserting rows
+ * only moves them), so a version only keeps references to rows that the board, or other
+ * versions, already hold. Consecutive versions share every row a placement did not touch.
+ */
+public final class BoardVersion {
+
+    private final int[][] matrix;
+    private final BrickType currentType;
+    private final BrickType holdType;
+    private final boolean canSwap;
+    private final List<BrickType> upcoming;
+    private final int score;
+    private final int lines;
+
+    /**
+     * Constructs a version; the matrix is kept, not copied.
+     */
+    BoardVersion(int[][] matrix, BrickType currentType, BrickType holdType, boolean canSwap,
+                 List<BrickType> upcoming, int score, int lines) {
+        this.matrix = matrix;
+        this.currentType = currentType;
+        this.holdType = holdType;
+        this.canSwap = canSwap;
+        this.upcoming = List.copyOf(upcoming);
+        this.score = score;
+        this.lines = lines;
+    }
+
+    /** @return The background matrix; shared, so callers must not modify it. */
+    int[][] getMatrix() { return matrix; }
+
+    /**
+     * Gets one row of the background matrix.
+     *
+     * @param row The row index.
+     * @return The row; shared, so callers must not modify it.
+     */
+    public int[] getRow(int row) { return matrix[row]; }
+
+    /** @return The number of rows. */
+    public int getRowCount() { return matrix.length; }
+
+    /** @return The brick to play, which starts at the spawn point. */
+    public BrickType getCurrentType() { return currentType; }
+
+    /** @return The held brick, or {@code null} if none. */
+    public BrickType getHoldType() { return holdType; }
+
+    /** @return Whether the brick may still be swapped with the hold slot. */
+    public boolean canSwap() { return canSwap; }
+
+    /** @return The upcoming bricks, next first. */
+    public List<BrickType> getUpcoming() { return upcoming; }
+
+    /** @return The score. */
+    public int getScore() { return score; }
+
+    /** @return The number of lines cleared. */
+    public int getLines() { return lines; }
+}
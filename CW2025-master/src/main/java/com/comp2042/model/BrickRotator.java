@@ -62,6 +62,15 @@ public class BrickRotator {
         return brick.getShapeMatrix().get(currentShape);
     }
 
+    /**
+     * Gets the index of the current rotational state in the brick's shape list.
+     *
+     * @return The current rotation index.
+     */
+    public int getCurrentShapeIndex() {
+        return currentShape;
+    }
+
     /**
      * Retrieves the raw {@link Brick} object currently being managed by the rotator.
      * This is used by the Board's "Hold" feature to store the brick itself.
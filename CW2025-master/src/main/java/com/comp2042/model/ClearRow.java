@@ -37,12 +37,14 @@ public final class ClearRow {
     }
 
     /**
-     * Gets a deep copy of the new game matrix after rows were cleared.
+     * Gets the new game matrix after rows were cleared.
+     * It is not copied: its rows are shared with the board it was computed from (see
+     * {@link MatrixOperations#checkRemoving}), so it must not be modified.
      *
-     * @return A new 2D array representing the board state post-clearance.
+     * @return The 2D array representing the board state post-clearance.
      */
     public int[][] getNewMatrix() {
-        return MatrixOperations.copy(newMatrix);
+        return newMatrix;
     }
 
     /**
@@ -1,95 +1,219 @@
 package com.comp2042.model;
 
 import javafx.scene.input.KeyCode;
-import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileWriter;
+
 import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Properties;
 
 
 /**
- * Manages saving and loading user game settings (e.g., keybindings) to a persistent file.
- * This class ensures that user-defined controls persist between sessions.
+ * Manages the user's game settings (e.g., keybindings), which are saved in the player's
+ * {@link ProfileStore}. This class ensures that user-defined controls persist between sessions.
+ * <p>
+ * Every value is validated when it is loaded, so lookups never parse strings and never
+ * fail. The bindings are held in an immutable map that is swapped as a whole, so the
+ * settings can be reloaded on another thread (see {@link SettingsService}) while the game reads them.
+ * Every change that starts from the current map is made while holding this object's lock, so a
+ * rebind and a reload never overwrite each other.
+ * Bindings can also be imported from a {@code settings.txt} properties file, the format used
+ * before the profile existed. The file is not written back, so it goes stale once keys are
+ * rebound in the game; an import therefore only applies the bindings that changed in the file
+ * since it was last read.
  */
 public class GameSettings {
-    // file to save settings
-    private static final String SETTINGS_FILE = "settings.txt";
-    private final Properties properties = new Properties();
+    // text file the bindings can be imported from
+    static final String SETTINGS_FILE = "settings.txt";
+
+    private final ProfileStore profile;
+    private volatile Map<KeyAction, KeyCode> keys = defaults();
+    /** The bindings of the settings file when it was last read; guarded by this object's lock. */
+    private Map<KeyAction, KeyCode> fileBindings = Map.of();
 
     /**
-     * Constructs a new GameSettings object and loads existing settings from file.
+     * Constructs a new GameSettings object and loads the settings from the default profile.
      */
     public GameSettings() {
+        this(ProfileStore.getDefault());
+    }
+
+    /**
+     * Constructs a new GameSettings object backed by a specific profile and loads it.
+     *
+     * @param profile The profile the settings are saved in.
+     */
+    public GameSettings(ProfileStore profile) {
+        this.profile = profile;
         loadSettings();
     }
 
     /**
-     * Loads settings from settings.txt. If the file doesn't exist, it creates one with default settings.
+     * Loads settings from the profile. If none are saved yet, the default settings are saved.
+     * Missing bindings are replaced by their defaults and the repaired settings are saved.
      */
-    public void loadSettings() {
-        File file = new File(SETTINGS_FILE);
-        if (!file.exists()) {
-            setDefaultSettings(); // if no then create default setting to save
-            saveSettings(); // create a new file
-            return;
+    public synchronized void loadSettings() {
+        Map<KeyAction, KeyCode> saved = profile.getKeyBindings();
+        Map<KeyAction, KeyCode> loaded = new EnumMap<>(KeyAction.class);
+        boolean repaired = false;
+        for (KeyAction action : KeyAction.values()) {
+            KeyCode code = saved.get(action);
+            if (code == null) {
+                code = action.getDefaultKey();
+                repaired = true;
+            }
+            loaded.put(action, code);
         }
-        try (FileInputStream fis = new FileInputStream(file)) {
-            properties.load(fis);
+        keys = Collections.unmodifiableMap(loaded);
+        if (repaired) saveSettings();
+    }
+
+    /**
+     * Imports the bindings from a settings text file, e.g. after the player edited it.
+     * Only bindings whose value in the file differs from the last time it was read are applied,
+     * so keys rebound in the game since then are not reverted by the stale rest of the file.
+     * Invalid or missing bindings keep their current value, so a half-written file never
+     * clobbers the settings. Changed bindings are saved to the profile.
+     *
+     * @param file The properties file to import.
+     * @return {@code true} if any binding changed.
+     */
+    boolean importFile(Path file) {
+        Map<KeyAction, KeyCode> imported;
+        try {
+            imported = readBindings(file);
         } catch (IOException e) {
-            System.err.println("Failed to load settings: " + e.getMessage());
+            System.err.println("Failed to import settings: " + e.getMessage());
+            return false;
         }
+        // the file is read without the lock; only the merge into the current bindings needs it
+        synchronized (this) {
+            Map<KeyAction, KeyCode> current = keys;
+            Map<KeyAction, KeyCode> loaded = new EnumMap<>(current);
+            for (Map.Entry<KeyAction, KeyCode> binding : imported.entrySet()) {
+                if (binding.getValue() != fileBindings.get(binding.getKey())) loaded.put(binding.getKey(), binding.getValue());
+            }
+            // a key missing from this read keeps its last seen value, so that reading a file
+            // while it is being rewritten does not make its unchanged keys look new afterwards
+            Map<KeyAction, KeyCode> seen = new EnumMap<>(KeyAction.class);
+            seen.putAll(fileBindings);
+            seen.putAll(imported);
+            fileBindings = seen;
+            if (loaded.equals(current)) return false;
+            keys = Collections.unmodifiableMap(loaded);
+            saveSettings();
+        }
+        return true;
     }
 
     /**
-     * Saves the current settings (keybindings) to settings.txt.
+     * Reads a settings text file without applying it, so that a later {@link #importFile} only
+     * applies what changes in it from now on. A file that cannot be read is treated as empty.
+     *
+     * @param file The properties file.
      */
-    // save the current setting
-    public void saveSettings() {
-        try (FileWriter writer = new FileWriter(SETTINGS_FILE)) {
-            properties.store(writer, "Tetris Game Settings");
+    synchronized void rememberFile(Path file) {
+        if (!Files.exists(file)) return;
+        try {
+            fileBindings = readBindings(file);
         } catch (IOException e) {
-            System.err.println("Failed to save settings; "+ e.getMessage());
+            System.err.println("Failed to read settings: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Reads the valid bindings of a settings text file ("ACTION=KEY" properties).
+     *
+     * @param file The file to read.
+     * @return The bindings that name a known action and key.
+     * @throws IOException If the file cannot be read.
+     */
+    static Map<KeyAction, KeyCode> readBindings(Path file) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file)) {
+            properties.load(reader);
         }
+        Map<KeyAction, KeyCode> bindings = new EnumMap<>(KeyAction.class);
+        for (KeyAction action : KeyAction.values()) {
+            String keyName = properties.getProperty(action.name());
+            if (keyName == null) continue;
+            try {
+                bindings.put(action, KeyCode.valueOf(keyName.trim()));
+            } catch (IllegalArgumentException e) {
+                System.err.println("Invalid key for " + action + ": " + keyName);
+            }
+        }
+        return bindings;
+    }
+
+    /**
+     * Saves the current settings (keybindings) to the profile.
+     * Returns immediately; the profile is written later by the {@link WriteBehindExecutor}.
+     */
+    // save the current setting
+    public void saveSettings() {
+        profile.setKeyBindings(keys);
     }
 
     /**
      * Sets the default keybindings (your "Custom" layout).
      */
-    public void setDefaultSettings() {
-        properties.setProperty("MOVE_LEFT", KeyCode.F.name());
-        properties.setProperty("MOVE_RIGHT", KeyCode.J.name());
-        properties.setProperty("ROTATE_LEFT", KeyCode.S.name());
-        properties.setProperty("ROTATE_RIGHT", KeyCode.L.name());
-        properties.setProperty("SOFT_DROP", KeyCode.SPACE.name()); // Single Tap
-        properties.setProperty("HARD_DROP", KeyCode.SPACE.name()); // Double Tap
-        properties.setProperty("MOVE_LEFT_MOST", KeyCode.SLASH.name()); //
-        properties.setProperty("MOVE_RIGHT_MOST", KeyCode.SHIFT.name());
-        properties.setProperty("HOLD", KeyCode.V.name());
+    public synchronized void setDefaultSettings() {
+        keys = defaults();
+    }
+
+    private static Map<KeyAction, KeyCode> defaults() {
+        Map<KeyAction, KeyCode> defaults = new EnumMap<>(KeyAction.class);
+        for (KeyAction action : KeyAction.values()) {
+            defaults.put(action, action.getDefaultKey());
+        }
+        return Collections.unmodifiableMap(defaults);
+    }
+
+    /**
+     * Gets a specific keybinding.
+     * @param action    The action.
+     * @return          The bound KeyCode.
+     */
+    public KeyCode getKeyCode(KeyAction action) {
+        return keys.get(action);
     }
 
     /**
      * Gets a specific keybinding as a KeyCode.
-     * @param action    The action (e.g., "MOVE_LEFT").
+     * @param action    The action name (e.g., "MOVE_LEFT").
      * @return          The saved KeyCode.
+     * @throws IllegalArgumentException If the name is not a {@link KeyAction}.
      */
     public KeyCode getKeyCode(String action) {
-        String keyName = properties.getProperty(action);
-        try { return KeyCode.valueOf(keyName); }
-        catch (Exception e) {
-            System.err.println("Invalid key");
-            // if error, set as default
-            setDefaultSettings();
-            return getKeyCode(action);
-        }
+        return getKeyCode(KeyAction.valueOf(action));
+    }
+
+    /**
+     * Sets new keybind
+     * @param action    The action
+     * @param code      The new KeyCode
+     */
+    public synchronized void setKeyCode(KeyAction action, KeyCode code) {
+        Map<KeyAction, KeyCode> changed = new EnumMap<>(keys);
+        changed.put(action, code);
+        keys = Collections.unmodifiableMap(changed);
     }
 
     /**
      * Sets new keybind
-     * @param action    The action (eg, "MOVE_LEFT")
+     * @param action    The action name (eg, "MOVE_LEFT")
      * @param code      The new KeyCode
+     * @throws IllegalArgumentException If the name is not a {@link KeyAction}.
      */
     public void setKeyCode(String action, KeyCode code) {
-        properties.setProperty(action, code.name());
+        setKeyCode(KeyAction.valueOf(action), code);
     }
+
+    /** @return The profile these settings are saved in. */
+    public ProfileStore getProfile() { return profile; }
 }
@@ -0,0 +1,155 @@
+package com.comp2042.model;
+
+import com.comp2042.model.bricks.BrickType;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A complete in-progress game: the {@link BoardState} plus the controller's progression
+ * (difficulty, seed, drop speed, next speed-up threshold, pieces placed and play time).
+ * <p>
+ * It encodes into a compact big-endian binary form of about 170 bytes for the standard board:
+ * the magic number {@code 0x5453} ("TS"), a version byte, the difficulty, the seed, the board size,
+ * the cells at 4 bits each, the falling brick (colour id and rotation in one byte, then x and y),
+ * the hold slot and swap flag in one byte, the upcoming bricks at 4 bits each, and finally the
+ * score, lines, speed, speed-up threshold, pieces placed and play time.
+ */
+public final class GameSnapshot {
+
+    /** Identifies a saved game ("TS"). */
+    private static final short MAGIC = 0x5453;
+    /** The encoding version. */
+    private static final byte VERSION = 1;
+
+    private final Difficulty difficulty;
+    private final long seed;
+    private final BoardState board;
+    private final double gameSpeedMillis;
+    private final int linesRequiredForNextSpeedUp;
+    private final int piecesPlaced;
+    private final long playedMillis;
+
+    /**
+     * Constructs a snapshot.
+     *
+     * @param difficulty                  The difficulty of the game.
+     * @param seed                        The seed the game was started with.
+     * @param board                       The board state.
+     * @param gameSpeedMillis             The current time between automatic drops.
+     * @param linesRequiredForNextSpeedUp The total lines at which the next speed-up happens.
+     * @param piecesPlaced                The number of bricks locked so far.
+     * @param playedMillis                The play time so far, excluding pauses.
+     */
+    public GameSnapshot(Difficulty difficulty, long seed, BoardState board, double gameSpeedMillis,
+                        int linesRequiredForNextSpeedUp, int piecesPlaced, long playedMillis) {
+        this.difficulty = difficulty;
+        this.seed = seed;
+        this.board = board;
+        this.gameSpeedMillis = gameSpeedMillis;
+        this.linesRequiredForNextSpeedUp = linesRequiredForNextSpeedUp;
+        this.piecesPlaced = piecesPlaced;
+        this.playedMillis = playedMillis;
+    }
+
+    /**
+     * Encodes this snapshot into its binary form.
+     *
+     * @return A new byte array.
+     */
+    public byte[] encode() {
+        List<BrickType> upcoming = board.getUpcoming();
+        byte[] cells = board.packedCells();
+        ByteBuffer buffer = ByteBuffer.allocate(2 + 1 + 1 + 8 + 2 + cells.length + 3 + 1 + 1 + (upcoming.size() + 1) / 2
+                + 4 + 4 + 4 + 4 + 4 + 4);
+        buffer.putShort(MAGIC);
+        buffer.put(VERSION);
+        buffer.put((byte) difficulty.ordinal());
+        buffer.putLong(seed);
+        buffer.put((byte) board.getRows());
+        buffer.put((byte) board.getColumns());
+        buffer.put(cells);
+        buffer.put((byte) (board.getCurrentType().getColorId() << 4 | board.getRotation()));
+        buffer.put((byte) board.getX());
+        buffer.put((byte) board.getY());
+        int hold = board.getHoldType() == null ? 0 : board.getHoldType().getColorId();
+        buffer.put((byte) (hold << 1 | (board.canSwap() ? 1 : 0)));
+        buffer.put((byte) upcoming.size());
+        for (int i = 0; i < upcoming.size(); i += 2) {
+            int high = upcoming.get(i).getColorId();
+            int low = i + 1 < upcoming.size() ? upcoming.get(i + 1).getColorId() : 0;
+            buffer.put((byte) (high << 4 | low));
+        }
+        buffer.putInt(board.getScore());
+        buffer.putInt(board.getLines());
+        buffer.putFloat((float) gameSpeedMillis);
+        buffer.putInt(linesRequiredForNextSpeedUp);
+        buffer.putInt(piecesPlaced);
+        buffer.putInt((int) Math.min(Integer.MAX_VALUE, playedMillis));
+        return buffer.array();
+    }
+
+    /**
+     * Decodes a snapshot written by {@link #encode()}.
+     *
+     * @param data The encoded bytes.
+     * @return The snapshot.
+     * @throws IllegalArgumentException If the data is not a valid saved game.
+     */
+    public static GameSnapshot decode(byte[] data) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(data);
+            if (buffer.getShort() != MAGIC) throw new IllegalArgumentException("Not a saved game");
+            byte version = buffer.get();
+            if (version != VERSION) throw new IllegalArgumentException("Unsupported saved game version " + version);
+            Difficulty difficulty = Difficulty.values()[buffer.get()];
+            long seed = buffer.getLong();
+            int rows = buffer.get() & 0xFF;
+            int columns = buffer.get() & 0xFF;
+            byte[] cells = new byte[BoardState.packedLength(rows, columns)];
+            buffer.get(cells);
+            int current = buffer.get() & 0xFF;
+            int x = buffer.get();
+            int y = buffer.get();
+            int hold = buffer.get() & 0xFF;
+            int upcomingCount = buffer.get() & 0xFF;
+            List<BrickType> upcoming = new ArrayList<>(upcomingCount);
+            for (int i = 0; i < upcomingCount; i += 2) {
+                int pair = buffer.get() & 0xFF;
+                upcoming.add(BrickType.fromColorId(pair >> 4));
+                if (i + 1 < upcomingCount) upcoming.add(BrickType.fromColorId(pair & 0xF));
+            }
+            BoardState board = new BoardState(rows, columns, cells,
+                    BrickType.fromColorId(current >> 4), current & 0xF, x, y,
+                    hold >> 1 == 0 ? null : BrickType.fromColorId(hold >> 1), (hold & 1) != 0,
+                    upcoming, buffer.getInt(), buffer.getInt());
+            return new GameSnapshot(difficulty, seed, board, buffer.getFloat(), buffer.getInt(),
+                    buffer.getInt(), buffer.getInt());
+        } catch (BufferUnderflowException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Truncated saved game", e);
+        }
+    }
+
+    /** @return The difficulty of the game. */
+    public Difficulty getDifficulty() { return difficulty; }
+
+    /** @return The seed the game was started with. */
+    public long getSeed() { return seed; }
+
+    /** @return The board state. */
+    public BoardState getBoard() { return board; }
+
+    /** @return The time between automatic drops, in milliseconds. */
+    public double getGameSpeedMillis() { return gameSpeedMillis; }
+
+    /** @return The total lines at which the next speed-up happens. */
+    public int getLinesRequiredForNextSpeedUp() { return linesRequiredForNextSpeedUp; }
+
+    /** @return The number of bricks locked so far. */
+    public int getPiecesPlaced() { return piecesPlaced; }
+
+    /** @return The play time so far, in milliseconds. */
+    public long getPlayedMillis() { return playedMillis; }
+}
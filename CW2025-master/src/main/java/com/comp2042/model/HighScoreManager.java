@@ -1,94 +1,93 @@
 package com.comp2042.model;
 
-import java.io.File;
-import java.io.FileWriter;
-import java.io.IOException;
-import java.util.Scanner;
+import com.comp2042.GameConfig;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
- * Manages reading and writing the high score to a text file.
- * This adheres to SRP by separating file I/O logic from the {@link com.comp2042.controller.GameController}.
- * It loads the high score upon instantiation and provides methods to check
- * and save a new high score.
+ * Manages the top-N leaderboard of one difficulty.
+ * This adheres to SRP by separating persistence logic from the {@link com.comp2042.controller.GameController}.
+ * <p>
+ * The leaderboards live in the player's {@link ProfileStore}, which is read once at startup, so
+ * {@link #getHighScore()} never touches the disk. Saving a score only replaces the immutable list
+ * in the profile, which queues a write of the file on the {@link WriteBehindExecutor}; several
+ * saves in a row are coalesced into one write. Scores from the older {@code highscore_*.txt} files are imported by the profile.
  */
 public class HighScoreManager {
 
-    /** The static file name used to store the high score. */
-    // file name to save
-    private static final String EASY_FILE = "highscore_easy.txt";
-    private static final String NORMAL_FILE = "highscore_normal.txt";
-    private static final String HARD_FILE = "highscore_hard.txt";
-    private static final String EXTRA_FILE = "highscore_extra.txt";
-
-    /** The currently loaded high score. */
-    private int highScore;
+    private final Difficulty difficulty;
+    private final ProfileStore profile;
 
     /**
-     * Constructs a new HighScoreManager for a specific difficulty.
-     * Automatically loads the high score for that difficulty upon creation.
+     * Constructs a new HighScoreManager for a specific difficulty, using the default profile.
      *
      * @param difficulty The difficulty level to manage.
      */
     public HighScoreManager(Difficulty difficulty) {
-        this.difficulty = difficulty;
-        this.highScore = loadHighScore();
+        this(difficulty, ProfileStore.getDefault());
     }
 
     /**
-     * Loads the high score from the file.
-     * @return The saved high score, or 0 if no file exists.
+     * Constructs a new HighScoreManager for a specific difficulty and profile.
+     *
+     * @param difficulty The difficulty level to manage.
+     * @param profile    The profile holding the leaderboards.
      */
-    public int loadHighScore() {
-        try {
-            File file = new File(getHighScoreFile());
-            if (!file.exists()) { return 0; }
-            Scanner scanner = new Scanner(file);
-            if (scanner.hasNextInt()) {
-                int score = scanner.nextInt();
-                scanner.close();
-                return score;
-            }
-            scanner.close();
-        } catch (IOException e) {
-            System.out.println("Failed to load high scsore" + e.getMessage());
-        }
-        return 0;
+    public HighScoreManager(Difficulty difficulty, ProfileStore profile) {
+        this.difficulty = difficulty;
+        this.profile = profile;
     }
 
     /**
-     * Helper method to get the correct filename based on the current difficulty.
-     * @return The filename (e.g., "highscore_easy.txt").
+     * Loads the high score from the profile.
+     * @return The saved high score, or 0 if no game was saved.
      */
-    private String getHighScoreFile() {
-        return switch (this.difficulty) {
-            case EASY -> EASY_FILE;
-            case NORMAL -> NORMAL_FILE;
-            case HARD -> HARD_FILE;
-            case EXTRA -> EXTRA_FILE;
-        };
+    public int loadHighScore() {
+        return getHighScore();
     }
 
-    private Difficulty difficulty;
-
     /**
-     * Checks if the new score is a high score and saves it to the file.
+     * Checks if the new score is a high score and saves it.
      * @param newScore The final score from the game.
      * @return true if this was a new high score, false otherwise.
      */
     public boolean saveHighScore(int newScore) {
-        if (newScore > this.highScore) {
-            this.highScore = newScore;
-            // write to the file
-            try {
-                FileWriter writer = new FileWriter(getHighScoreFile(), false); // Overwrite
-                writer.write(String.valueOf(newScore));
-                writer.close();
-                return true;
-            } catch (IOException e) {
-                System.err.println("Falied to save high score" + e.getMessage());
-            }
+        return saveScore(newScore, 0, 0);
+    }
+
+    /**
+     * Adds a finished game to the leaderboard and schedules the profile to be written.
+     * Returns immediately; the file is written later by the {@link WriteBehindExecutor}.
+     *
+     * @param score The final score.
+     * @param lines The number of lines cleared.
+     * @param seed  The seed of the game.
+     * @return true if this is a new high score (better than every earlier game), false otherwise.
+     */
+    public boolean saveScore(int score, int lines, long seed) {
+        List<LeaderboardEntry> current = getLeaderboard();
+        int previousBest = current.isEmpty() ? 0 : current.getFirst().getScore();
+        if (current.size() >= GameConfig.LEADERBOARD_SIZE && score <= current.getLast().getScore()) {
+            return false;   // does not make the leaderboard
         }
-        return false;
+
+        List<LeaderboardEntry> updated = new ArrayList<>(current);
+        updated.add(new LeaderboardEntry(score, lines, LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS), seed));
+        updated.sort(LeaderboardEntry.BEST_FIRST);
+        if (updated.size() > GameConfig.LEADERBOARD_SIZE) updated.removeLast();
+        profile.setLeaderboard(difficulty, updated);
+        return score > previousBest;
+    }
+
+    /**
+     * Blocks until every scheduled profile write has reached the disk.
+     * Intended for shutdown and tests; the game itself never waits for the writer.
+     */
+    public static void flush() {
+        ProfileStore.flush();
     }
 
     /**
@@ -96,6 +95,16 @@ public class HighScoreManager {
      * @return The high score.
      */
     public int getHighScore() {
-        return this.highScore;
+        List<LeaderboardEntry> current = getLeaderboard();
+        return current.isEmpty() ? 0 : current.getFirst().getScore();
+    }
+
+    /**
+     * Gets the leaderboard of this difficulty.
+     *
+     * @return An unmodifiable list of entries, best first.
+     */
+    public List<LeaderboardEntry> getLeaderboard() {
+        return profile.getLeaderboard(difficulty);
     }
-}
\ No newline at end of file
+}
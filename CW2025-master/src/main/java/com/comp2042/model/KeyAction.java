@@ -0,0 +1,41 @@
+package com.comp2042.model;
+
+import javafx.scene.input.KeyCode;
+
+/**
+ * The game actions that can be bound to a key, with their default bindings.
+ * The constant names are the keys used in the settings file.
+ */
+public enum KeyAction {
+    /** Move one column left. */
+    MOVE_LEFT(KeyCode.F),
+    /** Move one column right. */
+    MOVE_RIGHT(KeyCode.J),
+    /** Rotate to the left. */
+    ROTATE_LEFT(KeyCode.S),
+    /** Rotate to the right. */
+    ROTATE_RIGHT(KeyCode.L),
+    /** Move one row down (single tap when shared with hard drop). */
+    SOFT_DROP(KeyCode.SPACE),
+    /** Drop to the bottom (double tap when shared with soft drop). */
+    HARD_DROP(KeyCode.SPACE),
+    /** Slide to the left wall. */
+    MOVE_LEFT_MOST(KeyCode.SLASH),
+    /** Slide to the right wall. */
+    MOVE_RIGHT_MOST(KeyCode.SHIFT),
+    /** Swap the falling brick with the hold slot. */
+    HOLD(KeyCode.V),
+    /** Take back the last placement (practice games only). */
+    UNDO(KeyCode.Z),
+    /** Replay a placement that was taken back (practice games only). */
+    REDO(KeyCode.Y);
+
+    private final KeyCode defaultKey;
+
+    KeyAction(KeyCode defaultKey) {
+        this.defaultKey = defaultKey;
+    }
+
+    /** @return The key bound to this action when no setting is saved. */
+    public KeyCode getDefaultKey() { return defaultKey; }
+}
@@ -0,0 +1,84 @@
+package com.comp2042.model;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Comparator;
+
+/**
+ * An immutable data object for one finished game on a leaderboard.
+ * Entries are stored one per line as {@code score,lines,date,seed}.
+ */
+public final class LeaderboardEntry {
+
+    /** Orders entries best first: higher score, then more lines, then the earlier game. */
+    public static final Comparator<LeaderboardEntry> BEST_FIRST = Comparator
+            .comparingInt(LeaderboardEntry::getScore).reversed()
+            .thenComparing(Comparator.comparingInt(LeaderboardEntry::getLines).reversed())
+            .thenComparing(LeaderboardEntry::getDate);
+
+    /** The final score. */
+    private final int score;
+    /** The number of lines cleared. */
+    private final int lines;
+    /** When the game ended. */
+    private final LocalDateTime date;
+    /** The seed the game was played with, so it can be replayed. */
+    private final long seed;
+
+    /**
+     * Constructs a new LeaderboardEntry.
+     *
+     * @param score The final score.
+     * @param lines The number of lines cleared.
+     * @param date  When the game ended.
+     * @param seed  The seed of the game.
+     */
+    public LeaderboardEntry(int score, int lines, LocalDateTime date, long seed) {
+        this.score = score;
+        this.lines = lines;
+        this.date = date;
+        this.seed = seed;
+    }
+
+    /**
+     * Parses one stored line.
+     *
+     * @param line A line in the {@code score,lines,date,seed} format.
+     * @return The parsed entry.
+     * @throws IllegalArgumentException If the line is malformed.
+     */
+    public static LeaderboardEntry parse(String line) {
+        String[] parts = line.trim().split(",");
+        if (parts.length != 4) throw new IllegalArgumentException("Expected 4 fields: " + line);
+        try {
+            return new LeaderboardEntry(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]),
+                    LocalDateTime.parse(parts[2]), Long.parseLong(parts[3]));
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Malformed leaderboard line: " + line, e);
+        }
+    }
+
+    /**
+     * Formats this entry as one stored line.
+     *
+     * @return The {@code score,lines,date,seed} line.
+     */
+    public String format() {
+        return score + "," + lines + "," + date + "," + seed;
+    }
+
+    /** @return The final score. */
+    public int getScore() { return score; }
+
+    /** @return The number of lines cleared. */
+    public int getLines() { return lines; }
+
+    /** @return When the game ended. */
+    public LocalDateTime getDate() { return date; }
+
+    /** @return The seed of the game. */
+    public long getSeed() { return seed; }
+
+    @Override
+    public String toString() { return format(); }
+}
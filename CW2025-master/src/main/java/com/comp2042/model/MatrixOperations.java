@@ -13,6 +13,9 @@ import java.util.stream.Collectors;
  * matrix operations required by the Tetris game.
  * This class includes methods for collision detection (intersect),
  * merging bricks, copying matrices, and checking for completed rows.
+ * <p>
+ * {@link #merge} and {@link #checkRemoving} never change their input: they return a new matrix
+ * that shares every row they did not change with the input.
  * It cannot be instantiated.
  */
 public class MatrixOperations {
@@ -82,6 +85,7 @@ public class MatrixOperations {
     /**
      * Merges a brick's shape onto a copy of the game board matrix at a specific position.
      * This is used to "stamp" a landed brick onto the background.
+     * Only the rows the brick touches are copied; the other rows are shared with {@code filledFields}.
      *
      * @param filledFields The main game board matrix.
      * @param brick        The brick's shape matrix to merge.
@@ -90,13 +94,17 @@ public class MatrixOperations {
      * @return A new 2D array representing the merged matrix.
      */
     public static int[][] merge(int[][] filledFields, int[][] brick, int x, int y) {
-        int[][] copy = copy(filledFields);
-        for (int i = 0; i < brick.length; i++) {
-            for (int j = 0; j < brick[i].length; j++) {
-                int targetX = x + i;
-                int targetY = y + j;
+        int[][] copy = filledFields.clone();
+        for (int j = 0; j < brick.length; j++) {
+            int targetY = y + j;
+            boolean copied = false;
+            for (int i = 0; i < brick[j].length; i++) {
                 if (brick[j][i] != 0) {
-                    copy[targetY][targetX] = brick[j][i];
+                    if (!copied) {
+                        copy[targetY] = copy[targetY].clone();
+                        copied = true;
+                    }
+                    copy[targetY][x + i] = brick[j][i];
                 }
             }
         }
@@ -106,38 +114,34 @@ public class MatrixOperations {
     /**
      * Checks the game matrix for completed (full) rows, removes them, and collapses the rows above.
      * It also calculates the score bonus based on the number of lines cleared.
+     * The rows that remain are shared with {@code matrix}; only the new empty rows at the top are allocated.
      *
      * @param matrix The current game board matrix to check.
      * @return A {@link ClearRow} object containing the new matrix, the number of lines removed,
      * and the calculated score bonus.
      */
     public static ClearRow checkRemoving(final int[][] matrix) {
-        int[][] tmp = new int[matrix.length][matrix[0].length];
+        int[][] tmp = new int[matrix.length][];
         Deque<int[]> newRows = new ArrayDeque<>();
         List<Integer> clearedRows = new ArrayList<>();
 
         for (int i = 0; i < matrix.length; i++) {
-            int[] tmpRow = new int[matrix[i].length];
             boolean rowToClear = true;
             for (int j = 0; j < matrix[0].length; j++) {
                 if (matrix[i][j] == 0) {
                     rowToClear = false;
+                    break;
                 }
-                tmpRow[j] = matrix[i][j];
             }
             if (rowToClear) {
                 clearedRows.add(i);
             } else {
-                newRows.add(tmpRow);
+                newRows.add(matrix[i]);
             }
         }
         for (int i = matrix.length - 1; i >= 0; i--) {
             int[] row = newRows.pollLast();
-            if (row != null) {
-                tmp[i] = row;
-            } else {
-                break;
-            }
+            tmp[i] = row != null ? row : new int[matrix[0].length];
         }
         int scoreBonus = GameConfig.SCORE_BASE_PER_LINE * clearedRows.size() * clearedRows.size();
         return new ClearRow(clearedRows.size(), tmp, scoreBonus);
@@ -0,0 +1,365 @@
+package com.comp2042.model;
+
+import com.comp2042.GameConfig;
+import javafx.scene.input.KeyCode;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+/**
+ * The player's profile: key bindings and the leaderboard of every {@link Difficulty}, kept in a
+ * single binary file ({@link GameConfig#PROFILE_FILE}).
+ * <p>
+ * The file is read and parsed once when the store opens; afterwards every read is served
+ * from memory. Changes queue a write of the whole file (temp file and atomic rename) on the
+ * {@link WriteBehindExecutor}, which coalesces them, so many changes in a row cost one write.
+ * <p>
+ * Layout (big-endian): the magic number {@code 0x54504631} ("TPF1"), a format version (short),
+ * the payload length and the CRC32 of the payload (ints), then the payload as a list of sections,
+ * each a tag byte and a length-prefixed body. Sections with unknown tags are skipped, so a newer
+ * game can add sections without breaking older files. Strings are a short length and UTF-8 bytes.
+ * <p>
+ * If no profile exists yet, the older text files ({@code settings.txt} and the
+ * {@code highscore_*.txt} files) in the same directory are imported once and left in place.
+ */
+public final class ProfileStore {
+
+    /** Identifies a profile file ("TPF1"). */
+    private static final int MAGIC = 0x54504631;
+    /** The current format version. Files with a newer version are not read. */
+    private static final short VERSION = 1;
+    /** The size of the header in front of the payload. */
+    private static final int HEADER_SIZE = 4 + 2 + 4 + 4;
+
+    /** Section holding the key bindings. */
+    private static final byte TAG_KEY_BINDINGS = 1;
+    /** Section holding the leaderboard of one difficulty. */
+    private static final byte TAG_LEADERBOARD = 2;
+
+    /** The date given to the score read from a legacy single-score file. */
+    private static final LocalDateTime LEGACY_DATE = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private static ProfileStore defaultStore;
+
+    private final Path directory;
+    private final Path file;
+
+    /** The saved key bindings; empty if none were ever saved. Replaced as a whole. */
+    private volatile Map<KeyAction, KeyCode> keyBindings = Map.of();
+    /** The leaderboard of each difficulty, best first; each list is immutable. */
+    private final Map<Difficulty, List<LeaderboardEntry>> leaderboards = new ConcurrentHashMap<>();
+
+    /** When the profile file was last read or written, in epoch milliseconds. */
+    private volatile long lastSavedMillis;
+
+    /**
+     * Opens the profile in a directory. If the directory has no profile yet, or the profile is
+     * damaged, the legacy text files there are imported and a new profile is written.
+     *
+     * @param directory The directory holding the profile (and any legacy files).
+     */
+    public ProfileStore(Path directory) {
+        this.directory = directory;
+        this.file = directory.resolve(GameConfig.PROFILE_FILE);
+        if (Files.exists(file)) {
+            try {
+                read();
+                return;
+            } catch (IOException | BufferUnderflowException | IllegalArgumentException e) {
+                System.err.println("Profile is damaged, importing the old files again: " + e.getMessage());
+                try {
+                    Files.move(file, file.resolveSibling(file.getFileName() + ".corrupt"), StandardCopyOption.REPLACE_EXISTING);
+                } catch (IOException moveFailed) {
+                    System.err.println("Failed to keep the damaged profile: " + moveFailed.getMessage());
+                }
+            }
+        }
+        migrateLegacyFiles();
+        markDirty();
+    }
+
+    /**
+     * Gets the profile in the working directory, opening it on first use.
+     *
+     * @return The shared profile.
+     */
+    public static synchronized ProfileStore getDefault() {
+        if (defaultStore == null) {
+            defaultStore = new ProfileStore(Paths.get(""));
+        }
+        return defaultStore;
+    }
+
+    // ==================== READING ====================
+
+    private void read() throws IOException {
+        // read into the heap rather than mapping it: a mapped file stays locked on some systems
+        // until the buffer is collected, which would keep the next write from replacing it
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+        if (buffer.getInt() != MAGIC) throw new IOException("Not a profile file");
+        short version = buffer.getShort();
+        if (version > VERSION) throw new IOException("Profile version " + version + " is newer than this game");
+        int length = buffer.getInt();
+        int checksum = buffer.getInt();
+        if (length != buffer.remaining()) throw new IOException("Profile length does not match");
+
+        ByteBuffer payload = buffer.slice();
+        CRC32 crc = new CRC32();
+        crc.update(payload.duplicate());
+        if ((int) crc.getValue() != checksum) throw new IOException("Profile checksum does not match");
+
+        while (payload.hasRemaining()) {
+            byte tag = payload.get();
+            int size = payload.getInt();
+            ByteBuffer body = payload.slice(payload.position(), size);
+            payload.position(payload.position() + size);
+            switch (tag) {
+                case TAG_KEY_BINDINGS -> keyBindings = readKeyBindings(body);
+                case TAG_LEADERBOARD -> readLeaderboard(body);
+                default -> { } // written by a newer version
+            }
+        }
+        lastSavedMillis = Files.getLastModifiedTime(file).toMillis();
+    }
+
+    private static Map<KeyAction, KeyCode> readKeyBindings(ByteBuffer body) {
+        Map<KeyAction, KeyCode> bindings = new EnumMap<>(KeyAction.class);
+        int count = body.getShort();
+        for (int i = 0; i < count; i++) {
+            String action = readString(body);
+            String key = readString(body);
+            try {
+                bindings.put(KeyAction.valueOf(action), KeyCode.valueOf(key));
+            } catch (IllegalArgumentException e) {
+                System.err.println("Skipping unknown key binding " + action + "=" + key);
+            }
+        }
+        return Collections.unmodifiableMap(bindings);
+    }
+
+    private void readLeaderboard(ByteBuffer body) {
+        String name = readString(body);
+        int count = body.getShort();
+        List<LeaderboardEntry> entries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int score = body.getInt();
+            int lines = body.getInt();
+            LocalDateTime date = LocalDateTime.ofEpochSecond(body.getLong(), 0, ZoneOffset.UTC);
+            entries.add(new LeaderboardEntry(score, lines, date, body.getLong()));
+        }
+        try {
+            leaderboards.put(Difficulty.valueOf(name), Collections.unmodifiableList(entries));
+        } catch (IllegalArgumentException e) {
+            System.err.println("Skipping leaderboard of unknown difficulty " + name);
+        }
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getShort() & 0xFFFF];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // ==================== MIGRATION ====================
+
+    /**
+     * Imports the text files used before the profile existed: the key bindings from
+     * {@code settings.txt} and the leaderboards from the {@code highscore_*.txt} files.
+     */
+    private void migrateLegacyFiles() {
+        Path settingsFile = directory.resolve(GameSettings.SETTINGS_FILE);
+        if (Files.exists(settingsFile)) {
+            try {
+                keyBindings = Collections.unmodifiableMap(GameSettings.readBindings(settingsFile));
+            } catch (IOException e) {
+                System.err.println("Failed to import settings: " + e.getMessage());
+            }
+        }
+        for (Difficulty difficulty : Difficulty.values()) {
+            Path scoreFile = directory.resolve(legacyHighScoreFile(difficulty));
+            if (Files.exists(scoreFile)) {
+                leaderboards.put(difficulty, readLegacyLeaderboard(scoreFile));
+            }
+        }
+    }
+
+    private static String legacyHighScoreFile(Difficulty difficulty) {
+        return "highscore_" + difficulty.name().toLowerCase() + ".txt";
+    }
+
+    /**
+     * Reads a legacy leaderboard file: one "score,lines,date,seed" line per game, or a single score.
+     * Lines that cannot be parsed are skipped.
+     */
+    private static List<LeaderboardEntry> readLegacyLeaderboard(Path scoreFile) {
+        List<LeaderboardEntry> entries = new ArrayList<>();
+        try {
+            for (String line : Files.readAllLines(scoreFile)) {
+                line = line.trim();
+                if (line.isEmpty()) continue;
+                try {
+                    if (line.indexOf(',') < 0) {
+                        // oldest format: just the best score
+                        entries.add(new LeaderboardEntry(Integer.parseInt(line), 0, LEGACY_DATE, 0));
+                    } else {
+                        entries.add(LeaderboardEntry.parse(line));
+                    }
+                } catch (IllegalArgumentException e) {
+                    System.err.println("Skipping bad high score line: " + e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to import high scores: " + e.getMessage());
+        }
+        entries.sort(LeaderboardEntry.BEST_FIRST);
+        return Collections.unmodifiableList(entries.subList(0, Math.min(entries.size(), GameConfig.LEADERBOARD_SIZE)));
+    }
+
+    // ==================== ACCESS ====================
+
+    /**
+     * Gets the saved key bindings.
+     *
+     * @return An unmodifiable map; empty if bindings were never saved.
+     */
+    public Map<KeyAction, KeyCode> getKeyBindings() {
+        return keyBindings;
+    }
+
+    /**
+     * Replaces the saved key bindings and schedules a write.
+     *
+     * @param bindings The bindings to save.
+     */
+    public void setKeyBindings(Map<KeyAction, KeyCode> bindings) {
+        Map<KeyAction, KeyCode> copy = new EnumMap<>(KeyAction.class);
+        copy.putAll(bindings);
+        keyBindings = Collections.unmodifiableMap(copy);
+        markDirty();
+    }
+
+    /**
+     * Gets the leaderboard of a difficulty.
+     *
+     * @param difficulty The difficulty.
+     * @return An unmodifiable list, best first; empty if no game was saved.
+     */
+    public List<LeaderboardEntry> getLeaderboard(Difficulty difficulty) {
+        return leaderboards.getOrDefault(difficulty, List.of());
+    }
+
+    /**
+     * Replaces the leaderboard of a difficulty and schedules a write.
+     *
+     * @param difficulty The difficulty.
+     * @param entries    The entries, best first.
+     */
+    public void setLeaderboard(Difficulty difficulty, List<LeaderboardEntry> entries) {
+        leaderboards.put(difficulty, List.copyOf(entries));
+        markDirty();
+    }
+
+    /** @return The profile file. */
+    public Path getFile() { return file; }
+
+    /** @return When the profile file was last read or written, in epoch milliseconds. */
+    public long getLastSavedMillis() { return lastSavedMillis; }
+
+    // ==================== WRITING ====================
+
+    /**
+     * Queues a write unless one is already waiting; that write will pick up this change too.
+     */
+    private void markDirty() {
+        WriteBehindExecutor.getShared().write(file, this::write);
+    }
+
+    private void write() throws IOException {
+        byte[] payload = encodePayload();
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC).putShort(VERSION).putInt(payload.length).putInt((int) crc.getValue()).flip();
+
+        Path temp = file.toAbsolutePath().resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            channel.write(new ByteBuffer[]{header, ByteBuffer.wrap(payload)});
+            channel.force(true);
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        lastSavedMillis = Files.getLastModifiedTime(file).toMillis();
+    }
+
+    private byte[] encodePayload() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+
+        ByteArrayOutputStream section = new ByteArrayOutputStream();
+        DataOutputStream body = new DataOutputStream(section);
+        Map<KeyAction, KeyCode> bindings = keyBindings;
+        if (!bindings.isEmpty()) {
+            body.writeShort(bindings.size());
+            for (Map.Entry<KeyAction, KeyCode> binding : bindings.entrySet()) {
+                writeString(body, binding.getKey().name());
+                writeString(body, binding.getValue().name());
+            }
+            writeSection(out, TAG_KEY_BINDINGS, section);
+        }
+
+        for (Difficulty difficulty : Difficulty.values()) {
+            List<LeaderboardEntry> entries = leaderboards.get(difficulty);
+            if (entries == null) continue;
+            section.reset();
+            writeString(body, difficulty.name());
+            body.writeShort(entries.size());
+            for (LeaderboardEntry entry : entries) {
+                body.writeInt(entry.getScore());
+                body.writeInt(entry.getLines());
+                body.writeLong(entry.getDate().toEpochSecond(ZoneOffset.UTC));
+                body.writeLong(entry.getSeed());
+            }
+            writeSection(out, TAG_LEADERBOARD, section);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void writeSection(DataOutputStream out, byte tag, ByteArrayOutputStream section) throws IOException {
+        out.writeByte(tag);
+        out.writeInt(section.size());
+        section.writeTo(out);
+    }
+
+    private static void writeString(DataOutputStream out, String text) throws IOException {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Blocks until every queued profile write has reached the disk.
+     * Intended for shutdown and tests; the game itself never waits for the writer.
+     */
+    public static void flush() {
+        WriteBehindExecutor.getShared().flush();
+    }
+}
@@ -0,0 +1,253 @@
+package com.comp2042.model;
+
+/**
+ * The rows of a board stored in a circular buffer: logical row {@code r} (0 is the top) lives in
+ * slot {@code (base + r) % rows}. Moving every row up or down is therefore a change of {@code base}
+ * instead of a copy of the board.
+ * <ul>
+ *     <li>{@link #removeFullRows()} drops the cleared rows by moving the base, so only the rows
+ *     below the topmost cleared row are moved, which near the bottom of the board is a few.</li>
+ *     <li>{@link #pushRow(int[])} inserts a row at the bottom and pushes the rest up in constant time.</li>
+ *     <li>{@link #intersects} reads only the cells under a shape, and {@link #getTopFilledRow()}
+ *     is kept up to date, so moving a brick costs the same on a board of any height.</li>
+ * </ul>
+ * Like the matrices of {@link MatrixOperations}, the rows are never changed in place: a merge
+ * replaces a row with a changed copy, so the matrices returned by {@link #toMatrix()} stay valid
+ * and share their rows with each other (see {@link BoardHistory}).
+ */
+public final class RowBuffer {
+
+    private final int[][] slots;
+    /** The number of filled cells of the row in each slot. */
+    private final int[] filled;
+    private final int columns;
+    /** The shared empty row; it is never written to. */
+    private final int[] emptyRow;
+    /** The slot holding logical row 0. */
+    private int base;
+    /** The number of full rows. */
+    private int fullRows;
+    /** The topmost logical row with a filled cell, or the row count if every row is empty. */
+    private int topFilledRow;
+    /** The rows in logical order, built on demand and dropped on every change. */
+    private int[][] matrix;
+
+    /**
+     * Constructs an empty buffer.
+     *
+     * @param rows    The number of rows.
+     * @param columns The number of columns.
+     * @throws IllegalArgumentException If either size is not positive.
+     */
+    public RowBuffer(int rows, int columns) {
+        if (rows <= 0 || columns <= 0) throw new IllegalArgumentException("Invalid size: " + rows + "x" + columns);
+        this.slots = new int[rows][];
+        this.filled = new int[rows];
+        this.columns = columns;
+        this.emptyRow = new int[columns];
+        clear();
+    }
+
+    /** @return The number of rows. */
+    public int getRowCount() { return slots.length; }
+
+    /** @return The number of columns. */
+    public int getColumnCount() { return columns; }
+
+    private int slot(int row) {
+        int slot = base + row;
+        return slot >= slots.length ? slot - slots.length : slot;
+    }
+
+    /**
+     * Gets one row. The returned array must not be modified.
+     *
+     * @param row The logical row, 0 being the top.
+     * @return The row.
+     */
+    public int[] getRow(int row) {
+        return slots[slot(row)];
+    }
+
+    /**
+     * Gets the top of the stack: every row above it is empty.
+     *
+     * @return The topmost row with a filled cell, or the row count if the buffer is empty.
+     */
+    public int getTopFilledRow() { return topFilledRow; }
+
+    /**
+     * Checks if a shape would overlap a filled cell or leave the board, like
+     * {@link MatrixOperations#intersect}, but reading only the cells under the shape.
+     *
+     * @param shape The shape matrix, indexed {@code [row][column]}.
+     * @param x     The column of the shape's left edge.
+     * @param y     The row of the shape's top edge.
+     * @return {@code true} on a collision or bounds violation.
+     */
+    public boolean intersects(int[][] shape, int x, int y) {
+        for (int j = 0; j < shape.length; j++) {
+            int row = y + j;
+            for (int i = 0; i < shape[j].length; i++) {
+                if (shape[j][i] == 0) continue;
+                int column = x + i;
+                if (row < 0 || row >= slots.length || column < 0 || column >= columns) return true;
+                if (slots[slot(row)][column] != 0) return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the rows in logical order. The array is built once per change and shared until the next
+     * one; neither it nor its rows may be modified.
+     *
+     * @return The board matrix.
+     */
+    public int[][] toMatrix() {
+        if (matrix == null) {
+            int[][] result = new int[slots.length][];
+            int split = slots.length - base;
+            System.arraycopy(slots, base, result, 0, split);
+            System.arraycopy(slots, 0, result, split, base);
+            matrix = result;
+        }
+        return matrix;
+    }
+
+    /** Empties every row. */
+    public void clear() {
+        for (int i = 0; i < slots.length; i++) put(i, emptyRow);
+        base = 0;
+        topFilledRow = slots.length;
+        matrix = null;
+    }
+
+    /**
+     * Replaces the rows with those of a matrix. The rows are adopted, not copied.
+     *
+     * @param source The matrix to adopt; it must not be modified afterwards.
+     * @throws IllegalArgumentException If the matrix has a different size.
+     */
+    public void load(int[][] source) {
+        if (source.length != slots.length || source[0].length != columns) {
+            throw new IllegalArgumentException("Matrix is " + source.length + "x" + source[0].length
+                    + ", expected " + slots.length + "x" + columns);
+        }
+        base = 0;
+        for (int i = 0; i < source.length; i++) put(i, source[i]);
+        topFilledRow = 0;
+        lowerTopFilledRow();
+        matrix = source;
+    }
+
+    private void put(int slot, int[] row) {
+        if (slots[slot] != null && filled[slot] == columns) fullRows--;
+        slots[slot] = row;
+        filled[slot] = row == emptyRow ? 0 : countFilled(row);
+        if (filled[slot] == columns) fullRows++;
+    }
+
+    /** Moves {@link #topFilledRow} down past empty rows. */
+    private void lowerTopFilledRow() {
+        while (topFilledRow < slots.length && filled[slot(topFilledRow)] == 0) topFilledRow++;
+    }
+
+    private static int countFilled(int[] row) {
+        int count = 0;
+        for (int cell : row) {
+            if (cell != 0) count++;
+        }
+        return count;
+    }
+
+    /**
+     * Writes a brick shape into the rows it covers. Each changed row is replaced by a copy.
+     *
+     * @param shape The shape matrix, indexed {@code [row][column]}.
+     * @param x     The column of the shape's left edge.
+     * @param y     The row of the shape's top edge.
+     */
+    public void merge(int[][] shape, int x, int y) {
+        for (int j = 0; j < shape.length; j++) {
+            int[] row = null;
+            for (int i = 0; i < shape[j].length; i++) {
+                if (shape[j][i] != 0) {
+                    if (row == null) row = getRow(y + j).clone();
+                    row[x + i] = shape[j][i];
+                }
+            }
+            if (row != null) {
+                put(slot(y + j), row);
+                topFilledRow = Math.min(topFilledRow, y + j);
+            }
+        }
+        matrix = null;
+    }
+
+    /**
+     * Removes every full row; the rows above fall down and empty rows come in at the top.
+     * Only the rows below the topmost cleared row are moved; moving the base back by the number of
+     * cleared rows then lowers everything, so the rows above it never move. When no row is full,
+     * which is the case for most bricks, this returns at once.
+     *
+     * @return The number of rows removed.
+     */
+    public int removeFullRows() {
+        if (fullRows == 0) return 0;
+        int top = -1;
+        int cleared = 0;
+        for (int row = 0; row < slots.length; row++) {
+            if (filled[slot(row)] == columns) {
+                if (top < 0) top = row;
+                cleared++;
+            }
+        }
+        if (cleared == 0) return 0;
+
+        // move the surviving rows below the topmost cleared row up over it; afterwards the rows
+        // top..H-1-cleared are in order and the last 'cleared' rows are stale
+        int write = top;
+        for (int read = top + 1; read < slots.length; read++) {
+            int from = slot(read);
+            if (filled[from] == columns) continue;
+            int to = slot(write++);
+            slots[to] = slots[from];
+            filled[to] = filled[from];
+        }
+        // moving the base back by 'cleared' lowers every row by that much, and the stale slots
+        // wrap round to the top, where they are emptied
+        base -= cleared;
+        if (base < 0) base += slots.length;
+        for (int row = 0; row < cleared; row++) put(slot(row), emptyRow);
+        fullRows = 0;
+        // the rows above the old top were empty and moved down by 'cleared'
+        topFilledRow = Math.min(slots.length, topFilledRow + cleared);
+        lowerTopFilledRow();
+        matrix = null;
+        return cleared;
+    }
+
+    /**
+     * Inserts a row at the bottom and pushes every other row up by one; the top row is dropped.
+     *
+     * @param row The new bottom row; it is adopted, not copied, and must not be modified afterwards.
+     * @return {@code true} if the dropped top row had filled cells.
+     * @throws IllegalArgumentException If the row has the wrong length.
+     */
+    public boolean pushRow(int[] row) {
+        if (row.length != columns) throw new IllegalArgumentException("Row has " + row.length + " cells, expected " + columns);
+        int top = base;
+        boolean overflow = filled[top] > 0;
+        base = slot(1);
+        put(top, row);
+        if (topFilledRow == slots.length) {
+            topFilledRow = filled[top] > 0 ? slots.length - 1 : slots.length;
+        } else {
+            topFilledRow = Math.max(0, topFilledRow - 1);
+            lowerTopFilledRow();
+        }
+        matrix = null;
+        return overflow;
+    }
+}
@@ -0,0 +1,100 @@
+package com.comp2042.model;
+
+import com.comp2042.GameConfig;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+
+/**
+ * Keeps the suspended game that the main menu can resume.
+ * The latest {@link GameSnapshot} is held in memory, so resuming never waits for the disk.
+ * Saves are encoded and written by the {@link WriteBehindExecutor} (temp file and atomic rename),
+ * and several saves queued before the writer runs are coalesced into one write.
+ */
+public final class SaveGameStore {
+
+    private static SaveGameStore defaultStore;
+
+    private final Path file;
+    /** The saved game, or {@code null} if there is none. */
+    private volatile GameSnapshot latest;
+
+    /**
+     * Constructs a store for a file and reads the game saved in it, if any.
+     * A file that cannot be decoded is ignored.
+     *
+     * @param file The save file.
+     */
+    public SaveGameStore(Path file) {
+        this.file = file;
+        this.latest = read(file);
+    }
+
+    /**
+     * Gets the store for {@link GameConfig#SAVE_FILE}, reading it on first use.
+     *
+     * @return The shared store.
+     */
+    public static synchronized SaveGameStore getDefault() {
+        if (defaultStore == null) {
+            defaultStore = new SaveGameStore(Paths.get(GameConfig.SAVE_FILE));
+        }
+        return defaultStore;
+    }
+
+    private static GameSnapshot read(Path file) {
+        if (!Files.exists(file)) return null;
+        try {
+            return GameSnapshot.decode(Files.readAllBytes(file));
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Failed to load saved game: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Gets the saved game.
+     *
+     * @return The snapshot, or empty if no game is suspended.
+     */
+    public Optional<GameSnapshot> load() {
+        return Optional.ofNullable(latest);
+    }
+
+    /**
+     * Replaces the saved game. Returns immediately; the file is written in the background.
+     *
+     * @param snapshot The game to save.
+     */
+    public void saveLater(GameSnapshot snapshot) {
+        latest = snapshot;
+        WriteBehindExecutor.getShared().write(file, () -> write(snapshot));
+    }
+
+    private void write(GameSnapshot snapshot) throws IOException {
+        Path temp = file.toAbsolutePath().resolveSibling(file.getFileName() + ".tmp");
+        Files.write(temp, snapshot.encode());
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Forgets the saved game, e.g. when it ended. The file is deleted in the background,
+     * replacing any save that is still waiting.
+     */
+    public void clear() {
+        latest = null;
+        WriteBehindExecutor.getShared().write(file, () -> Files.deleteIfExists(file));
+    }
+
+    /**
+     * Blocks until every queued save has reached the disk.
+     * Intended for shutdown and tests; the game itself never waits for the writer.
+     */
+    public static void flush() {
+        WriteBehindExecutor.getShared().flush();
+    }
+}
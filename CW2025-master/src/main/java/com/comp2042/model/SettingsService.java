@@ -0,0 +1,127 @@
+package com.comp2042.model;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+
+/**
+ * Owns the process-wide {@link GameSettings}. The settings are loaded once from the
+ * {@link ProfileStore}; afterwards a daemon thread watches {@code settings.txt} with a
+ * {@link WatchService} and imports it whenever it changes on disk, e.g. when the player edits
+ * it while a game is running. The listener is then told so the running game can pick up the
+ * new keys without a restart.
+ */
+public final class SettingsService implements Closeable {
+
+    private static SettingsService instance;
+
+    private final GameSettings settings;
+    private final Path watchedFile;
+    private final WatchService watchService;
+    private volatile Runnable listener;
+
+    /**
+     * Constructs a service and starts watching a settings text file for changes.
+     * If the file was changed after the profile was last saved, it is imported right away;
+     * otherwise its current bindings are only remembered, so that a later edit applies just the
+     * bindings it changes.
+     *
+     * @param settings    The settings to keep up to date.
+     * @param watchedFile The settings text file to import changes from; it need not exist yet.
+     * @throws IOException If the file's directory cannot be watched.
+     */
+    public SettingsService(GameSettings settings, Path watchedFile) throws IOException {
+        this.settings = settings;
+        this.watchedFile = watchedFile;
+        if (Files.exists(watchedFile)
+                && Files.getLastModifiedTime(watchedFile).toMillis() > settings.getProfile().getLastSavedMillis()) {
+            settings.importFile(watchedFile);
+        } else {
+            settings.rememberFile(watchedFile);
+        }
+        Path directory = watchedFile.toAbsolutePath().getParent();
+        this.watchService = FileSystems.getDefault().newWatchService();
+        directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        Thread watcher = new Thread(this::watch, "settings-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+    }
+
+    /**
+     * Gets the shared service for the default profile and settings file, creating it on first use.
+     * If the file cannot be watched, the settings still load but are not hot-reloaded.
+     *
+     * @return The shared service.
+     */
+    public static synchronized SettingsService getInstance() {
+        if (instance == null) {
+            GameSettings settings = new GameSettings(ProfileStore.getDefault());
+            Path watchedFile = settings.getProfile().getFile().resolveSibling(GameSettings.SETTINGS_FILE);
+            try {
+                instance = new SettingsService(settings, watchedFile);
+            } catch (IOException e) {
+                System.err.println("Failed to watch settings: " + e.getMessage());
+                instance = new SettingsService(settings);
+            }
+        }
+        return instance;
+    }
+
+    /** Fallback that serves loaded settings without watching the file. */
+    private SettingsService(GameSettings settings) {
+        this.settings = settings;
+        this.watchedFile = null;
+        this.watchService = null;
+    }
+
+    private void watch() {
+        Path fileName = watchedFile.getFileName();
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean touched = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (fileName.equals(event.context())) touched = true;
+                }
+                key.reset();
+                if (touched && settings.importFile(watchedFile)) notifyListener();
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // closed: stop watching
+        }
+    }
+
+    /** @return The shared settings; their values always reflect the latest valid import. */
+    public GameSettings getSettings() { return settings; }
+
+    /**
+     * Sets the callback run on the watcher thread after the settings file changed.
+     *
+     * @param listener The callback, or {@code null} to remove it.
+     */
+    public void setListener(Runnable listener) {
+        this.listener = listener;
+    }
+
+    private void notifyListener() {
+        Runnable current = this.listener;
+        if (current != null) current.run();
+    }
+
+    /**
+     * Stops watching the settings file.
+     *
+     * @throws IOException If the watch service cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        if (watchService != null) watchService.close();
+    }
+}
@@ -3,6 +3,7 @@ package com.comp2042.model;
 import com.comp2042.GameConfig;
 import com.comp2042.model.bricks.Brick;
 import com.comp2042.model.bricks.BrickGenerator;
+import com.comp2042.model.bricks.BrickType;
 import com.comp2042.model.bricks.RandomBrickGenerator;
 
 import java.awt.*;
@@ -23,10 +24,16 @@ public class SimpleBoard implements Board {
     private final int height;
     private final BrickGenerator brickGenerator;
     private final BrickRotator brickRotator;
-    private int[][] currentGameMatrix;
+    /** The background rows; clearing and inserting rows move a base offset instead of the rows. */
+    private final RowBuffer rows;
     private Point currentOffset;
     private final Score score;
 
+    /** The seed of {@link #random}, kept so a game can be replayed. */
+    private final long seed;
+    /** The single source of randomness for bricks and obstacles. */
+    private final Random random;
+
     /** The currently held brick, or null if no brick is held. */
     // field to store the holding brick
     private Brick holdingBrick = null;
@@ -35,6 +42,12 @@ public class SimpleBoard implements Board {
     // flag to detect one time swap
     private boolean canSwap = true;
 
+    /** Bumped whenever the queue or the hold changes. */
+    private int previewVersion;
+    /** The queue shapes of {@link #previewShapesVersion}, built only when the version changes. */
+    private List<int[][]> previewShapes;
+    private int previewShapesVersion = -1;
+
     /**
      * Initializes a new SimpleBoard with the specified dimensions.
      * Sets up the game matrix, brick generators, and the score tracker.
@@ -43,10 +56,25 @@ public class SimpleBoard implements Board {
      * @param height The height of the game matrix.
      */
     public SimpleBoard(int width, int height) {
+        this(width, height, new Random().nextLong());
+    }
+
+    /**
+     * Initializes a new SimpleBoard whose bricks and obstacles are all drawn from one seeded
+     * {@link Random}. Boards created with the same seed play out identically for the same inputs,
+     * which allows headless simulations to be repeated.
+     *
+     * @param width The width of the game matrix.
+     * @param height The height of the game matrix.
+     * @param seed The random seed for bricks and obstacles.
+     */
+    public SimpleBoard(int width, int height, long seed) {
         this.width = width;
         this.height = height;
-        currentGameMatrix = new int[width][height];
-        brickGenerator = new RandomBrickGenerator();
+        this.seed = seed;
+        this.random = new Random(seed);
+        rows = new RowBuffer(width, height);
+        brickGenerator = new RandomBrickGenerator(random);
         brickRotator = new BrickRotator();
         score = new Score();
     }
@@ -59,10 +87,9 @@ public class SimpleBoard implements Board {
      */
     @Override
     public boolean moveBrickDown() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
         Point p = new Point(currentOffset);
         p.translate(0, 1);
-        boolean conflict = MatrixOperations.intersect(currentMatrix, brickRotator.getCurrentShape(), (int) p.getX(), (int) p.getY());
+        boolean conflict = rows.intersects(brickRotator.getCurrentShape(), (int) p.getX(), (int) p.getY());
         if (conflict) {
             return false;
         } else {
@@ -90,10 +117,9 @@ public class SimpleBoard implements Board {
      */
     @Override
     public boolean moveBrickLeft() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
         Point p = new Point(currentOffset);
         p.translate(-1, 0);
-        boolean conflict = MatrixOperations.intersect(currentMatrix, brickRotator.getCurrentShape(), (int) p.getX(), (int) p.getY());
+        boolean conflict = rows.intersects(brickRotator.getCurrentShape(), (int) p.getX(), (int) p.getY());
         if (conflict) {
             return false;
         } else {
@@ -119,10 +145,9 @@ public class SimpleBoard implements Board {
      */
     @Override
     public boolean moveBrickRight() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
         Point p = new Point(currentOffset);
         p.translate(1, 0);
-        boolean conflict = MatrixOperations.intersect(currentMatrix, brickRotator.getCurrentShape(), (int) p.getX(), (int) p.getY());
+        boolean conflict = rows.intersects(brickRotator.getCurrentShape(), (int) p.getX(), (int) p.getY());
         if (conflict) {
             return false;
         } else {
@@ -148,9 +173,8 @@ public class SimpleBoard implements Board {
      */
     @Override
     public boolean rotateLeftBrick() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
         NextShapeInfo nextShape = brickRotator.getNextShape();
-        boolean conflict = MatrixOperations.intersect(currentMatrix, nextShape.getShape(), (int) currentOffset.getX(), (int) currentOffset.getY());
+        boolean conflict = rows.intersects(nextShape.getShape(), (int) currentOffset.getX(), (int) currentOffset.getY());
         if (conflict) {
             return false;
         } else {
@@ -167,9 +191,8 @@ public class SimpleBoard implements Board {
      */
     @Override
     public boolean rotateRightBrick() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
         NextShapeInfo prevShape = brickRotator.getPrevShape();
-        boolean conflict = MatrixOperations.intersect(currentMatrix, prevShape.getShape(), (int) currentOffset.getX(), (int) currentOffset.getY());
+        boolean conflict = rows.intersects(prevShape.getShape(), (int) currentOffset.getX(), (int) currentOffset.getY());
         if (conflict) { return false; }
         else { brickRotator.setCurrentShape(prevShape.getPosition()); return true; }
         //System.out.println("Rotate RIght");
@@ -186,10 +209,21 @@ public class SimpleBoard implements Board {
         Brick currentBrick = brickGenerator.getBrick();
         brickRotator.setBrick(currentBrick);
         // Determines the spawn point of new brick
-        currentOffset = new Point(GameConfig.BRICK_SPAWN_X, GameConfig.BRICK_SPAWN_Y);
+        currentOffset = spawnPoint();
         // reset the swap flag since new brick coming (the user put previous brick)
         canSwap = true;
-        return MatrixOperations.intersect(currentGameMatrix, brickRotator.getCurrentShape(), (int) currentOffset.getX(), (int) currentOffset.getY());
+        previewVersion++;
+        return rows.intersects(brickRotator.getCurrentShape(), (int) currentOffset.getX(), (int) currentOffset.getY());
+    }
+
+    /**
+     * Gets the spawn point of new bricks: {@code GameConfig}'s spawn column on a standard board,
+     * moved along so that it stays centred on a wider one.
+     *
+     * @return The spawn point.
+     */
+    private Point spawnPoint() {
+        return new Point(GameConfig.BRICK_SPAWN_X + (height - GameConfig.BOARD_WIDTH) / 2, GameConfig.BRICK_SPAWN_Y);
     }
 
     /**
@@ -198,13 +232,16 @@ public class SimpleBoard implements Board {
      */
     // 5 column will be embbed by some bricks
     public void initializeWithObstacles() {
-        // place obstacles to the bottom of the gamescreen
+        // place obstacles to the bottom of the gamescreen by pushing rows up from below,
+        // so the row generated first ends up at the top of the obstacle area
         for (int y = 20; y < 25 && y < width; y++) {
+            int[] row = new int[height];
             for (int x = 0; x < width && x < height; x++) {
-                if (Math.random() < GameConfig.OBSTACLE_PROBABILITY) {
-                    currentGameMatrix[y][x] = 8;  // 8th bricks for obstacle
+                if (random.nextDouble() < GameConfig.OBSTACLE_PROBABILITY) {
+                    row[x] = 8;  // 8th bricks for obstacle
                 }
             }
+            rows.pushRow(row);
         }
     }
 
@@ -215,28 +252,59 @@ public class SimpleBoard implements Board {
      */
     @Override
     public int[][] getBoardMatrix() {
-        return currentGameMatrix;
+        return rows.toMatrix();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int[] getRow(int row) {
+        return rows.getRow(row);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The rows move by changing the buffer's base offset, so this takes constant time.
+     */
+    @Override
+    public boolean insertGarbageRow(int[] row) {
+        return rows.pushRow(row.clone());
     }
 
     /**
      * Calculates the final Y-coordinate where the current brick would land if dropped (Ghost Piece).
-     * It does this by simulating downward moves until a collision is detected.
+     * It does this by simulating downward moves until a collision is detected. The rows above the
+     * top of the stack are empty, so the simulation starts just above it; on a tall board this
+     * skips the empty rows between the brick and the stack.
      *
      * @return The calculated "ghost" Y-coordinate.
      */
     private int calculateGhostY() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
         int[][] shape = brickRotator.getCurrentShape();
         int currentX = (int) currentOffset.getX();
         int currentY = (int) currentOffset.getY();
 
+        // the lowest filled row of the shape may go down to the row above the stack without a collision
+        int lowestShapeRow = shape.length - 1;
+        while (lowestShapeRow > 0 && isEmptyRow(shape[lowestShapeRow])) lowestShapeRow--;
+        int clearY = rows.getTopFilledRow() - 1 - lowestShapeRow;
+        if (clearY > currentY && !rows.intersects(shape, currentX, clearY)) currentY = clearY;
+
         // increase the Y coordinates until it collide
-        while (!MatrixOperations.intersect(currentMatrix, shape, currentX, currentY+1)) {
+        while (!rows.intersects(shape, currentX, currentY+1)) {
             currentY++;
         }
         return currentY;
     }
 
+    private static boolean isEmptyRow(int[] row) {
+        for (int cell : row) {
+            if (cell != 0) return false;
+        }
+        return true;
+    }
+
     /**
      * Generates and retrieves the current view data for the falling brick and the next brick preview.
      *
@@ -244,7 +312,10 @@ public class SimpleBoard implements Board {
      */
     @Override
     public ViewData getViewData() {
-        List<int[][]> nextShape = ((RandomBrickGenerator) brickGenerator).getNextBrickShape();
+        if (previewShapesVersion != previewVersion) {
+            previewShapes = List.copyOf(((RandomBrickGenerator) brickGenerator).getNextBrickShape());
+            previewShapesVersion = previewVersion;
+        }
         int ghostY = calculateGhostY();
         int[][] holdingShape = getHoldBrickShape();
 
@@ -252,9 +323,10 @@ public class SimpleBoard implements Board {
                 brickRotator.getCurrentShape(),
                 (int) currentOffset.getX(),
                 (int) currentOffset.getY(),
-                nextShape,
+                previewShapes,
                 ghostY,
-                holdingShape
+                holdingShape,
+                previewVersion
         );
     }
 
@@ -269,6 +341,7 @@ public class SimpleBoard implements Board {
         if (!canSwap) { return false; }
         // Swap
         canSwap = false;
+        previewVersion++;
         Brick prevBrick = brickRotator.getBrick();
 
         if (holdingBrick == null) {
@@ -283,7 +356,7 @@ public class SimpleBoard implements Board {
 
             brickRotator.setBrick(brickFromHold);
             // set the position to the starting position(Spawn point)
-            currentOffset = new Point(GameConfig.BRICK_SPAWN_X, GameConfig.BRICK_SPAWN_Y);
+            currentOffset = spawnPoint();
         }
         return true;
     }
@@ -306,20 +379,53 @@ public class SimpleBoard implements Board {
      */
     @Override
     public void mergeBrickToBackground() {
-        currentGameMatrix = MatrixOperations.merge(currentGameMatrix, brickRotator.getCurrentShape(), (int) currentOffset.getX(), (int) currentOffset.getY());
+        rows.merge(brickRotator.getCurrentShape(), (int) currentOffset.getX(), (int) currentOffset.getY());
     }
 
     /**
      * Checks the current game matrix for complete rows, removes them, and calculates the score bonus.
-     * Updates the internal game matrix with the resulting configuration.
+     * Only the rows below the topmost cleared row are moved (see {@link RowBuffer#removeFullRows()}).
+     * The bonus is the same as {@link MatrixOperations#checkRemoving}'s.
      *
      * @return A {@link ClearRow} object detailing the result of the row clearance.
      */
     @Override
     public ClearRow clearRows() {
-        ClearRow clearRow = MatrixOperations.checkRemoving(currentGameMatrix);
-        currentGameMatrix = clearRow.getNewMatrix();
-        return clearRow;
+        int removed = rows.removeFullRows();
+        int scoreBonus = GameConfig.SCORE_BASE_PER_LINE * removed * removed;
+        return new ClearRow(removed, rows.toMatrix(), scoreBonus);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getPreviewVersion() {
+        return previewVersion;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BrickType getCurrentBrickType() {
+        return BrickType.of(brickRotator.getBrick());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getCurrentRotation() {
+        return brickRotator.getCurrentShapeIndex();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getSeed() {
+        return seed;
     }
 
     /**
@@ -332,6 +438,84 @@ public class SimpleBoard implements Board {
         return score;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BoardState saveState() {
+        return new BoardState(
+                rows.toMatrix(),
+                getCurrentBrickType(),
+                brickRotator.getCurrentShapeIndex(),
+                (int) currentOffset.getX(),
+                (int) currentOffset.getY(),
+                BrickType.of(holdingBrick),
+                canSwap,
+                ((RandomBrickGenerator) brickGenerator).getUpcomingTypes(),
+                score.getScore(),
+                score.getTotalLinesCleared()
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     * Bricks after the saved queue are drawn from a stream derived from the seed and the score,
+     * so a resumed game does not repeat the opening sequence of the original one.
+     */
+    @Override
+    public void restoreState(BoardState state) {
+        if (state.getRows() != rows.getRowCount() || state.getColumns() != rows.getColumnCount()) {
+            throw new IllegalArgumentException("Saved board is " + state.getRows() + "x" + state.getColumns()
+                    + ", expected " + rows.getRowCount() + "x" + rows.getColumnCount());
+        }
+        rows.load(state.toMatrix());
+        brickRotator.setBrick(state.getCurrentType().createBrick());
+        brickRotator.setCurrentShape(state.getRotation());
+        currentOffset = new Point(state.getX(), state.getY());
+        holdingBrick = state.getHoldType() == null ? null : state.getHoldType().createBrick();
+        canSwap = state.canSwap();
+        ((RandomBrickGenerator) brickGenerator).setUpcomingTypes(state.getUpcoming());
+        score.reset();
+        score.add(state.getScore());
+        score.addToTotalLines(state.getLines());
+        random.setSeed(seed * 31 + state.getScore() * 7L + state.getLines());
+        previewVersion++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BoardVersion currentVersion() {
+        return new BoardVersion(
+                rows.toMatrix(),
+                getCurrentBrickType(),
+                BrickType.of(holdingBrick),
+                canSwap,
+                ((RandomBrickGenerator) brickGenerator).getUpcomingTypes(),
+                score.getScore(),
+                score.getTotalLinesCleared()
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     * The rows are adopted without copying them, so this costs one reference per row.
+     */
+    @Override
+    public void restoreVersion(BoardVersion version) {
+        rows.load(version.getMatrix());
+        brickRotator.setBrick(version.getCurrentType().createBrick());
+        currentOffset = spawnPoint();
+        holdingBrick = version.getHoldType() == null ? null : version.getHoldType().createBrick();
+        canSwap = version.canSwap();
+        ((RandomBrickGenerator) brickGenerator).setUpcomingTypes(version.getUpcoming());
+        score.reset();
+        score.add(version.getScore());
+        score.addToTotalLines(version.getLines());
+        previewVersion++;
+    }
+
     /**
      * {@inheritDoc}
 
@@ -341,7 +525,7 @@ public class SimpleBoard implements Board {
      */
     @Override
     public void newGame() {
-        currentGameMatrix = new int[width][height];
+        rows.clear();
         score.reset();
         canSwap = true;
         holdingBrick = null;
@@ -358,11 +542,10 @@ public class SimpleBoard implements Board {
      */
     @Override
     public void spawnAndHardDropObstacle() {
-        Random rand = new Random();
-        BrickGenerator obstacleGenerator = new RandomBrickGenerator();
+        Random rand = this.random;
 
         // create an obstacle brick
-        Brick brick = obstacleGenerator.getBrick();
+        Brick brick = BrickType.values()[rand.nextInt(BrickType.values().length)].createBrick();
 
         // get random rotation of the brick
         List<int[][]> shapes = brick.getShapeMatrix();
@@ -381,21 +564,13 @@ public class SimpleBoard implements Board {
         int randomX = rand.nextInt(maxX);
         int y = 0;
 
-        // ignore the current brick
-        int[][] collisionMatrix = this.currentGameMatrix;
-
-        // Hard drop simulation
+        // Hard drop simulation, ignoring the current brick
         while (y + shapeHeight < this.width &&
-                !MatrixOperations.intersect(collisionMatrix, shape, randomX, y + 1)) {
+                !rows.intersects(shape, randomX, y + 1)) {
             y++;
         }
 
         // Merge to the game matrix
-        this.currentGameMatrix = MatrixOperations.merge(
-                this.currentGameMatrix,
-                shape,
-                randomX,
-                y
-        );
+        rows.merge(shape, randomX, y);
     }
 }
@@ -23,6 +23,8 @@ public final class ViewData {
     private final int ghostYPosition;   // Y coordinates of ghost piece
     /** The 2D matrix of the currently held brick, or {@code null} if none. */
     private final int[][] holdBrickData;
+    /** The version of the queue and hold this frame shows (see {@link Board#getPreviewVersion()}). */
+    private final int previewVersion;
 
     /**
      * Constructs a new, comprehensive ViewData object.
@@ -33,14 +35,16 @@ public final class ViewData {
      * @param nextBrickData   The list of upcoming brick shapes for the preview queue.
      * @param ghostYPosition  The calculated Y (row) position for the ghost piece.
      * @param holdBrickData   The 2D matrix of the currently held brick, or {@code null}.
+     * @param previewVersion  The version of the queue and hold.
      */
-    public ViewData(int[][] brickData, int xPosition, int yPosition, List<int[][]> nextBrickData, int ghostYPosition, int[][] holdBrickData) {
+    public ViewData(int[][] brickData, int xPosition, int yPosition, List<int[][]> nextBrickData, int ghostYPosition, int[][] holdBrickData, int previewVersion) {
         this.brickData = brickData;
         this.xPosition = xPosition;
         this.yPosition = yPosition;
         this.nextBrickData = nextBrickData;
         this.ghostYPosition = ghostYPosition;
         this.holdBrickData = holdBrickData;
+        this.previewVersion = previewVersion;
     }
 
     /**
@@ -93,4 +97,12 @@ public final class ViewData {
      * @return The {@code int[][]} matrix of the held brick, or {@code null} if none.
      */
     public int[][] getHoldBrickData() { return holdBrickData; }
+
+    /**
+     * Gets the version of the queue and hold. Frames with the same version show the same
+     * previews, so the view only needs to redraw them when it changes.
+     *
+     * @return The preview version.
+     */
+    public int getPreviewVersion() { return previewVersion; }
 }
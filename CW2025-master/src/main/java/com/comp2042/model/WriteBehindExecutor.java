@@ -0,0 +1,237 @@
+package com.comp2042.model;
+
+import com.comp2042.GameConfig;
+import com.comp2042.metrics.LatencyRecorder;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Runs disk writes on one background thread, so the thread that asks for a write (usually the
+ * JavaFX application thread) never waits on the file system.
+ * <p>
+ * Writes are queued in order. A write submitted with a key replaces the write for the same key
+ * that is still waiting, keeping its place in the queue; since such a write saves the whole file,
+ * a burst of changes costs one write. Writes without a key (e.g. appends) always run. The queue is
+ * bounded: when it is full, a new write is rejected and reported rather than blocking the caller.
+ * <p>
+ * The executor keeps metrics: the queue depth, the time each write took, and the numbers of
+ * coalesced, rejected and failed writes. The {@link #getShared() shared} executor is flushed
+ * when the JVM shuts down.
+ */
+public final class WriteBehindExecutor implements Closeable {
+
+    /**
+     * A write to run on the background thread.
+     */
+    @FunctionalInterface
+    public interface IoTask {
+        /**
+         * Performs the write.
+         *
+         * @throws IOException If the write fails.
+         */
+        void run() throws IOException;
+    }
+
+    private static WriteBehindExecutor shared;
+
+    private final int capacity;
+    private final Thread worker;
+    private final ReentrantLock lock = new ReentrantLock();
+    /** Signalled when a write is queued or the executor closes. */
+    private final Condition queued = lock.newCondition();
+    /** Signalled when the queue is empty and no write is running. */
+    private final Condition idle = lock.newCondition();
+    /** The waiting writes in submission order; unkeyed writes get a key of their own. */
+    private final LinkedHashMap<Object, IoTask> pending = new LinkedHashMap<>();
+    private boolean running;
+    private boolean closed;
+
+    private final LatencyRecorder writeLatency = new LatencyRecorder("write");
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    /**
+     * Constructs an executor and starts its background thread, a daemon so it never blocks exit.
+     *
+     * @param threadName The name of the background thread.
+     * @param capacity   The most writes that may wait at once.
+     * @throws IllegalArgumentException If the capacity is not positive.
+     */
+    public WriteBehindExecutor(String threadName, int capacity) {
+        if (capacity <= 0) throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        this.capacity = capacity;
+        this.worker = new Thread(this::work, threadName);
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Gets the executor shared by every store of the game, creating it on first use.
+     *
+     * @return The shared executor.
+     */
+    public static synchronized WriteBehindExecutor getShared() {
+        if (shared == null) {
+            shared = new WriteBehindExecutor("write-behind", GameConfig.WRITE_QUEUE_CAPACITY);
+            // the menu exits with System.exit, so finish queued writes before the JVM halts
+            Runtime.getRuntime().addShutdownHook(new Thread(shared::flush, "write-behind-flush"));
+        }
+        return shared;
+    }
+
+    /**
+     * Queues a write that replaces the waiting write with the same key, if any.
+     * The task should read the state it saves when it runs, not when it is queued.
+     *
+     * @param key  Identifies what is written, usually the file's {@link java.nio.file.Path}.
+     * @param task The write.
+     * @return {@code false} if the queue was full and the write was rejected.
+     */
+    public boolean write(Object key, IoTask task) {
+        lock.lock();
+        try {
+            if (pending.containsKey(key)) {
+                pending.put(key, task);
+                coalesced.incrementAndGet();
+                return true;
+            }
+            return enqueue(key, task);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Queues a write that is never coalesced, e.g. an append.
+     *
+     * @param task The write.
+     * @return {@code false} if the queue was full and the write was rejected.
+     */
+    public boolean execute(IoTask task) {
+        lock.lock();
+        try {
+            return enqueue(new Object(), task);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean enqueue(Object key, IoTask task) {
+        if (closed || pending.size() >= capacity) {
+            rejected.incrementAndGet();
+            System.err.println("Write queue is full, dropping write of " + key);
+            return false;
+        }
+        pending.put(key, task);
+        queued.signal();
+        return true;
+    }
+
+    private void work() {
+        while (true) {
+            Map.Entry<Object, IoTask> next;
+            lock.lock();
+            try {
+                while (pending.isEmpty() && !closed) queued.awaitUninterruptibly();
+                if (pending.isEmpty()) return;
+                Iterator<Map.Entry<Object, IoTask>> first = pending.entrySet().iterator();
+                next = first.next();
+                first.remove();
+                running = true;
+            } finally {
+                lock.unlock();
+            }
+
+            long start = System.nanoTime();
+            try {
+                next.getValue().run();
+            } catch (IOException | RuntimeException e) {
+                failed.incrementAndGet();
+                System.err.println("Failed to write " + next.getKey() + ": " + e.getMessage());
+            }
+            writeLatency.recordSince(start);
+
+            lock.lock();
+            try {
+                running = false;
+                if (pending.isEmpty()) idle.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Blocks until every queued write has finished.
+     * Intended for shutdown and tests; the game itself never waits for the writer.
+     */
+    public void flush() {
+        if (Thread.currentThread() == worker) return;   // a write cannot wait for itself
+        lock.lock();
+        try {
+            while (!pending.isEmpty() || running) {
+                if (!worker.isAlive()) return;
+                idle.await();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Finishes the queued writes and stops the background thread. Later writes are rejected.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            queued.signal();
+        } finally {
+            lock.unlock();
+        }
+        flush();
+    }
+
+    /** @return The number of writes waiting to run. */
+    public int getQueueDepth() {
+        lock.lock();
+        try {
+            return pending.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** @return The most writes that may wait at once. */
+    public int getCapacity() { return capacity; }
+
+    /** @return The time each write took on the background thread. */
+    public LatencyRecorder getWriteLatency() { return writeLatency; }
+
+    /** @return The number of writes replaced by a newer write with the same key. */
+    public long getCoalescedCount() { return coalesced.get(); }
+
+    /** @return The number of writes rejected because the queue was full. */
+    public long getRejectedCount() { return rejected.get(); }
+
+    /** @return The number of writes that threw an exception. */
+    public long getFailedCount() { return failed.get(); }
+
+    @Override
+    public String toString() {
+        return String.format("queue=%d/%d coalesced=%d rejected=%d failed=%d %s",
+                getQueueDepth(), capacity, getCoalescedCount(), getRejectedCount(), getFailedCount(), writeLatency);
+    }
+}
@@ -0,0 +1,118 @@
+package com.comp2042.model.ai;
+
+import com.comp2042.GameConfig;
+import com.comp2042.model.Board;
+import com.comp2042.model.bricks.BrickType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A simple one-brick lookahead player: it tries every reachable placement of the current brick,
+ * scores the resulting boards with an {@link Evaluator} and plays the best one.
+ * It works on {@link BitBoard} copies, so choosing a move never changes the real {@link Board}.
+ * If it has a {@link PositionDatabase}, positions found there are answered without searching.
+ */
+public class AutoPlayer {
+
+    private final Evaluator evaluator;
+    private final PositionDatabase positions;
+
+    /**
+     * Constructs an AutoPlayer that always searches.
+     *
+     * @param evaluator The evaluator used to score candidate placements.
+     */
+    public AutoPlayer(Evaluator evaluator) {
+        this(evaluator, null);
+    }
+
+    /**
+     * Constructs an AutoPlayer that looks positions up before searching.
+     *
+     * @param evaluator The evaluator used to score candidate placements.
+     * @param positions The precomputed placements, or {@code null} to always search.
+     */
+    public AutoPlayer(Evaluator evaluator, PositionDatabase positions) {
+        this.evaluator = evaluator;
+        this.positions = positions;
+    }
+
+    /**
+     * Picks the best placement for a brick.
+     *
+     * @param board The current background board.
+     * @param type  The brick to place.
+     * @return The best placement, or {@code null} if the brick cannot be placed anywhere.
+     */
+    public Placement choosePlacement(BitBoard board, BrickType type) {
+        return choosePlacement(board, type, List.of());
+    }
+
+    /**
+     * Picks the best placement for a brick, letting the evaluator see the upcoming bricks.
+     * All candidates are scored with a single {@link Evaluator#evaluateBatch} call.
+     * A position found in the {@link PositionDatabase} is answered from there; the database was
+     * built without a queue, so the queue is ignored for those positions.
+     *
+     * @param board The current background board.
+     * @param type  The brick to place.
+     * @param queue The bricks that come after {@code type}.
+     * @return The best placement, or {@code null} if the brick cannot be placed anywhere.
+     */
+    public Placement choosePlacement(BitBoard board, BrickType type, List<BrickType> queue) {
+        if (positions != null) {
+            PositionDatabase.Entry known = positions.lookup(board, type);
+            if (known != null) return known.getPlacement();
+        }
+        PositionDatabase.Entry best = search(board, type, queue);
+        return best == null ? null : best.getPlacement();
+    }
+
+    /**
+     * Searches every placement of a brick and keeps the best one together with its score.
+     *
+     * @return The best placement and its score, or {@code null} if the brick cannot be placed anywhere.
+     */
+    PositionDatabase.Entry search(BitBoard board, BrickType type, List<BrickType> queue) {
+        List<Placement> candidates = PlacementGenerator.generate(board, type);
+        if (candidates.isEmpty()) return null;
+
+        List<BitBoard> results = new ArrayList<>(candidates.size());
+        int[] lines = new int[candidates.size()];
+        for (int i = 0; i < candidates.size(); i++) {
+            Placement p = candidates.get(i);
+            BitBoard locked = board.lock(p.getShape(), p.getX(), p.getY());
+            lines[i] = locked.countFullRows();
+            results.add(locked.clearFullRows());
+        }
+        double[] scores = evaluator.evaluateBatch(results, lines, queue);
+
+        int best = 0;
+        for (int i = 1; i < scores.length; i++) {
+            if (scores[i] > scores[best]) best = i;
+        }
+        return new PositionDatabase.Entry(candidates.get(best), scores[best]);
+    }
+
+    /**
+     * Moves the falling brick of a {@link Board} into a placement and hard drops it.
+     * The brick is rotated first and then shifted sideways, just like a player would do.
+     * Merging, clearing rows and spawning the next brick are left to the caller.
+     *
+     * @param board     The board whose falling brick should be moved (it must still be at its spawn point).
+     * @param placement The placement to reach.
+     * @return The number of rows the brick was hard dropped.
+     */
+    public static int apply(Board board, Placement placement) {
+        for (int i = 0; i < placement.getRotation(); i++) {
+            board.rotateLeftBrick();
+        }
+        int dx = placement.getX() - GameConfig.BRICK_SPAWN_X;
+        for (int i = 0; i < Math.abs(dx); i++) {
+            if (dx < 0) board.moveBrickLeft();
+            else board.moveBrickRight();
+        }
+        return board.hardDrop();
+    }
+}
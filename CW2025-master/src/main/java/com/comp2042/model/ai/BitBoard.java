@@ -0,0 +1,249 @@
+package com.comp2042.model.ai;
+
+import java.util.Arrays;
+
+/**
+ * An immutable, compact copy of the board's background matrix used by search code.
+ * Each row is stored as an int bitmask (bit {@code c} set when column {@code c} is filled),
+ * so collision checks, merges and line clears are a handful of bit operations per row
+ * instead of cell-by-cell loops over {@code int[][]}.
+ * Boards up to 32 columns wide are supported.
+ */
+public final class BitBoard {
+
+    private final int width;
+    private final int height;
+    /** Row masks, index 0 is the top row (same orientation as {@code getBoardMatrix()}). */
+    private final int[] rows;
+    /** Mask with the lowest {@code width} bits set, i.e. a completely full row. */
+    private final int fullRow;
+    private int hash;
+
+    private BitBoard(int width, int[] rows) {
+        if (width < 1 || width > 32) {
+            throw new IllegalArgumentException("BitBoard supports widths 1 to 32, got " + width);
+        }
+        this.width = width;
+        this.height = rows.length;
+        this.rows = rows;
+        this.fullRow = width == 32 ? -1 : (1 << width) - 1;
+    }
+
+    /**
+     * Creates an empty board.
+     *
+     * @param width  The number of columns.
+     * @param height The number of rows.
+     * @return An empty {@code BitBoard}.
+     */
+    public static BitBoard empty(int width, int height) {
+        return new BitBoard(width, new int[height]);
+    }
+
+    /**
+     * Creates a board from a game matrix, as returned by {@link com.comp2042.model.Board#getBoardMatrix()}.
+     * Any non-zero cell is treated as filled.
+     *
+     * @param matrix The matrix in {@code [row][column]} order.
+     * @return A {@code BitBoard} with the same filled cells.
+     */
+    public static BitBoard fromMatrix(int[][] matrix) {
+        int[] rows = new int[matrix.length];
+        for (int y = 0; y < matrix.length; y++) {
+            for (int x = 0; x < matrix[y].length; x++) {
+                if (matrix[y][x] != 0) rows[y] |= 1 << x;
+            }
+        }
+        return new BitBoard(matrix[0].length, rows);
+    }
+
+    /**
+     * Creates a board from raw row masks.
+     *
+     * @param width The number of columns.
+     * @param rows  The row masks, top row first. The array is copied.
+     * @return A new {@code BitBoard}.
+     */
+    public static BitBoard fromRows(int width, int[] rows) {
+        return new BitBoard(width, rows.clone());
+    }
+
+    /**
+     * Checks if a shape collides with the walls, floor or filled cells when its box is at (x, y).
+     * Uses the same rules as {@link com.comp2042.model.MatrixOperations#intersect(int[][], int[][], int, int)}.
+     *
+     * @param shape The shape to test.
+     * @param x     The board column of the shape box's left edge.
+     * @param y     The board row of the shape box's top edge.
+     * @return {@code true} if the shape would overlap something or leave the board.
+     */
+    public boolean collides(PieceShape shape, int x, int y) {
+        if (x < shape.getMinX() || x > shape.getMaxX(width)) return true;
+        for (int r = shape.getMinRow(); r <= shape.getMaxRow(); r++) {
+            int mask = shape.rowMaskAt(r, x);
+            if (mask == 0) continue;
+            int boardRow = y + r;
+            if (boardRow < 0 || boardRow >= height) return true;
+            if ((rows[boardRow] & mask) != 0) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Finds where a shape lands when dropped straight down from row {@code startY}.
+     *
+     * @param shape  The shape to drop.
+     * @param x      The board column of the shape box.
+     * @param startY The starting row of the shape box.
+     * @return The resting row, or {@code -1} if the shape does not fit at the start position.
+     */
+    public int dropY(PieceShape shape, int x, int startY) {
+        if (collides(shape, x, startY)) return -1;
+        int y = startY;
+        while (!collides(shape, x, y + 1)) y++;
+        return y;
+    }
+
+    /**
+     * Stamps a shape onto a copy of this board. Full rows are not cleared.
+     *
+     * @param shape The shape to merge.
+     * @param x     The board column of the shape box.
+     * @param y     The board row of the shape box.
+     * @return A new board containing the shape.
+     */
+    public BitBoard lock(PieceShape shape, int x, int y) {
+        int[] copy = rows.clone();
+        for (int r = shape.getMinRow(); r <= shape.getMaxRow(); r++) {
+            copy[y + r] |= shape.rowMaskAt(r, x);
+        }
+        return new BitBoard(width, copy);
+    }
+
+    /**
+     * Counts the rows that are completely filled.
+     *
+     * @return The number of full rows.
+     */
+    public int countFullRows() {
+        int count = 0;
+        for (int row : rows) {
+            if (row == fullRow) count++;
+        }
+        return count;
+    }
+
+    /**
+     * Removes all full rows and shifts the rows above down, like
+     * {@link com.comp2042.model.MatrixOperations#checkRemoving(int[][])}.
+     *
+     * @return A new board without full rows, or this board if no row was full.
+     */
+    public BitBoard clearFullRows() {
+        if (countFullRows() == 0) return this;
+        int[] cleared = new int[height];
+        int target = height - 1;
+        for (int y = height - 1; y >= 0; y--) {
+            if (rows[y] != fullRow) cleared[target--] = rows[y];
+        }
+        return new BitBoard(width, cleared);
+    }
+
+    /**
+     * Counts the filled cells on the board.
+     *
+     * @return The number of filled cells.
+     */
+    public int filledCells() {
+        int count = 0;
+        for (int row : rows) count += Integer.bitCount(row);
+        return count;
+    }
+
+    /**
+     * Gets the height of the stack, measured from the floor to the highest filled row.
+     *
+     * @return The number of rows between the floor and the top of the stack (0 if empty).
+     */
+    public int stackHeight() {
+        for (int y = 0; y < height; y++) {
+            if (rows[y] != 0) return height - y;
+        }
+        return 0;
+    }
+
+    /**
+     * Checks if the board has no filled cells.
+     *
+     * @return {@code true} if every row is empty.
+     */
+    public boolean isEmpty() {
+        for (int row : rows) {
+            if (row != 0) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Checks if a single cell is filled.
+     *
+     * @param x The column.
+     * @param y The row.
+     * @return {@code true} if the cell is filled.
+     */
+    public boolean isFilled(int x, int y) {
+        return (rows[y] >>> x & 1) != 0;
+    }
+
+    /**
+     * Gets the bitmask of one row.
+     *
+     * @param y The row (0 is the top).
+     * @return The row mask.
+     */
+    public int getRow(int y) {
+        return rows[y];
+    }
+
+    /** @return The number of columns. */
+    public int getWidth() { return width; }
+
+    /** @return The number of rows. */
+    public int getHeight() { return height; }
+
+    /** @return A mask with every column of a row set. */
+    public int getFullRowMask() { return fullRow; }
+
+    /**
+     * Converts this board back to a game matrix, writing {@code color} into every filled cell.
+     *
+     * @param color The value for filled cells.
+     * @return A new {@code int[height][width]} matrix.
+     */
+    public int[][] toMatrix(int color) {
+        int[][] matrix = new int[height][width];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                if (isFilled(x, y)) matrix[y][x] = color;
+            }
+        }
+        return matrix;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof BitBoard other)) return false;
+        return width == other.width && Arrays.equals(rows, other.rows);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0) {
+            h = 31 * width + Arrays.hashCode(rows);
+            hash = h;
+        }
+        return h;
+    }
+}
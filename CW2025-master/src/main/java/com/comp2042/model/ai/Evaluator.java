@@ -0,0 +1,40 @@
+package com.comp2042.model.ai;
+
+import com.comp2042.model.bricks.BrickType;
+
+import java.util.List;
+
+/**
+ * Defines the contract for scoring a board position after a brick has been placed.
+ * The {@link AutoPlayer} asks an evaluator to rate every candidate placement and
+ * picks the one with the highest score.
+ */
+public interface Evaluator {
+
+    /**
+     * Scores a board position. Higher is better.
+     *
+     * @param board        The board after the brick was locked and full rows were cleared.
+     * @param linesCleared The number of rows the placement cleared.
+     * @return The score of the position.
+     */
+    double evaluate(BitBoard board, int linesCleared);
+
+    /**
+     * Scores a whole batch of candidate positions in one call.
+     * The default implementation calls {@link #evaluate(BitBoard, int)} for each board;
+     * evaluators with a per-call setup cost (e.g. {@link NeuralEvaluator}) override it.
+     *
+     * @param boards       The candidate boards, after locking and clearing rows.
+     * @param linesCleared The rows each candidate cleared, parallel to {@code boards}.
+     * @param queue        The upcoming bricks after the one being placed (may be empty).
+     * @return The score of each candidate, parallel to {@code boards}.
+     */
+    default double[] evaluateBatch(List<BitBoard> boards, int[] linesCleared, List<BrickType> queue) {
+        double[] scores = new double[boards.size()];
+        for (int i = 0; i < scores.length; i++) {
+            scores[i] = evaluate(boards.get(i), linesCleared[i]);
+        }
+        return scores;
+    }
+}
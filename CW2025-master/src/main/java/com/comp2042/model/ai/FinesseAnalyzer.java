@@ -0,0 +1,226 @@
+package com.comp2042.model.ai;
+
+import com.comp2042.GameConfig;
+import com.comp2042.model.bricks.BrickType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Finds the fewest inputs that bring a freshly spawned brick to a placement ("finesse").
+ * The inputs are the game's own actions: move left/right, move to the left/right-most position,
+ * rotate left/right, soft drop and hard drop. Rotations do not kick, exactly like
+ * {@link com.comp2042.model.SimpleBoard}.
+ * <p>
+ * Paths for an empty board are computed once per brick, rotation and column when the class is
+ * loaded. Whenever the rows around the spawn point are clear, a real board behaves like an empty
+ * one for every path that could be shorter, so the table answer is used directly. Otherwise a
+ * breadth-first search over (rotation, x, y) states finds the path on the actual board.
+ * It cannot be instantiated.
+ */
+public final class FinesseAnalyzer {
+
+    /** The inputs a player can use to move a brick. */
+    public enum Action {
+        /** Move one column left. */
+        LEFT,
+        /** Move one column right. */
+        RIGHT,
+        /** Slide left until blocked. */
+        LEFT_MOST,
+        /** Slide right until blocked. */
+        RIGHT_MOST,
+        /** Rotate to the next shape index. */
+        ROTATE_LEFT,
+        /** Rotate to the previous shape index. */
+        ROTATE_RIGHT,
+        /** Move one row down. */
+        SOFT_DROP,
+        /** Drop to the bottom and lock. */
+        HARD_DROP
+    }
+
+    /** Shape boxes can start this far left of column 0. */
+    private static final int X_OFFSET = 4;
+    /** Pre-computed empty-board paths, indexed by [brick type ordinal][rotation][x + X_OFFSET]. */
+    private static final List<Action>[][][] EMPTY_BOARD_PATHS;
+    /** How many rows from the spawn row down must be empty for the table to be exact. */
+    private static final int CLEAR_ROWS;
+
+    static {
+        BitBoard empty = BitBoard.empty(GameConfig.BOARD_WIDTH, GameConfig.BOARD_HEIGHT);
+        BrickType[] types = BrickType.values();
+        List<Action>[][][] table = newPathTable(types.length);
+        int longest = 0;
+        for (BrickType type : types) {
+            int rotations = PieceShape.rotationCount(type);
+            table[type.ordinal()] = newPathTable(rotations, GameConfig.BOARD_WIDTH + 2 * X_OFFSET);
+            for (int r = 0; r < rotations; r++) {
+                PieceShape shape = PieceShape.of(type, r);
+                for (int x = shape.getMinX(); x <= shape.getMaxX(GameConfig.BOARD_WIDTH); x++) {
+                    Placement target = new Placement(type, r, x, empty.dropY(shape, x, GameConfig.BRICK_SPAWN_Y), false);
+                    List<Action> path = search(empty, target, false);
+                    if (path == null) continue;
+                    table[type.ordinal()][r][x + X_OFFSET] = Collections.unmodifiableList(path);
+                    longest = Math.max(longest, path.size());
+                }
+            }
+        }
+        EMPTY_BOARD_PATHS = table;
+        // a path through a non-empty row would need more soft drops than the longest table path
+        CLEAR_ROWS = 4 + longest;
+    }
+
+    /** Private constructor to prevent instantiation of this utility class. */
+    private FinesseAnalyzer() {}
+
+    /** Creates the outer level of the path table; generic arrays can only be created raw. */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static List<Action>[][][] newPathTable(int types) {
+        return new List[types][][];
+    }
+
+    /** Creates the path table of one brick type. */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static List<Action>[][] newPathTable(int rotations, int columns) {
+        return new List[rotations][columns];
+    }
+
+    /**
+     * Finds a shortest input sequence from the spawn point to a placement.
+     *
+     * @param board  The board before the brick locks (without the brick).
+     * @param target The placement the brick ended in.
+     * @return The shortest path ending with {@link Action#HARD_DROP}, or {@code null} if the
+     * placement cannot be reached from the spawn point.
+     */
+    public static List<Action> findPath(BitBoard board, Placement target) {
+        if (spawnAreaClear(board)
+                && board.dropY(target.getShape(), target.getX(), GameConfig.BRICK_SPAWN_Y) == target.getY()) {
+            List<Action> path = EMPTY_BOARD_PATHS[target.getBrickType().ordinal()][target.getRotation()][target.getX() + X_OFFSET];
+            if (path != null) return path;
+        }
+        return search(board, target, true);
+    }
+
+    /**
+     * Counts the fewest inputs needed to reach a placement and hard-drop it, without soft drops.
+     *
+     * @param board  The board before the brick locks.
+     * @param target The placement the brick ended in.
+     * @return The input count including the final drop, or {@code -1} if it cannot be reached.
+     */
+    public static int minimalInputs(BitBoard board, Placement target) {
+        return minimalInputs(board, target, true);
+    }
+
+    /**
+     * Counts the fewest inputs needed to reach a placement. Soft drops are not counted: gravity
+     * does the same, and players press them freely to speed a brick up, so the game does not
+     * count them as presses either. A brick that locked by gravity needed no drop input, so the
+     * final {@link Action#HARD_DROP} is only counted if the player used it.
+     *
+     * @param board       The board before the brick locks.
+     * @param target      The placement the brick ended in.
+     * @param hardDropped Whether the brick was hard-dropped.
+     * @return The input count, or {@code -1} if it cannot be reached.
+     */
+    public static int minimalInputs(BitBoard board, Placement target, boolean hardDropped) {
+        List<Action> path = findPath(board, target);
+        if (path == null) return -1;
+        int inputs = 0;
+        for (Action action : path) {
+            if (action == Action.SOFT_DROP || (action == Action.HARD_DROP && !hardDropped)) continue;
+            inputs++;
+        }
+        return inputs;
+    }
+
+    private static boolean spawnAreaClear(BitBoard board) {
+        int last = Math.min(board.getHeight() - 1, GameConfig.BRICK_SPAWN_Y + CLEAR_ROWS - 1);
+        for (int y = GameConfig.BRICK_SPAWN_Y; y <= last; y++) {
+            if (board.getRow(y) != 0) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Breadth-first search over (rotation, x, y) states starting at the spawn point.
+     * Every state is a place the brick can be in; it is a goal when a hard drop from it
+     * covers the same cells as the target.
+     */
+    private static List<Action> search(BitBoard board, Placement target, boolean allowSoftDrop) {
+        BrickType type = target.getBrickType();
+        int rotations = PieceShape.rotationCount(type);
+        int xs = board.getWidth() + 2 * X_OFFSET;
+        int ys = board.getHeight() + 1;
+        PieceShape targetShape = target.getShape();
+
+        int[] parent = new int[rotations * xs * ys];
+        byte[] via = new byte[parent.length];
+        Arrays.fill(parent, -2);
+        int[] queue = new int[parent.length];
+        int head = 0, tail = 0;
+
+        int spawnX = GameConfig.BRICK_SPAWN_X, spawnY = GameConfig.BRICK_SPAWN_Y;
+        if (board.collides(PieceShape.of(type, 0), spawnX, spawnY)) return null;
+        int start = (spawnX + X_OFFSET) * ys + spawnY;
+        parent[start] = -1;
+        queue[tail++] = start;
+
+        Action[] actions = Action.values();
+        while (head < tail) {
+            int state = queue[head++];
+            int rot = state / (xs * ys);
+            int x = (state / ys) % xs - X_OFFSET;
+            int y = state % ys;
+            PieceShape shape = PieceShape.of(type, rot);
+
+            if (sameCells(shape, x, board.dropY(shape, x, y), targetShape, target.getX(), target.getY())) {
+                List<Action> path = new ArrayList<>();
+                path.add(Action.HARD_DROP);
+                for (int s = state; parent[s] >= 0; s = parent[s]) path.add(actions[via[s]]);
+                Collections.reverse(path);
+                return path;
+            }
+
+            for (Action action : actions) {
+                int nr = rot, nx = x, ny = y;
+                switch (action) {
+                    case LEFT -> nx--;
+                    case RIGHT -> nx++;
+                    case LEFT_MOST -> { while (!board.collides(shape, nx - 1, y)) nx--; }
+                    case RIGHT_MOST -> { while (!board.collides(shape, nx + 1, y)) nx++; }
+                    case ROTATE_LEFT -> nr = (rot + 1) % rotations;
+                    case ROTATE_RIGHT -> nr = (rot - 1 + rotations) % rotations;
+                    case SOFT_DROP -> { if (!allowSoftDrop) continue; ny++; }
+                    case HARD_DROP -> { continue; }
+                }
+                if (board.collides(PieceShape.of(type, nr), nx, ny)) continue;
+                int next = (nr * xs + nx + X_OFFSET) * ys + ny;
+                if (parent[next] != -2) continue;
+                parent[next] = state;
+                via[next] = (byte) action.ordinal();
+                queue[tail++] = next;
+            }
+        }
+        return null;
+    }
+
+    /** Checks whether two positioned shapes cover exactly the same board cells. */
+    private static boolean sameCells(PieceShape a, int ax, int ay, PieceShape b, int bx, int by) {
+        int top = Math.min(ay + a.getMinRow(), by + b.getMinRow());
+        int bottom = Math.max(ay + a.getMaxRow(), by + b.getMaxRow());
+        for (int row = top; row <= bottom; row++) {
+            if (maskAt(a, ax, ay, row) != maskAt(b, bx, by, row)) return false;
+        }
+        return true;
+    }
+
+    private static int maskAt(PieceShape shape, int x, int y, int boardRow) {
+        int r = boardRow - y;
+        return r < shape.getMinRow() || r > shape.getMaxRow() ? 0 : shape.rowMaskAt(r, x);
+    }
+}
@@ -0,0 +1,54 @@
+package com.comp2042.model.ai;
+
+import com.comp2042.model.Difficulty;
+
+/**
+ * An immutable data object holding the result of one {@link HeadlessGame}.
+ */
+public final class GameOutcome {
+
+    private final Difficulty difficulty;
+    private final long seed;
+    private final int score;
+    private final int linesCleared;
+    private final int piecesPlaced;
+    /** {@code true} if the game reached the piece limit without topping out. */
+    private final boolean survived;
+
+    /**
+     * Constructs a new GameOutcome.
+     *
+     * @param difficulty   The difficulty the game was played on.
+     * @param seed         The seed of the game.
+     * @param score        The final score.
+     * @param linesCleared The total number of lines cleared.
+     * @param piecesPlaced The number of bricks locked before the game ended.
+     * @param survived     {@code true} if the game hit the piece limit instead of a game over.
+     */
+    public GameOutcome(Difficulty difficulty, long seed, int score, int linesCleared, int piecesPlaced, boolean survived) {
+        this.difficulty = difficulty;
+        this.seed = seed;
+        this.score = score;
+        this.linesCleared = linesCleared;
+        this.piecesPlaced = piecesPlaced;
+        this.survived = survived;
+    }
+
+    /** @return The difficulty the game was played on. */
+    public Difficulty getDifficulty() { return difficulty; }
+
+    /** @return The seed of the game. */
+    public long getSeed() { return seed; }
+
+    /** @return The final score. */
+    public int getScore() { return score; }
+
+    /** @return The total number of lines cleared. */
+    public int getLinesCleared() { return linesCleared; }
+
+    /** @return The number of bricks locked. */
+    public int getPiecesPlaced() { return piecesPlaced; }
+
+    /** @return {@code true} if the game reached the piece limit without a game over. */
+    public boolean isSurvived() { return survived; }
+}
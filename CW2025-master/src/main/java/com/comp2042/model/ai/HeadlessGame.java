@@ -0,0 +1,90 @@
+package com.comp2042.model.ai;
+
+import com.comp2042.GameConfig;
+import com.comp2042.model.Board;
+import com.comp2042.model.ClearRow;
+import com.comp2042.model.Difficulty;
+import com.comp2042.model.SimpleBoard;
+
+import java.util.Random;
+
+/**
+ * Plays a complete game on a {@link SimpleBoard} without any GUI, driven by an {@link AutoPlayer}.
+ * It follows the same turn order as {@link com.comp2042.controller.GameController#onHardDropEvent()}
+ * (hard drop, merge, clear rows, spawn) and applies the difficulty rules:
+ * HARD and EXTRA start with obstacles, and EXTRA also calls
+ * {@link Board#spawnAndHardDropObstacle()} on a simulated timer.
+ * Everything random comes from the seed, so the same seed and player always give the same outcome.
+ */
+public class HeadlessGame {
+
+    /**
+     * Simulated time a brick takes from spawn to lock. Used to translate the EXTRA mode's
+     * obstacle timer ({@link GameConfig#EXTRA_TIMER}) into a number of bricks.
+     */
+    private static final int SIMULATED_MS_PER_PIECE = 1000;
+
+    /** Chance of an obstacle on each EXTRA timer tick, same as the live game. */
+    private static final double OBSTACLE_SPAWN_PROBABILITY = 0.5;
+
+    private final Difficulty difficulty;
+    private final long seed;
+    private final AutoPlayer player;
+    private final int maxPieces;
+
+    /**
+     * Constructs a headless game.
+     *
+     * @param difficulty The difficulty rules to apply.
+     * @param seed       The random seed for bricks and obstacles.
+     * @param player     The player that chooses every placement.
+     * @param maxPieces  The number of bricks after which the game stops (counted as survived).
+     */
+    public HeadlessGame(Difficulty difficulty, long seed, AutoPlayer player, int maxPieces) {
+        this.difficulty = difficulty;
+        this.seed = seed;
+        this.player = player;
+        this.maxPieces = maxPieces;
+    }
+
+    /**
+     * Plays the game until a game over or until the piece limit is reached.
+     *
+     * @return The outcome of the game.
+     */
+    public GameOutcome play() {
+        Board board = new SimpleBoard(GameConfig.BOARD_HEIGHT, GameConfig.BOARD_WIDTH, seed);
+        // the obstacle timer gets its own stream so it does not shift the brick sequence
+        Random obstacleTimer = new Random(~seed);
+        if (difficulty == Difficulty.HARD || difficulty == Difficulty.EXTRA) {
+            board.initializeWithObstacles();
+        }
+        int piecesPerTick = Math.max(1, GameConfig.EXTRA_TIMER / SIMULATED_MS_PER_PIECE);
+
+        boolean gameOver = board.createNewBrick();
+        int pieces = 0;
+        while (!gameOver && pieces < maxPieces) {
+            Placement placement = player.choosePlacement(BitBoard.fromMatrix(board.getBoardMatrix()), board.getCurrentBrickType());
+            if (placement == null) break;
+
+            int rowsDropped = AutoPlayer.apply(board, placement);
+            board.getScore().add(rowsDropped * GameConfig.HARD_DROP_SCORE_MULTIPLIER);
+            board.mergeBrickToBackground();
+            ClearRow clearRow = board.clearRows();
+            if (clearRow.getLinesRemoved() > 0) {
+                board.getScore().add(clearRow.getScoreBonus());
+                board.getScore().addToTotalLines(clearRow.getLinesRemoved());
+            }
+            pieces++;
+
+            if (difficulty == Difficulty.EXTRA && pieces % piecesPerTick == 0
+                    && obstacleTimer.nextDouble() < OBSTACLE_SPAWN_PROBABILITY) {
+                board.spawnAndHardDropObstacle();
+            }
+            gameOver = board.createNewBrick();
+        }
+
+        return new GameOutcome(difficulty, seed, board.getScore().getScore(),
+                board.getScore().getTotalLinesCleared(), pieces, !gameOver && pieces >= maxPieces);
+    }
+}
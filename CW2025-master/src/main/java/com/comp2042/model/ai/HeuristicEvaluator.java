@@ -0,0 +1,89 @@
+package com.comp2042.model.ai;
+
+/**
+ * A weighted-feature {@link Evaluator}: the score is a linear combination of a few
+ * classic board features (aggregate height, cleared lines, holes and bumpiness).
+ * The weights can be tuned with {@link WeightTuner}.
+ */
+public class HeuristicEvaluator implements Evaluator {
+
+    /** The number of features, and therefore weights, this evaluator uses. */
+    public static final int FEATURE_COUNT = 4;
+
+    /** Hand-picked default weights: height, lines, holes, bumpiness. */
+    private static final double[] DEFAULT_WEIGHTS = {-0.510066, 0.760666, -0.35663, -0.184483};
+
+    private final double[] weights;
+
+    /**
+     * Constructs an evaluator with the default weights.
+     */
+    public HeuristicEvaluator() {
+        this(DEFAULT_WEIGHTS);
+    }
+
+    /**
+     * Constructs an evaluator with custom weights.
+     *
+     * @param weights The weights for aggregate height, lines cleared, holes and bumpiness, in that order.
+     */
+    public HeuristicEvaluator(double[] weights) {
+        if (weights.length != FEATURE_COUNT) {
+            throw new IllegalArgumentException("Expected " + FEATURE_COUNT + " weights, got " + weights.length);
+        }
+        this.weights = weights.clone();
+    }
+
+    /**
+     * Gets a copy of the default weights.
+     *
+     * @return The default weight vector.
+     */
+    public static double[] defaultWeights() {
+        return DEFAULT_WEIGHTS.clone();
+    }
+
+    /**
+     * Gets a copy of this evaluator's weights.
+     *
+     * @return The weight vector.
+     */
+    public double[] getWeights() {
+        return weights.clone();
+    }
+
+    /**
+     * {@inheritDoc}
+     * This implementation computes the column heights once and derives all features from them.
+     */
+    @Override
+    public double evaluate(BitBoard board, int linesCleared) {
+        int width = board.getWidth();
+        int height = board.getHeight();
+        int aggregateHeight = 0;
+        int holes = 0;
+        int bumpiness = 0;
+        int previousHeight = -1;
+
+        for (int x = 0; x < width; x++) {
+            int columnHeight = 0;
+            int columnHoles = 0;
+            for (int y = 0; y < height; y++) {
+                if (board.isFilled(x, y)) {
+                    if (columnHeight == 0) columnHeight = height - y;
+                } else if (columnHeight > 0) {
+                    columnHoles++;
+                }
+            }
+            aggregateHeight += columnHeight;
+            holes += columnHoles;
+            if (previousHeight >= 0) bumpiness += Math.abs(columnHeight - previousHeight);
+            previousHeight = columnHeight;
+        }
+
+        return weights[0] * aggregateHeight
+                + weights[1] * linesCleared
+                + weights[2] * holes
+                + weights[3] * bumpiness;
+    }
+}
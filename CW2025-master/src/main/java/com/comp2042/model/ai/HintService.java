@@ -0,0 +1,129 @@
+package com.comp2042.model.ai;
+
+import com.comp2042.metrics.LatencyRecorder;
+import com.comp2042.model.bricks.BrickType;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Computes "best placement" hints for the falling brick on a background thread.
+ * Each {@link #requestHint} starts a new search and cancels the previous one; every request
+ * gets a generation number, and a result is only handed out while its generation is still the
+ * latest, so a hint for a brick that has already landed is never shown.
+ * <p>
+ * Finished hints are published through an {@link AtomicReference}: the search thread sets it and
+ * calls the ready callback, the UI thread takes it with {@link #takeHint()}. No locks are shared
+ * with the UI thread. This class has no JavaFX dependency; the caller decides how the callback
+ * reaches its UI thread.
+ */
+public class HintService {
+
+    /** One search thread shared by all games; it is a daemon so it never keeps the app alive. */
+    private static final ExecutorService SHARED_EXECUTOR = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "hint-search");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private final AutoPlayer player;
+    private final ExecutorService executor;
+    private final Runnable onReady;
+    private final LatencyRecorder latency = new LatencyRecorder("hint");
+
+    /** The generation of the latest request; older results are stale. */
+    private final AtomicLong generation = new AtomicLong();
+    /** The latest finished hint, waiting to be taken by the UI. */
+    private final AtomicReference<Hint> ready = new AtomicReference<>();
+    /** The search currently running or queued, so it can be cancelled. */
+    private final AtomicReference<Future<?>> pending = new AtomicReference<>();
+
+    /** A finished search result tagged with the request it answers. */
+    private static final class Hint {
+        private final long generation;
+        private final Placement placement;
+
+        private Hint(long generation, Placement placement) {
+            this.generation = generation;
+            this.placement = placement;
+        }
+    }
+
+    /**
+     * Constructs a hint service that searches on the shared hint thread.
+     *
+     * @param player  The player used to choose the hinted placement.
+     * @param onReady Called on the search thread whenever a new hint is ready to be taken.
+     */
+    public HintService(AutoPlayer player, Runnable onReady) {
+        this(player, SHARED_EXECUTOR, onReady);
+    }
+
+    /**
+     * Constructs a hint service that searches on the given executor.
+     *
+     * @param player   The player used to choose the hinted placement.
+     * @param executor The executor that runs the searches.
+     * @param onReady  Called on the search thread whenever a new hint is ready to be taken.
+     */
+    public HintService(AutoPlayer player, ExecutorService executor, Runnable onReady) {
+        this.player = player;
+        this.executor = executor;
+        this.onReady = onReady;
+    }
+
+    /**
+     * Starts computing a hint for a freshly spawned brick, cancelling any older search.
+     * The board is copied before this method returns, so the caller may keep changing its matrix.
+     *
+     * @param boardMatrix The background board (without the falling brick).
+     * @param type        The falling brick.
+     */
+    public void requestHint(int[][] boardMatrix, BrickType type) {
+        long requestGeneration = generation.incrementAndGet();
+        long start = System.nanoTime();
+        BitBoard board = BitBoard.fromMatrix(boardMatrix);
+        Future<?> previous = pending.getAndSet(executor.submit(() -> search(requestGeneration, board, type, start)));
+        if (previous != null) previous.cancel(true);
+    }
+
+    private void search(long requestGeneration, BitBoard board, BrickType type, long start) {
+        // skip searches that became stale while they waited in the queue
+        if (generation.get() != requestGeneration) return;
+        Placement placement = player.choosePlacement(board, type);
+        if (placement == null || generation.get() != requestGeneration) return;
+        ready.set(new Hint(requestGeneration, placement));
+        latency.recordSince(start);
+        onReady.run();
+    }
+
+    /**
+     * Takes the latest hint, if it still belongs to the current brick.
+     *
+     * @return The hinted placement, or {@code null} if there is none or it is stale.
+     */
+    public Placement takeHint() {
+        Hint hint = ready.getAndSet(null);
+        return hint != null && hint.generation == generation.get() ? hint.placement : null;
+    }
+
+    /**
+     * Cancels the running search and discards any hint that was not taken yet.
+     */
+    public void cancel() {
+        generation.incrementAndGet();
+        ready.set(null);
+        Future<?> previous = pending.getAndSet(null);
+        if (previous != null) previous.cancel(true);
+    }
+
+    /**
+     * Gets the hint latency metric: the time from a request until its hint is ready.
+     *
+     * @return The latency recorder.
+     */
+    public LatencyRecorder getLatency() { return latency; }
+}
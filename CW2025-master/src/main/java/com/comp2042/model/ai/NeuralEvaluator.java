@@ -0,0 +1,113 @@
+package com.comp2042.model.ai;
+
+import com.comp2042.GameConfig;
+import com.comp2042.model.bricks.BrickType;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * An {@link Evaluator} backed by a {@link NeuralNetwork}.
+ * Each position is encoded as one input per board cell (1 filled, 0 empty), the number of
+ * cleared rows scaled to 0..1, and a one-hot block per upcoming brick. All candidate placements
+ * of a move are scored with a single batched forward pass.
+ * The network runs on the CPU in plain Java; no native libraries are used.
+ */
+public class NeuralEvaluator implements Evaluator {
+
+    /** The number of upcoming bricks the network sees. */
+    public static final int QUEUE_LENGTH = 5;
+
+    /** The number of inputs for the standard board size. */
+    public static final int INPUT_SIZE = inputSize(GameConfig.BOARD_WIDTH, GameConfig.BOARD_HEIGHT);
+
+    private final NeuralNetwork network;
+
+    /**
+     * Constructs an evaluator around an existing network.
+     *
+     * @param network The network; it must take {@link #INPUT_SIZE} inputs and produce one output.
+     */
+    public NeuralEvaluator(NeuralNetwork network) {
+        if (network.getInputSize() != INPUT_SIZE || network.getOutputSize() != 1) {
+            throw new IllegalArgumentException("Network must map " + INPUT_SIZE + " inputs to 1 output");
+        }
+        this.network = network;
+    }
+
+    /**
+     * Loads an evaluator from a weights file (see {@link NeuralNetwork} for the format).
+     *
+     * @param weightsFile The file to load.
+     * @return A new evaluator.
+     * @throws IOException If the file cannot be read.
+     */
+    public static NeuralEvaluator load(Path weightsFile) throws IOException {
+        return new NeuralEvaluator(NeuralNetwork.load(weightsFile));
+    }
+
+    /**
+     * Computes the number of network inputs for a board size.
+     *
+     * @param width  The board width.
+     * @param height The board height.
+     * @return The input count.
+     */
+    public static int inputSize(int width, int height) {
+        return width * height + 1 + QUEUE_LENGTH * BrickType.values().length;
+    }
+
+    /**
+     * {@inheritDoc}
+     * This implementation runs a batch of one; prefer {@link #evaluateBatch} when scoring many candidates.
+     */
+    @Override
+    public double evaluate(BitBoard board, int linesCleared) {
+        return evaluateBatch(List.of(board), new int[]{linesCleared}, List.of())[0];
+    }
+
+    /**
+     * {@inheritDoc}
+     * All boards are encoded into one input block and pushed through the network together.
+     *
+     * @throws IllegalArgumentException If a board is not {@link GameConfig#BOARD_WIDTH} x
+     * {@link GameConfig#BOARD_HEIGHT}, the size the network's inputs are laid out for.
+     */
+    @Override
+    public double[] evaluateBatch(List<BitBoard> boards, int[] linesCleared, List<BrickType> queue) {
+        for (BitBoard board : boards) {
+            if (board.getWidth() != GameConfig.BOARD_WIDTH || board.getHeight() != GameConfig.BOARD_HEIGHT) {
+                throw new IllegalArgumentException("Board is " + board.getWidth() + "x" + board.getHeight()
+                        + ", the network takes " + GameConfig.BOARD_WIDTH + "x" + GameConfig.BOARD_HEIGHT);
+            }
+        }
+        int batch = boards.size();
+        float[] inputs = new float[batch * INPUT_SIZE];
+        for (int b = 0; b < batch; b++) {
+            encode(boards.get(b), linesCleared[b], queue, inputs, b * INPUT_SIZE);
+        }
+        float[] outputs = network.forward(inputs, batch);
+        double[] scores = new double[batch];
+        for (int b = 0; b < batch; b++) scores[b] = outputs[b];
+        return scores;
+    }
+
+    private static void encode(BitBoard board, int lines, List<BrickType> queue, float[] into, int offset) {
+        int cells = GameConfig.BOARD_WIDTH * GameConfig.BOARD_HEIGHT;
+        for (int y = 0; y < GameConfig.BOARD_HEIGHT; y++) {
+            int row = board.getRow(y);
+            // only visit the set bits of each row
+            while (row != 0) {
+                int x = Integer.numberOfTrailingZeros(row);
+                into[offset + y * GameConfig.BOARD_WIDTH + x] = 1f;
+                row &= row - 1;
+            }
+        }
+        into[offset + cells] = lines / 4f;
+        int queueOffset = offset + cells + 1;
+        for (int i = 0; i < Math.min(QUEUE_LENGTH, queue.size()); i++) {
+            into[queueOffset + i * BrickType.values().length + queue.get(i).ordinal()] = 1f;
+        }
+    }
+}
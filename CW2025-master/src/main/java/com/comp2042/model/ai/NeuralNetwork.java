@@ -0,0 +1,179 @@
+package com.comp2042.model.ai;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+/**
+ * A small fully connected network (multi-layer perceptron) stored in plain float arrays.
+ * Hidden layers use ReLU, the last layer is linear. Inference is batched: the inputs of
+ * many positions are pushed through each layer together, so each weight row is read once
+ * per batch instead of once per position.
+ * <p>
+ * Weights are stored in a compact big-endian binary file:
+ * the magic number {@code 0x544E4E31} ("TNN1"), the layer count, then for each layer its
+ * input and output sizes followed by the {@code in * out} weights (row-major, one row per input)
+ * and the {@code out} biases, all as 32-bit floats.
+ */
+public final class NeuralNetwork {
+
+    /** Identifies a weights file ("TNN1"). */
+    private static final int MAGIC = 0x544E4E31;
+
+    /** Layer sizes: {@code sizes[0]} inputs, {@code sizes[last]} outputs. */
+    private final int[] sizes;
+    /** Per layer, a flat {@code [in][out]} weight matrix. */
+    private final float[][] weights;
+    /** Per layer, the {@code out} biases. */
+    private final float[][] biases;
+
+    private NeuralNetwork(int[] sizes, float[][] weights, float[][] biases) {
+        this.sizes = sizes;
+        this.weights = weights;
+        this.biases = biases;
+    }
+
+    /**
+     * Creates a network with small random weights, e.g. as a starting point for training.
+     *
+     * @param seed  The random seed.
+     * @param sizes The layer sizes, inputs first and outputs last.
+     * @return A new network.
+     */
+    public static NeuralNetwork random(long seed, int... sizes) {
+        Random random = new Random(seed);
+        float[][] weights = new float[sizes.length - 1][];
+        float[][] biases = new float[sizes.length - 1][];
+        for (int l = 0; l < weights.length; l++) {
+            int in = sizes[l], out = sizes[l + 1];
+            float scale = (float) Math.sqrt(2.0 / in);
+            weights[l] = new float[in * out];
+            for (int i = 0; i < weights[l].length; i++) {
+                weights[l][i] = (float) random.nextGaussian() * scale;
+            }
+            biases[l] = new float[out];
+        }
+        return new NeuralNetwork(sizes.clone(), weights, biases);
+    }
+
+    /**
+     * Loads a network from a weights file.
+     *
+     * @param file The file to read.
+     * @return The loaded network.
+     * @throws IOException If the file cannot be read or is not a weights file.
+     */
+    public static NeuralNetwork load(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return load(in);
+        }
+    }
+
+    /**
+     * Loads a network from a stream in the weights file format. The stream is not closed.
+     *
+     * @param stream The stream to read.
+     * @return The loaded network.
+     * @throws IOException If the data cannot be read or is not a weights file.
+     */
+    public static NeuralNetwork load(InputStream stream) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(stream));
+        if (in.readInt() != MAGIC) throw new IOException("Not a network weights file");
+        int layers = in.readInt();
+        if (layers < 1) throw new IOException("Invalid layer count " + layers);
+        int[] sizes = new int[layers + 1];
+        float[][] weights = new float[layers][];
+        float[][] biases = new float[layers][];
+        for (int l = 0; l < layers; l++) {
+            int inSize = in.readInt();
+            int outSize = in.readInt();
+            if (l > 0 && inSize != sizes[l]) throw new IOException("Layer " + l + " input size does not match");
+            sizes[l] = inSize;
+            sizes[l + 1] = outSize;
+            weights[l] = new float[inSize * outSize];
+            for (int i = 0; i < weights[l].length; i++) weights[l][i] = in.readFloat();
+            biases[l] = new float[outSize];
+            for (int i = 0; i < outSize; i++) biases[l][i] = in.readFloat();
+        }
+        return new NeuralNetwork(sizes, weights, biases);
+    }
+
+    /**
+     * Saves this network in the weights file format.
+     *
+     * @param file The file to write.
+     * @throws IOException If the file cannot be written.
+     */
+    public void save(Path file) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(weights.length);
+            for (int l = 0; l < weights.length; l++) {
+                out.writeInt(sizes[l]);
+                out.writeInt(sizes[l + 1]);
+                for (float w : weights[l]) out.writeFloat(w);
+                for (float b : biases[l]) out.writeFloat(b);
+            }
+        }
+    }
+
+    /** @return The number of inputs per position. */
+    public int getInputSize() { return sizes[0]; }
+
+    /** @return The number of outputs per position. */
+    public int getOutputSize() { return sizes[sizes.length - 1]; }
+
+    /**
+     * Runs a batch of positions through the network.
+     *
+     * @param inputs A flat {@code [batch][inputSize]} array.
+     * @param batch  The number of positions in {@code inputs}.
+     * @return A flat {@code [batch][outputSize]} array of outputs.
+     */
+    public float[] forward(float[] inputs, int batch) {
+        float[] activations = inputs;
+        for (int l = 0; l < weights.length; l++) {
+            activations = layer(activations, batch, l, l < weights.length - 1);
+        }
+        return activations;
+    }
+
+    /**
+     * Computes {@code out = in * W + b} for the whole batch.
+     * The loop runs over weight rows on the outside, so each row of {@code W} is streamed once
+     * and added into every position's outputs while it is still in cache. Zero inputs (most board
+     * cells) are skipped, and the inner loop is a plain multiply-add the JIT can vectorize.
+     */
+    private float[] layer(float[] in, int batch, int l, boolean relu) {
+        int inSize = sizes[l], outSize = sizes[l + 1];
+        float[] w = weights[l];
+        float[] bias = biases[l];
+        float[] out = new float[batch * outSize];
+        for (int b = 0; b < batch; b++) {
+            System.arraycopy(bias, 0, out, b * outSize, outSize);
+        }
+        for (int k = 0; k < inSize; k++) {
+            int row = k * outSize;
+            for (int b = 0; b < batch; b++) {
+                float x = in[b * inSize + k];
+                if (x == 0f) continue;
+                int o = b * outSize;
+                for (int j = 0; j < outSize; j++) {
+                    out[o + j] += x * w[row + j];
+                }
+            }
+        }
+        if (relu) {
+            for (int i = 0; i < out.length; i++) {
+                if (out[i] < 0f) out[i] = 0f;
+            }
+        }
+        return out;
+    }
+}
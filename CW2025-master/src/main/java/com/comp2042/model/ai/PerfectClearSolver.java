@@ -0,0 +1,317 @@
+package com.comp2042.model.ai;
+
+import com.comp2042.model.bricks.BrickType;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Searches for a sequence of placements that empties the board (a "perfect clear")
+ * or turns it into a given target pattern, using a known brick queue and hold slot.
+ * The search is a depth-first search over {@link BitBoard} states with:
+ * <ul>
+ *     <li>parity pruning: on an even-width board an odd number of filled cells can never be cleared,</li>
+ *     <li>a clear-height bound: for a perfect clear every brick must stay below the chosen clear line,</li>
+ *     <li>a fillable-region check: every enclosed gap below the clear line must be a multiple of 4 cells,</li>
+ *     <li>memoization of visited states so transpositions are only searched once.</li>
+ * </ul>
+ * The region check assumes gaps are filled independently, so it can in rare cases skip a solution
+ * that needs a line clear to join two separate gaps.
+ * Placements are hard drops from the spawn row (see {@link PlacementGenerator}).
+ */
+public class PerfectClearSolver {
+
+    /**
+     * Searches for a perfect clear on a single thread.
+     *
+     * @param boardMatrix The board, as returned by {@link com.comp2042.model.Board#getBoardMatrix()}.
+     * @param queue       The known upcoming bricks, in order (the first one is the current brick).
+     * @param hold        The brick in the hold slot, or {@code null} if empty.
+     * @return The search result.
+     */
+    public SolverResult solve(int[][] boardMatrix, List<BrickType> queue, BrickType hold) {
+        return run(BitBoard.fromMatrix(boardMatrix), null, queue, hold, 1);
+    }
+
+    /**
+     * Searches for a perfect clear, splitting the first-level branches across threads.
+     *
+     * @param boardMatrix The board, as returned by {@link com.comp2042.model.Board#getBoardMatrix()}.
+     * @param queue       The known upcoming bricks, in order.
+     * @param hold        The brick in the hold slot, or {@code null} if empty.
+     * @param threads     The number of worker threads to use.
+     * @return The search result.
+     */
+    public SolverResult solveParallel(int[][] boardMatrix, List<BrickType> queue, BrickType hold, int threads) {
+        return run(BitBoard.fromMatrix(boardMatrix), null, queue, hold, threads);
+    }
+
+    /**
+     * Searches for a placement sequence that leaves exactly the target pattern on the board.
+     *
+     * @param boardMatrix   The board, as returned by {@link com.comp2042.model.Board#getBoardMatrix()}.
+     * @param targetPattern The wanted board; non-zero cells must be filled, zero cells empty.
+     * @param queue         The known upcoming bricks, in order.
+     * @param hold          The brick in the hold slot, or {@code null} if empty.
+     * @param threads       The number of worker threads (1 for a single-threaded search).
+     * @return The search result.
+     */
+    public SolverResult solveForPattern(int[][] boardMatrix, int[][] targetPattern, List<BrickType> queue, BrickType hold, int threads) {
+        return run(BitBoard.fromMatrix(boardMatrix), BitBoard.fromMatrix(targetPattern), queue, hold, threads);
+    }
+
+    private SolverResult run(BitBoard board, BitBoard target, List<BrickType> queue, BrickType hold, int threads) {
+        long start = System.nanoTime();
+        Search search = new Search(queue.toArray(new BrickType[0]), target);
+        int totalPieces = queue.size() + (hold != null ? 1 : 0);
+        List<Placement> solution = null;
+
+        if (passesParity(board, target)) {
+            if (target == null) {
+                // try the lowest clear line first, then taller ones
+                for (int limit : clearHeights(board, totalPieces)) {
+                    solution = searchRoot(search, board, hold, limit, threads);
+                    if (solution != null) break;
+                }
+            } else {
+                solution = searchRoot(search, board, hold, board.getHeight(), threads);
+            }
+        }
+
+        long elapsed = System.nanoTime() - start;
+        return new SolverResult(solution != null, solution != null ? solution : List.of(), search.nodes.sum(), elapsed);
+    }
+
+    /**
+     * Checks that the filled-cell count can reach the goal at all. Each brick adds 4 cells and each
+     * cleared row removes {@code width} cells, so on even-width boards the parity never changes.
+     */
+    private static boolean passesParity(BitBoard board, BitBoard target) {
+        if (board.getWidth() % 2 != 0) return true;
+        int goalCells = target == null ? 0 : target.filledCells();
+        return (board.filledCells() - goalCells) % 2 == 0;
+    }
+
+    /**
+     * Lists the clear heights (rows above the floor) that a perfect clear could use,
+     * given how many cells must be filled and how many bricks are available.
+     */
+    private static List<Integer> clearHeights(BitBoard board, int pieces) {
+        List<Integer> heights = new ArrayList<>();
+        int filled = board.filledCells();
+        for (int h = Math.max(1, board.stackHeight()); h <= board.getHeight(); h++) {
+            int missing = h * board.getWidth() - filled;
+            if (missing > 0 && missing % 4 == 0 && missing / 4 <= pieces) heights.add(h);
+        }
+        return heights;
+    }
+
+    private List<Placement> searchRoot(Search search, BitBoard board, BrickType hold, int limit, int threads) {
+        if (threads <= 1) {
+            Deque<Placement> path = new ArrayDeque<>();
+            return search.dfs(board, 0, hold, limit, path) ? new ArrayList<>(path) : null;
+        }
+
+        List<Branch> branches = search.expand(board, 0, hold, limit);
+        ExecutorService pool = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "pc-solver");
+            t.setDaemon(true);
+            return t;
+        });
+        AtomicReference<List<Placement>> found = new AtomicReference<>();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Branch branch : branches) {
+                futures.add(pool.submit(() -> {
+                    Deque<Placement> path = new ArrayDeque<>();
+                    path.addLast(branch.placement);
+                    if (search.dfs(branch.board, branch.index, branch.hold, branch.limit, path)
+                            && found.compareAndSet(null, new ArrayList<>(path))) {
+                        // first solution wins; tell the other branches to stop
+                        search.cancelled.set(true);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Solver worker failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+        search.cancelled.set(false);
+        return found.get();
+    }
+
+    /** One child of the root state, handed to a worker thread in parallel mode. */
+    private static final class Branch {
+        final Placement placement;
+        final BitBoard board;
+        final int index;
+        final BrickType hold;
+        final int limit;
+
+        Branch(Placement placement, BitBoard board, int index, BrickType hold, int limit) {
+            this.placement = placement;
+            this.board = board;
+            this.index = index;
+            this.hold = hold;
+            this.limit = limit;
+        }
+    }
+
+    /** Memoization key: the board plus everything that decides which bricks are still available. */
+    private static final class StateKey {
+        final BitBoard board;
+        final int index;
+        final BrickType hold;
+        final int limit;
+
+        StateKey(BitBoard board, int index, BrickType hold, int limit) {
+            this.board = board;
+            this.index = index;
+            this.hold = hold;
+            this.limit = limit;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof StateKey k)) return false;
+            return index == k.index && limit == k.limit && hold == k.hold && board.equals(k.board);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(board, index, hold, limit);
+        }
+    }
+
+    /** The shared state of one solve call; safe to use from several worker threads. */
+    private static final class Search {
+        final BrickType[] queue;
+        /** The target pattern, or {@code null} for a perfect clear. */
+        final BitBoard target;
+        final Set<StateKey> visited = ConcurrentHashMap.newKeySet();
+        final LongAdder nodes = new LongAdder();
+        final AtomicBoolean cancelled = new AtomicBoolean();
+
+        Search(BrickType[] queue, BitBoard target) {
+            this.queue = queue;
+            this.target = target;
+        }
+
+        boolean dfs(BitBoard board, int index, BrickType hold, int limit, Deque<Placement> path) {
+            if (cancelled.get()) return false;
+            nodes.increment();
+            if (!path.isEmpty() && isGoal(board)) return true;
+            int remaining = queue.length - index + (hold != null ? 1 : 0);
+            if (remaining == 0) return false;
+            if (target == null && !canStillClear(board, limit, remaining)) return false;
+            // a state seen before has either failed or is being searched by another worker
+            if (!visited.add(new StateKey(board, index, hold, limit))) return false;
+
+            for (Branch child : expand(board, index, hold, limit)) {
+                path.addLast(child.placement);
+                if (dfs(child.board, child.index, child.hold, child.limit, path)) return true;
+                path.removeLast();
+            }
+            return false;
+        }
+
+        /** Lists every child state: place the current brick, place the held brick, or hold first. */
+        List<Branch> expand(BitBoard board, int index, BrickType hold, int limit) {
+            List<Branch> children = new ArrayList<>();
+            BrickType current = index < queue.length ? queue[index] : null;
+            if (current != null) {
+                addChildren(children, board, current, false, index + 1, hold, limit);
+            }
+            if (hold != null && hold != current) {
+                addChildren(children, board, hold, true, current != null ? index + 1 : index, current, limit);
+            }
+            if (hold == null && current != null && index + 1 < queue.length && queue[index + 1] != current) {
+                addChildren(children, board, queue[index + 1], true, index + 2, current, limit);
+            }
+            return children;
+        }
+
+        private void addChildren(List<Branch> children, BitBoard board, BrickType type, boolean usesHold,
+                                 int nextIndex, BrickType nextHold, int limit) {
+            int topAllowed = board.getHeight() - limit;
+            for (Placement p : PlacementGenerator.generate(board, type)) {
+                PieceShape shape = p.getShape();
+                // for a perfect clear nothing may stick out above the clear line
+                if (target == null && p.getY() + shape.getMinRow() < topAllowed) continue;
+                BitBoard locked = board.lock(shape, p.getX(), p.getY());
+                int cleared = locked.countFullRows();
+                Placement placement = usesHold ? p.withHold(true) : p;
+                children.add(new Branch(placement, locked.clearFullRows(), nextIndex, nextHold, limit - cleared));
+            }
+        }
+
+        boolean isGoal(BitBoard board) {
+            return target == null ? board.isEmpty() : board.equals(target);
+        }
+
+        /** Checks the cell budget and that every gap below the clear line can be filled by whole bricks. */
+        private static boolean canStillClear(BitBoard board, int limit, int remaining) {
+            if (limit <= 0) return board.isEmpty();
+            int missing = limit * board.getWidth() - board.filledCells();
+            if (missing < 0 || missing % 4 != 0 || missing / 4 > remaining) return false;
+            return gapsAreFillable(board, limit);
+        }
+
+        private static boolean gapsAreFillable(BitBoard board, int limit) {
+            int top = board.getHeight() - limit;
+            int full = board.getFullRowMask();
+            int[] empty = new int[limit];
+            for (int i = 0; i < limit; i++) {
+                empty[i] = ~board.getRow(top + i) & full;
+            }
+            int[] region = new int[limit];
+            for (int i = 0; i < limit; i++) {
+                while (empty[i] != 0) {
+                    Arrays.fill(region, 0);
+                    region[i] = Integer.lowestOneBit(empty[i]);
+                    // grow the region row by row until it stops changing
+                    boolean changed = true;
+                    while (changed) {
+                        changed = false;
+                        for (int j = 0; j < limit; j++) {
+                            int grown = region[j] | (region[j] << 1) | (region[j] >>> 1);
+                            if (j > 0) grown |= region[j - 1];
+                            if (j < limit - 1) grown |= region[j + 1];
+                            grown &= empty[j];
+                            if (grown != region[j]) {
+                                region[j] = grown;
+                                changed = true;
+                            }
+                        }
+                    }
+                    int size = 0;
+                    for (int j = 0; j < limit; j++) {
+                        size += Integer.bitCount(region[j]);
+                        empty[j] &= ~region[j];
+                    }
+                    if (size % 4 != 0) return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.comp2042.model.ai;
+
+import com.comp2042.model.bricks.BrickType;
+
+import java.util.List;
+
+/**
+ * A pre-computed bitmask form of one rotational state of a brick.
+ * Each of the 4 rows of the brick's 4x4 shape matrix is stored as an int where
+ * bit {@code c} is set when column {@code c} of that row is filled. The masks are
+ * built once per brick type and rotation and shared by every search.
+ */
+public final class PieceShape {
+
+    /** All shapes, indexed by [brick type ordinal][rotation]. */
+    private static final PieceShape[][] SHAPES = buildShapes();
+
+    private final BrickType type;
+    private final int rotation;
+    /** Row masks of the 4x4 shape box, relative to column 0 of the box. */
+    private final int[] rowMasks;
+    /** Left-most filled column inside the shape box. */
+    private final int minColumn;
+    /** Right-most filled column inside the shape box. */
+    private final int maxColumn;
+    /** Top-most filled row inside the shape box. */
+    private final int minRow;
+    /** Bottom-most filled row inside the shape box. */
+    private final int maxRow;
+
+    private PieceShape(BrickType type, int rotation, int[][] shape) {
+        this.type = type;
+        this.rotation = rotation;
+        this.rowMasks = new int[shape.length];
+        int minC = Integer.MAX_VALUE, maxC = -1, minR = Integer.MAX_VALUE, maxR = -1;
+        for (int row = 0; row < shape.length; row++) {
+            for (int col = 0; col < shape[row].length; col++) {
+                if (shape[row][col] != 0) {
+                    rowMasks[row] |= 1 << col;
+                    minC = Math.min(minC, col);
+                    maxC = Math.max(maxC, col);
+                    minR = Math.min(minR, row);
+                    maxR = Math.max(maxR, row);
+                }
+            }
+        }
+        this.minColumn = minC;
+        this.maxColumn = maxC;
+        this.minRow = minR;
+        this.maxRow = maxR;
+    }
+
+    private static PieceShape[][] buildShapes() {
+        BrickType[] types = BrickType.values();
+        PieceShape[][] shapes = new PieceShape[types.length][];
+        for (BrickType type : types) {
+            List<int[][]> matrices = type.createBrick().getShapeMatrix();
+            shapes[type.ordinal()] = new PieceShape[matrices.size()];
+            for (int r = 0; r < matrices.size(); r++) {
+                shapes[type.ordinal()][r] = new PieceShape(type, r, matrices.get(r));
+            }
+        }
+        return shapes;
+    }
+
+    /**
+     * Gets the shape for a brick type in a given rotation.
+     *
+     * @param type     The brick type.
+     * @param rotation The rotation index, as used by {@link com.comp2042.model.BrickRotator}.
+     * @return The shared, pre-computed shape.
+     */
+    public static PieceShape of(BrickType type, int rotation) {
+        return SHAPES[type.ordinal()][rotation];
+    }
+
+    /**
+     * Gets the number of distinct rotational states a brick type has.
+     *
+     * @param type The brick type.
+     * @return The rotation count (1, 2 or 4).
+     */
+    public static int rotationCount(BrickType type) {
+        return SHAPES[type.ordinal()].length;
+    }
+
+    /**
+     * Gets the mask of one row of the shape box, shifted so the box starts at column {@code x}.
+     *
+     * @param row The row inside the shape box (0 to 3).
+     * @param x   The board column of the box's left edge (may be negative).
+     * @return The shifted row mask.
+     */
+    public int rowMaskAt(int row, int x) {
+        int mask = rowMasks[row];
+        return x >= 0 ? mask << x : mask >>> -x;
+    }
+
+    /** @return The brick type of this shape. */
+    public BrickType getType() { return type; }
+
+    /** @return The rotation index of this shape. */
+    public int getRotation() { return rotation; }
+
+    /** @return The number of rows in the shape box. */
+    public int getBoxHeight() { return rowMasks.length; }
+
+    /** @return The left-most filled column inside the shape box. */
+    public int getMinColumn() { return minColumn; }
+
+    /** @return The right-most filled column inside the shape box. */
+    public int getMaxColumn() { return maxColumn; }
+
+    /** @return The top-most filled row inside the shape box. */
+    public int getMinRow() { return minRow; }
+
+    /** @return The bottom-most filled row inside the shape box. */
+    public int getMaxRow() { return maxRow; }
+
+    /**
+     * Gets the smallest box X position that keeps the shape inside a board.
+     *
+     * @return The minimum legal X offset.
+     */
+    public int getMinX() { return -minColumn; }
+
+    /**
+     * Gets the largest box X position that keeps the shape inside a board.
+     *
+     * @param boardWidth The width of the board.
+     * @return The maximum legal X offset.
+     */
+    public int getMaxX(int boardWidth) { return boardWidth - 1 - maxColumn; }
+}
@@ -0,0 +1,76 @@
+package com.comp2042.model.ai;
+
+import com.comp2042.model.bricks.BrickType;
+
+/**
+ * An immutable data object describing where a brick comes to rest.
+ * The position uses the same coordinates as the falling brick's offset in
+ * {@link com.comp2042.model.SimpleBoard}: (x, y) is the top-left corner of the 4x4 shape box.
+ */
+public final class Placement {
+
+    /** The type of brick that was placed. */
+    private final BrickType brickType;
+    /** The rotation index of the brick when it landed. */
+    private final int rotation;
+    /** The X (column) position of the shape box. */
+    private final int x;
+    /** The Y (row) position of the shape box. */
+    private final int y;
+    /** Whether this placement was made with the held brick (or by holding first). */
+    private final boolean usesHold;
+
+    /**
+     * Constructs a new Placement.
+     *
+     * @param brickType The type of brick that was placed.
+     * @param rotation  The rotation index.
+     * @param x         The X (column) position of the shape box.
+     * @param y         The Y (row) position of the shape box.
+     * @param usesHold  {@code true} if the hold slot was used to get this brick.
+     */
+    public Placement(BrickType brickType, int rotation, int x, int y, boolean usesHold) {
+        this.brickType = brickType;
+        this.rotation = rotation;
+        this.x = x;
+        this.y = y;
+        this.usesHold = usesHold;
+    }
+
+    /** @return The type of brick that was placed. */
+    public BrickType getBrickType() { return brickType; }
+
+    /** @return The rotation index of the brick. */
+    public int getRotation() { return rotation; }
+
+    /** @return The X (column) position of the shape box. */
+    public int getX() { return x; }
+
+    /** @return The Y (row) position of the shape box. */
+    public int getY() { return y; }
+
+    /** @return {@code true} if the hold slot was used for this placement. */
+    public boolean usesHold() { return usesHold; }
+
+    /**
+     * Gets the pre-computed shape of the placed brick.
+     *
+     * @return The {@link PieceShape} for this brick type and rotation.
+     */
+    public PieceShape getShape() { return PieceShape.of(brickType, rotation); }
+
+    /**
+     * Returns a copy of this placement with a different hold flag.
+     *
+     * @param usesHold The new hold flag.
+     * @return A new placement.
+     */
+    public Placement withHold(boolean usesHold) {
+        return new Placement(brickType, rotation, x, y, usesHold);
+    }
+
+    @Override
+    public String toString() {
+        return brickType + " r" + rotation + " @(" + x + "," + y + ")" + (usesHold ? " [hold]" : "");
+    }
+}
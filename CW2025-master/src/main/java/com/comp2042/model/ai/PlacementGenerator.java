@@ -0,0 +1,48 @@
+package com.comp2042.model.ai;
+
+import com.comp2042.GameConfig;
+import com.comp2042.model.bricks.BrickType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A utility class that lists every resting position a brick can reach from its spawn point.
+ * A position is reachable when the brick, already rotated, can slide sideways along the
+ * spawn row to the target column and then be hard dropped (no soft-drop tucks or spins).
+ * It cannot be instantiated.
+ */
+public final class PlacementGenerator {
+
+    /** Private constructor to prevent instantiation of this utility class. */
+    private PlacementGenerator() {}
+
+    /**
+     * Generates all hard-drop placements of a brick on a board.
+     *
+     * @param board The board to place on.
+     * @param type  The brick type to place.
+     * @return The list of reachable placements (may be empty if the spawn point is blocked).
+     */
+    public static List<Placement> generate(BitBoard board, BrickType type) {
+        List<Placement> placements = new ArrayList<>();
+        int spawnX = GameConfig.BRICK_SPAWN_X;
+        int spawnY = GameConfig.BRICK_SPAWN_Y;
+        for (int r = 0; r < PieceShape.rotationCount(type); r++) {
+            PieceShape shape = PieceShape.of(type, r);
+            int minX = shape.getMinX();
+            int maxX = shape.getMaxX(board.getWidth());
+            int from = Math.max(minX, Math.min(maxX, spawnX));
+            if (board.collides(shape, from, spawnY)) continue;
+
+            // walk left then right from the spawn column until the row is blocked
+            for (int x = from; x >= minX && !board.collides(shape, x, spawnY); x--) {
+                placements.add(new Placement(type, r, x, board.dropY(shape, x, spawnY), false));
+            }
+            for (int x = from + 1; x <= maxX && !board.collides(shape, x, spawnY); x++) {
+                placements.add(new Placement(type, r, x, board.dropY(shape, x, spawnY), false));
+            }
+        }
+        return placements;
+    }
+}
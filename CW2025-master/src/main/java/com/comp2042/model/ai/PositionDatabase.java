@@ -0,0 +1,211 @@
+package com.comp2042.model.ai;
+
+import com.comp2042.GameConfig;
+import com.comp2042.model.bricks.BrickType;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A read-only table of precomputed best placements for early-game positions, built offline by
+ * {@link PositionDatabaseBuilder}.
+ * <p>
+ * The file is memory-mapped, never loaded onto the heap: a lookup hashes the position with
+ * {@link ZobristHash} and searches the sorted entries in place, starting with interpolation search
+ * (the hashes are spread evenly) and finishing with binary search, so a lookup touches only a few
+ * pages and takes microseconds. Lookups are thread-safe.
+ * <p>
+ * Layout (big-endian): the magic number {@code 0x54504442} ("TPDB"), a format version (short), the
+ * board width and height (bytes), the entry count (int), then the entries sorted by hash. Each entry
+ * is 16 bytes: the hash (long), the rotation, x and y of the best placement (bytes), a reserved byte,
+ * and the evaluation of the position after that placement (float).
+ */
+public final class PositionDatabase {
+
+    /** Identifies a position database ("TPDB"). */
+    static final int MAGIC = 0x54504442;
+    /** The current format version. */
+    static final short VERSION = 1;
+    /** The size of the header in front of the entries. */
+    static final int HEADER_SIZE = 4 + 2 + 1 + 1 + 4;
+    /** The size of one entry. */
+    static final int ENTRY_SIZE = 16;
+
+    /** Interpolation steps tried before falling back to binary search. */
+    private static final int INTERPOLATION_STEPS = 4;
+
+    private static PositionDatabase defaultDatabase;
+    private static boolean defaultLoaded;
+
+    /**
+     * A stored best placement and the evaluation it reached.
+     */
+    public static final class Entry {
+        private final Placement placement;
+        private final double evaluation;
+
+        Entry(Placement placement, double evaluation) {
+            this.placement = placement;
+            this.evaluation = evaluation;
+        }
+
+        /** @return The best placement of the position. */
+        public Placement getPlacement() { return placement; }
+
+        /** @return The evaluator's score of the board after the placement. */
+        public double getEvaluation() { return evaluation; }
+    }
+
+    private final ByteBuffer entries;
+    private final int width;
+    private final int height;
+    private final int count;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private PositionDatabase(ByteBuffer entries, int width, int height, int count) {
+        this.entries = entries;
+        this.width = width;
+        this.height = height;
+        this.count = count;
+    }
+
+    /**
+     * Maps a database file into memory.
+     *
+     * @param file The database file.
+     * @return The database.
+     * @throws IOException If the file cannot be mapped or is not a position database.
+     */
+    public static PositionDatabase open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // the mapping stays valid after the channel is closed
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC) {
+                throw new IOException("Not a position database: " + file);
+            }
+            short version = buffer.getShort();
+            if (version != VERSION) throw new IOException("Unsupported position database version " + version);
+            int width = buffer.get() & 0xFF;
+            int height = buffer.get() & 0xFF;
+            int count = buffer.getInt();
+            if (count < 0 || (long) count * ENTRY_SIZE != buffer.remaining()) {
+                throw new IOException("Position database is truncated: " + file);
+            }
+            return new PositionDatabase(buffer.slice(), width, height, count);
+        }
+    }
+
+    /**
+     * Gets the database in {@link GameConfig#POSITION_DB_FILE}, mapping it on first use.
+     *
+     * @return The database, or {@code null} if the file does not exist or cannot be read.
+     */
+    public static synchronized PositionDatabase getDefault() {
+        if (!defaultLoaded) {
+            defaultLoaded = true;
+            Path file = Paths.get(GameConfig.POSITION_DB_FILE);
+            if (Files.exists(file)) {
+                try {
+                    defaultDatabase = open(file);
+                } catch (IOException e) {
+                    System.err.println("Failed to open position database: " + e.getMessage());
+                }
+            }
+        }
+        return defaultDatabase;
+    }
+
+    /**
+     * Looks up the best placement for a brick on a board.
+     * The stored placement is checked against the board, so a hash collision never yields an
+     * illegal move.
+     *
+     * @param board The background board.
+     * @param type  The brick to place.
+     * @return The stored entry, or {@code null} if the position is not in the database.
+     */
+    public Entry lookup(BitBoard board, BrickType type) {
+        if (board.getWidth() != width || board.getHeight() != height) {
+            misses.increment();
+            return null;
+        }
+        int index = find(ZobristHash.hash(board, type));
+        if (index < 0) {
+            misses.increment();
+            return null;
+        }
+        int offset = index * ENTRY_SIZE + Long.BYTES;
+        int rotation = entries.get(offset);
+        int x = entries.get(offset + 1);
+        int y = entries.get(offset + 2);
+        float evaluation = entries.getFloat(offset + 4);
+        if (rotation >= PieceShape.rotationCount(type)) {
+            misses.increment();
+            return null;
+        }
+        PieceShape shape = PieceShape.of(type, rotation);
+        if (board.collides(shape, x, y) || !board.collides(shape, x, y + 1)) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return new Entry(new Placement(type, rotation, x, y, false), evaluation);
+    }
+
+    /**
+     * Finds an entry by hash.
+     *
+     * @return The entry index, or -1 if no entry has the hash.
+     */
+    private int find(long hash) {
+        int low = 0;
+        int high = count - 1;
+        for (int step = 0; step < INTERPOLATION_STEPS && low <= high; step++) {
+            long lowKey = keyAt(low);
+            long highKey = keyAt(high);
+            if (hash < lowKey || hash > highKey) return -1;
+            if (lowKey == highKey) return lowKey == hash ? low : -1;
+            // doubles avoid overflowing when the keys have opposite signs
+            double fraction = ((double) hash - lowKey) / ((double) highKey - lowKey);
+            int probe = low + (int) (fraction * (high - low));
+            long key = keyAt(probe);
+            if (key == hash) return probe;
+            if (key < hash) low = probe + 1;
+            else high = probe - 1;
+        }
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long key = keyAt(mid);
+            if (key == hash) return mid;
+            if (key < hash) low = mid + 1;
+            else high = mid - 1;
+        }
+        return -1;
+    }
+
+    private long keyAt(int index) {
+        return entries.getLong(index * ENTRY_SIZE);
+    }
+
+    /** @return The number of positions in the database. */
+    public int size() { return count; }
+
+    /** @return The board width the database was built for. */
+    public int getWidth() { return width; }
+
+    /** @return The board height the database was built for. */
+    public int getHeight() { return height; }
+
+    /** @return The number of lookups that found a placement. */
+    public long getHitCount() { return hits.sum(); }
+
+    /** @return The number of lookups that found nothing. */
+    public long getMissCount() { return misses.sum(); }
+}
@@ -0,0 +1,145 @@
+package com.comp2042.model.ai;
+
+import com.comp2042.GameConfig;
+import com.comp2042.model.bricks.BrickType;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Builds a {@link PositionDatabase} offline by batch search.
+ * Starting from the empty board, it searches the best placement of every brick type on every
+ * position, then expands each position by every reachable placement of every brick to get the
+ * positions one brick deeper, up to the requested depth. The positions of one depth are searched
+ * in parallel. The entries are sorted by hash and written to a temp file that is atomically renamed.
+ * Run it with {@code java com.comp2042.model.ai.PositionDatabaseBuilder [depth] [file]}.
+ */
+public class PositionDatabaseBuilder {
+
+    /** One searched position, before sorting. */
+    private static final class Row {
+        private final long hash;
+        private final PositionDatabase.Entry entry;
+
+        private Row(long hash, PositionDatabase.Entry entry) {
+            this.hash = hash;
+            this.entry = entry;
+        }
+    }
+
+    private final AutoPlayer player;
+    private final int width;
+    private final int height;
+    private final int depth;
+
+    /**
+     * Constructs a builder.
+     *
+     * @param evaluator The evaluator the stored placements are chosen with; it is called from several threads.
+     * @param width     The board width.
+     * @param height    The board height.
+     * @param depth     The number of bricks placed before the deepest stored positions (0 stores only the empty board).
+     * @throws IllegalArgumentException If the depth is negative or the board does not fit the file format.
+     */
+    public PositionDatabaseBuilder(Evaluator evaluator, int width, int height, int depth) {
+        if (depth < 0) throw new IllegalArgumentException("Depth must not be negative: " + depth);
+        if (width > 32 || height > 255) throw new IllegalArgumentException("Board is too large: " + width + "x" + height);
+        this.player = new AutoPlayer(evaluator);
+        this.width = width;
+        this.height = height;
+        this.depth = depth;
+    }
+
+    /**
+     * Searches every position and writes the database.
+     *
+     * @param file The file to write.
+     * @return The number of positions written.
+     * @throws IOException If the file cannot be written.
+     */
+    public int build(Path file) throws IOException {
+        List<Row> rows = new ArrayList<>();
+        Set<BitBoard> seen = new HashSet<>();
+        Set<BitBoard> level = new LinkedHashSet<>(List.of(BitBoard.empty(width, height)));
+        seen.addAll(level);
+        for (int d = 0; d <= depth; d++) {
+            rows.addAll(level.parallelStream().flatMap(board -> search(board).stream()).toList());
+            if (d == depth) break;
+            Set<BitBoard> next = new LinkedHashSet<>();
+            for (BitBoard board : level) {
+                for (BrickType type : BrickType.values()) {
+                    for (Placement p : PlacementGenerator.generate(board, type)) {
+                        BitBoard child = board.lock(p.getShape(), p.getX(), p.getY()).clearFullRows();
+                        if (seen.add(child)) next.add(child);
+                    }
+                }
+            }
+            level = next;
+        }
+        rows.sort(Comparator.comparingLong(row -> row.hash));
+        return write(file, rows);
+    }
+
+    private List<Row> search(BitBoard board) {
+        List<Row> rows = new ArrayList<>(BrickType.values().length);
+        for (BrickType type : BrickType.values()) {
+            PositionDatabase.Entry best = player.search(board, type, List.of());
+            if (best != null) rows.add(new Row(ZobristHash.hash(board, type), best));
+        }
+        return rows;
+    }
+
+    private int write(Path file, List<Row> rows) throws IOException {
+        // drop hash collisions, keeping the shallower position
+        List<Row> unique = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            if (unique.isEmpty() || unique.getLast().hash != row.hash) unique.add(row);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(PositionDatabase.HEADER_SIZE + unique.size() * PositionDatabase.ENTRY_SIZE);
+        buffer.putInt(PositionDatabase.MAGIC).putShort(PositionDatabase.VERSION)
+                .put((byte) width).put((byte) height).putInt(unique.size());
+        for (Row row : unique) {
+            Placement placement = row.entry.getPlacement();
+            buffer.putLong(row.hash)
+                    .put((byte) placement.getRotation()).put((byte) placement.getX()).put((byte) placement.getY())
+                    .put((byte) 0)
+                    .putFloat((float) row.entry.getEvaluation());
+        }
+        buffer.flip();
+
+        Path temp = file.toAbsolutePath().resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) channel.write(buffer);
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return unique.size();
+    }
+
+    /**
+     * Builds the database for the standard board from the command line.
+     *
+     * @param args Optional: depth and output file.
+     * @throws IOException If the file cannot be written.
+     */
+    public static void main(String[] args) throws IOException {
+        int depth = args.length > 0 ? Integer.parseInt(args[0]) : 2;
+        Path file = Paths.get(args.length > 1 ? args[1] : GameConfig.POSITION_DB_FILE);
+        long start = System.nanoTime();
+        int count = new PositionDatabaseBuilder(new HeuristicEvaluator(), GameConfig.BOARD_WIDTH,
+                GameConfig.BOARD_HEIGHT, depth).build(file);
+        System.out.printf("wrote %d positions to %s in %.1fs%n", count, file, (System.nanoTime() - start) / 1e9);
+    }
+}
@@ -0,0 +1,104 @@
+package com.comp2042.model.ai;
+
+import com.comp2042.GameConfig;
+import com.comp2042.model.bricks.BrickType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A small benchmark that runs the {@link PerfectClearSolver} on a fixed set of puzzle positions
+ * and reports the time to solve each one, single-threaded and in parallel mode.
+ * Run it with {@code java com.comp2042.model.ai.PuzzleBenchmark [threads]}.
+ */
+public final class PuzzleBenchmark {
+
+    /** Private constructor, this class only provides {@link #main(String[])}. */
+    private PuzzleBenchmark() {}
+
+    /**
+     * A named puzzle: the bottom rows of a board, a brick queue and an optional hold brick.
+     */
+    public static final class Puzzle {
+        private final String name;
+        private final int[][] board;
+        private final List<BrickType> queue;
+        private final BrickType hold;
+
+        /**
+         * Constructs a puzzle.
+         *
+         * @param name       A short description.
+         * @param bottomRows The bottom rows of the board, top first; {@code X} marks a filled cell.
+         * @param queue      The queue as letters (e.g. {@code "IOLJ"}).
+         * @param hold       The hold brick, or {@code null}.
+         */
+        public Puzzle(String name, String[] bottomRows, String queue, BrickType hold) {
+            this.name = name;
+            this.board = new int[GameConfig.BOARD_HEIGHT][GameConfig.BOARD_WIDTH];
+            int firstRow = GameConfig.BOARD_HEIGHT - bottomRows.length;
+            for (int r = 0; r < bottomRows.length; r++) {
+                for (int c = 0; c < GameConfig.BOARD_WIDTH; c++) {
+                    if (bottomRows[r].charAt(c) == 'X') board[firstRow + r][c] = 8;
+                }
+            }
+            this.queue = new ArrayList<>();
+            for (char letter : queue.toCharArray()) {
+                this.queue.add(BrickType.valueOf(String.valueOf(letter)));
+            }
+            this.hold = hold;
+        }
+
+        /** @return The puzzle name. */
+        public String getName() { return name; }
+
+        /** @return The board matrix. */
+        public int[][] getBoard() { return board; }
+
+        /** @return The brick queue. */
+        public List<BrickType> getQueue() { return queue; }
+
+        /** @return The hold brick, or {@code null}. */
+        public BrickType getHold() { return hold; }
+    }
+
+    /**
+     * Gets the standard benchmark positions.
+     *
+     * @return The list of puzzles.
+     */
+    public static List<Puzzle> standardPuzzles() {
+        return List.of(
+                new Puzzle("Tetris well", new String[]{
+                        "XXXXXXXXX_", "XXXXXXXXX_", "XXXXXXXXX_", "XXXXXXXXX_"}, "I", null),
+                new Puzzle("O finish", new String[]{
+                        "XXXX__XXXX", "XXXX__XXXX"}, "O", null),
+                new Puzzle("Hold for I", new String[]{
+                        "XXXXXXXXX_", "XXXXXXXXX_", "XXXXXXXXX_", "XXXXXXXXX_"}, "OI", null),
+                new Puzzle("L+L box", new String[]{
+                        "XXXXXX____", "XXXXXX____"}, "LL", null),
+                new Puzzle("Two-line O PC", new String[0], "OOOOO", null),
+                new Puzzle("Two-line mixed PC", new String[0], "IIOJJ", null),
+                new Puzzle("Four-line I PC", new String[0], "IIIIIIIIII", null),
+                new Puzzle("Four-line mixed PC", new String[0], "IOLJIOLJOI", null),
+                new Puzzle("Four-line PC with T", new String[0], "TILJSOZTIO", BrickType.I)
+        );
+    }
+
+    /**
+     * Runs every standard puzzle and prints the results.
+     *
+     * @param args Optional: the number of threads for parallel mode (defaults to the CPU count).
+     */
+    public static void main(String[] args) {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+        PerfectClearSolver solver = new PerfectClearSolver();
+        System.out.printf("%-22s %8s %12s %12s %12s%n", "puzzle", "solved", "nodes", "1 thread ms", threads + " threads ms");
+        for (Puzzle puzzle : standardPuzzles()) {
+            SolverResult single = solver.solve(puzzle.getBoard(), puzzle.getQueue(), puzzle.getHold());
+            SolverResult parallel = solver.solveParallel(puzzle.getBoard(), puzzle.getQueue(), puzzle.getHold(), threads);
+            System.out.printf("%-22s %8s %12d %12.2f %12.2f%n", puzzle.getName(), single.isSolved(),
+                    single.getNodesSearched(), single.getElapsedMillis(), parallel.getElapsedMillis());
+        }
+    }
+}
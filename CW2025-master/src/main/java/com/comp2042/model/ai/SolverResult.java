@@ -0,0 +1,50 @@
+package com.comp2042.model.ai;
+
+import java.util.List;
+
+/**
+ * An immutable data object holding the outcome of a {@link PerfectClearSolver} search.
+ * It contains the placements that reach the goal (empty if no solution was found)
+ * together with simple statistics about the search.
+ */
+public final class SolverResult {
+
+    /** Whether a placement sequence reaching the goal was found. */
+    private final boolean solved;
+    /** The placements to make, in order. Empty if not solved. */
+    private final List<Placement> placements;
+    /** The number of search nodes that were expanded. */
+    private final long nodesSearched;
+    /** The wall-clock time the search took, in nanoseconds. */
+    private final long elapsedNanos;
+
+    /**
+     * Constructs a new SolverResult.
+     *
+     * @param solved        {@code true} if a solution was found.
+     * @param placements    The solution's placements, in order.
+     * @param nodesSearched The number of search nodes expanded.
+     * @param elapsedNanos  The search time in nanoseconds.
+     */
+    public SolverResult(boolean solved, List<Placement> placements, long nodesSearched, long elapsedNanos) {
+        this.solved = solved;
+        this.placements = List.copyOf(placements);
+        this.nodesSearched = nodesSearched;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /** @return {@code true} if a solution was found. */
+    public boolean isSolved() { return solved; }
+
+    /** @return The solution's placements in order (empty if not solved). */
+    public List<Placement> getPlacements() { return placements; }
+
+    /** @return The number of search nodes expanded. */
+    public long getNodesSearched() { return nodesSearched; }
+
+    /** @return The search time in nanoseconds. */
+    public long getElapsedNanos() { return elapsedNanos; }
+
+    /** @return The search time in milliseconds. */
+    public double getElapsedMillis() { return elapsedNanos / 1_000_000.0; }
+}
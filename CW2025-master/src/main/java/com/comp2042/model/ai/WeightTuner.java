@@ -0,0 +1,301 @@
+package com.comp2042.model.ai;
+
+import com.comp2042.model.Difficulty;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Properties;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Tunes the weights of a {@link HeuristicEvaluator} with a genetic algorithm.
+ * Every generation, each weight vector in the population plays the same set of seeded
+ * {@link HeadlessGame}s on every {@link Difficulty}; the games run in parallel on a thread pool.
+ * Fitness is the average of lines cleared plus a small bonus per brick survived.
+ * The population is checkpointed to disk after every generation (written to a temp file and
+ * atomically renamed), so a long run can be stopped and resumed.
+ * Run it with {@code java com.comp2042.model.ai.WeightTuner [generations] [population] [checkpointFile]}.
+ */
+public class WeightTuner {
+
+    /** Fitness bonus per brick placed, so surviving longer counts even without clearing lines. */
+    private static final double PIECE_BONUS = 0.1;
+    /** The number of best individuals copied unchanged into the next generation. */
+    private static final int ELITE_COUNT = 2;
+    /** The number of individuals compared in each tournament selection. */
+    private static final int TOURNAMENT_SIZE = 3;
+    /** The chance of mutating each weight of a child. */
+    private static final double MUTATION_RATE = 0.3;
+    /** The standard deviation of a weight mutation. */
+    private static final double MUTATION_SIGMA = 0.2;
+
+    private final int populationSize;
+    private final int seedsPerDifficulty;
+    private final int maxPieces;
+    private final int threads;
+    private final long masterSeed;
+    private final Path checkpointFile;
+
+    private List<double[]> population;
+    private int generation;
+    private double[] bestWeights;
+    private double bestFitness = Double.NEGATIVE_INFINITY;
+
+    /**
+     * Constructs a tuner. If the checkpoint file exists, the population and generation
+     * counter are restored from it; otherwise a fresh population is created around the default weights.
+     *
+     * @param populationSize     The number of weight vectors per generation.
+     * @param seedsPerDifficulty The number of seeded games each vector plays per difficulty.
+     * @param maxPieces          The brick limit of each game.
+     * @param threads            The number of worker threads.
+     * @param masterSeed         The seed that fixes game seeds and genetic operators.
+     * @param checkpointFile     Where to save the population, or {@code null} to disable checkpoints.
+     * @throws IOException If an existing checkpoint cannot be read.
+     */
+    public WeightTuner(int populationSize, int seedsPerDifficulty, int maxPieces, int threads,
+                       long masterSeed, Path checkpointFile) throws IOException {
+        this.populationSize = populationSize;
+        this.seedsPerDifficulty = seedsPerDifficulty;
+        this.maxPieces = maxPieces;
+        this.threads = threads;
+        this.masterSeed = masterSeed;
+        this.checkpointFile = checkpointFile;
+
+        if (checkpointFile != null && Files.exists(checkpointFile)) {
+            loadCheckpoint();
+        } else {
+            population = initialPopulation();
+            generation = 0;
+        }
+    }
+
+    private List<double[]> initialPopulation() {
+        Random random = new Random(masterSeed);
+        List<double[]> initial = new ArrayList<>();
+        initial.add(normalize(HeuristicEvaluator.defaultWeights()));
+        while (initial.size() < populationSize) {
+            double[] weights = new double[HeuristicEvaluator.FEATURE_COUNT];
+            for (int i = 0; i < weights.length; i++) {
+                weights[i] = random.nextDouble() * 2 - 1;
+            }
+            initial.add(normalize(weights));
+        }
+        return initial;
+    }
+
+    /**
+     * Runs a number of generations, printing progress and throughput after each one.
+     *
+     * @param generations The number of generations to run.
+     * @return The best weights found so far.
+     * @throws IOException If a checkpoint cannot be written.
+     */
+    public double[] run(int generations) throws IOException {
+        ExecutorService pool = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "weight-tuner");
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            for (int g = 0; g < generations; g++) {
+                runGeneration(pool);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        return bestWeights != null ? bestWeights.clone() : population.getFirst().clone();
+    }
+
+    private void runGeneration(ExecutorService pool) throws IOException {
+        long start = System.nanoTime();
+        // every individual plays the same games this generation, so they are compared fairly
+        Random generationRandom = new Random(masterSeed * 31 + generation);
+        long[] seeds = new long[seedsPerDifficulty];
+        for (int i = 0; i < seeds.length; i++) seeds[i] = generationRandom.nextLong();
+
+        List<List<Future<GameOutcome>>> games = new ArrayList<>();
+        for (double[] weights : population) {
+            List<Future<GameOutcome>> individualGames = new ArrayList<>();
+            AutoPlayer player = new AutoPlayer(new HeuristicEvaluator(weights));
+            for (Difficulty difficulty : Difficulty.values()) {
+                for (long seed : seeds) {
+                    individualGames.add(pool.submit(() -> new HeadlessGame(difficulty, seed, player, maxPieces).play()));
+                }
+            }
+            games.add(individualGames);
+        }
+
+        double[] fitness = new double[population.size()];
+        long totalPieces = 0;
+        int totalGames = 0;
+        for (int i = 0; i < games.size(); i++) {
+            double sum = 0;
+            for (Future<GameOutcome> future : games.get(i)) {
+                GameOutcome outcome = await(future);
+                sum += outcome.getLinesCleared() + PIECE_BONUS * outcome.getPiecesPlaced();
+                totalPieces += outcome.getPiecesPlaced();
+                totalGames++;
+            }
+            fitness[i] = sum / games.get(i).size();
+        }
+
+        Integer[] order = rankByFitness(fitness);
+        if (fitness[order[0]] > bestFitness) {
+            bestFitness = fitness[order[0]];
+            bestWeights = population.get(order[0]).clone();
+        }
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("generation %d: best %.2f, mean %.2f, %d games in %.1fs (%.1f games/s, %.0f pieces/s), weights %s%n",
+                generation, fitness[order[0]], Arrays.stream(fitness).average().orElse(0), totalGames, seconds,
+                totalGames / seconds, totalPieces / seconds, Arrays.toString(population.get(order[0])));
+
+        population = breed(order, fitness, generationRandom);
+        generation++;
+        if (checkpointFile != null) saveCheckpoint();
+    }
+
+    private static GameOutcome await(Future<GameOutcome> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a game", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Headless game failed", e.getCause());
+        }
+    }
+
+    private Integer[] rankByFitness(double[] fitness) {
+        Integer[] order = new Integer[fitness.length];
+        for (int i = 0; i < order.length; i++) order[i] = i;
+        Arrays.sort(order, Comparator.comparingDouble((Integer i) -> fitness[i]).reversed());
+        return order;
+    }
+
+    private List<double[]> breed(Integer[] order, double[] fitness, Random random) {
+        List<double[]> next = new ArrayList<>();
+        for (int i = 0; i < Math.min(ELITE_COUNT, order.length); i++) {
+            next.add(population.get(order[i]).clone());
+        }
+        while (next.size() < populationSize) {
+            int a = tournament(fitness, random);
+            int b = tournament(fitness, random);
+            // blend crossover, biased towards the fitter parent
+            double fa = Math.max(fitness[a], 1e-9);
+            double fb = Math.max(fitness[b], 1e-9);
+            double[] child = new double[HeuristicEvaluator.FEATURE_COUNT];
+            for (int k = 0; k < child.length; k++) {
+                child[k] = (population.get(a)[k] * fa + population.get(b)[k] * fb) / (fa + fb);
+                if (random.nextDouble() < MUTATION_RATE) child[k] += random.nextGaussian() * MUTATION_SIGMA;
+            }
+            next.add(normalize(child));
+        }
+        return next;
+    }
+
+    private int tournament(double[] fitness, Random random) {
+        int best = random.nextInt(fitness.length);
+        for (int i = 1; i < TOURNAMENT_SIZE; i++) {
+            int candidate = random.nextInt(fitness.length);
+            if (fitness[candidate] > fitness[best]) best = candidate;
+        }
+        return best;
+    }
+
+    /** Scales a weight vector to unit length; only the direction matters to a linear evaluator. */
+    private static double[] normalize(double[] weights) {
+        double length = 0;
+        for (double w : weights) length += w * w;
+        length = Math.sqrt(length);
+        if (length == 0) return weights;
+        for (int i = 0; i < weights.length; i++) weights[i] /= length;
+        return weights;
+    }
+
+    private void saveCheckpoint() throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty("generation", String.valueOf(generation));
+        properties.setProperty("bestFitness", String.valueOf(bestFitness));
+        if (bestWeights != null) properties.setProperty("best", join(bestWeights));
+        for (int i = 0; i < population.size(); i++) {
+            properties.setProperty("individual." + i, join(population.get(i)));
+        }
+
+        Path temp = checkpointFile.resolveSibling(checkpointFile.getFileName() + ".tmp");
+        try (Writer writer = Files.newBufferedWriter(temp)) {
+            properties.store(writer, "WeightTuner checkpoint");
+        }
+        Files.move(temp, checkpointFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void loadCheckpoint() throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(checkpointFile)) {
+            properties.load(reader);
+        }
+        generation = Integer.parseInt(properties.getProperty("generation", "0"));
+        bestFitness = Double.parseDouble(properties.getProperty("bestFitness", String.valueOf(Double.NEGATIVE_INFINITY)));
+        String best = properties.getProperty("best");
+        bestWeights = best != null ? parse(best) : null;
+        population = new ArrayList<>();
+        for (int i = 0; properties.containsKey("individual." + i); i++) {
+            population.add(parse(properties.getProperty("individual." + i)));
+        }
+        if (population.isEmpty()) population = initialPopulation();
+    }
+
+    private static String join(double[] weights) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < weights.length; i++) {
+            if (i > 0) sb.append(',');
+            sb.append(weights[i]);
+        }
+        return sb.toString();
+    }
+
+    private static double[] parse(String text) {
+        return Arrays.stream(text.split(",")).mapToDouble(Double::parseDouble).toArray();
+    }
+
+    /** @return The index of the next generation to run (restored from a checkpoint when resuming). */
+    public int getGeneration() { return generation; }
+
+    /** @return A copy of the current population. */
+    public List<double[]> getPopulation() {
+        List<double[]> copy = new ArrayList<>();
+        for (double[] weights : population) copy.add(weights.clone());
+        return copy;
+    }
+
+    /**
+     * Runs the tuner from the command line.
+     *
+     * @param args Optional: generations, population size and checkpoint file.
+     * @throws IOException If the checkpoint cannot be read or written.
+     */
+    public static void main(String[] args) throws IOException {
+        int generations = args.length > 0 ? Integer.parseInt(args[0]) : 20;
+        int population = args.length > 1 ? Integer.parseInt(args[1]) : 16;
+        Path checkpoint = Paths.get(args.length > 2 ? args[2] : "tuner_checkpoint.properties");
+        WeightTuner tuner = new WeightTuner(population, 4, 500,
+                Runtime.getRuntime().availableProcessors(), 2042L, checkpoint);
+        System.out.println("starting at generation " + tuner.getGeneration());
+        double[] best = tuner.run(generations);
+        System.out.println("best weights: " + Arrays.toString(best));
+    }
+}
@@ -0,0 +1,76 @@
+package com.comp2042.model.ai;
+
+import com.comp2042.model.bricks.BrickType;
+
+/**
+ * A utility class that computes Zobrist-style 64-bit hashes of search positions.
+ * Every filled cell and every brick type has a fixed pseudo-random key, and a position's hash is
+ * the XOR of the keys it contains; so filling or clearing one cell changes the hash by one XOR.
+ * The keys are derived from the cell coordinates with a fixed mixing function instead of a random
+ * table, so hashes are the same on every run and for boards of any size, which lets them be stored
+ * in a {@link PositionDatabase}. It cannot be instantiated.
+ */
+public final class ZobristHash {
+
+    /** Private constructor to prevent instantiation of this utility class. */
+    private ZobristHash() {}
+
+    /**
+     * Hashes a board together with the brick that is about to be placed on it.
+     *
+     * @param board The background board.
+     * @param type  The brick to place.
+     * @return The position hash.
+     */
+    public static long hash(BitBoard board, BrickType type) {
+        return hash(board) ^ typeKey(type);
+    }
+
+    /**
+     * Hashes the filled cells of a board. Only filled cells are visited, so early-game boards
+     * hash in a few operations.
+     *
+     * @param board The board.
+     * @return The board hash.
+     */
+    public static long hash(BitBoard board) {
+        long hash = 0;
+        for (int y = 0; y < board.getHeight(); y++) {
+            int row = board.getRow(y);
+            while (row != 0) {
+                int x = Integer.numberOfTrailingZeros(row);
+                hash ^= cellKey(x, y);
+                row &= row - 1;
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Gets the key of one cell; XOR it into a hash to fill or clear that cell.
+     *
+     * @param x The column.
+     * @param y The row.
+     * @return The cell key.
+     */
+    public static long cellKey(int x, int y) {
+        return mix(((long) y << 32 | x) + 1);
+    }
+
+    /**
+     * Gets the key of a brick type.
+     *
+     * @param type The brick type.
+     * @return The type key.
+     */
+    public static long typeKey(BrickType type) {
+        return mix(-type.getColorId());
+    }
+
+    /** The SplitMix64 finaliser: spreads every input bit over the whole result. */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,88 @@
+package com.comp2042.model.bricks;
+
+/**
+ * Enumerates the seven Tetromino types and links each one to its {@link Brick}
+ * implementation and the colour id stored in the board matrix.
+ * This gives code outside this package (e.g. the solver) a way to name and create
+ * specific bricks, since the concrete brick classes are package-private.
+ */
+public enum BrickType {
+    /** The "I" brick (colour id 1). */
+    I(1),
+    /** The "J" brick (colour id 2). */
+    J(2),
+    /** The "L" brick (colour id 3). */
+    L(3),
+    /** The "O" brick (colour id 4). */
+    O(4),
+    /** The "S" brick (colour id 5). */
+    S(5),
+    /** The "T" brick (colour id 6). */
+    T(6),
+    /** The "Z" brick (colour id 7). */
+    Z(7);
+
+    /** The value this brick writes into the board matrix. */
+    private final int colorId;
+
+    BrickType(int colorId) {
+        this.colorId = colorId;
+    }
+
+    /**
+     * Gets the value this brick writes into the board matrix when merged.
+     *
+     * @return The colour id (1 to 7).
+     */
+    public int getColorId() {
+        return colorId;
+    }
+
+    /**
+     * Creates a new {@link Brick} instance of this type.
+     *
+     * @return A new brick with all of its rotational states.
+     */
+    public Brick createBrick() {
+        return switch (this) {
+            case I -> new IBrick();
+            case J -> new JBrick();
+            case L -> new LBrick();
+            case O -> new OBrick();
+            case S -> new SBrick();
+            case T -> new TBrick();
+            case Z -> new ZBrick();
+        };
+    }
+
+    /**
+     * Finds the type of an existing {@link Brick} instance.
+     *
+     * @param brick The brick to identify.
+     * @return The matching {@code BrickType}, or {@code null} if {@code brick} is {@code null}.
+     */
+    public static BrickType of(Brick brick) {
+        if (brick == null) return null;
+        if (brick instanceof IBrick) return I;
+        if (brick instanceof JBrick) return J;
+        if (brick instanceof LBrick) return L;
+        if (brick instanceof OBrick) return O;
+        if (brick instanceof SBrick) return S;
+        if (brick instanceof TBrick) return T;
+        return Z;
+    }
+
+    /**
+     * Finds the brick type that uses the given colour id.
+     *
+     * @param colorId The colour id (1 to 7).
+     * @return The matching {@code BrickType}.
+     * @throws IllegalArgumentException If no brick uses that colour id.
+     */
+    public static BrickType fromColorId(int colorId) {
+        for (BrickType type : values()) {
+            if (type.colorId == colorId) return type;
+        }
+        throw new IllegalArgumentException("No brick with color id " + colorId);
+    }
+}
@@ -1,8 +1,6 @@
 package com.comp2042.model.bricks;
 
 import java.util.*;
-import java.util.concurrent.ThreadLocalRandom;
-import java.util.stream.Collectors;
 
 /**
  * Implements the {@link BrickGenerator} interface using a queue-based system.
@@ -18,6 +16,9 @@ public class RandomBrickGenerator implements BrickGenerator {
     /** Holds the queue of upcoming bricks for the game. */
     private Queue<Brick> upcomingBricks;
 
+    /** The source of randomness for picking new bricks. */
+    private final Random random;
+
     /** Defines the number of bricks to keep in the preview queue. */
     // Queue size
     private static final int UPCOMING_QUEUE_SIZE = 4;
@@ -28,6 +29,18 @@ public class RandomBrickGenerator implements BrickGenerator {
      * with the initial set of bricks based on {@code UPCOMING_QUEUE_SIZE}.
      */
     public RandomBrickGenerator() {
+        this(new Random());
+    }
+
+    /**
+     * Constructs a new RandomBrickGenerator that draws bricks from the given {@link Random}.
+     * Two generators created with equally seeded {@code Random}s produce the same brick sequence,
+     * which is used for replayable (seeded) games.
+     *
+     * @param random The source of randomness.
+     */
+    public RandomBrickGenerator(Random random) {
+        this.random = random;
         // initialize the queue and fill with 4 bricks
         upcomingBricks = new LinkedList<>();
         for (int i = 0; i < UPCOMING_QUEUE_SIZE; i++) {
@@ -79,13 +92,38 @@ public class RandomBrickGenerator implements BrickGenerator {
         return shapesList;
     }
 
+    /**
+     * Gets the types of the bricks in the preview queue, e.g. to save a game.
+     *
+     * @return The upcoming brick types, next first.
+     */
+    public List<BrickType> getUpcomingTypes() {
+        List<BrickType> types = new ArrayList<>();
+        for (Brick brick : upcomingBricks) {
+            types.add(BrickType.of(brick));
+        }
+        return types;
+    }
+
+    /**
+     * Replaces the preview queue, e.g. when a saved game is restored.
+     *
+     * @param types The upcoming brick types, next first.
+     */
+    public void setUpcomingTypes(List<BrickType> types) {
+        upcomingBricks.clear();
+        for (BrickType type : types) {
+            upcomingBricks.add(type.createBrick());
+        }
+    }
+
     /**
      * Creates a new {@link Brick} instance of a random type (I, J, L, O, S, T, Z).
      *
      * @return A new, randomly selected {@link Brick}.
      */
     private Brick newBrick() {
-        int randomBrick = (int) (Math.random() * 7);    // 0 ~ 6
+        int randomBrick = random.nextInt(7);    // 0 ~ 6
 
         return switch (randomBrick) {
             case 0 -> new IBrick();
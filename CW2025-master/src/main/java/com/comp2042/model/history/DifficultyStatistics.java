@@ -0,0 +1,79 @@
+package com.comp2042.model.history;
+
+import com.comp2042.metrics.LogHistogram;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Running statistics of the games played on one difficulty: score and line distributions
+ * and lines per minute. Values are kept in {@link LogHistogram}s, so the memory use does not
+ * grow with the number of games, and two instances can be merged (e.g. from parallel
+ * simulation workers). Updates and reads are lock-free.
+ */
+public final class DifficultyStatistics {
+
+    private final LogHistogram scores = new LogHistogram();
+    private final LogHistogram lines = new LogHistogram();
+    private final LongAdder totalLines = new LongAdder();
+    private final LongAdder totalDurationMillis = new LongAdder();
+
+    /**
+     * Constructs empty statistics.
+     */
+    public DifficultyStatistics() {}
+
+    /**
+     * Adds one finished game.
+     *
+     * @param record The game.
+     */
+    public void record(GameRecord record) {
+        scores.record(Math.max(0, record.getScore()));
+        lines.record(Math.max(0, record.getLines()));
+        totalLines.add(Math.max(0, record.getLines()));
+        totalDurationMillis.add(Math.max(0, record.getDurationMillis()));
+    }
+
+    /**
+     * Adds every game counted by another instance.
+     *
+     * @param other The statistics to merge in; they are not changed.
+     */
+    public void merge(DifficultyStatistics other) {
+        scores.merge(other.scores);
+        lines.merge(other.lines);
+        totalLines.add(other.totalLines.sum());
+        totalDurationMillis.add(other.totalDurationMillis.sum());
+    }
+
+    /** @return The number of games. */
+    public long getGames() { return scores.getCount(); }
+
+    /** @return The mean score. */
+    public double getMeanScore() { return scores.getMean(); }
+
+    /**
+     * Estimates a score percentile.
+     *
+     * @param percentile The percentile, from 0 to 100.
+     * @return The estimated score.
+     */
+    public long getScorePercentile(double percentile) { return scores.getPercentile(percentile); }
+
+    /** @return The mean number of lines per game. */
+    public double getMeanLines() { return lines.getMean(); }
+
+    /**
+     * Estimates a lines-per-game percentile.
+     *
+     * @param percentile The percentile, from 0 to 100.
+     * @return The estimated number of lines.
+     */
+    public long getLinesPercentile(double percentile) { return lines.getPercentile(percentile); }
+
+    /** @return The lines cleared per minute of play over all games, or 0 if no time was played. */
+    public double getLinesPerMinute() {
+        long millis = totalDurationMillis.sum();
+        return millis == 0 ? 0 : totalLines.sum() / (millis / 60_000.0);
+    }
+}
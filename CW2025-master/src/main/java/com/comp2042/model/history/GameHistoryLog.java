@@ -0,0 +1,364 @@
+package com.comp2042.model.history;
+
+import com.comp2042.GameConfig;
+import com.comp2042.model.Difficulty;
+import com.comp2042.model.WriteBehindExecutor;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * An append-only, binary log of finished games, split into segment files.
+ * <p>
+ * Records are appended to the newest segment ({@code segment-NNNNNN.log}) and never rewritten.
+ * When a segment holds {@code recordsPerSegment} records it is sealed: a small
+ * {@link SegmentIndex} ({@code segment-NNNNNN.idx}) with its time range, per-difficulty counts
+ * and best scores, and sampled timestamps is written next to it, and a new segment is started.
+ * Queries consult these indexes first and only read the segments that can contain matching games.
+ * A record cut short by a crash is dropped when the log is opened again.
+ */
+public class GameHistoryLog implements Closeable {
+
+    /** The default number of records per segment (about 2.7 MB). */
+    public static final int DEFAULT_RECORDS_PER_SEGMENT = 65536;
+
+    /** Identifies a segment file ("GHL1"). */
+    private static final int SEGMENT_MAGIC = 0x47484C31;
+    /** Segment header: magic and record size. */
+    private static final int HEADER_BYTES = 2 * Integer.BYTES;
+    private static final Pattern SEGMENT_NAME = Pattern.compile("segment-(\\d+)\\.log");
+
+    private static GameHistoryLog defaultLog;
+
+    /** One segment file and its index. */
+    private static final class Segment {
+        private final int number;
+        private final Path file;
+        private final SegmentIndex index;
+
+        private Segment(int number, Path file, SegmentIndex index) {
+            this.number = number;
+            this.file = file;
+            this.index = index;
+        }
+    }
+
+    private final Path directory;
+    private final int recordsPerSegment;
+    private final List<Segment> segments = new ArrayList<>();
+    /** The channel of the segment being appended to, or {@code null} if the last one is sealed. */
+    private FileChannel activeChannel;
+    /** The number of segment files the last query had to read. */
+    private int segmentsScanned;
+
+    /**
+     * Opens (or creates) a history log with the default segment size.
+     *
+     * @param directory The directory holding the segment files.
+     * @throws IOException If the directory or its segments cannot be read.
+     */
+    public GameHistoryLog(Path directory) throws IOException {
+        this(directory, DEFAULT_RECORDS_PER_SEGMENT);
+    }
+
+    /**
+     * Opens (or creates) a history log.
+     *
+     * @param directory         The directory holding the segment files.
+     * @param recordsPerSegment The number of records after which a segment is sealed.
+     * @throws IOException If the directory or its segments cannot be read.
+     */
+    public GameHistoryLog(Path directory, int recordsPerSegment) throws IOException {
+        if (recordsPerSegment <= 0) throw new IllegalArgumentException("recordsPerSegment must be positive");
+        this.directory = directory;
+        this.recordsPerSegment = recordsPerSegment;
+        Files.createDirectories(directory);
+        openSegments();
+    }
+
+    /**
+     * Gets the log in {@link GameConfig#HISTORY_DIR}, opening it on first use.
+     *
+     * @return The shared log, or {@code null} if it cannot be opened.
+     */
+    public static synchronized GameHistoryLog getDefault() {
+        if (defaultLog == null) {
+            try {
+                defaultLog = new GameHistoryLog(Paths.get(GameConfig.HISTORY_DIR));
+            } catch (IOException e) {
+                System.err.println("Failed to open game history: " + e.getMessage());
+            }
+        }
+        return defaultLog;
+    }
+
+    private void openSegments() throws IOException {
+        List<Segment> found = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Matcher m = SEGMENT_NAME.matcher(file.getFileName().toString());
+                if (m.matches()) found.add(new Segment(Integer.parseInt(m.group(1)), file, null));
+            }
+        }
+        found.sort((a, b) -> Integer.compare(a.number, b.number));
+
+        for (int i = 0; i < found.size(); i++) {
+            Segment segment = found.get(i);
+            Path indexFile = indexFile(segment.file);
+            boolean last = i == found.size() - 1;
+            if (Files.exists(indexFile)) {
+                segments.add(new Segment(segment.number, segment.file, SegmentIndex.read(indexFile)));
+                continue;
+            }
+            // no index yet: the segment was active (or the process died while sealing it)
+            Segment rebuilt = new Segment(segment.number, segment.file, rebuildIndex(segment.file));
+            segments.add(rebuilt);
+            if (!last || rebuilt.index.getCount() >= recordsPerSegment) {
+                rebuilt.index.write(indexFile);
+            } else {
+                activeChannel = FileChannel.open(segment.file, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            }
+        }
+    }
+
+    /** Scans a segment to rebuild its index, cutting off a partly written last record. */
+    private static SegmentIndex rebuildIndex(Path file) throws IOException {
+        SegmentIndex index = new SegmentIndex();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES) {
+                channel.truncate(0);
+                channel.write(header());
+                return index;
+            }
+            // read into the heap rather than mapping it: a file with a live mapping cannot be
+            // truncated on some systems, which would make a torn record unrecoverable
+            ByteBuffer data = ByteBuffer.allocate((int) size);
+            while (data.hasRemaining()) {
+                if (channel.read(data, data.position()) < 0) throw new IOException("Segment ended early: " + file);
+            }
+            if (data.getInt(0) != SEGMENT_MAGIC || data.getInt(4) != GameRecord.BYTES) {
+                throw new IOException("Not a history segment: " + file);
+            }
+            int count = (int) ((size - HEADER_BYTES) / GameRecord.BYTES);
+            for (int i = 0; i < count; i++) {
+                index.add(GameRecord.readFrom(data, offset(i)));
+            }
+            if (size != offset(count)) channel.truncate(offset(count));
+        }
+        return index;
+    }
+
+    private static ByteBuffer header() {
+        return ByteBuffer.allocate(HEADER_BYTES).putInt(SEGMENT_MAGIC).putInt(GameRecord.BYTES).flip();
+    }
+
+    private static int offset(int record) {
+        return HEADER_BYTES + record * GameRecord.BYTES;
+    }
+
+    private static Path indexFile(Path segmentFile) {
+        String name = segmentFile.getFileName().toString();
+        return segmentFile.resolveSibling(name.substring(0, name.length() - ".log".length()) + ".idx");
+    }
+
+    // ==================== APPENDING ====================
+
+    /**
+     * Appends one finished game.
+     *
+     * @param record The game to append.
+     * @throws IOException If the segment cannot be written.
+     */
+    public synchronized void append(GameRecord record) throws IOException {
+        appendAll(List.of(record));
+    }
+
+    /**
+     * Appends many games, writing each segment's share in a single call.
+     * Intended for batch simulations that produce records in bulk.
+     *
+     * @param records The games to append, oldest first.
+     * @throws IOException If a segment cannot be written.
+     */
+    public synchronized void appendAll(Collection<GameRecord> records) throws IOException {
+        List<GameRecord> remaining = new ArrayList<>(records);
+        int next = 0;
+        while (next < remaining.size()) {
+            Segment active = ensureActiveSegment();
+            int room = recordsPerSegment - active.index.getCount();
+            int batch = Math.min(room, remaining.size() - next);
+            ByteBuffer buffer = ByteBuffer.allocate(batch * GameRecord.BYTES);
+            for (int i = next; i < next + batch; i++) {
+                remaining.get(i).writeTo(buffer);
+            }
+            buffer.flip();
+            while (buffer.hasRemaining()) activeChannel.write(buffer);
+            for (int i = next; i < next + batch; i++) {
+                active.index.add(remaining.get(i));
+            }
+            next += batch;
+            if (active.index.getCount() >= recordsPerSegment) seal(active);
+        }
+    }
+
+    /**
+     * Queues a game to be appended by the {@link WriteBehindExecutor}, so the caller never waits
+     * on disk. Appends are never coalesced. Errors are reported on {@code System.err}.
+     *
+     * @param record The game to append.
+     */
+    public void appendLater(GameRecord record) {
+        WriteBehindExecutor.getShared().execute(() -> append(record));
+    }
+
+    /**
+     * Blocks until every game queued with {@link #appendLater} has been appended.
+     */
+    public static void flush() {
+        WriteBehindExecutor.getShared().flush();
+    }
+
+    private Segment ensureActiveSegment() throws IOException {
+        if (activeChannel != null) return segments.getLast();
+        int number = segments.isEmpty() ? 1 : segments.getLast().number + 1;
+        Path file = directory.resolve(String.format("segment-%06d.log", number));
+        activeChannel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        activeChannel.write(header());
+        Segment segment = new Segment(number, file, new SegmentIndex());
+        segments.add(segment);
+        return segment;
+    }
+
+    private void seal(Segment segment) throws IOException {
+        activeChannel.force(false);
+        activeChannel.close();
+        activeChannel = null;
+        segment.index.write(indexFile(segment.file));
+    }
+
+    // ==================== QUERIES ====================
+
+    /**
+     * Gets the most recent games, newest first.
+     * Segments without a game of the difficulty are skipped without being read.
+     *
+     * @param difficulty The difficulty, or {@code null} for all games.
+     * @param limit      The maximum number of games to return.
+     * @return Up to {@code limit} games, newest first.
+     * @throws IOException If a segment cannot be read.
+     */
+    public synchronized List<GameRecord> lastGames(Difficulty difficulty, int limit) throws IOException {
+        segmentsScanned = 0;
+        List<GameRecord> result = new ArrayList<>();
+        for (int s = segments.size() - 1; s >= 0 && result.size() < limit; s--) {
+            Segment segment = segments.get(s);
+            if (segment.index.getCount(difficulty) == 0) continue;
+            ByteBuffer data = map(segment);
+            for (int i = segment.index.getCount() - 1; i >= 0 && result.size() < limit; i--) {
+                GameRecord record = GameRecord.readFrom(data, offset(i));
+                if (difficulty == null || record.getDifficulty() == difficulty) result.add(record);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Finds the highest-scoring game in a time range, e.g. the best game of the week.
+     * Segments outside the range, without the difficulty, or whose best score cannot beat the
+     * best game found so far are skipped without being read.
+     *
+     * @param difficulty The difficulty, or {@code null} for all games.
+     * @param from       The first timestamp of the range (inclusive, epoch milliseconds).
+     * @param to         The last timestamp of the range (inclusive, epoch milliseconds).
+     * @return The best game, or empty if no game matches.
+     * @throws IOException If a segment cannot be read.
+     */
+    public synchronized Optional<GameRecord> best(Difficulty difficulty, long from, long to) throws IOException {
+        segmentsScanned = 0;
+        GameRecord best = null;
+        for (int s = segments.size() - 1; s >= 0; s--) {
+            Segment segment = segments.get(s);
+            if (!segment.index.overlaps(difficulty, from, to)) continue;
+            if (best != null && segment.index.getBestScore(difficulty) <= best.getScore()) continue;
+            ByteBuffer data = map(segment);
+            for (int i = segment.index.firstRecordAtOrAfter(from); i < segment.index.getCount(); i++) {
+                GameRecord record = GameRecord.readFrom(data, offset(i));
+                if (record.getTimestamp() < from || record.getTimestamp() > to) continue;
+                if (difficulty != null && record.getDifficulty() != difficulty) continue;
+                if (best == null || record.getScore() > best.getScore()) best = record;
+            }
+        }
+        return Optional.ofNullable(best);
+    }
+
+    /**
+     * Visits every game in the log, oldest first.
+     *
+     * @param action The action to run for each game.
+     * @throws IOException If a segment cannot be read.
+     */
+    public synchronized void forEach(Consumer<GameRecord> action) throws IOException {
+        segmentsScanned = 0;
+        for (Segment segment : segments) {
+            ByteBuffer data = map(segment);
+            for (int i = 0; i < segment.index.getCount(); i++) {
+                action.accept(GameRecord.readFrom(data, offset(i)));
+            }
+        }
+    }
+
+    /**
+     * Counts the games of a difficulty using only the segment indexes.
+     *
+     * @param difficulty The difficulty, or {@code null} for all games.
+     * @return The number of games in the log.
+     */
+    public synchronized long count(Difficulty difficulty) {
+        long total = 0;
+        for (Segment segment : segments) total += segment.index.getCount(difficulty);
+        return total;
+    }
+
+    /** @return The number of segment files in the log. */
+    public synchronized int getSegmentCount() { return segments.size(); }
+
+    /** @return The number of segment files the last query had to read. */
+    public synchronized int getSegmentsScanned() { return segmentsScanned; }
+
+    private MappedByteBuffer map(Segment segment) throws IOException {
+        segmentsScanned++;
+        try (FileChannel channel = FileChannel.open(segment.file, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, offset(segment.index.getCount()));
+        }
+    }
+
+    /**
+     * Closes the active segment. It stays unsealed and is reopened for appending next time.
+     *
+     * @throws IOException If the segment cannot be closed.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (activeChannel != null) {
+            activeChannel.force(false);
+            activeChannel.close();
+            activeChannel = null;
+        }
+    }
+}
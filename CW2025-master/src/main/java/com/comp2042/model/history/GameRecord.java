@@ -0,0 +1,122 @@
+package com.comp2042.model.history;
+
+import com.comp2042.model.Difficulty;
+
+import java.nio.ByteBuffer;
+
+/**
+ * An immutable data object for one finished game in the {@link GameHistoryLog}.
+ * Records have a fixed binary size of {@link #BYTES}, so the n-th record of a segment
+ * can be found without reading the ones before it.
+ */
+public final class GameRecord {
+
+    /** The size of one encoded record in bytes. */
+    public static final int BYTES = Long.BYTES + 1 + Long.BYTES + 4 * Integer.BYTES + Long.BYTES;
+
+    /** When the game ended, in epoch milliseconds. */
+    private final long timestamp;
+    /** The difficulty the game was played on. */
+    private final Difficulty difficulty;
+    /** The seed of the game. */
+    private final long seed;
+    /** The final score. */
+    private final int score;
+    /** The number of lines cleared. */
+    private final int lines;
+    /** The number of bricks that locked. */
+    private final int piecesPlaced;
+    /** How long the game was played, in milliseconds (pauses excluded). */
+    private final long durationMillis;
+    /** The speed level reached (1 = starting speed). */
+    private final int level;
+
+    /**
+     * Constructs a new GameRecord.
+     *
+     * @param timestamp      When the game ended, in epoch milliseconds.
+     * @param difficulty     The difficulty the game was played on.
+     * @param seed           The seed of the game.
+     * @param score          The final score.
+     * @param lines          The number of lines cleared.
+     * @param piecesPlaced   The number of bricks that locked.
+     * @param durationMillis How long the game was played, in milliseconds.
+     * @param level          The speed level reached.
+     */
+    public GameRecord(long timestamp, Difficulty difficulty, long seed, int score, int lines,
+                      int piecesPlaced, long durationMillis, int level) {
+        this.timestamp = timestamp;
+        this.difficulty = difficulty;
+        this.seed = seed;
+        this.score = score;
+        this.lines = lines;
+        this.piecesPlaced = piecesPlaced;
+        this.durationMillis = durationMillis;
+        this.level = level;
+    }
+
+    /**
+     * Writes this record at the buffer's position.
+     *
+     * @param buffer The buffer to write to; its position advances by {@link #BYTES}.
+     */
+    void writeTo(ByteBuffer buffer) {
+        buffer.putLong(timestamp);
+        buffer.put((byte) difficulty.ordinal());
+        buffer.putLong(seed);
+        buffer.putInt(score);
+        buffer.putInt(lines);
+        buffer.putInt(piecesPlaced);
+        buffer.putLong(durationMillis);
+        buffer.putInt(level);
+    }
+
+    /**
+     * Reads a record at an absolute offset without moving the buffer's position.
+     *
+     * @param buffer The buffer to read from.
+     * @param offset The offset of the record.
+     * @return The decoded record.
+     */
+    static GameRecord readFrom(ByteBuffer buffer, int offset) {
+        return new GameRecord(
+                buffer.getLong(offset),
+                Difficulty.values()[buffer.get(offset + 8)],
+                buffer.getLong(offset + 9),
+                buffer.getInt(offset + 17),
+                buffer.getInt(offset + 21),
+                buffer.getInt(offset + 25),
+                buffer.getLong(offset + 29),
+                buffer.getInt(offset + 37));
+    }
+
+    /** @return When the game ended, in epoch milliseconds. */
+    public long getTimestamp() { return timestamp; }
+
+    /** @return The difficulty the game was played on. */
+    public Difficulty getDifficulty() { return difficulty; }
+
+    /** @return The seed of the game. */
+    public long getSeed() { return seed; }
+
+    /** @return The final score. */
+    public int getScore() { return score; }
+
+    /** @return The number of lines cleared. */
+    public int getLines() { return lines; }
+
+    /** @return The number of bricks that locked. */
+    public int getPiecesPlaced() { return piecesPlaced; }
+
+    /** @return How long the game was played, in milliseconds. */
+    public long getDurationMillis() { return durationMillis; }
+
+    /** @return The speed level reached. */
+    public int getLevel() { return level; }
+
+    @Override
+    public String toString() {
+        return difficulty + " score=" + score + " lines=" + lines + " pieces=" + piecesPlaced
+                + " level=" + level + " seed=" + seed + " @" + timestamp;
+    }
+}
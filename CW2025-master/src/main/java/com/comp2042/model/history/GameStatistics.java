@@ -0,0 +1,110 @@
+package com.comp2042.model.history;
+
+import com.comp2042.model.Difficulty;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Live statistics of finished games for every {@link Difficulty}.
+ * The shared instance is filled once from the {@link GameHistoryLog} on a background thread
+ * and then kept up to date as games finish, so screens such as the main menu can read it at
+ * any time without touching the disk.
+ */
+public final class GameStatistics {
+
+    private static GameStatistics defaultStatistics;
+
+    private final Map<Difficulty, DifficultyStatistics> byDifficulty = new EnumMap<>(Difficulty.class);
+    private volatile Runnable listener;
+
+    /**
+     * Constructs empty statistics.
+     */
+    public GameStatistics() {
+        for (Difficulty difficulty : Difficulty.values()) {
+            byDifficulty.put(difficulty, new DifficultyStatistics());
+        }
+    }
+
+    /**
+     * Gets the shared statistics. On first use, the games already in the default history log
+     * are loaded on a background thread; the listener is notified when that is done.
+     *
+     * @return The shared statistics.
+     */
+    public static synchronized GameStatistics getDefault() {
+        if (defaultStatistics == null) {
+            GameStatistics statistics = new GameStatistics();
+            long loadedBefore = System.currentTimeMillis();
+            Thread loader = new Thread(() -> statistics.loadHistory(loadedBefore), "statistics-loader");
+            loader.setDaemon(true);
+            loader.start();
+            defaultStatistics = statistics;
+        }
+        return defaultStatistics;
+    }
+
+    /**
+     * Adds the history games that ended before a point in time; later ones are recorded live.
+     */
+    private void loadHistory(long before) {
+        GameHistoryLog history = GameHistoryLog.getDefault();
+        if (history == null) return;
+        try {
+            history.forEach(record -> {
+                if (record.getTimestamp() < before) byDifficulty.get(record.getDifficulty()).record(record);
+            });
+        } catch (IOException e) {
+            System.err.println("Failed to load game statistics: " + e.getMessage());
+        }
+        notifyListener();
+    }
+
+    /**
+     * Adds one finished game.
+     *
+     * @param record The game.
+     */
+    public void record(GameRecord record) {
+        byDifficulty.get(record.getDifficulty()).record(record);
+        notifyListener();
+    }
+
+    /**
+     * Adds every game counted by another instance, e.g. one filled by a simulation worker.
+     *
+     * @param other The statistics to merge in; they are not changed.
+     */
+    public void merge(GameStatistics other) {
+        for (Difficulty difficulty : Difficulty.values()) {
+            byDifficulty.get(difficulty).merge(other.byDifficulty.get(difficulty));
+        }
+        notifyListener();
+    }
+
+    /**
+     * Gets the statistics of one difficulty.
+     *
+     * @param difficulty The difficulty.
+     * @return Its live statistics.
+     */
+    public DifficultyStatistics get(Difficulty difficulty) {
+        return byDifficulty.get(difficulty);
+    }
+
+    /**
+     * Sets the callback run (on the updating thread) whenever the statistics change.
+     *
+     * @param listener The callback, or {@code null} to remove it.
+     */
+    public void setListener(Runnable listener) {
+        this.listener = listener;
+    }
+
+    private void notifyListener() {
+        Runnable current = this.listener;
+        if (current != null) current.run();
+    }
+}
@@ -0,0 +1,175 @@
+package com.comp2042.model.history;
+
+import com.comp2042.model.Difficulty;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+
+/**
+ * The sparse index of one history segment: record count, time range, per-difficulty counts,
+ * time ranges and best scores, and the timestamp of every {@link #SAMPLE_INTERVAL}-th record.
+ * Queries check it to skip whole segments, and use the samples to start reading near a given time.
+ */
+final class SegmentIndex {
+
+    /** Every this many records, the record's timestamp is sampled. */
+    static final int SAMPLE_INTERVAL = 256;
+
+    /** Identifies an index file ("GHI1"). */
+    private static final int MAGIC = 0x47484931;
+
+    private static final int DIFFICULTIES = Difficulty.values().length;
+
+    private int count;
+    private long minTimestamp = Long.MAX_VALUE;
+    private long maxTimestamp = Long.MIN_VALUE;
+    /** Whether timestamps never decrease inside the segment, so the samples can be searched. */
+    private boolean sorted = true;
+    private final int[] countByDifficulty = new int[DIFFICULTIES];
+    private final int[] bestScoreByDifficulty = new int[DIFFICULTIES];
+    private final long[] minTimestampByDifficulty = new long[DIFFICULTIES];
+    private final long[] maxTimestampByDifficulty = new long[DIFFICULTIES];
+    private long[] samples = new long[16];
+    private int sampleCount;
+
+    SegmentIndex() {
+        Arrays.fill(bestScoreByDifficulty, Integer.MIN_VALUE);
+        Arrays.fill(minTimestampByDifficulty, Long.MAX_VALUE);
+        Arrays.fill(maxTimestampByDifficulty, Long.MIN_VALUE);
+    }
+
+    /**
+     * Adds the next record of the segment.
+     */
+    void add(GameRecord record) {
+        long ts = record.getTimestamp();
+        if (count > 0 && ts < maxTimestamp) sorted = false;
+        if (count % SAMPLE_INTERVAL == 0) {
+            if (sampleCount == samples.length) samples = Arrays.copyOf(samples, sampleCount * 2);
+            samples[sampleCount++] = ts;
+        }
+        count++;
+        minTimestamp = Math.min(minTimestamp, ts);
+        maxTimestamp = Math.max(maxTimestamp, ts);
+        int d = record.getDifficulty().ordinal();
+        countByDifficulty[d]++;
+        bestScoreByDifficulty[d] = Math.max(bestScoreByDifficulty[d], record.getScore());
+        minTimestampByDifficulty[d] = Math.min(minTimestampByDifficulty[d], ts);
+        maxTimestampByDifficulty[d] = Math.max(maxTimestampByDifficulty[d], ts);
+    }
+
+    /** @return The number of records in the segment. */
+    int getCount() { return count; }
+
+    /**
+     * Gets the number of records of one difficulty.
+     *
+     * @param difficulty The difficulty, or {@code null} for all records.
+     */
+    int getCount(Difficulty difficulty) {
+        return difficulty == null ? count : countByDifficulty[difficulty.ordinal()];
+    }
+
+    /**
+     * Gets the best score of one difficulty in this segment.
+     *
+     * @param difficulty The difficulty, or {@code null} for all records.
+     */
+    int getBestScore(Difficulty difficulty) {
+        if (difficulty != null) return bestScoreByDifficulty[difficulty.ordinal()];
+        return Arrays.stream(bestScoreByDifficulty).max().orElse(Integer.MIN_VALUE);
+    }
+
+    /**
+     * Checks whether the segment may contain a record of a difficulty inside a time range.
+     *
+     * @param difficulty The difficulty, or {@code null} for any.
+     * @param from       The first timestamp of the range (inclusive).
+     * @param to         The last timestamp of the range (inclusive).
+     */
+    boolean overlaps(Difficulty difficulty, long from, long to) {
+        if (difficulty == null) return count > 0 && maxTimestamp >= from && minTimestamp <= to;
+        int d = difficulty.ordinal();
+        return countByDifficulty[d] > 0 && maxTimestampByDifficulty[d] >= from && minTimestampByDifficulty[d] <= to;
+    }
+
+    /**
+     * Finds a record number from which reading can start to see every record at or after a time.
+     *
+     * @param from The earliest timestamp of interest.
+     * @return The record number to start reading from.
+     */
+    int firstRecordAtOrAfter(long from) {
+        if (!sorted) return 0;
+        int lo = 0, hi = sampleCount - 1, start = 0;
+        // the last sample that is still before 'from'
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            if (samples[mid] < from) { start = mid; lo = mid + 1; } else { hi = mid - 1; }
+        }
+        return start * SAMPLE_INTERVAL;
+    }
+
+    /**
+     * Writes the index to a temp file and atomically renames it into place.
+     *
+     * @param file The index file.
+     * @throws IOException If the file cannot be written.
+     */
+    void write(Path file) throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(count);
+            out.writeLong(minTimestamp);
+            out.writeLong(maxTimestamp);
+            out.writeBoolean(sorted);
+            out.writeInt(DIFFICULTIES);
+            for (int d = 0; d < DIFFICULTIES; d++) {
+                out.writeInt(countByDifficulty[d]);
+                out.writeInt(bestScoreByDifficulty[d]);
+                out.writeLong(minTimestampByDifficulty[d]);
+                out.writeLong(maxTimestampByDifficulty[d]);
+            }
+            out.writeInt(sampleCount);
+            for (int i = 0; i < sampleCount; i++) out.writeLong(samples[i]);
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Reads an index file.
+     *
+     * @param file The index file.
+     * @return The index.
+     * @throws IOException If the file cannot be read or is not an index file.
+     */
+    static SegmentIndex read(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC) throw new IOException("Not a history index: " + file);
+            SegmentIndex index = new SegmentIndex();
+            index.count = in.readInt();
+            index.minTimestamp = in.readLong();
+            index.maxTimestamp = in.readLong();
+            index.sorted = in.readBoolean();
+            if (in.readInt() != DIFFICULTIES) throw new IOException("Difficulty count changed: " + file);
+            for (int d = 0; d < DIFFICULTIES; d++) {
+                index.countByDifficulty[d] = in.readInt();
+                index.bestScoreByDifficulty[d] = in.readInt();
+                index.minTimestampByDifficulty[d] = in.readLong();
+                index.maxTimestampByDifficulty[d] = in.readLong();
+            }
+            index.sampleCount = in.readInt();
+            index.samples = new long[Math.max(16, index.sampleCount)];
+            for (int i = 0; i < index.sampleCount; i++) index.samples[i] = in.readLong();
+            return index;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.comp2042.view;
+
+import javafx.scene.image.Image;
+import javafx.scene.text.Font;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * The fonts and images shared by the screens, each read from the classpath once.
+ * Loading is thread-safe so that the startup threads can load assets while the screens are still
+ * being built; a screen asking for an asset another thread is loading waits for that load instead
+ * of reading the file a second time.
+ */
+final class AssetCache {
+
+    /** The digital font of the score labels. */
+    static final String DIGITAL_FONT = "/fonts/digital.ttf";
+    static final String PAUSE_ICON = "/icons/pauseButton.png";
+    static final String RESUME_ICON = "/icons/resumeButton.png";
+    static final String RESTART_ICON = "/icons/restartButton.png";
+    /** The icons of the game screen's buttons. */
+    static final List<String> ICONS = List.of(PAUSE_ICON, RESUME_ICON, RESTART_ICON);
+
+    private static final AssetCache INSTANCE = new AssetCache();
+
+    private final Map<String, CompletableFuture<Image>> images = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<Font>> fonts = new ConcurrentHashMap<>();
+
+    private AssetCache() {}
+
+    /** @return The cache shared by all screens. */
+    static AssetCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Gets an image, reading it on first use.
+     *
+     * @param path The classpath location of the image.
+     * @return The decoded image.
+     * @throws IllegalArgumentException If there is no image at the path.
+     */
+    Image getImage(String path) {
+        return get(images, path, () -> {
+            try (InputStream in = getClass().getResourceAsStream(path)) {
+                if (in == null) throw new IllegalArgumentException("Image not found: " + path);
+                return new Image(in);
+            } catch (IOException e) {
+                throw new IllegalArgumentException("Image not readable: " + path, e);
+            }
+        });
+    }
+
+    /**
+     * Registers a font file with JavaFX on first use, so stylesheets can refer to its family.
+     *
+     * @param path The classpath location of the font.
+     * @param size The size of the returned font.
+     * @return The font, or {@code null} if the file could not be loaded.
+     * @throws IllegalArgumentException If there is no font at the path.
+     */
+    Font getFont(String path, double size) {
+        return get(fonts, path + "@" + size, () -> {
+            URL resource = getClass().getResource(path);
+            if (resource == null) throw new IllegalArgumentException("Font not found: " + path);
+            return Font.loadFont(resource.toExternalForm(), size);
+        });
+    }
+
+    /**
+     * Returns the cached value of a key, loading it on the calling thread if nobody has yet.
+     * A failed load is not cached, so a later call tries again; a caller that waited for it gets
+     * the same exception as the thread that loaded.
+     */
+    private static <T> T get(Map<String, CompletableFuture<T>> cache, String key, Supplier<T> loader) {
+        CompletableFuture<T> created = new CompletableFuture<>();
+        CompletableFuture<T> existing = cache.putIfAbsent(key, created);
+        if (existing != null) {
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) throw cause;
+                throw e;
+            }
+        }
+        try {
+            T value = loader.get();
+            created.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            cache.remove(key, created);
+            created.completeExceptionally(e);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,322 @@
+package com.comp2042.view;
+
+import com.comp2042.GameConfig;
+import com.comp2042.metrics.PerformanceMonitor;
+import javafx.application.Platform;
+import javafx.scene.media.AudioClip;
+import javafx.scene.media.Media;
+import javafx.scene.media.MediaPlayer;
+import javafx.util.Duration;
+
+import java.net.URL;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Plays every sound of the game from objects that are built once.
+ * Short effects are {@link AudioClip}s, which are decoded into memory and start without the setup
+ * of a {@link MediaPlayer}; each effect has a few voices so that overlapping triggers (e.g. two
+ * quick line clears) play over each other instead of cutting the previous one off. Music tracks
+ * each keep one {@link MediaPlayer} for the whole run, which is rewound and reused whenever the
+ * track is played again.
+ * The {@link PerformanceMonitor} records how long starting an effect takes until the clip is
+ * dispatched, and the time from a music request until its player reports playing.
+ * All methods are meant to be called on the JavaFX thread, except the loading methods, which
+ * may run on a startup thread while the menu is already shown.
+ */
+public final class AudioEngine {
+
+    /** A short sound effect. */
+    public enum Effect {
+        LINE_CLEAR("/sounds/clearRowSound.mp3", 1.0),
+        SPEED_UP("/sounds/speedUpSound.mp3", 1.0);
+
+        private final String path;
+        private final double volume;
+
+        Effect(String path, double volume) {
+            this.path = path;
+            this.volume = volume;
+        }
+    }
+
+    /** A music track. */
+    public enum Track {
+        MENU("/sounds/bg_main_menu.mp3", 0.1, true),
+        GAME("/sounds/bg_game.mp3", 0.3, true),
+        GAME_OVER("/sounds/bg_game_over.mp3", 0.3, false);
+
+        private final String path;
+        private final double volume;
+        private final boolean looping;
+
+        Track(String path, double volume, boolean looping) {
+            this.path = path;
+            this.volume = volume;
+            this.looping = looping;
+        }
+    }
+
+    private static AudioEngine instance;
+
+    private final int polyphony;
+    /** The voices of each loaded effect; an effect whose file is missing has none. */
+    private final Map<Effect, AudioClip[]> voices = new EnumMap<>(Effect.class);
+    /** The voice each effect plays next. */
+    private final Map<Effect, Integer> nextVoice = new EnumMap<>(Effect.class);
+    private final Map<Effect, Double> volumes = new EnumMap<>(Effect.class);
+    private final Map<Track, MediaPlayer> players = new EnumMap<>(Track.class);
+    private Track currentTrack;
+    private long musicRequestNanos;
+    /** Whether {@link #load()} has started; music asked for before its player is open waits for it. */
+    private volatile boolean loading;
+    /** The track asked for while its player was still being opened. */
+    private volatile Track pendingTrack;
+
+    /**
+     * Constructs an engine with nothing loaded; the game uses the shared one from {@link #getInstance()}.
+     *
+     * @param polyphony The number of times one effect can sound at once.
+     * @throws IllegalArgumentException If the polyphony is not positive.
+     */
+    public AudioEngine(int polyphony) {
+        if (polyphony <= 0) throw new IllegalArgumentException("Polyphony must be positive: " + polyphony);
+        this.polyphony = polyphony;
+        for (Effect effect : Effect.values()) volumes.put(effect, effect.volume);
+    }
+
+    /**
+     * Gets the engine shared by all screens.
+     *
+     * @return The shared engine, with {@link GameConfig#SOUND_EFFECT_POLYPHONY} voices per effect.
+     */
+    public static synchronized AudioEngine getInstance() {
+        if (instance == null) instance = new AudioEngine(GameConfig.SOUND_EFFECT_POLYPHONY);
+        return instance;
+    }
+
+    /**
+     * Marks the engine as being loaded by another thread, before that thread gets to run
+     * {@link #load()}. From then on, music and effects that are not loaded yet are waited for or
+     * skipped instead of being opened on the calling thread.
+     */
+    public void beginLoading() {
+        loading = true;
+    }
+
+    /**
+     * Opens the music tracks, the menu track first, then decodes the effects; anything already
+     * loaded is skipped. A file that is missing or cannot be decoded is reported and stays silent.
+     * A track asked for while this runs starts playing as soon as its player is open.
+     */
+    public void load() {
+        beginLoading();
+        for (Track track : Track.values()) {
+            loadTrack(track);
+            synchronized (this) {
+                if (track == pendingTrack) Platform.runLater(() -> playPendingTrack(track));
+            }
+        }
+        for (Effect effect : Effect.values()) loadEffect(effect);
+    }
+
+    /**
+     * Loads the voices of one effect, unless they are loaded. The clips are decoded outside the
+     * engine's lock, so the JavaFX thread is never held up by a load on another thread.
+     *
+     * @param effect The effect.
+     */
+    public void loadEffect(Effect effect) {
+        if (getVoices(effect) != null) return;
+        URL resource = getClass().getResource(effect.path);
+        AudioClip[] clips = new AudioClip[0];
+        if (resource == null) {
+            System.err.println("Sound effect not found: " + effect.path);
+        } else {
+            try {
+                clips = new AudioClip[polyphony];
+                for (int i = 0; i < clips.length; i++) clips[i] = new AudioClip(resource.toExternalForm());
+            } catch (Exception e) {
+                System.err.println("Failed to load sound effect " + effect.path + ": " + e.getMessage());
+                clips = new AudioClip[0];
+            }
+        }
+        synchronized (this) {
+            if (voices.containsKey(effect)) return;
+            for (AudioClip clip : clips) clip.setVolume(volumes.get(effect));
+            voices.put(effect, clips);
+            nextVoice.put(effect, 0);
+        }
+    }
+
+    /**
+     * Opens the player of one music track, unless it is open.
+     *
+     * @param track The track.
+     */
+    public void loadTrack(Track track) {
+        if (getPlayer(track) != null) return;
+        URL resource = getClass().getResource(track.path);
+        if (resource == null) {
+            System.err.println("Music not found: " + track.path);
+            return;
+        }
+        MediaPlayer player;
+        try {
+            player = new MediaPlayer(new Media(resource.toExternalForm()));
+        } catch (Exception e) {
+            System.err.println("Failed to load music " + track.path + ": " + e.getMessage());
+            return;
+        }
+        player.setCycleCount(track.looping ? MediaPlayer.INDEFINITE : 1);
+        player.setVolume(track.volume);
+        // a track played once stops at its end, so that playing it again starts it over
+        if (!track.looping) player.setOnEndOfMedia(player::stop);
+        player.setOnPlaying(() -> {
+            if (musicRequestNanos != 0) {
+                PerformanceMonitor.getInstance().getMusicStartLatency().recordSince(musicRequestNanos);
+                musicRequestNanos = 0;
+            }
+        });
+        synchronized (this) {
+            if (players.putIfAbsent(track, player) != null) player.dispose();
+        }
+    }
+
+    /**
+     * Plays an effect on its next voice. When all voices are busy, the oldest is cut off.
+     * An effect the startup threads have not loaded yet is skipped rather than waited for.
+     *
+     * @param effect The effect.
+     */
+    public void play(Effect effect) {
+        long start = System.nanoTime();
+        if (!loading) loadEffect(effect);
+        AudioClip clip = nextVoice(effect);
+        if (clip == null) return;
+        if (clip.isPlaying()) clip.stop();
+        clip.play();
+        PerformanceMonitor.getInstance().getEffectDispatchTime().recordSince(start);
+    }
+
+    /**
+     * Sets the volume of an effect for all its voices.
+     *
+     * @param effect The effect.
+     * @param volume The volume, from 0 to 1.
+     */
+    public synchronized void setVolume(Effect effect, double volume) {
+        volumes.put(effect, volume);
+        AudioClip[] clips = voices.get(effect);
+        if (clips == null) return;
+        for (AudioClip clip : clips) clip.setVolume(volume);
+    }
+
+    /**
+     * Gets the volume of an effect.
+     *
+     * @param effect The effect.
+     * @return The volume, from 0 to 1.
+     */
+    public synchronized double getVolume(Effect effect) {
+        return volumes.get(effect);
+    }
+
+    /** @return The number of times one effect can sound at once. */
+    public int getPolyphony() { return polyphony; }
+
+    /**
+     * Plays a music track from the start, stopping the one playing. A track that is already
+     * playing simply continues.
+     *
+     * @param track The track.
+     */
+    public void playMusic(Track track) {
+        if (track == currentTrack && isMusicPlaying()) return;
+        stopMusic();
+        MediaPlayer player = getPlayerOrWait(track);
+        if (player == null && loading) {
+            // the startup threads are opening it; it starts when they are done with it
+            return;
+        }
+        if (player == null) {
+            loadTrack(track);
+            player = getPlayer(track);
+            if (player == null) return;
+        }
+        currentTrack = track;
+        musicRequestNanos = System.nanoTime();
+        player.seek(Duration.ZERO);
+        player.play();
+    }
+
+    /** Pauses the current music track, e.g. while the game is paused. */
+    public void pauseMusic() {
+        MediaPlayer player = currentPlayer();
+        if (player != null) player.pause();
+    }
+
+    /** Continues the current music track where it was paused. */
+    public void resumeMusic() {
+        MediaPlayer player = currentPlayer();
+        if (player != null && player.getStatus() == MediaPlayer.Status.PAUSED) player.play();
+    }
+
+    /** Stops the current music track; its player is kept for the next time it is played. */
+    public void stopMusic() {
+        pendingTrack = null;
+        MediaPlayer player = currentPlayer();
+        if (player != null) player.stop();
+        currentTrack = null;
+    }
+
+    /**
+     * Stops a music track if it is the one playing.
+     *
+     * @param track The track.
+     */
+    public void stopMusic(Track track) {
+        if (track == currentTrack || track == pendingTrack) stopMusic();
+    }
+
+    /** @return The track playing or paused, or {@code null}. */
+    public Track getCurrentTrack() { return currentTrack; }
+
+    private boolean isMusicPlaying() {
+        MediaPlayer player = currentPlayer();
+        return player != null && player.getStatus() != MediaPlayer.Status.STOPPED;
+    }
+
+    private MediaPlayer currentPlayer() {
+        return currentTrack == null ? null : getPlayer(currentTrack);
+    }
+
+    private synchronized MediaPlayer getPlayer(Track track) {
+        return players.get(track);
+    }
+
+    /** Gets the player of a track; while the startup threads load, a missing one is marked as pending. */
+    private synchronized MediaPlayer getPlayerOrWait(Track track) {
+        MediaPlayer player = players.get(track);
+        if (player == null && loading) pendingTrack = track;
+        return player;
+    }
+
+    private synchronized AudioClip[] getVoices(Effect effect) {
+        return voices.get(effect);
+    }
+
+    /** Takes the next voice of a loaded effect in turn, or {@code null} if it has none. */
+    private synchronized AudioClip nextVoice(Effect effect) {
+        AudioClip[] clips = voices.get(effect);
+        if (clips == null || clips.length == 0) return null;
+        int voice = nextVoice.get(effect);
+        nextVoice.put(effect, (voice + 1) % clips.length);
+        return clips[voice];
+    }
+
+    /** Plays a track that was asked for before its player was open, unless another was asked for since. */
+    private void playPendingTrack(Track track) {
+        if (pendingTrack == track) playMusic(track);
+    }
+}
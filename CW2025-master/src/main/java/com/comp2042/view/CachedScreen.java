@@ -0,0 +1,59 @@
+package com.comp2042.view;
+
+import com.comp2042.metrics.PerformanceMonitor;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Parent;
+
+import java.io.IOException;
+
+/**
+ * One screen of the application, parsed from its FXML file once and kept for every later visit.
+ * Parsing the FXML and building the scene graph is the slow part of a screen switch, so a cached
+ * screen is only put back into the stage's scene and its controller reset. Nodes that are not in a
+ * showing scene may be built on any thread, so {@link #load()} can also preload a screen in the
+ * background before it is first shown.
+ *
+ * @param <C> The type of the screen's controller.
+ */
+final class CachedScreen<C> {
+
+    private final String fxmlPath;
+    private Parent root;
+    private C controller;
+
+    /**
+     * Constructs a screen that is not loaded yet.
+     *
+     * @param fxmlPath The classpath location of the FXML file.
+     */
+    CachedScreen(String fxmlPath) {
+        this.fxmlPath = fxmlPath;
+    }
+
+    /**
+     * Parses the FXML file unless that was already done; a caller arriving while another thread
+     * loads the screen waits for it instead of parsing the file again.
+     *
+     * @return This screen.
+     * @throws IOException If the FXML file cannot be loaded.
+     */
+    synchronized CachedScreen<C> load() throws IOException {
+        if (root != null) return this;
+        long start = System.nanoTime();
+        FXMLLoader loader = new FXMLLoader(getClass().getResource(fxmlPath));
+        Parent parsed = loader.load();
+        controller = loader.getController();
+        root = parsed;
+        PerformanceMonitor.getInstance().getScreenLoadTime().recordSince(start);
+        return this;
+    }
+
+    /** @return Whether the FXML file has been parsed. */
+    synchronized boolean isLoaded() { return root != null; }
+
+    /** @return The root of the screen's scene graph, or {@code null} before {@link #load()}. */
+    synchronized Parent getRoot() { return root; }
+
+    /** @return The screen's controller, or {@code null} before {@link #load()}. */
+    synchronized C getController() { return controller; }
+}
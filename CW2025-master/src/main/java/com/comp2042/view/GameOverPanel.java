@@ -5,8 +5,6 @@ import javafx.fxml.FXML;
 import javafx.geometry.Pos;
 import javafx.scene.control.Button;
 import javafx.scene.layout.VBox;
-import javafx.scene.media.Media;
-import javafx.scene.media.MediaPlayer;
 import javafx.scene.text.Font;
 import javafx.scene.text.Text;
 import javafx.util.Duration;
@@ -22,8 +20,7 @@ import java.util.List;
 // change to VBox to align label and button vertically
 public class GameOverPanel extends VBox {
 
-    private MediaPlayer gameMusic;
-    private MediaPlayer gameOverMusicPlayer;
+    private final AudioEngine audio = AudioEngine.getInstance();
     private Runnable mainMenuCallback;
 
     /**
@@ -92,51 +89,21 @@ public class GameOverPanel extends VBox {
 
     // Stop in-game music
     public void stopGameMusic() {
-        if (gameMusic != null) {
-            gameMusic.stop();
-            gameMusic.dispose();
-            gameMusic = null;
-        }
+        audio.stopMusic(AudioEngine.Track.GAME);
     }
 
-    // Start in-game music
+    // Start in-game music; the engine reuses one player for it
     public void startGameMusic() {
-        try {
-            String musicUrl = getClass().getResource("/sounds/bg_game.mp3").toExternalForm();
-            Media media = new Media(musicUrl);
-            gameMusic = new MediaPlayer(media);
-            gameMusic.setCycleCount(MediaPlayer.INDEFINITE);
-            gameMusic.setVolume(0.3);
-            gameMusic.play();
-        } catch (Exception e) {
-            System.err.println("Game music not started: " + e.getMessage());
-        }
+        audio.playMusic(AudioEngine.Track.GAME);
     }
 
     // Start game over music (plays once, no loop)
     private void startGameOverMusic() {
-        try {
-            String musicUrl = getClass().getResource("/sounds/bg_game_over.mp3").toExternalForm();
-            Media media = new Media(musicUrl);
-            gameOverMusicPlayer = new MediaPlayer(media);
-            gameOverMusicPlayer.setCycleCount(1); // Play once
-            gameOverMusicPlayer.setVolume(0.3);
-            gameOverMusicPlayer.play();
-        } catch (Exception e) {
-            System.err.println("Game over music not started: " + e.getMessage());
-        }
+        audio.playMusic(AudioEngine.Track.GAME_OVER);
     }
 
     // Stop game over music
     private void stopGameOverMusic() {
-        if (gameOverMusicPlayer != null) {
-            gameOverMusicPlayer.stop();
-            gameOverMusicPlayer.dispose();
-            gameOverMusicPlayer = null;
-        }
-    }
-
-    public MediaPlayer getGameMusic() {
-        return gameMusic;
+        audio.stopMusic(AudioEngine.Track.GAME_OVER);
     }
 }
@@ -9,8 +9,10 @@ import com.comp2042.controller.InputHandler;
 import com.comp2042.controller.MoveEvent;
 import com.comp2042.model.DownData;
 import com.comp2042.model.GameSettings;
+import com.comp2042.model.SettingsService;
 import com.comp2042.model.ViewData;
 import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.SimpleBooleanProperty;
@@ -25,11 +27,10 @@ import javafx.scene.effect.Reflection;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.GridPane;
-import javafx.scene.media.MediaPlayer;
 import javafx.scene.paint.Color;
 import javafx.scene.paint.Paint;
 import javafx.scene.shape.Rectangle;
-import javafx.scene.text.Font;
+import javafx.scene.transform.Scale;
 
 import java.util.Optional;
 import java.util.List;
@@ -45,6 +46,8 @@ public class GuiController implements Initializable {
     @FXML
     private Group boardGroup;
     @FXML
+    private Group boardContent;
+    @FXML
     private Label scoreLabel;
     @FXML
     private Label highScoreLabel;
@@ -61,12 +64,16 @@ public class GuiController implements Initializable {
     @FXML
     private GridPane ghostBrickPanel;
     @FXML
+    private GridPane hintBrickPanel;
+    @FXML
     private GridPane holdBrickPanel;
     @FXML
     private Button pauseButton;
     @FXML
     private Button restartButton;
     @FXML
+    private Button hintButton;
+    @FXML
     private GameOverPanel gameOverPanel;
     @FXML
     private MainMenuController mainMenuController;
@@ -78,44 +85,78 @@ public class GuiController implements Initializable {
     // Game state
     private BooleanProperty isPause = new SimpleBooleanProperty(false);
     private BooleanProperty isGameOver = new SimpleBooleanProperty(false);
-
-    // Display matrices
-    private Rectangle[][] displayMatrix;
-    private Rectangle[][] rectangles;
-    private Rectangle[][] ghostRectangles;
-    private Rectangle[][] nextBrickRectangles;
-    private Rectangle[][] nextBrickRectangles2;
-    private Rectangle[][] nextBrickRectangles3;
-    private Rectangle[][] nextBrickRectangles4;
-    private Rectangle[][] holdBrickRectangle;
-
-    // Sizing
-    private double currentBrickSize = GameConfig.BRICK_SIZE;
-    private double boardPixelWidth;
-    private double boardPixelHeight;
+    private BooleanProperty hintsEnabled = new SimpleBooleanProperty(true);
+
+    // Hint position (board cells) of the hint currently shown
+    private int hintX;
+    private int hintY;
+
+    // Display grids; every cell but the hint outline shows a tile of an atlas and is only
+    // updated when its colour changes
+    private TileGrid displayMatrix;
+    private TileGrid brickTiles;
+    private TileGrid ghostTiles;
+    private Rectangle[][] hintRectangles;
+    private TileGrid nextBrickTiles;
+    private TileGrid nextBrickTiles2;
+    private TileGrid nextBrickTiles3;
+    private TileGrid nextBrickTiles4;
+    private TileGrid holdBrickTiles;
+
+    // Tile atlases: the board atlas follows the cell size, the preview atlases have fixed sizes
+    private TileTheme tileTheme = TileTheme.CLASSIC;
+    private TileAtlas boardAtlas;
+    private TileAtlas largeAtlas;
+    private TileAtlas smallAtlas;
+
+    // The queue and hold version the preview panels show; -1 forces a redraw
+    private int previewVersion = -1;
+
+    // Viewport: the top rows are hidden, and a board taller than VIEWPORT_ROWS shows a window of
+    // rows starting at viewTop that follows the falling brick; the cells only cover that window
+    private static final int HIDDEN_ROWS = 2;
+    private int viewTop = HIDDEN_ROWS;
+    // the last background drawn, redrawn into the window when the window moves
+    private int[][] background;
+    // hides the bricks outside the window
+    private final Rectangle viewportClip = new Rectangle();
+
+    // Sizing: the board is laid out at BRICK_SIZE and fitted to the window by one transform
+    private final Scale boardScale = new Scale(1, 1, 0, 0);
+    // image pixels per board pixel of the board tiles, so magnified tiles stay sharp
+    private int tileResolution = 1;
 
     // Controllers and listeners
     private InputEventListener eventListener;
     private GameSettings settings;
     private Main mainApp;
 
-    // Sound players
-    private MediaPlayer clearRowSoundPlayer;
-    private MediaPlayer speedUpSoundPlayer;
+    // Notifications reuse a few panels instead of building one per message
+    private final ObjectPool<NotificationPanel> notificationPool =
+            new ObjectPool<>(this::createNotificationPanel, GameConfig.NOTIFICATION_POOL_SIZE);
+
+    // Effects and music are played by the shared engine
+    private final AudioEngine audio = AudioEngine.getInstance();
 
     @FXML
     private ImageView pauseOverlay;
-    private MediaPlayer gameMusic;
+    @FXML
+    private Label performanceHudLabel;
+    private PerformanceHud performanceHud;
 
     @Override
     public void initialize(URL url, ResourceBundle resourceBundle) {
-        Font.loadFont(getClass().getClassLoader().getResource("fonts/digital.ttf").toExternalForm(), 38);
-
-        // Load assets
+        // Load assets; the startup threads have usually read them already
+        AssetCache assets = AssetCache.getInstance();
         try {
-            Image pauseImg = new Image(getClass().getResourceAsStream("/icons/pauseButton.png"));
-            Image resumeImg = new Image(getClass().getResourceAsStream("/icons/resumeButton.png"));
-            Image restartImg = new Image(getClass().getResourceAsStream("/icons/restartButton.png"));
+            assets.getFont(AssetCache.DIGITAL_FONT, 38);
+        } catch (IllegalArgumentException e) {
+            System.err.println("Failed to load font: " + e.getMessage());
+        }
+        try {
+            Image pauseImg = assets.getImage(AssetCache.PAUSE_ICON);
+            Image resumeImg = assets.getImage(AssetCache.RESUME_ICON);
+            Image restartImg = assets.getImage(AssetCache.RESTART_ICON);
             pauseIconView = new ImageView(pauseImg);
             resumeIconView = new ImageView(resumeImg);
             ImageView restartIconView = new ImageView(restartImg);
@@ -152,25 +193,62 @@ public class GuiController implements Initializable {
         reflection.setTopOpacity(0.9);
         reflection.setTopOffset(-12);
 
-        // when scene becomes available, ensure we adjust sizes and center on resize
+        boardContent.getTransforms().add(boardScale);
+        gamePanel.boundsInParentProperty().addListener((obs, oldBounds, bounds) -> {
+            viewportClip.setX(bounds.getMinX());
+            viewportClip.setY(bounds.getMinY());
+            viewportClip.setWidth(bounds.getWidth());
+            viewportClip.setHeight(bounds.getHeight());
+        });
+        performanceHud = new PerformanceHud(performanceHudLabel, this::getTileUpdateCount, this::getTileSkipCount);
+
+        // the screen is cached and put into a scene on every visit: fit the board to whichever
+        // scene it is in, and follow that scene's size only while in it
+        InvalidationListener sceneResized = o -> {
+            Scene scene = gamePanel.getScene();
+            if (scene != null) adjustBoardToScene(scene);
+        };
         gamePanel.sceneProperty().addListener((obs, oldScene, newScene) -> {
+            if (oldScene != null) {
+                oldScene.widthProperty().removeListener(sceneResized);
+                oldScene.heightProperty().removeListener(sceneResized);
+            }
+            // the overlay's timer would keep running for a screen nobody sees
+            if (newScene == null) performanceHud.hide();
             if (newScene != null) {
-                // adjust immediately and on resize
-                newScene.widthProperty().addListener((o, oldW, newW) -> adjustBoardToScene(newScene));
-                newScene.heightProperty().addListener((o, oldH, newH) -> adjustBoardToScene(newScene));
+                newScene.widthProperty().addListener(sceneResized);
+                newScene.heightProperty().addListener(sceneResized);
                 Platform.runLater(() -> adjustBoardToScene(newScene));
             }
         });
 
-        // Start game music when game scene loads
-        if (gameOverPanel != null) {
-            gameOverPanel.startGameMusic();
+        // Initialize pause overlay (hidden by default)
+        if (pauseOverlay != null) {
+            pauseOverlay.setVisible(false);
         }
+    }
 
-        // Initialize pause overlay (hidden by default)
+    /**
+     * Prepares the cached screen for a new game before a {@link com.comp2042.controller.GameController}
+     * takes it over: the previous game is stopped, the pause and game over state is cleared and
+     * the game music starts again. The scene graph itself is kept.
+     */
+    public void reset() {
+        if (eventListener != null) {
+            eventListener.stopGame();
+        }
+        isPause.setValue(Boolean.FALSE);
+        isGameOver.setValue(Boolean.FALSE);
+        pauseButton.setGraphic(pauseIconView);
+        gameOverPanel.setVisible(false);
         if (pauseOverlay != null) {
             pauseOverlay.setVisible(false);
         }
+        clearHint();
+        performanceHud.hide();
+
+        // Start game music when game scene is shown
+        gameOverPanel.startGameMusic();
     }
 
     @FXML
@@ -187,14 +265,13 @@ public class GuiController implements Initializable {
         mainApp.showMainMenuScreen();
     }
 
-    public void setupSoundPlayers(MediaPlayer clearRowSoundPlayer, MediaPlayer speedUpSoundPlayer) {
-        this.clearRowSoundPlayer = clearRowSoundPlayer;
-        this.speedUpSoundPlayer = speedUpSoundPlayer;
-    }
-
-    public void playSound(MediaPlayer player) {
-        player.stop();
-        player.play();
+    /**
+     * Plays a sound effect; it plays over any effects still sounding.
+     *
+     * @param effect The effect.
+     */
+    public void playSound(AudioEngine.Effect effect) {
+        audio.play(effect);
     }
 
     public void setMainApp(Main mainApp) {
@@ -202,43 +279,41 @@ public class GuiController implements Initializable {
     }
 
     public void initGameView(int[][] boardMatrix, ViewData brick) {
-        displayMatrix = new Rectangle[boardMatrix.length][boardMatrix[0].length];
-        for (int i = 2; i < boardMatrix.length; i++) {
-            for (int j = 0; j < boardMatrix[i].length; j++) {
-                Rectangle rectangle = new Rectangle(currentBrickSize, currentBrickSize);
-                setRectangleData(boardMatrix[i][j], rectangle);
-                displayMatrix[i][j] = rectangle;
-                gamePanel.add(rectangle, j, i - 2);
+        buildAtlases();
+        previewVersion = -1;
+        // the top two rows are hidden, and only a window of a tall board gets cells
+        int rows = Math.min(boardMatrix.length - HIDDEN_ROWS, GameConfig.VIEWPORT_ROWS);
+        int columns = boardMatrix[0].length;
+        viewTop = HIDDEN_ROWS;
+        boardContent.setClip(boardMatrix.length - HIDDEN_ROWS > rows ? viewportClip : null);
+        if (displayMatrix != null && displayMatrix.getRows() == rows && displayMatrix.getColumns() == columns) {
+            // a cached screen keeps its cells from the previous game
+            for (TileGrid grid : List.of(displayMatrix, brickTiles, ghostTiles)) grid.setAtlas(boardAtlas);
+            for (TileGrid grid : List.of(nextBrickTiles, holdBrickTiles)) grid.setAtlas(largeAtlas);
+            for (TileGrid grid : List.of(nextBrickTiles2, nextBrickTiles3, nextBrickTiles4)) grid.setAtlas(smallAtlas);
+        } else {
+            for (GridPane panel : List.of(gamePanel, ghostBrickPanel, hintBrickPanel, nextBrickPanel,
+                    nextBrickPanel2, nextBrickPanel3, nextBrickPanel4, holdBrickPanel, brickPanel)) {
+                panel.getChildren().clear();
             }
-        }
+            displayMatrix = new TileGrid(gamePanel, rows, columns, boardAtlas);
 
-        int cols = boardMatrix[0].length;
-        int visibleRows = boardMatrix.length - 2;
-        boardPixelWidth = cols * currentBrickSize;
-        boardPixelHeight = visibleRows * currentBrickSize;
+            ghostTiles = new TileGrid(ghostBrickPanel, 4, 4, boardAtlas);
 
-        ghostRectangles = initializeNextBrickPanel(ghostBrickPanel, currentBrickSize);
-        for (int i = 0; i < 4; i++) {
-            for (int j = 0; j < 4; j++) {
-                ghostRectangles[i][j].setFill(Color.TRANSPARENT);
-            }
-        }
+            hintRectangles = initializeHintPanel(hintBrickPanel, GameConfig.BRICK_SIZE);
+            hintBrickPanel.visibleProperty().bind(hintsEnabled);
 
-        nextBrickRectangles = initializeNextBrickPanel(nextBrickPanel, GameConfig.NEXT_BRICK_SIZE_LARGE);
-        nextBrickRectangles2 = initializeNextBrickPanel(nextBrickPanel2, GameConfig.NEXT_BRICK_SIZE_SMALL);
-        nextBrickRectangles3 = initializeNextBrickPanel(nextBrickPanel3, GameConfig.NEXT_BRICK_SIZE_SMALL);
-        nextBrickRectangles4 = initializeNextBrickPanel(nextBrickPanel4, GameConfig.NEXT_BRICK_SIZE_SMALL);
-        holdBrickRectangle = initializeNextBrickPanel(holdBrickPanel, GameConfig.NEXT_BRICK_SIZE_LARGE);
-
-        rectangles = new Rectangle[brick.getBrickData().length][brick.getBrickData()[0].length];
-        for (int i = 0; i < brick.getBrickData().length; i++) {
-            for (int j = 0; j < brick.getBrickData()[i].length; j++) {
-                Rectangle rectangle = new Rectangle(currentBrickSize, currentBrickSize);
-                rectangle.setFill(getFillColor(brick.getBrickData()[i][j]));
-                rectangles[i][j] = rectangle;
-                brickPanel.add(rectangle, j, i);
-            }
+            nextBrickTiles = new TileGrid(nextBrickPanel, 4, 4, largeAtlas);
+            nextBrickTiles2 = new TileGrid(nextBrickPanel2, 4, 4, smallAtlas);
+            nextBrickTiles3 = new TileGrid(nextBrickPanel3, 4, 4, smallAtlas);
+            nextBrickTiles4 = new TileGrid(nextBrickPanel4, 4, 4, smallAtlas);
+            holdBrickTiles = new TileGrid(holdBrickPanel, 4, 4, largeAtlas);
+
+            brickTiles = new TileGrid(brickPanel, 4, 4, boardAtlas);
         }
+        refreshGameBackground(boardMatrix);
+        clearHint();
+        brickTiles.show(brick.getBrickData());
 
         updateMovingPanelsPosition(brick);
 
@@ -246,11 +321,16 @@ public class GuiController implements Initializable {
         if (s != null) Platform.runLater(() -> adjustBoardToScene(s));
     }
 
+    /**
+     * Fits the board to the window by changing the scale of {@link #boardContent}; no cell is
+     * resized or laid out again. The board tiles are only rasterized again when the magnification
+     * crosses a whole number, so they stay sharp.
+     */
     private void adjustBoardToScene(Scene scene) {
         if (displayMatrix == null) return;
 
-        int cols = displayMatrix[0].length;
-        int visibleRows = displayMatrix.length - 2;
+        int cols = displayMatrix.getColumns();
+        int visibleRows = displayMatrix.getRows();
 
         double availW = Math.max(200, scene.getWidth() * 0.46);
         double availH = Math.max(200, scene.getHeight() * 0.72);
@@ -258,104 +338,65 @@ public class GuiController implements Initializable {
         double newCell = Math.floor(Math.min((availW - 4) / cols, (availH - 4) / visibleRows));
         if (newCell < 4) newCell = 4;
 
-        if (Math.abs(newCell - currentBrickSize) < 0.1) {
-            centerBoard();
-            return;
-        }
-
-        currentBrickSize = newCell;
-
-        for (int i = 2; i < displayMatrix.length; i++) {
-            for (int j = 0; j < displayMatrix[i].length; j++) {
-                Rectangle r = displayMatrix[i][j];
-                if (r != null) {
-                    r.setWidth(currentBrickSize);
-                    r.setHeight(currentBrickSize);
-                }
-            }
-        }
-
-        if (rectangles != null) {
-            for (int i = 0; i < rectangles.length; i++) {
-                for (int j = 0; j < rectangles[i].length; j++) {
-                    Rectangle r = rectangles[i][j];
-                    if (r != null) { r.setWidth(currentBrickSize); r.setHeight(currentBrickSize); }
-                }
-            }
+        double scale = newCell / GameConfig.BRICK_SIZE;
+        boardScale.setX(scale);
+        boardScale.setY(scale);
+
+        int resolution = (int) Math.ceil(scale);
+        if (resolution != tileResolution) {
+            tileResolution = resolution;
+            boardAtlas = new TileAtlas(tileTheme, GameConfig.BRICK_SIZE, tileResolution);
+            displayMatrix.setAtlas(boardAtlas);
+            brickTiles.setAtlas(boardAtlas);
+            ghostTiles.setAtlas(boardAtlas);
         }
-
-        if (ghostRectangles != null) {
-            for (int i = 0; i < ghostRectangles.length; i++)
-                for (int j = 0; j < ghostRectangles[i].length; j++) {
-                    Rectangle r = ghostRectangles[i][j];
-                    if (r != null) { r.setWidth(currentBrickSize); r.setHeight(currentBrickSize); }
-                }
-        }
-        if (nextBrickRectangles != null) updateNextRectanglesSize(nextBrickRectangles, GameConfig.NEXT_BRICK_SIZE_LARGE);
-        if (nextBrickRectangles2 != null) updateNextRectanglesSize(nextBrickRectangles2, GameConfig.NEXT_BRICK_SIZE_SMALL);
-        if (nextBrickRectangles3 != null) updateNextRectanglesSize(nextBrickRectangles3, GameConfig.NEXT_BRICK_SIZE_SMALL);
-        if (nextBrickRectangles4 != null) updateNextRectanglesSize(nextBrickRectangles4, GameConfig.NEXT_BRICK_SIZE_SMALL);
-        if (holdBrickRectangle != null) updateNextRectanglesSize(holdBrickRectangle, GameConfig.NEXT_BRICK_SIZE_LARGE);
-
-        boardPixelWidth = cols * currentBrickSize;
-        boardPixelHeight = visibleRows * currentBrickSize;
-
-        centerBoard();
-    }
-
-    private void updateNextRectanglesSize(Rectangle[][] rects, double baseSize) {
-        for (int i = 0; i < rects.length; i++)
-            for (int j = 0; j < rects[i].length; j++) {
-                Rectangle r = rects[i][j];
-                if (r != null) { r.setWidth(baseSize); r.setHeight(baseSize); }
-            }
     }
 
     private void updateMovingPanelsPosition(ViewData brick) {
-        double scaleFactor = currentBrickSize / GameConfig.BRICK_SIZE;
-        brickPanel.setLayoutX(gamePanel.getLayoutX() + brick.getxPosition() * brickPanel.getVgap() + brick.getxPosition() * currentBrickSize);
-        brickPanel.setLayoutY(GameConfig.BRICK_PANEL_Y_OFFSET * scaleFactor + gamePanel.getLayoutY() + brick.getyPosition() * brickPanel.getHgap() + brick.getyPosition() * currentBrickSize);
+        followBrick(brick);
+        brickPanel.setLayoutX(cellX(brick.getxPosition()));
+        brickPanel.setLayoutY(cellY(brick.getyPosition()));
     }
 
-    private void displayNextBricks(List<int[][]> nextBricks) {
-        displayNextBrick(nextBricks.get(0), nextBrickRectangles);
-        displayNextBrick(nextBricks.get(1), nextBrickRectangles2);
-        displayNextBrick(nextBricks.get(2), nextBrickRectangles3);
-        displayNextBrick(nextBricks.get(3), nextBrickRectangles4);
+    /**
+     * Moves the window of a tall board so that the falling brick stays at least
+     * {@link GameConfig#VIEWPORT_MARGIN} rows from its edges, and redraws the background into the
+     * window if it moved. On a board that fits the window this does nothing.
+     */
+    private void followBrick(ViewData brick) {
+        if (background == null) return;
+        int visibleRows = displayMatrix.getRows();
+        int top = viewTop;
+        int brickTop = brick.getyPosition();
+        int brickBottom = brickTop + brick.getBrickData().length;
+        if (brickTop - GameConfig.VIEWPORT_MARGIN < top) top = brickTop - GameConfig.VIEWPORT_MARGIN;
+        if (brickBottom + GameConfig.VIEWPORT_MARGIN > top + visibleRows) top = brickBottom + GameConfig.VIEWPORT_MARGIN - visibleRows;
+        top = Math.max(HIDDEN_ROWS, Math.min(top, background.length - visibleRows));
+        if (top == viewTop) return;
+        viewTop = top;
+        refreshGameBackground(background);
+        positionHintPanel();
     }
 
-    private void displayNextBrick(int[][] nextBrick, Rectangle[][] rects) {
-        for (int i = 0; i < 4; i++) {
-            for (int j = 0; j < 4; j++) {
-                rects[i][j].setFill(Color.TRANSPARENT);
-            }
-        }
-        for (int i = 0; i < nextBrick.length; i++) {
-            for (int j = 0; j < nextBrick[i].length; j++) {
-                if (nextBrick[i][j] != 0) setRectangleData(nextBrick[i][j], rects[i][j]);
-            }
-        }
+    /** @return The layout x of a board column. */
+    private double cellX(int x) {
+        return gamePanel.getLayoutX() + x * brickPanel.getVgap() + x * GameConfig.BRICK_SIZE;
     }
 
-    private void displayHoldBrick(int[][] holdingBrick) {
-        for (int i = 0; i < 4; i++) {
-            for (int j = 0; j < 4; j++) {
-                holdBrickRectangle[i][j].setFill(Color.TRANSPARENT);
-            }
-        }
+    /** @return The layout y of a board row, relative to the top of the window. */
+    private double cellY(int y) {
+        int row = y - (viewTop - HIDDEN_ROWS);
+        return GameConfig.BRICK_PANEL_Y_OFFSET + gamePanel.getLayoutY() + row * brickPanel.getHgap() + row * GameConfig.BRICK_SIZE;
+    }
 
-        if (holdingBrick != null) {
-            for (int i = 0; i < holdingBrick.length; i++) {
-                for (int j = 0; j < holdingBrick[i].length; j++) {
-                    if (holdingBrick[i][j] != 0) {
-                        setRectangleData(holdingBrick[i][j], holdBrickRectangle[i][j]);
-                    }
-                }
-            }
-        }
+    private void displayNextBricks(List<int[][]> nextBricks) {
+        nextBrickTiles.show(nextBricks.get(0));
+        nextBrickTiles2.show(nextBricks.get(1));
+        nextBrickTiles3.show(nextBricks.get(2));
+        nextBrickTiles4.show(nextBricks.get(3));
     }
 
-    private Rectangle[][] initializeNextBrickPanel(GridPane panel, double size) {
+    private Rectangle[][] initializeHintPanel(GridPane panel, double size) {
         Rectangle[][] rectangles = new Rectangle[4][4];
         for (int i = 0; i < 4; i++) {
             for (int j = 0; j < 4; j++) {
@@ -368,61 +409,145 @@ public class GuiController implements Initializable {
     }
 
     private Paint getFillColor(int i) {
-        return switch (i) {
-            case 0 -> Color.TRANSPARENT;
-            case 1 -> Color.AQUA;
-            case 2 -> Color.BLUEVIOLET;
-            case 3 -> Color.DARKGREEN;
-            case 4 -> Color.YELLOW;
-            case 5 -> Color.RED;
-            case 6 -> Color.BEIGE;
-            case 7 -> Color.BURLYWOOD;
-            case 8 -> Color.GRAY;
-            default -> Color.WHITE;
-        };
+        int argb = tileTheme.getArgb(i);
+        return Color.rgb(argb >> 16 & 0xFF, argb >> 8 & 0xFF, argb & 0xFF, (argb >>> 24) / 255.0);
+    }
+
+    /** Rasterizes the tiles of the current theme for the board cell size and the preview sizes. */
+    private void buildAtlases() {
+        boardAtlas = new TileAtlas(tileTheme, GameConfig.BRICK_SIZE, tileResolution);
+        largeAtlas = new TileAtlas(tileTheme, (int) GameConfig.NEXT_BRICK_SIZE_LARGE);
+        smallAtlas = new TileAtlas(tileTheme, (int) GameConfig.NEXT_BRICK_SIZE_SMALL);
+    }
+
+    /**
+     * Switches every cell to another skin. Only the atlases are rebuilt; the cells keep their colours.
+     *
+     * @param theme The new theme.
+     */
+    public void setTileTheme(TileTheme theme) {
+        tileTheme = theme;
+        buildAtlases();
+        if (displayMatrix == null) return;
+        displayMatrix.setAtlas(boardAtlas);
+        brickTiles.setAtlas(boardAtlas);
+        ghostTiles.setAtlas(boardAtlas);
+        nextBrickTiles.setAtlas(largeAtlas);
+        holdBrickTiles.setAtlas(largeAtlas);
+        nextBrickTiles2.setAtlas(smallAtlas);
+        nextBrickTiles3.setAtlas(smallAtlas);
+        nextBrickTiles4.setAtlas(smallAtlas);
     }
 
     public void refreshBrick(ViewData brick) {
         if (isPause.getValue() == Boolean.FALSE) {
-            double scaleFactor = currentBrickSize / GameConfig.BRICK_SIZE;
-
-            brickPanel.setLayoutX(gamePanel.getLayoutX() + brick.getxPosition() * brickPanel.getVgap() + brick.getxPosition() * currentBrickSize);
-            brickPanel.setLayoutY(GameConfig.BRICK_PANEL_Y_OFFSET * scaleFactor + gamePanel.getLayoutY() + brick.getyPosition() * brickPanel.getHgap() + brick.getyPosition() * currentBrickSize);
-            for (int i = 0; i < brick.getBrickData().length; i++) {
-                for (int j = 0; j < brick.getBrickData()[i].length; j++) {
-                    setRectangleData(brick.getBrickData()[i][j], rectangles[i][j]);
-                }
-            }
+            updateMovingPanelsPosition(brick);
+            brickTiles.show(brick.getBrickData());
 
             int[][] ghostBrick = brick.getBrickData();
 
-            ghostBrickPanel.setLayoutX(gamePanel.getLayoutX() + brick.getxPosition() * brickPanel.getVgap() + brick.getxPosition() * currentBrickSize);
-            ghostBrickPanel.setLayoutY(GameConfig.BRICK_PANEL_Y_OFFSET * scaleFactor + gamePanel.getLayoutY() + brick.getGhostYPosition() * brickPanel.getHgap() + brick.getGhostYPosition() * currentBrickSize);
+            ghostBrickPanel.setLayoutX(cellX(brick.getxPosition()));
+            ghostBrickPanel.setLayoutY(cellY(brick.getGhostYPosition()));
 
-            for (int i = 0; i < 4; i++) {
-                for (int j = 0; j < 4; j++) {
-                    if (i < ghostBrick.length && j < ghostBrick[i].length && ghostBrick[i][j] != 0) setRectangleData(ghostBrick[i][j], ghostRectangles[i][j]);
-                    else { setRectangleData(0, ghostRectangles[i][j]); }
+            ghostTiles.show(ghostBrick);
+
+            // the queue and hold only change on spawn and hold, not on every move
+            if (brick.getPreviewVersion() != previewVersion) {
+                previewVersion = brick.getPreviewVersion();
+                holdBrickTiles.show(brick.getHoldBrickData());
+                displayNextBricks(brick.getNextBrickData());
+            }
+        }
+    }
+
+    /**
+     * Draws the "best placement" hint, outlined like a landed brick.
+     *
+     * @param shape The hinted brick's shape matrix in its hinted rotation.
+     * @param x     The column of the shape's top-left corner.
+     * @param y     The row of the shape's top-left corner.
+     */
+    public void showHint(int[][] shape, int x, int y) {
+        if (hintRectangles == null) return;
+        hintX = x;
+        hintY = y;
+        positionHintPanel();
+        for (int i = 0; i < 4; i++) {
+            for (int j = 0; j < 4; j++) {
+                Rectangle r = hintRectangles[i][j];
+                if (i < shape.length && j < shape[i].length && shape[i][j] != 0) {
+                    r.setFill(Color.TRANSPARENT);
+                    r.setStroke(getFillColor(shape[i][j]));
+                    r.setStrokeWidth(2);
+                } else {
+                    r.setStroke(null);
                 }
             }
+        }
+    }
 
-            displayHoldBrick(brick.getHoldBrickData());
-            displayNextBricks(brick.getNextBrickData());
+    /**
+     * Hides the hint, e.g. when the brick it was computed for has landed.
+     */
+    public void clearHint() {
+        if (hintRectangles == null) return;
+        for (int i = 0; i < 4; i++) {
+            for (int j = 0; j < 4; j++) {
+                hintRectangles[i][j].setFill(Color.TRANSPARENT);
+                hintRectangles[i][j].setStroke(null);
+            }
         }
     }
 
+    private void positionHintPanel() {
+        hintBrickPanel.setLayoutX(cellX(hintX));
+        hintBrickPanel.setLayoutY(cellY(hintY));
+    }
+
+    @FXML
+    private void toggleHint(ActionEvent actionEvent) {
+        hintsEnabled.set(!hintsEnabled.get());
+        hintButton.setText(hintsEnabled.get() ? "Hint: On" : "Hint: Off");
+        gamePanel.requestFocus();
+    }
+
     public void refreshGameBackground(int[][] board) {
-        for (int i = 2; i < board.length; i++) {
-            for (int j = 0; j < board[i].length; j++) {
-                setRectangleData(board[i][j], displayMatrix[i][j]);
+        // only the rows in the window are drawn
+        background = board;
+        for (int i = 0; i < displayMatrix.getRows(); i++) {
+            int[] row = board[viewTop + i];
+            for (int j = 0; j < row.length; j++) {
+                displayMatrix.set(i, j, row[j]);
             }
         }
     }
 
-    private void setRectangleData(int color, Rectangle rectangle) {
-        rectangle.setFill(getFillColor(color));
-        rectangle.setArcHeight(9);
-        rectangle.setArcWidth(9);
+    /**
+     * Gets the number of cell images set by the renderer since the game view was built.
+     *
+     * @return The updates issued.
+     */
+    public long getTileUpdateCount() {
+        long count = 0;
+        for (TileGrid grid : tileGrids()) count += grid.getUpdateCount();
+        return count;
+    }
+
+    /**
+     * Gets the number of cell updates the renderer skipped because the colour had not changed.
+     *
+     * @return The updates skipped.
+     */
+    public long getTileSkipCount() {
+        long count = 0;
+        for (TileGrid grid : tileGrids()) count += grid.getSkipCount();
+        return count;
+    }
+
+    private List<TileGrid> tileGrids() {
+        if (displayMatrix == null) return List.of();
+        return List.of(displayMatrix, brickTiles, ghostTiles, nextBrickTiles, nextBrickTiles2,
+                nextBrickTiles3, nextBrickTiles4, holdBrickTiles);
     }
 
     public void moveDown(MoveEvent event) {
@@ -430,7 +555,7 @@ public class GuiController implements Initializable {
             DownData downData = eventListener.onDownEvent(event);
             if (downData.getClearRow() != null && downData.getClearRow().getLinesRemoved() > 0) {
                 showNotification("+" + downData.getClearRow().getScoreBonus(), 0);
-                playSound(clearRowSoundPlayer);
+                playSound(AudioEngine.Effect.LINE_CLEAR);
             }
             refreshBrick(downData.getViewData());
         }
@@ -441,17 +566,22 @@ public class GuiController implements Initializable {
         DownData downData = eventListener.onHardDropEvent();
         if (downData.getClearRow() != null && downData.getClearRow().getLinesRemoved() > 0) {
             showNotification("+" + downData.getClearRow().getScoreBonus(), 0);
-            playSound(clearRowSoundPlayer);
+            playSound(AudioEngine.Effect.LINE_CLEAR);
         }
         refreshBrick(downData.getViewData());
         gamePanel.requestFocus();
     }
 
     public void showNotification(String text, double yOffset) {
-        NotificationPanel speedUpPanel = new NotificationPanel(text);
-        speedUpPanel.setLayoutY(yOffset);
-        groupNotification.getChildren().add(speedUpPanel);
-        speedUpPanel.showScore(groupNotification.getChildren());
+        notificationPool.acquire().showScore(text, yOffset);
+    }
+
+    /** Builds a notification panel for the pool; it stays in the group and is hidden when idle. */
+    private NotificationPanel createNotificationPanel() {
+        NotificationPanel panel = new NotificationPanel();
+        panel.setOnHidden(() -> notificationPool.release(panel));
+        groupNotification.getChildren().add(panel);
+        return panel;
     }
 
     public void setEventListener(InputEventListener eventListener, GameSettings settings) {
@@ -459,6 +589,8 @@ public class GuiController implements Initializable {
         this.settings = settings;
         InputHandler inputHandler = new InputHandler(this, this.eventListener, settings);
         gamePanel.setOnKeyPressed(inputHandler);
+        // pick up edits to the settings file while this game is running
+        SettingsService.getInstance().setListener(() -> Platform.runLater(inputHandler::loadKeybindings));
     }
 
     public void bindScore(IntegerProperty integerProperty) {
@@ -495,10 +627,8 @@ public class GuiController implements Initializable {
             isPause.setValue(Boolean.TRUE);
             pauseButton.setGraphic(resumeIconView);
             
-            // Stop game music
-            if (gameOverPanel != null && gameOverPanel.getGameMusic() != null) {
-                gameOverPanel.getGameMusic().pause();
-            }
+            // Pause game music
+            audio.pauseMusic();
             
             // Show pause overlay image
             if (pauseOverlay != null) {
@@ -511,9 +641,7 @@ public class GuiController implements Initializable {
             pauseButton.setGraphic(pauseIconView);
             
             // Resume game music
-            if (gameOverPanel != null && gameOverPanel.getGameMusic() != null) {
-                gameOverPanel.getGameMusic().play();
-            }
+            audio.resumeMusic();
             
             // Hide pause overlay image
             if (pauseOverlay != null) {
@@ -523,6 +651,13 @@ public class GuiController implements Initializable {
         gamePanel.requestFocus();
     }
 
+    /**
+     * Shows or hides the performance overlay.
+     */
+    public void togglePerformanceHud() {
+        performanceHud.toggle();
+    }
+
     public boolean isPause() { return isPause.get(); }
     public boolean isGameOver() { return isGameOver.get(); }
     public InputEventListener getEventListener() { return this.eventListener; }
@@ -532,11 +667,9 @@ public class GuiController implements Initializable {
         eventListener.stopGame();
         isPause.setValue(Boolean.TRUE);
         
-        // Stop game music
-        if (gameOverPanel != null) {
-            gameOverPanel.stopGameMusic();
-        }
-        
+        // Pause game music while asking
+        audio.pauseMusic();
+
         Alert alert = new Alert(Alert.AlertType.CONFIRMATION);
         alert.setContentText("Are you sure you want to go back to menu?");
         Optional<ButtonType> response = alert.showAndWait();
@@ -551,6 +684,7 @@ public class GuiController implements Initializable {
         } else {
             eventListener.resumeGame();
             isPause.setValue(Boolean.FALSE);
+            audio.resumeMusic();
             gamePanel.requestFocus();
         }
     }
@@ -580,26 +714,4 @@ public class GuiController implements Initializable {
         eventListener.resumeGame();
         gamePanel.requestFocus();
     }
-
-    private void centerBoard() {
-        Scene s = gamePanel.getScene();
-        if (s == null) return;
-        if (boardPixelWidth <= 0 || boardPixelHeight <= 0) return;
-
-        double sceneW = s.getWidth();
-        double sceneH = s.getHeight();
-        double x = (sceneW - boardPixelWidth) / 2.0;
-        double y = (sceneH - boardPixelHeight) / 2.0;
-
-        if (Double.isNaN(x) || Double.isNaN(y)) return;
-        gamePanel.setLayoutX(x < 0 ? 0 : x);
-        gamePanel.setLayoutY(y < 0 ? 0 : y);
-
-        brickPanel.setLayoutX(gamePanel.getLayoutX());
-        brickPanel.setLayoutY(gamePanel.getLayoutY());
-        ghostBrickPanel.setLayoutX(gamePanel.getLayoutX());
-        ghostBrickPanel.setLayoutY(gamePanel.getLayoutY());
-        groupNotification.setLayoutX(gamePanel.getLayoutX());
-        groupNotification.setLayoutY(gamePanel.getLayoutY());
-    }
-}
\ No newline at end of file
+}
@@ -73,6 +73,26 @@ public interface InputEventListener {
      */
     ViewData onHoldEvent();
 
+    /**
+     * Takes back the last placement, if undo is available in this game.
+     *
+     * @return The {@link ViewData} of the restored brick.
+     */
+    ViewData onUndoEvent();
+
+    /**
+     * Replays the last placement that was taken back, if any.
+     *
+     * @return The {@link ViewData} of the restored brick.
+     */
+    ViewData onRedoEvent();
+
+    /**
+     * Records that the player pressed a key that moves, rotates or drops the falling brick.
+     * Used to compare the player's inputs with the fewest needed (finesse).
+     */
+    void recordKeyPress();
+
     /**
      * Stops the main game loop.
      */
@@ -2,26 +2,30 @@ package com.comp2042.view;
 
 import com.comp2042.GameConfig;
 import com.comp2042.controller.GameController;
+import com.comp2042.metrics.PerformanceMonitor;
 import com.comp2042.model.Difficulty;
 import com.comp2042.model.GameSettings;
+import com.comp2042.model.GameSnapshot;
+import com.comp2042.model.SettingsService;
 import javafx.application.Application;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Parent;
+import javafx.application.Platform;
 import javafx.scene.Scene;
-import javafx.scene.media.Media;
-import javafx.scene.media.MediaPlayer;
 import javafx.stage.Stage;
 import javafx.stage.StageStyle;
 
 import java.io.IOException;
-import java.net.URL;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
 
 public class Main extends Application {
 
     private Stage primaryStage;
 
-    private MediaPlayer clearRowSoundPlayer;
-    private MediaPlayer speedUpSoundPlayer;
+    // Every screen is parsed once and shown again from the cache; all of them share one scene
+    private final CachedScreen<MainMenuController> menuScreen = new CachedScreen<>("/fxml/main_menu.fxml");
+    private final CachedScreen<GuiController> gameScreen = new CachedScreen<>("/fxml/game_layout.fxml");
+    private final CachedScreen<SettingController> settingsScreen = new CachedScreen<>("/fxml/settings_screen.fxml");
+    private Scene scene;
 
     public Main() {}
 
@@ -35,85 +39,121 @@ public class Main extends Application {
         primaryStage.setFullScreen(true);                // Enter fullscreen mode
         primaryStage.setFullScreenExitHint("");          // Optional: hide "Press ESC to exit fullscreen"
 
-        // Load shared media players
-        loadSounds();
-
-        // Show the first screen
-        showMainMenuScreen();
+        startLoading();
     }
 
-    private void loadSounds() {
-        try {
-            URL clearResource = getClass().getResource("/sounds/clearRowSound.mp3");
-            URL speedResource = getClass().getResource("/sounds/speedUpSound.mp3");
-
-            if (clearResource != null) {
-                Media clearMedia = new Media(clearResource.toExternalForm());
-                clearRowSoundPlayer = new MediaPlayer(clearMedia);
-            }
-            if (speedResource != null) {
-                Media speedMedia = new Media(speedResource.toExternalForm());
-                speedUpSoundPlayer = new MediaPlayer(speedMedia);
-            }
-        } catch (Exception e) {
-            System.err.println("Failed to load sounds: " + e.getMessage());
-        }
+    /**
+     * Loads the assets on background threads. The menu is shown as soon as its own FXML and the
+     * font are ready; the audio, the icons and the other screens keep loading behind it, and the
+     * menu music starts once its player is open. Each step's timing is logged.
+     */
+    private void startLoading() {
+        StartupLoader startup = new StartupLoader();
+        AssetCache assets = AssetCache.getInstance();
+        // the audio step may only get a worker after the menu is shown; until then the menu
+        // music must wait for it rather than open its player on the FX thread
+        AudioEngine.getInstance().beginLoading();
+
+        CompletableFuture<Void> menu = startup.run("menu screen", menuScreen::load);
+        CompletableFuture<Void> font = startup.run("font", () -> assets.getFont(AssetCache.DIGITAL_FONT, 38));
+        CompletableFuture.allOf(menu, font).thenRunAsync(() -> {
+            showMainMenuScreen();
+            startup.mark("menu shown");
+        }, Platform::runLater);
+
+        startup.run("audio", AudioEngine.getInstance()::load);
+        CompletableFuture<Void> icons = startup.run("icons", () -> AssetCache.ICONS.forEach(assets::getImage));
+        startup.run("game screen", gameScreen::load, font, icons);
+        startup.run("settings screen", settingsScreen::load);
+        startup.finish();
     }
 
     public void showMainMenuScreen() {
+        long start = System.nanoTime();
         try {
-            FXMLLoader fxmlLoader = new FXMLLoader(getClass().getResource("/fxml/main_menu.fxml"));
-            Parent root = fxmlLoader.load();
-
-            MainMenuController controller = fxmlLoader.getController();
+            MainMenuController controller = menuScreen.load().getController();
             controller.setMainApp(this);
-
-            Scene scene = new Scene(root);
-            primaryStage.setScene(scene);
-            primaryStage.setFullScreen(true); // Keep fullscreen
-            primaryStage.setFullScreenExitHint("");
-            primaryStage.show();
+            controller.refresh();
+            showScreen(menuScreen, start);
         } catch (IOException e) {
             e.printStackTrace();
         }
     }
 
     public void showGameScreen(Difficulty difficulty) {
+        showGameScreen((c, settings) -> new GameController(c, difficulty, settings));
+    }
+
+    /**
+     * Shows the game screen and continues a suspended game.
+     *
+     * @param snapshot The saved game to resume.
+     */
+    public void resumeGame(GameSnapshot snapshot) {
+        showGameScreen((c, settings) -> new GameController(c, snapshot, settings));
+    }
+
+    /**
+     * Shows the game screen with a sandbox game on a board of
+     * {@link GameConfig#SANDBOX_BOARD_HEIGHT} x {@link GameConfig#SANDBOX_BOARD_WIDTH} cells.
+     */
+    public void showSandboxScreen() {
+        showGameScreen((c, settings) -> new GameController(c,
+                GameConfig.SANDBOX_BOARD_HEIGHT, GameConfig.SANDBOX_BOARD_WIDTH, settings));
+    }
+
+    /**
+     * Shows the game screen and starts a game on it.
+     *
+     * @param startGame Creates the {@link GameController} of the game.
+     */
+    private void showGameScreen(BiConsumer<GuiController, GameSettings> startGame) {
+        long start = System.nanoTime();
         try {
-            FXMLLoader fxmlLoader = new FXMLLoader(getClass().getResource("/fxml/game_layout.fxml"));
-            Parent root = fxmlLoader.load();
-            GuiController c = fxmlLoader.getController();
+            GuiController c = gameScreen.load().getController();
             c.setMainApp(this);
-            GameSettings settings = new GameSettings();
+            c.reset();
+            GameSettings settings = SettingsService.getInstance().getSettings();
 
-            Scene scene = new Scene(root);
-            primaryStage.setScene(scene);
-            primaryStage.setFullScreen(true); // Keep fullscreen
-            primaryStage.setFullScreenExitHint("");
-            primaryStage.show();
+            showScreen(gameScreen, start);
 
-            new GameController(c, difficulty, clearRowSoundPlayer, speedUpSoundPlayer, settings);
+            startGame.accept(c, settings);
         } catch (IOException e) {
             e.printStackTrace();
         }
     }
 
     public void showSettingScreen() {
+        long start = System.nanoTime();
         try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/fxml/settings_screen.fxml"));
-            Parent root = loader.load();
-            SettingController controller = loader.getController();
-            controller.setupVolumeControls(clearRowSoundPlayer, speedUpSoundPlayer);
+            SettingController controller = settingsScreen.load().getController();
+            controller.setupVolumeControls(AudioEngine.getInstance());
             controller.setMainApp(this);
+            controller.refresh();
+            showScreen(settingsScreen, start);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
 
-            Scene scene = new Scene(root);
+    /**
+     * Puts a screen into the stage. All screens share one {@link Scene}, so a switch only swaps
+     * its root and the stage stays in fullscreen.
+     *
+     * @param screen The loaded screen.
+     * @param start  The {@link System#nanoTime()} the navigation was requested at.
+     */
+    private void showScreen(CachedScreen<?> screen, long start) {
+        if (scene == null) {
+            scene = new Scene(screen.getRoot());
             primaryStage.setScene(scene);
             primaryStage.setFullScreen(true); // Keep fullscreen
             primaryStage.setFullScreenExitHint("");
             primaryStage.show();
-        } catch (IOException e) {
-            e.printStackTrace();
+        } else {
+            scene.setRoot(screen.getRoot());
         }
+        PerformanceMonitor.getInstance().getScreenSwitchTime().recordSince(start);
     }
 
     public static void main(String[] args) {
@@ -1,16 +1,21 @@
 package com.comp2042.view;
 
 import com.comp2042.model.Difficulty;
+import com.comp2042.model.GameSnapshot;
 import com.comp2042.model.HighScoreManager;
+import com.comp2042.model.SaveGameStore;
+import com.comp2042.model.history.DifficultyStatistics;
+import com.comp2042.model.history.GameStatistics;
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 //import java.awt.event.ActionEvent;
 import javafx.event.ActionEvent;
 import javafx.fxml.Initializable;
 import javafx.scene.control.Button;
-import javafx.scene.media.Media;
-import javafx.scene.media.MediaPlayer;
+import javafx.scene.control.Label;
 
 import java.net.URL;
+import java.util.Optional;
 import java.util.ResourceBundle;
 
 /**
@@ -32,8 +37,13 @@ public class MainMenuController implements Initializable {
     @FXML
     private Button extraHardButton;
 
-    // MediaPlayer for main menu music
-    private MediaPlayer menuMusicPlayer;
+    /** The FXML {@link Button} that continues the suspended game; hidden if there is none. */
+    @FXML
+    private Button resumeButton;
+
+    /** The FXML {@link Label} showing score statistics per difficulty. */
+    @FXML
+    private Label statsLabel;
 
     /**
      * Constructs the MainMenuController instance.
@@ -45,16 +55,27 @@ public class MainMenuController implements Initializable {
 
     /**
      * Initializes the controller.
-     * This method is called automatically by JavaFX after the FXML file is loaded.
-     * It checks the high scores for Easy, Normal, and Hard modes. If all
-     * scores are above a set threshold (e.g., 5000), it makes the
-     * "Extra Hard" button visible.
+     * This method is called automatically by JavaFX after the FXML file is loaded, which
+     * happens only once: the screen is cached and {@link #refresh()} brings it up to date
+     * every time it is shown.
      *
      * @param location  The location used to resolve relative paths, or null if not known.
      * @param resources The resources used to localize, or null if not known.
      */
     @Override
     public void initialize(URL location, ResourceBundle resources) {
+        // show statistics again whenever a game finishes or the history finishes loading
+        GameStatistics.getDefault().setListener(() -> Platform.runLater(this::refreshStatistics));
+    }
+
+    /**
+     * Updates the screen each time it is shown.
+     * It checks the high scores for Easy, Normal, and Hard modes. If all
+     * scores are above a set threshold (e.g., 5000), it makes the
+     * "Extra Hard" button visible. It also offers the suspended game, shows the
+     * statistics and starts the menu music.
+     */
+    public void refresh() {
         // get high scores
         int easyScore = new HighScoreManager(Difficulty.EASY).getHighScore();
         int normalScore = new HighScoreManager(Difficulty.NORMAL).getHighScore();
@@ -67,30 +88,46 @@ public class MainMenuController implements Initializable {
             extraHardButton.setVisible(true);
         }
 
+        // the saved game is already in memory, so this never waits for the disk
+        Optional<GameSnapshot> saved = SaveGameStore.getDefault().load();
+        if (resumeButton != null) {
+            resumeButton.setVisible(saved.isPresent());
+            resumeButton.setManaged(saved.isPresent());
+            saved.ifPresent(snapshot -> resumeButton.setText("Resume (" + snapshot.getDifficulty() + ", "
+                    + snapshot.getBoard().getScore() + ")"));
+        }
+
+        refreshStatistics();
+
         startMenuMusic();
     }
 
-    // Call to start the looping main menu soundtrack (expects resource /sounds/bg_main_menu.mp3)
-    public void startMenuMusic() {
-        try {
-            String musicUrl = getClass().getResource("/sounds/bg_main_menu.mp3").toExternalForm();
-            Media media = new Media(musicUrl);
-            menuMusicPlayer = new MediaPlayer(media);
-            menuMusicPlayer.setCycleCount(MediaPlayer.INDEFINITE);
-            menuMusicPlayer.setVolume(0.1);
-            menuMusicPlayer.play();
-        } catch (Exception e) {
-            System.err.println("Main menu music not started: " + e.getMessage());
+    /**
+     * Fills the statistics label from the live {@link GameStatistics}.
+     * Only reads in-memory histograms, so it is cheap enough to run on every update.
+     */
+    private void refreshStatistics() {
+        if (statsLabel == null) return;
+        StringBuilder text = new StringBuilder();
+        for (Difficulty difficulty : Difficulty.values()) {
+            DifficultyStatistics stats = GameStatistics.getDefault().get(difficulty);
+            if (stats.getGames() == 0) continue;
+            if (!text.isEmpty()) text.append('\n');
+            text.append(String.format("%-6s %4d games  score p50 %d  p90 %d  p99 %d  lines avg %.1f  %.1f lines/min",
+                    difficulty, stats.getGames(), stats.getScorePercentile(50), stats.getScorePercentile(90),
+                    stats.getScorePercentile(99), stats.getMeanLines(), stats.getLinesPerMinute()));
         }
+        statsLabel.setText(text.toString());
     }
 
-    // Call this when leaving the main menu to stop and release resource
+    // Call to start the looping main menu soundtrack; the engine keeps one player for it
+    public void startMenuMusic() {
+        AudioEngine.getInstance().playMusic(AudioEngine.Track.MENU);
+    }
+
+    // Call this when leaving the main menu to stop the soundtrack
     public void stopMenuMusic() {
-        if (menuMusicPlayer != null) {
-            menuMusicPlayer.stop();
-            menuMusicPlayer.dispose();
-            menuMusicPlayer = null;
-        }
+        AudioEngine.getInstance().stopMusic(AudioEngine.Track.MENU);
     }
 
     /**
@@ -105,6 +142,20 @@ public class MainMenuController implements Initializable {
         this.mainApp = mainApp;
     }
 
+    /**
+     * Handles the "Resume" button click event.
+     * Continues the suspended game held by the {@link SaveGameStore}.
+     *
+     * @param e The ActionEvent triggered by the button.
+     */
+    @FXML
+    void onResumeClicked(ActionEvent e) {
+        Optional<GameSnapshot> saved = SaveGameStore.getDefault().load();
+        if (saved.isEmpty()) return;
+        stopMenuMusic();
+        mainApp.resumeGame(saved.get());
+    }
+
     /**
      * Handles the "Easy" button click event.
      * Tells the main application to start the game with {@link Difficulty#EASY}.
@@ -159,6 +210,18 @@ public class MainMenuController implements Initializable {
         mainApp.showGameScreen(Difficulty.EXTRA);
     }
 
+    /**
+     * Handles the "Sandbox" button click event.
+     * Tells the main application to start a sandbox game on a very large board.
+     *
+     * @param e The ActionEvent triggered by the button.
+     */
+    @FXML
+    void onSandboxClicked(ActionEvent e) {
+        stopMenuMusic();
+        mainApp.showSandboxScreen();
+    }
+
     /**
      * Handles the "Settings" button click event.
      * Tells the main application to display the settings screen.
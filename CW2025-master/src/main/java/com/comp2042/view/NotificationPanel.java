@@ -3,10 +3,6 @@ package com.comp2042.view;
 import javafx.animation.FadeTransition;
 import javafx.animation.ParallelTransition;
 import javafx.animation.TranslateTransition;
-import javafx.collections.ObservableList;
-import javafx.event.ActionEvent;
-import javafx.event.EventHandler;
-import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.effect.Effect;
 import javafx.scene.effect.Glow;
@@ -16,50 +12,72 @@ import javafx.util.Duration;
 
 /**
  * A specialized BorderPane designed to show a temporary, animated score notification.
- * This component manages its own animation lifecycle, including fading out, moving,
- * and removing itself from the scene graph.
+ * A panel is built once and reused for many notifications (see {@link ObjectPool}): it stays in
+ * the scene graph and is hidden between notifications, and its label, effect and animation are
+ * created only once.
  */
 public class NotificationPanel extends BorderPane {
 
+    /** The glow of every notification; effects hold no per-node state, so one is shared. */
+    private static final Effect GLOW = new Glow(0.6);
+
+    private final Label score;
+    private final TranslateTransition rise;
+    private final ParallelTransition transition;
+    private Runnable onHidden;
+
     /**
-     * Creates a new NotificationPanel with the specified text.
+     * Creates a hidden NotificationPanel.
      * The text is styled using the "bonusStyle" CSS class and a Glow effect.
-     *
-     * @param text The text to display in the notification.
      */
-    public NotificationPanel(String text) {
+    public NotificationPanel() {
         setMinHeight(200);
         setMinWidth(220);
-        final Label score = new Label(text);
+        setVisible(false);
+        setMouseTransparent(true);
+        score = new Label();
         score.getStyleClass().add("bonusStyle");
-        final Effect glow = new Glow(0.6);
-        score.setEffect(glow);
+        score.setEffect(GLOW);
         score.setTextFill(Color.WHITE);
         setCenter(score);
 
+        FadeTransition ft = new FadeTransition(Duration.millis(2000), this);
+        ft.setFromValue(1);
+        ft.setToValue(0);
+        rise = new TranslateTransition(Duration.millis(2500), this);
+        transition = new ParallelTransition(rise, ft);
+        // After the animation finishes, hide the panel until it is shown again.
+        transition.setOnFinished(event -> {
+            setVisible(false);
+            if (onHidden != null) onHidden.run();
+        });
     }
 
     /**
-     * Plays a fade-out and translate-up animation for this panel.
-     * Upon completion, the panel automatically removes itself from the provided list
+     * Sets the action run when a notification has finished and the panel is hidden,
+     * e.g. returning it to its pool.
      *
-     * @param list The list of nodes (e.g., from a Group) from which this panel should remove itself after animating.
+     * @param onHidden The action.
      */
-    public void showScore(ObservableList<Node> list) {
-        FadeTransition ft = new FadeTransition(Duration.millis(2000), this);
-        TranslateTransition tt = new TranslateTransition(Duration.millis(2500), this);
-        tt.setToY(this.getLayoutY() - 40);
-        ft.setFromValue(1);
-        ft.setToValue(0);
-        ParallelTransition transition = new ParallelTransition(tt, ft);
+    public void setOnHidden(Runnable onHidden) {
+        this.onHidden = onHidden;
+    }
 
-        // After the animation finishes, remove this panel from the parent list.
-        transition.setOnFinished(new EventHandler<ActionEvent>() {
-            @Override
-            public void handle(ActionEvent event) {
-                list.remove(NotificationPanel.this);
-            }
-        });
-        transition.play();
+    /**
+     * Shows a notification with a fade-out and translate-up animation. A notification still
+     * running on this panel is replaced.
+     *
+     * @param text    The text to display.
+     * @param yOffset The vertical position of the panel.
+     */
+    public void showScore(String text, double yOffset) {
+        transition.stop();
+        score.setText(text);
+        setLayoutY(yOffset);
+        setTranslateY(0);
+        setOpacity(1);
+        rise.setToY(yOffset - 40);
+        setVisible(true);
+        transition.playFromStart();
     }
 }
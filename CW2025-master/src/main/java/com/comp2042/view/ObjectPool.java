@@ -0,0 +1,84 @@
+package com.comp2042.view;
+
+import java.util.ArrayDeque;
+import java.util.function.Supplier;
+
+/**
+ * A fixed-size pool of reusable objects, such as scene-graph nodes that are expensive to build.
+ * At most {@code capacity} objects are ever created. When every one of them is in use,
+ * {@link #acquire()} takes back the one that has been in use longest, so the newest request always
+ * gets an object and the number in use never exceeds the capacity. It is not thread-safe; the
+ * JavaFX pools are only used on the application thread.
+ *
+ * @param <T> The type of pooled object.
+ */
+public final class ObjectPool<T> {
+
+    private final Supplier<T> factory;
+    private final int capacity;
+    private final ArrayDeque<T> idle = new ArrayDeque<>();
+    /** The objects in use, the longest-used first. */
+    private final ArrayDeque<T> active = new ArrayDeque<>();
+    private int createdCount;
+    private long acquireCount;
+    private long recycleCount;
+
+    /**
+     * Constructs an empty pool; objects are created on demand.
+     *
+     * @param factory  Creates a new object.
+     * @param capacity The most objects the pool creates.
+     * @throws IllegalArgumentException If the capacity is not positive.
+     */
+    public ObjectPool(Supplier<T> factory, int capacity) {
+        if (capacity <= 0) throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        this.factory = factory;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Takes an object: an idle one if there is one, a new one while under capacity, otherwise
+     * the one that has been in use longest, which the caller must reset.
+     *
+     * @return The object, now in use.
+     */
+    public T acquire() {
+        T item = idle.pollFirst();
+        if (item == null) {
+            if (createdCount < capacity) {
+                item = factory.get();
+                createdCount++;
+            } else {
+                item = active.pollFirst();
+                recycleCount++;
+            }
+        }
+        active.addLast(item);
+        acquireCount++;
+        return item;
+    }
+
+    /**
+     * Returns an object to the pool. Releasing an object that is not in use does nothing.
+     *
+     * @param item The object.
+     */
+    public void release(T item) {
+        if (active.remove(item)) idle.addLast(item);
+    }
+
+    /** @return The most objects the pool creates. */
+    public int getCapacity() { return capacity; }
+
+    /** @return The number of objects in use. */
+    public int getActiveCount() { return active.size(); }
+
+    /** @return The number of objects created so far. */
+    public int getCreatedCount() { return createdCount; }
+
+    /** @return The number of objects handed out so far. */
+    public long getAcquireCount() { return acquireCount; }
+
+    /** @return The number of times an object still in use was taken back. */
+    public long getRecycleCount() { return recycleCount; }
+}
@@ -0,0 +1,107 @@
+package com.comp2042.view;
+
+import com.comp2042.metrics.PerformanceMonitor;
+import com.comp2042.model.WriteBehindExecutor;
+import javafx.animation.AnimationTimer;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.control.Label;
+
+import java.util.function.LongSupplier;
+
+/**
+ * The toggleable performance overlay of the game screen.
+ * While it is shown, an {@link AnimationTimer} reports every pulse to the {@link PerformanceMonitor};
+ * only every {@link #SAMPLE_INTERVAL_NANOS} does it take a sample, count the scene's nodes and
+ * update its label, so the per-frame cost is a couple of counter updates. The time it spends per
+ * frame is itself recorded and shown.
+ */
+final class PerformanceHud extends AnimationTimer {
+
+    /** How often the text is updated. */
+    private static final long SAMPLE_INTERVAL_NANOS = 250_000_000L;
+
+    private final Label label;
+    private final PerformanceMonitor monitor = PerformanceMonitor.getInstance();
+    private final LongSupplier tileUpdates;
+    private final LongSupplier tileSkips;
+    private long lastSampleNanos;
+    private long lastTileUpdates;
+    private long lastTileSkips;
+    private boolean shown;
+
+    /**
+     * Constructs a hidden overlay.
+     *
+     * @param label       The label the overlay is drawn in.
+     * @param tileUpdates The renderer's count of cell images set.
+     * @param tileSkips   The renderer's count of cell updates skipped.
+     */
+    PerformanceHud(Label label, LongSupplier tileUpdates, LongSupplier tileSkips) {
+        this.label = label;
+        this.tileUpdates = tileUpdates;
+        this.tileSkips = tileSkips;
+        label.setVisible(false);
+    }
+
+    /** Shows the overlay if it is hidden and hides it if it is shown. */
+    void toggle() {
+        shown = !shown;
+        label.setVisible(shown);
+        if (shown) {
+            long now = System.nanoTime();
+            monitor.restart(now);
+            lastSampleNanos = now;
+            lastTileUpdates = tileUpdates.getAsLong();
+            lastTileSkips = tileSkips.getAsLong();
+            label.setText("sampling...");
+            start();
+        } else {
+            stop();
+        }
+    }
+
+    /** Hides the overlay and stops its timer, e.g. when the game screen is left. */
+    void hide() {
+        if (shown) toggle();
+    }
+
+    /** @return Whether the overlay is shown. */
+    boolean isShown() { return shown; }
+
+    @Override
+    public void handle(long now) {
+        long start = System.nanoTime();
+        monitor.frame(now);
+        if (now - lastSampleNanos >= SAMPLE_INTERVAL_NANOS) {
+            lastSampleNanos = now;
+            PerformanceMonitor.Sample sample = monitor.sample(now, countNodes(label.getScene() == null ? null : label.getScene().getRoot()));
+            long updates = tileUpdates.getAsLong();
+            long skips = tileSkips.getAsLong();
+            WriteBehindExecutor writer = WriteBehindExecutor.getShared();
+            label.setText(sample.format()
+                    + String.format("%ncells  set %d  skipped %d", updates - lastTileUpdates, skips - lastTileSkips)
+                    + String.format("%nwrites queue %d  mean %.2fms", writer.getQueueDepth(), writer.getWriteLatency().getMeanMillis())
+                    + String.format("%nscreen load %.1fms  switch last %.2fms  max %.2fms",
+                            monitor.getScreenLoadTime().getMeanMillis(), monitor.getScreenSwitchTime().getLastMillis(),
+                            monitor.getScreenSwitchTime().getMaxMillis())
+                    + String.format("%naudio  effect dispatch mean %.3fms  max %.3fms  music start %.1fms",
+                            monitor.getEffectDispatchTime().getMeanMillis(), monitor.getEffectDispatchTime().getMaxMillis(),
+                            monitor.getMusicStartLatency().getLastMillis())
+                    + String.format("%nhud    mean %.3fms  max %.3fms", monitor.getOverlayTime().getMeanMillis(), monitor.getOverlayTime().getMaxMillis()));
+            lastTileUpdates = updates;
+            lastTileSkips = skips;
+        }
+        monitor.getOverlayTime().recordSince(start);
+    }
+
+    /** Counts the nodes of a scene graph. */
+    private static int countNodes(Node node) {
+        if (node == null) return 0;
+        int count = 1;
+        if (node instanceof Parent parent) {
+            for (Node child : parent.getChildrenUnmodifiable()) count += countNodes(child);
+        }
+        return count;
+    }
+}
@@ -1,13 +1,13 @@
 package com.comp2042.view;
 
 import com.comp2042.model.GameSettings;
+import com.comp2042.model.SettingsService;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
 import javafx.scene.control.Button;
 import javafx.scene.control.Slider;
 import javafx.scene.control.ToggleButton;
 import javafx.scene.input.KeyCode;
-import javafx.scene.media.MediaPlayer;
 
 import java.net.URL;
 import java.util.ResourceBundle;
@@ -15,8 +15,8 @@ import java.util.ResourceBundle;
 /**
  * The controller for the settings screen (settings_screen.fxml).
  * This class manages the UI elements on the settings screen, primarily
- * sliders for adjusting the volume of the game's shared {@link MediaPlayer} instances.
- * It receives the {@link Main} app reference for navigation and the players
+ * sliders for adjusting the volume of the sound effects of the shared {@link AudioEngine}.
+ * It receives the {@link Main} app reference for navigation and the engine
  * for volume control.
  */
 public class SettingController implements Initializable {
@@ -36,14 +36,15 @@ public class SettingController implements Initializable {
     @FXML private Button holdKeyButton;
     @FXML private Button moveLeftMostKeyButton;
     @FXML private Button moveRightMostKeyButton;
+    @FXML private Button undoKeyButton;
+    @FXML private Button redoKeyButton;
     @FXML private Button resetButton;
 
     /** A reference to the main application class for switching scenes. */
     private Main mainApp;
 
-    /** The shared {@link MediaPlayer} for the row clear sound and speed up sound, received from Main. */
-    private MediaPlayer clearRowPlayer;
-    private MediaPlayer speedUpPlayer;
+    /** The shared {@link AudioEngine} playing the row clear sound and speed up sound, received from Main. */
+    private AudioEngine audio;
 
     private GameSettings settings;
 
@@ -61,7 +62,7 @@ public class SettingController implements Initializable {
      * Initializes the controller.
      * This method is called automatically by JavaFX after the FXML file is loaded.
      * It adds listeners to both volume sliders, which update the volume
-     * of the corresponding {@link MediaPlayer} in real-time.
+     * of the corresponding sound effect in real-time.
      *
      * @param url The location used to resolve relative paths for the root object, or null if not known.
      * @param resourceBundle The resources used to localize the root object, or null if not known.
@@ -69,24 +70,33 @@ public class SettingController implements Initializable {
     @Override
     public void initialize(URL url, ResourceBundle resourceBundle) {
 
-        this.settings = new GameSettings();
+        this.settings = SettingsService.getInstance().getSettings();
         loadKeybindButtons();
 
 
         clearRowVolumeSlider.valueProperty().addListener((observable, oldValue, newValue) -> {
-            if (clearRowPlayer != null) {
+            if (audio != null) {
                 // convert the slider value to sound volume
-                clearRowPlayer.setVolume(newValue.doubleValue() / 100.0);
+                audio.setVolume(AudioEngine.Effect.LINE_CLEAR, newValue.doubleValue() / 100.0);
             }
         });
 
         speedUpVolumeSlider.valueProperty().addListener((observable, oldValue, newValue) -> {
-            if (speedUpPlayer != null) {
-                speedUpPlayer.setVolume(newValue.doubleValue() / 100.0);
+            if (audio != null) {
+                audio.setVolume(AudioEngine.Effect.SPEED_UP, newValue.doubleValue() / 100.0);
             }
         });
     }
 
+    /**
+     * Updates the screen each time it is shown; the screen is cached, so the keybindings
+     * may have changed since {@link #initialize} ran.
+     */
+    public void refresh() {
+        settings = SettingsService.getInstance().getSettings();
+        loadKeybindButtons();
+    }
+
     /**
      * Load the current saved keybind and set to button text
      */
@@ -100,6 +110,8 @@ public class SettingController implements Initializable {
         holdKeyButton.setText(settings.getKeyCode("HOLD").name());
         moveLeftMostKeyButton.setText(settings.getKeyCode("MOVE_LEFT_MOST").name());
         moveRightMostKeyButton.setText(settings.getKeyCode("MOVE_RIGHT_MOST").name());
+        undoKeyButton.setText(settings.getKeyCode("UNDO").name());
+        redoKeyButton.setText(settings.getKeyCode("REDO").name());
     }
 
 
@@ -121,6 +133,10 @@ public class SettingController implements Initializable {
     private void onChangeRotateRight() { captureKeyForAction(rotateRightKeyButton, "ROTATE_RIGHT"); }
     @FXML
     private void onChangeHold() { captureKeyForAction(holdKeyButton, "HOLD"); }
+    @FXML
+    private void onChangeUndo() { captureKeyForAction(undoKeyButton, "UNDO"); }
+    @FXML
+    private void onChangeRedo() { captureKeyForAction(redoKeyButton, "REDO"); }
 
     /**
      * Resets all keybindings to their default values.
@@ -161,22 +177,16 @@ public class SettingController implements Initializable {
 
 
     /**
-     * Injects the shared {@link MediaPlayer} instances from the {@link Main} application.
+     * Injects the shared {@link AudioEngine} from the {@link Main} application.
      * This method also sets the initial value of the sliders to match the
-     * players' current volume levels.
+     * current volume of the effects.
      *
-     * @param clearRowPlayer The shared player for the line clear sound.
-     * @param speedUpPlayer  The shared player for the speed up sound.
+     * @param audio The engine playing the line clear and speed up sounds.
      */
-    public void setupVolumeControls(MediaPlayer clearRowPlayer, MediaPlayer speedUpPlayer) {
-        this.clearRowPlayer = clearRowPlayer;
-        
-        if (clearRowPlayer != null) {
-            clearRowVolumeSlider.setValue(this.clearRowPlayer.getVolume() * 100.0);
-        }
-        if (speedUpPlayer != null) {
-            speedUpVolumeSlider.setValue(this.speedUpPlayer.getVolume() * 100.0);
-        }
+    public void setupVolumeControls(AudioEngine audio) {
+        this.audio = audio;
+        clearRowVolumeSlider.setValue(audio.getVolume(AudioEngine.Effect.LINE_CLEAR) * 100.0);
+        speedUpVolumeSlider.setValue(audio.getVolume(AudioEngine.Effect.SPEED_UP) * 100.0);
     }
 
     /**
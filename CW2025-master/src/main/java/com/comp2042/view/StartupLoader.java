@@ -0,0 +1,94 @@
+package com.comp2042.view;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the loading steps of application startup on background threads and logs their timings.
+ * Each step starts as soon as the steps it depends on are done, so independent assets (fonts,
+ * images, FXML, audio) load at the same time. For every step the log shows its own duration and
+ * when it finished relative to the start of the application, so a step that became slower, or a
+ * milestone such as the menu appearing later, is visible in the console output.
+ */
+final class StartupLoader {
+
+    /** One loading step. */
+    @FunctionalInterface
+    interface Step {
+        /**
+         * Loads something.
+         *
+         * @throws Exception If loading fails; the failure is logged and startup continues.
+         */
+        void run() throws Exception;
+    }
+
+    private final long startNanos = System.nanoTime();
+    private final ExecutorService workers;
+    private final List<CompletableFuture<Void>> steps = new ArrayList<>();
+
+    /**
+     * Constructs a loader with a few daemon worker threads.
+     */
+    StartupLoader() {
+        int threads = Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors()));
+        AtomicInteger count = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "startup-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts a step once its dependencies are done. A step that fails is logged and counts as
+     * done, so the steps after it still run with whatever could be loaded.
+     *
+     * @param name         The name used in the log.
+     * @param step         The step.
+     * @param dependencies The steps that must be done first.
+     * @return A future completed when the step is done.
+     */
+    CompletableFuture<Void> run(String name, Step step, CompletableFuture<?>... dependencies) {
+        CompletableFuture<Void> done = CompletableFuture.allOf(dependencies).thenRunAsync(() -> {
+            long start = System.nanoTime();
+            try {
+                step.run();
+                log(name, start);
+            } catch (Exception e) {
+                System.err.println("Startup step " + name + " failed: " + e);
+            }
+        }, workers);
+        steps.add(done);
+        return done;
+    }
+
+    /**
+     * Logs a milestone, e.g. the first screen being shown.
+     *
+     * @param name The name used in the log.
+     */
+    void mark(String name) {
+        System.out.printf("startup %-16s           at %7.1fms%n", name, (System.nanoTime() - startNanos) / 1e6);
+    }
+
+    /**
+     * Logs the total once every step started so far is done and releases the worker threads.
+     */
+    void finish() {
+        CompletableFuture.allOf(steps.toArray(new CompletableFuture<?>[0])).thenRun(() -> {
+            mark("all loaded");
+            workers.shutdown();
+        });
+    }
+
+    private void log(String name, long stepStartNanos) {
+        long now = System.nanoTime();
+        System.out.printf("startup %-16s %7.1fms at %7.1fms%n", name,
+                (now - stepStartNanos) / 1e6, (now - startNanos) / 1e6);
+    }
+}
@@ -0,0 +1,75 @@
+package com.comp2042.view;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+
+/**
+ * The tiles of one {@link TileTheme} at one size, rasterized once into images.
+ * Cells are drawn by pointing an {@code ImageView} at a tile, which replaces setting the fill and
+ * the arcs of a shape node on every refresh. The tiles are immutable, so one atlas is shared by
+ * every cell of its size; a new atlas is only built when the cell size or the theme changes.
+ */
+public final class TileAtlas {
+
+    private final TileTheme theme;
+    private final int size;
+    private final int resolution;
+    /** One tile per palette entry, then the tile for unknown colour ids. */
+    private final Image[] tiles;
+
+    /**
+     * Rasterizes every tile of a theme at its display size.
+     *
+     * @param theme The theme.
+     * @param size  The tile side in pixels.
+     * @throws IllegalArgumentException If the size is not positive.
+     */
+    public TileAtlas(TileTheme theme, int size) {
+        this(theme, size, 1);
+    }
+
+    /**
+     * Rasterizes every tile of a theme at a multiple of its display size, for cells that are
+     * magnified by a transform: the cells draw the tiles at {@code size} and the magnification
+     * brings back the extra pixels, so the tiles stay sharp.
+     *
+     * @param theme      The theme.
+     * @param size       The tile side in pixels before magnification.
+     * @param resolution The number of image pixels per display pixel.
+     * @throws IllegalArgumentException If the size or the resolution is not positive.
+     */
+    public TileAtlas(TileTheme theme, int size, int resolution) {
+        this.theme = theme;
+        this.size = size;
+        this.resolution = resolution;
+        this.tiles = new Image[theme.getColorCount() + 1];
+        int pixels = size * resolution;
+        for (int id = 0; id < tiles.length; id++) {
+            // the last id is outside the palette and renders the fallback colour
+            WritableImage image = new WritableImage(pixels, pixels);
+            image.getPixelWriter().setPixels(0, 0, pixels, pixels, PixelFormat.getIntArgbInstance(),
+                    theme.rasterize(id, size, resolution), 0, pixels);
+            tiles[id] = image;
+        }
+    }
+
+    /**
+     * Gets the tile of a colour id.
+     *
+     * @param colorId The colour id.
+     * @return The tile image; unknown ids share the fallback tile.
+     */
+    public Image getTile(int colorId) {
+        return colorId >= 0 && colorId < tiles.length - 1 ? tiles[colorId] : tiles[tiles.length - 1];
+    }
+
+    /** @return The theme the tiles were drawn from. */
+    public TileTheme getTheme() { return theme; }
+
+    /** @return The tile side in display pixels. */
+    public int getSize() { return size; }
+
+    /** @return The number of image pixels per display pixel. */
+    public int getResolution() { return resolution; }
+}
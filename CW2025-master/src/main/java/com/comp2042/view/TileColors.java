@@ -0,0 +1,72 @@
+package com.comp2042.view;
+
+/**
+ * The colour id every cell of a {@link TileGrid} shows, kept apart from the image views so that
+ * the "did it change?" decision and its counters need no JavaFX toolkit.
+ * A cell is only reported as changed when its colour id differs from the one it shows; every
+ * update is counted as either issued or skipped.
+ */
+public final class TileColors {
+
+    private final int[][] colorIds;
+    private long updateCount;
+    private long skipCount;
+
+    /**
+     * Constructs a grid where every cell shows colour 0 (empty).
+     *
+     * @param rows    The number of rows.
+     * @param columns The number of columns.
+     * @throws IllegalArgumentException If either size is not positive.
+     */
+    public TileColors(int rows, int columns) {
+        if (rows <= 0 || columns <= 0) throw new IllegalArgumentException("Invalid size: " + rows + "x" + columns);
+        this.colorIds = new int[rows][columns];
+    }
+
+    /**
+     * Records a colour for one cell.
+     *
+     * @param row     The row.
+     * @param column  The column.
+     * @param colorId The colour id.
+     * @return {@code true} if the cell showed another colour and must be repainted.
+     */
+    public boolean set(int row, int column, int colorId) {
+        if (colorIds[row][column] == colorId) {
+            skipCount++;
+            return false;
+        }
+        colorIds[row][column] = colorId;
+        updateCount++;
+        return true;
+    }
+
+    /**
+     * Gets the colour a cell shows.
+     *
+     * @param row    The row.
+     * @param column The column.
+     * @return The colour id.
+     */
+    public int get(int row, int column) {
+        return colorIds[row][column];
+    }
+
+    /** Counts a repaint of every cell, e.g. after the tiles were switched to another atlas. */
+    public void countRepaintAll() {
+        updateCount += (long) getRows() * getColumns();
+    }
+
+    /** @return The number of rows. */
+    public int getRows() { return colorIds.length; }
+
+    /** @return The number of columns. */
+    public int getColumns() { return colorIds[0].length; }
+
+    /** @return The number of cell images set. */
+    public long getUpdateCount() { return updateCount; }
+
+    /** @return The number of cell updates skipped because the colour was unchanged. */
+    public long getSkipCount() { return skipCount; }
+}
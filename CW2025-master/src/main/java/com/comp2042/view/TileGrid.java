@@ -0,0 +1,96 @@
+package com.comp2042.view;
+
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.GridPane;
+
+/**
+ * A panel of tile cells that remembers the colour id every cell shows (see {@link TileColors}).
+ * A cell's image is only set when its colour id changes, so redrawing a panel whose cells mostly
+ * stay the same invalidates only the few cells that did change. The updates issued and skipped are
+ * counted to show how much redundant painting is avoided.
+ */
+final class TileGrid {
+
+    private final ImageView[][] tiles;
+    /** The colour id each cell currently shows. */
+    private final TileColors colors;
+    private TileAtlas atlas;
+
+    /**
+     * Adds a grid of empty cells to a panel.
+     *
+     * @param panel   The panel to fill.
+     * @param rows    The number of rows.
+     * @param columns The number of columns.
+     * @param atlas   The atlas the tiles are taken from.
+     */
+    TileGrid(GridPane panel, int rows, int columns, TileAtlas atlas) {
+        this.tiles = new ImageView[rows][columns];
+        this.colors = new TileColors(rows, columns);
+        this.atlas = atlas;
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                ImageView tile = new ImageView(atlas.getTile(0));
+                // high-resolution tiles are drawn at the display size
+                tile.setFitWidth(atlas.getSize());
+                tile.setFitHeight(atlas.getSize());
+                tiles[i][j] = tile;
+                panel.add(tile, j, i);
+            }
+        }
+    }
+
+    /**
+     * Shows a colour in one cell, unless the cell already shows it.
+     *
+     * @param row     The row.
+     * @param column  The column.
+     * @param colorId The colour id.
+     */
+    void set(int row, int column, int colorId) {
+        if (colors.set(row, column, colorId)) tiles[row][column].setImage(atlas.getTile(colorId));
+    }
+
+    /**
+     * Shows a brick shape from the top-left cell; cells outside the shape are emptied.
+     *
+     * @param shape The shape matrix, or {@code null} to empty the grid.
+     */
+    void show(int[][] shape) {
+        for (int i = 0; i < tiles.length; i++) {
+            for (int j = 0; j < tiles[i].length; j++) {
+                boolean inside = shape != null && i < shape.length && j < shape[i].length;
+                set(i, j, inside ? shape[i][j] : 0);
+            }
+        }
+    }
+
+    /**
+     * Switches to another atlas of the same display size, e.g. one with another theme or
+     * resolution; every cell keeps its colour.
+     *
+     * @param atlas The new atlas.
+     */
+    void setAtlas(TileAtlas atlas) {
+        if (atlas == this.atlas) return;
+        this.atlas = atlas;
+        for (int i = 0; i < tiles.length; i++) {
+            for (int j = 0; j < tiles[i].length; j++) {
+                tiles[i][j].setImage(atlas.getTile(colors.get(i, j)));
+            }
+        }
+        colors.countRepaintAll();
+    }
+
+    /** @return The number of rows. */
+    int getRows() { return tiles.length; }
+
+    /** @return The number of columns. */
+    int getColumns() { return tiles[0].length; }
+
+    /** @return The number of cell images set. */
+    long getUpdateCount() { return colors.getUpdateCount(); }
+
+    /** @return The number of cell updates skipped because the colour was unchanged. */
+    long getSkipCount() { return colors.getSkipCount(); }
+}
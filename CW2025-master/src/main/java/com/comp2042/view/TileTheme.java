@@ -0,0 +1,150 @@
+package com.comp2042.view;
+
+/**
+ * A skin for board cells: one colour per colour id and the corner roundness of a tile.
+ * A theme only describes the tiles; {@link #rasterize} turns one into pixels, and
+ * {@link TileAtlas} keeps the rasterized tiles of one theme at one size as images.
+ * Colours are packed ARGB so the pixels can be produced without the JavaFX toolkit.
+ */
+public final class TileTheme {
+
+    /** The original look: bright colours with rounded corners. */
+    public static final TileTheme CLASSIC = new TileTheme("Classic", 9, 0xFFFFFFFF, new int[]{
+            0x00000000, // empty
+            0xFF00FFFF, // I, aqua
+            0xFF8A2BE2, // J, blue violet
+            0xFF006400, // L, dark green
+            0xFFFFFF00, // O, yellow
+            0xFFFF0000, // S, red
+            0xFFF5F5DC, // T, beige
+            0xFFDEB887, // Z, burlywood
+            0xFF808080  // obstacle, gray
+    });
+
+    /** Square tiles in muted colours. */
+    public static final TileTheme FLAT = new TileTheme("Flat", 0, 0xFFECEFF1, new int[]{
+            0x00000000,
+            0xFF4DD0E1,
+            0xFF7E57C2,
+            0xFF43A047,
+            0xFFFDD835,
+            0xFFE53935,
+            0xFFBCAAA4,
+            0xFFFF8A65,
+            0xFF616161
+    });
+
+    /** Subsamples per pixel side when smoothing the rounded corners. */
+    private static final int SUBSAMPLES = 4;
+
+    private final String name;
+    private final double arc;
+    private final int fallback;
+    private final int[] palette;
+
+    /**
+     * Constructs a theme.
+     *
+     * @param name     The display name.
+     * @param arc      The corner arc diameter in pixels, as for {@code Rectangle.setArcWidth}; 0 gives square tiles.
+     * @param fallback The ARGB colour of ids outside the palette.
+     * @param palette  The ARGB colour of each colour id, starting at 0 (empty).
+     * @throws IllegalArgumentException If the arc is negative or the palette is empty.
+     */
+    public TileTheme(String name, double arc, int fallback, int[] palette) {
+        if (arc < 0) throw new IllegalArgumentException("Arc must not be negative: " + arc);
+        if (palette.length == 0) throw new IllegalArgumentException("Palette is empty");
+        this.name = name;
+        this.arc = arc;
+        this.fallback = fallback;
+        this.palette = palette.clone();
+    }
+
+    /** @return The display name. */
+    public String getName() { return name; }
+
+    /** @return The corner arc diameter in pixels. */
+    public double getArc() { return arc; }
+
+    /** @return The number of colour ids with their own colour. */
+    public int getColorCount() { return palette.length; }
+
+    /**
+     * Gets the colour of a colour id.
+     *
+     * @param colorId The colour id.
+     * @return The ARGB colour, or the fallback colour for an unknown id.
+     */
+    public int getArgb(int colorId) {
+        return colorId >= 0 && colorId < palette.length ? palette[colorId] : fallback;
+    }
+
+    /**
+     * Renders one tile: a rounded square filling the whole tile, with the corners anti-aliased.
+     *
+     * @param colorId The colour id.
+     * @param size    The tile side in pixels.
+     * @return The pixels in ARGB, row by row.
+     * @throws IllegalArgumentException If the size is not positive.
+     */
+    public int[] rasterize(int colorId, int size) {
+        return rasterize(colorId, size, 1);
+    }
+
+    /**
+     * Renders one tile at a multiple of its size, for tiles that are drawn scaled down again;
+     * the corner arc is scaled with it.
+     *
+     * @param colorId The colour id.
+     * @param size    The tile side in pixels before scaling.
+     * @param scale   The resolution multiplier.
+     * @return The pixels in ARGB, row by row, {@code size * scale} to a side.
+     * @throws IllegalArgumentException If the size or the scale is not positive.
+     */
+    public int[] rasterize(int colorId, int size, int scale) {
+        if (size <= 0 || scale <= 0) throw new IllegalArgumentException("Tile size and scale must be positive: " + size + ", " + scale);
+        double arc = this.arc * scale;
+        size *= scale;
+        int argb = getArgb(colorId);
+        int[] pixels = new int[size * size];
+        int alpha = argb >>> 24;
+        if (alpha == 0) return pixels;
+
+        double radius = Math.min(arc / 2, size / 2.0);
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                double coverage = coverage(x, y, size, radius);
+                int a = (int) Math.round(alpha * coverage);
+                pixels[y * size + x] = a << 24 | (argb & 0xFFFFFF);
+            }
+        }
+        return pixels;
+    }
+
+    /** The fraction of pixel (x, y) inside the rounded square. */
+    private static double coverage(int x, int y, int size, double radius) {
+        // only pixels touching a corner square can be partly outside
+        boolean nearX = x < radius || x + 1 > size - radius;
+        boolean nearY = y < radius || y + 1 > size - radius;
+        if (!nearX || !nearY) return 1;
+
+        int inside = 0;
+        for (int sy = 0; sy < SUBSAMPLES; sy++) {
+            for (int sx = 0; sx < SUBSAMPLES; sx++) {
+                double px = x + (sx + 0.5) / SUBSAMPLES;
+                double py = y + (sy + 0.5) / SUBSAMPLES;
+                double cx = Math.min(Math.max(px, radius), size - radius);
+                double cy = Math.min(Math.max(py, radius), size - radius);
+                double dx = px - cx;
+                double dy = py - cy;
+                if (dx * dx + dy * dy <= radius * radius) inside++;
+            }
+        }
+        return inside / (double) (SUBSAMPLES * SUBSAMPLES);
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
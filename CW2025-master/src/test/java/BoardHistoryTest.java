@@ -0,0 +1,145 @@
+import com.comp2042.GameConfig;
+import com.comp2042.model.Board;
+import com.comp2042.model.BoardHistory;
+import com.comp2042.model.BoardVersion;
+import com.comp2042.model.MatrixOperations;
+import com.comp2042.model.SimpleBoard;
+import com.comp2042.model.ai.AutoPlayer;
+import com.comp2042.model.ai.BitBoard;
+import com.comp2042.model.ai.HeuristicEvaluator;
+import com.comp2042.model.bricks.BrickType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests undo and redo with {@code BoardHistory} and the row sharing it relies on.
+ */
+public class BoardHistoryTest {
+
+    private Board board;
+    private BoardHistory history;
+    private final AutoPlayer player = new AutoPlayer(new HeuristicEvaluator());
+
+    /**
+     * Constructs the test suite for {@code BoardHistory}.
+     */
+    public BoardHistoryTest() {}
+
+    /**
+     * Starts a seeded game with an empty history before every test.
+     */
+    @BeforeEach
+    void setUp() {
+        board = new SimpleBoard(GameConfig.BOARD_HEIGHT, GameConfig.BOARD_WIDTH, 11L);
+        board.newGame();
+        history = new BoardHistory();
+    }
+
+    /** Records the board, then places the falling brick where the auto player wants it. */
+    private void placeBrick() {
+        history.record(board.currentVersion());
+        AutoPlayer.apply(board, player.choosePlacement(BitBoard.fromMatrix(board.getBoardMatrix()), board.getCurrentBrickType()));
+        board.mergeBrickToBackground();
+        board.clearRows();
+        board.createNewBrick();
+    }
+
+    private static int[][] copyOf(Board board) {
+        return MatrixOperations.copy(board.getBoardMatrix());
+    }
+
+    @Test
+    @DisplayName("Undoing a hard drop restores the score from before its drop bonus")
+    void testUndoHardDropRestoresScore() {
+        for (int i = 0; i < 5; i++) placeBrick();
+        int before = board.getScore().getScore();
+
+        // the game controller's hard drop: record, drop, add the bonus, lock
+        history.record(board.currentVersion());
+        int rowsDropped = board.hardDrop();
+        assertTrue(rowsDropped > 0);
+        board.getScore().add(rowsDropped * GameConfig.HARD_DROP_SCORE_MULTIPLIER);
+        board.mergeBrickToBackground();
+        board.getScore().add(board.clearRows().getScoreBonus());
+        board.createNewBrick();
+        int after = board.getScore().getScore();
+        assertTrue(after > before);
+
+        board.restoreVersion(history.undo(board.currentVersion()));
+        assertEquals(before, board.getScore().getScore());
+        // dropping again earns the bonus once, not twice
+        board.hardDrop();
+        board.getScore().add(rowsDropped * GameConfig.HARD_DROP_SCORE_MULTIPLIER);
+        board.mergeBrickToBackground();
+        board.getScore().add(board.clearRows().getScoreBonus());
+        assertEquals(after, board.getScore().getScore());
+    }
+
+    @Test
+    @DisplayName("Undoing every placement returns to the start and redoing returns to the end")
+    void testUndoRedo() {
+        List<int[][]> boards = new ArrayList<>();
+        List<BrickType> bricks = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            boards.add(copyOf(board));
+            bricks.add(board.getCurrentBrickType());
+            placeBrick();
+        }
+        int[][] end = copyOf(board);
+        int endScore = board.getScore().getScore();
+        BrickType endBrick = board.getCurrentBrickType();
+
+        for (int i = 29; i >= 0; i--) {
+            board.restoreVersion(history.undo(board.currentVersion()));
+            assertArrayEquals(boards.get(i), board.getBoardMatrix(), "step " + i);
+            assertEquals(bricks.get(i), board.getCurrentBrickType());
+        }
+        assertFalse(history.canUndo());
+        assertEquals(30, history.getRedoCount());
+
+        while (history.canRedo()) {
+            board.restoreVersion(history.redo(board.currentVersion()));
+        }
+        assertArrayEquals(end, board.getBoardMatrix());
+        assertEquals(endScore, board.getScore().getScore());
+        assertEquals(endBrick, board.getCurrentBrickType());
+        assertThrows(IllegalStateException.class, () -> history.redo(board.currentVersion()));
+    }
+
+    @Test
+    @DisplayName("A new placement after an undo discards the redo steps")
+    void testRecordClearsRedo() {
+        placeBrick();
+        placeBrick();
+        board.restoreVersion(history.undo(board.currentVersion()));
+        assertTrue(history.canRedo());
+
+        placeBrick();
+        assertFalse(history.canRedo());
+        assertEquals(2, history.getUndoCount());
+    }
+
+    @Test
+    @DisplayName("Versions share the rows a placement did not change")
+    void testRowsAreShared() {
+        BoardVersion before = board.currentVersion();
+        placeBrick();
+        BoardVersion after = board.currentVersion();
+
+        int changed = 0;
+        for (int row = 0; row < before.getRowCount(); row++) {
+            if (before.getRow(row) != after.getRow(row)) changed++;
+        }
+        assertTrue(changed > 0 && changed <= 4, "changed rows: " + changed);
+
+        for (int i = 0; i < 20; i++) placeBrick();
+        // far fewer distinct rows than 21 full copies of a 25-row board
+        assertTrue(history.countDistinctRows() < 21 * 4 + GameConfig.BOARD_HEIGHT, "rows: " + history.countDistinctRows());
+    }
+}
@@ -0,0 +1,160 @@
+import com.comp2042.GameConfig;
+import com.comp2042.controller.FinesseTracker;
+import com.comp2042.model.ai.BitBoard;
+import com.comp2042.model.ai.FinesseAnalyzer;
+import com.comp2042.model.ai.FinesseAnalyzer.Action;
+import com.comp2042.model.ai.PieceShape;
+import com.comp2042.model.ai.Placement;
+import com.comp2042.model.bricks.BrickType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the {@link FinesseAnalyzer}. Every path is replayed with the game's movement rules
+ * to check that it really ends in the target placement.
+ */
+public class FinesseAnalyzerTest {
+
+    private static final int W = GameConfig.BOARD_WIDTH;
+    private static final int H = GameConfig.BOARD_HEIGHT;
+
+    /**
+     * Constructs the test suite for {@code FinesseAnalyzer}.
+     */
+    public FinesseAnalyzerTest() {}
+
+    /**
+     * Plays the actions from the spawn point and returns the board after the hard drop.
+     */
+    private static BitBoard replay(BitBoard board, BrickType type, List<Action> path) {
+        int rot = 0, x = GameConfig.BRICK_SPAWN_X, y = GameConfig.BRICK_SPAWN_Y;
+        int rotations = PieceShape.rotationCount(type);
+        for (Action action : path) {
+            PieceShape shape = PieceShape.of(type, rot);
+            switch (action) {
+                case LEFT -> { if (!board.collides(shape, x - 1, y)) x--; }
+                case RIGHT -> { if (!board.collides(shape, x + 1, y)) x++; }
+                case LEFT_MOST -> { while (!board.collides(shape, x - 1, y)) x--; }
+                case RIGHT_MOST -> { while (!board.collides(shape, x + 1, y)) x++; }
+                case ROTATE_LEFT -> { if (!board.collides(PieceShape.of(type, (rot + 1) % rotations), x, y)) rot = (rot + 1) % rotations; }
+                case ROTATE_RIGHT -> { int r = (rot - 1 + rotations) % rotations; if (!board.collides(PieceShape.of(type, r), x, y)) rot = r; }
+                case SOFT_DROP -> { if (!board.collides(shape, x, y + 1)) y++; }
+                case HARD_DROP -> { return board.lock(shape, x, board.dropY(shape, x, y)); }
+            }
+        }
+        fail("Path does not end with a hard drop");
+        return null;
+    }
+
+    @Test
+    @DisplayName("A brick dropped straight from spawn needs a single input")
+    void testStraightDrop() {
+        BitBoard board = BitBoard.empty(W, H);
+        PieceShape shape = PieceShape.of(BrickType.O, 0);
+        Placement target = new Placement(BrickType.O, 0, GameConfig.BRICK_SPAWN_X,
+                board.dropY(shape, GameConfig.BRICK_SPAWN_X, GameConfig.BRICK_SPAWN_Y), false);
+        assertEquals(List.of(Action.HARD_DROP), FinesseAnalyzer.findPath(board, target));
+    }
+
+    @Test
+    @DisplayName("A brick that locks by gravity needs no drop input")
+    void testGravityLock() {
+        BitBoard board = BitBoard.empty(W, H);
+        PieceShape shape = PieceShape.of(BrickType.O, 0);
+        int x = GameConfig.BRICK_SPAWN_X - 1;
+        Placement target = new Placement(BrickType.O, 0, x, board.dropY(shape, x, GameConfig.BRICK_SPAWN_Y), false);
+        int hardDropped = FinesseAnalyzer.minimalInputs(board, target, true);
+        assertEquals(2, hardDropped);
+        assertEquals(hardDropped, FinesseAnalyzer.minimalInputs(board, target));
+        assertEquals(1, FinesseAnalyzer.minimalInputs(board, target, false));
+
+        // dropped straight from spawn, the player presses nothing
+        Placement straight = new Placement(BrickType.O, 0, GameConfig.BRICK_SPAWN_X,
+                board.dropY(shape, GameConfig.BRICK_SPAWN_X, GameConfig.BRICK_SPAWN_Y), false);
+        assertEquals(0, FinesseAnalyzer.minimalInputs(board, straight, false));
+    }
+
+    @Test
+    @DisplayName("Every empty-board placement has a path that reaches it")
+    void testEmptyBoardTable() {
+        BitBoard board = BitBoard.empty(W, H);
+        for (BrickType type : BrickType.values()) {
+            for (int r = 0; r < PieceShape.rotationCount(type); r++) {
+                PieceShape shape = PieceShape.of(type, r);
+                for (int x = shape.getMinX(); x <= shape.getMaxX(W); x++) {
+                    Placement target = new Placement(type, r, x, board.dropY(shape, x, GameConfig.BRICK_SPAWN_Y), false);
+                    List<Action> path = FinesseAnalyzer.findPath(board, target);
+                    assertNotNull(path, target.toString());
+                    assertTrue(path.size() <= 5, target + " took " + path);
+                    assertEquals(board.lock(shape, x, target.getY()), replay(board, type, path), target.toString());
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("A placement under an overhang is reached with soft drops")
+    void testTuckUnderOverhang() {
+        int[] rows = new int[H];
+        rows[H - 3] = ((1 << W) - 1) & ~0b11; // roof over columns 2..9
+        BitBoard board = BitBoard.fromRows(W, rows);
+
+        PieceShape shape = PieceShape.of(BrickType.O, 0);
+        int x = 2 - shape.getMinColumn();
+        int y = H - 2 - shape.getMinRow();
+        Placement target = new Placement(BrickType.O, 0, x, y, false);
+
+        List<Action> path = FinesseAnalyzer.findPath(board, target);
+        assertNotNull(path);
+        assertTrue(path.contains(Action.SOFT_DROP));
+        assertEquals(board.lock(shape, x, y), replay(board, BrickType.O, path));
+    }
+
+    @Test
+    @DisplayName("Soft drops into a tuck followed by a gravity lock are no finesse fault")
+    void testSoftDropsThenGravityLock() throws InterruptedException {
+        int[] rows = new int[H];
+        rows[H - 3] = ((1 << W) - 1) & ~0b11; // roof over columns 2..9
+        BitBoard board = BitBoard.fromRows(W, rows);
+        int[][] matrix = new int[H][W];
+        for (int x = 2; x < W; x++) matrix[H - 3][x] = 8;
+
+        PieceShape shape = PieceShape.of(BrickType.O, 0);
+        Placement target = new Placement(BrickType.O, 0, 2 - shape.getMinColumn(), H - 2 - shape.getMinRow(), false);
+        List<Action> path = FinesseAnalyzer.findPath(board, target);
+        assertTrue(path.contains(Action.SOFT_DROP));
+        long moves = path.stream().filter(a -> a != Action.SOFT_DROP && a != Action.HARD_DROP).count();
+        assertEquals(moves, FinesseAnalyzer.minimalInputs(board, target, false));
+        assertEquals(moves + 1, FinesseAnalyzer.minimalInputs(board, target, true));
+
+        // the player presses the moves; the soft drops on the way down are not counted as presses
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        FinesseTracker tracker = new FinesseTracker(executor, extra -> fail("Finesse fault of " + extra));
+        for (long i = 0; i < moves; i++) tracker.recordPress();
+        tracker.pieceLocked(matrix, target, false);
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(1, tracker.getPiecesAnalyzed());
+        assertEquals(0, tracker.getFaults());
+        assertEquals(0, tracker.getExtraInputs());
+    }
+
+    @Test
+    @DisplayName("An enclosed cavity cannot be reached")
+    void testUnreachable() {
+        int[] rows = new int[H];
+        rows[H - 3] = (1 << W) - 1;
+        BitBoard board = BitBoard.fromRows(W, rows);
+
+        PieceShape shape = PieceShape.of(BrickType.O, 0);
+        Placement target = new Placement(BrickType.O, 0, -shape.getMinColumn(), H - 2 - shape.getMinRow(), false);
+        assertEquals(-1, FinesseAnalyzer.minimalInputs(board, target));
+    }
+}
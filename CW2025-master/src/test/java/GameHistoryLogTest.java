@@ -0,0 +1,107 @@
+import com.comp2042.model.Difficulty;
+import com.comp2042.model.history.GameHistoryLog;
+import com.comp2042.model.history.GameRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the segmented {@link GameHistoryLog}: rolling, index-based queries and crash recovery.
+ */
+public class GameHistoryLogTest {
+
+    private static final int PER_SEGMENT = 100;
+
+    @TempDir
+    Path dir;
+
+    /**
+     * Constructs the test suite for {@code GameHistoryLog}.
+     */
+    public GameHistoryLogTest() {}
+
+    private static GameRecord game(long time, Difficulty difficulty, int score) {
+        return new GameRecord(time, difficulty, time * 31, score, score / 100, score / 10, 60_000, 1);
+    }
+
+    /**
+     * Writes 500 NORMAL games, then 50 EXTRA games, one per millisecond.
+     */
+    private static List<GameRecord> sampleGames() {
+        List<GameRecord> games = new ArrayList<>();
+        for (int i = 0; i < 500; i++) games.add(game(i, Difficulty.NORMAL, (i * 37) % 1000));
+        for (int i = 500; i < 550; i++) games.add(game(i, Difficulty.EXTRA, i));
+        return games;
+    }
+
+    @Test
+    @DisplayName("Segments roll over at the configured size")
+    void testSegmentsRoll() throws IOException {
+        try (GameHistoryLog log = new GameHistoryLog(dir, PER_SEGMENT)) {
+            log.appendAll(sampleGames());
+            assertEquals(6, log.getSegmentCount());
+            assertEquals(550, log.count(null));
+            assertEquals(50, log.count(Difficulty.EXTRA));
+        }
+    }
+
+    @Test
+    @DisplayName("Last games only reads the segments that contain the difficulty")
+    void testLastGamesUsesIndex() throws IOException {
+        try (GameHistoryLog log = new GameHistoryLog(dir, PER_SEGMENT)) {
+            log.appendAll(sampleGames());
+            log.append(game(1000, Difficulty.EASY, 5));
+
+            List<GameRecord> extra = log.lastGames(Difficulty.EXTRA, 1000);
+            assertEquals(50, extra.size());
+            assertEquals(549, extra.getFirst().getTimestamp());
+            assertEquals(1, log.getSegmentsScanned());
+
+            List<GameRecord> latest = log.lastGames(null, 3);
+            assertEquals(List.of(1000L, 549L, 548L), latest.stream().map(GameRecord::getTimestamp).toList());
+        }
+    }
+
+    @Test
+    @DisplayName("Best in a time range skips segments outside it")
+    void testBestInRange() throws IOException {
+        try (GameHistoryLog log = new GameHistoryLog(dir, PER_SEGMENT)) {
+            List<GameRecord> games = sampleGames();
+            log.appendAll(games);
+
+            GameRecord expected = games.subList(250, 350).stream()
+                    .max((a, b) -> Integer.compare(a.getScore(), b.getScore())).orElseThrow();
+            GameRecord best = log.best(Difficulty.NORMAL, 250, 349).orElseThrow();
+            assertEquals(expected.getScore(), best.getScore());
+            assertTrue(log.getSegmentsScanned() <= 2);
+            assertTrue(log.best(Difficulty.HARD, 0, Long.MAX_VALUE).isEmpty());
+        }
+    }
+
+    @Test
+    @DisplayName("Reopening drops a partly written record and keeps appending")
+    void testCrashRecovery() throws IOException {
+        try (GameHistoryLog log = new GameHistoryLog(dir, PER_SEGMENT)) {
+            log.appendAll(sampleGames().subList(0, 150));
+        }
+        // simulate a crash in the middle of writing a record
+        Path active = dir.resolve("segment-000002.log");
+        Files.write(active, new byte[]{1, 2, 3}, StandardOpenOption.APPEND);
+
+        try (GameHistoryLog log = new GameHistoryLog(dir, PER_SEGMENT)) {
+            assertEquals(150, log.count(null));
+            log.append(game(9999, Difficulty.HARD, 42));
+            assertEquals(9999, log.lastGames(null, 1).getFirst().getTimestamp());
+            assertEquals(149, log.lastGames(null, 2).get(1).getTimestamp());
+        }
+    }
+}
@@ -1,20 +1,23 @@
 import com.comp2042.model.GameSettings;
+import com.comp2042.model.ProfileStore;
 import javafx.scene.input.KeyCode;
 import org.junit.jupiter.api.AfterEach;
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
-import java.io.File;
+import java.nio.file.Path;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 /**
- * Tests the file I/O and properties logic of the {@code GameSettings} class.
+ * Tests the loading and saving logic of the {@code GameSettings} class.
  */
 public class GameSettingsTest {
 
-    private static final String SETTINGS_FILE = "settings.txt";
+    /** A fresh directory per test, so each test starts without a profile. */
+    @TempDir
+    Path directory;
 
     /**
      * Constructs the test suite for {@code GameSettings}.
@@ -22,20 +25,19 @@ public class GameSettingsTest {
     public GameSettingsTest() {}
 
     /**
-     * delete the settings file before/after tests
+     * Waits for queued profile writes, so none lands in the temporary directory while it is deleted.
      */
-    @BeforeEach
     @AfterEach
-    void deleteSettingFile() {
-        new File(SETTINGS_FILE).delete();
+    void tearDown() {
+        ProfileStore.flush();
     }
 
     @Test
-    @DisplayName("Test to check whether default settings will be loaded if theres no file")
+    @DisplayName("Test to check whether default settings will be loaded if theres no saved profile")
     void testLoadSettings_NoFile() {
         // Arrange
         // Act
-        GameSettings settings = new GameSettings();
+        GameSettings settings = new GameSettings(new ProfileStore(directory));
         // Aseset
         assertEquals(KeyCode.F, settings.getKeyCode("MOVE_LEFT"));
         assertEquals(KeyCode.SLASH, settings.getKeyCode("MOVE_LEFT_MOST"));
@@ -46,12 +48,13 @@ public class GameSettingsTest {
     @DisplayName("Test saving and loading a custom keyboard")
     void testSaveAndLoadSettings() {
         // Arrange (crete default and cange)
-        GameSettings settings = new GameSettings();
+        GameSettings settings = new GameSettings(new ProfileStore(directory));
         settings.setKeyCode("MOVE_LEFT", KeyCode.LEFT);
         // Act
         settings.saveSettings();
+        ProfileStore.flush();
         // Assert
-        GameSettings newSettings = new GameSettings();
+        GameSettings newSettings = new GameSettings(new ProfileStore(directory));
         assertEquals(KeyCode.LEFT, newSettings.getKeyCode("MOVE_LEFT"));
     }
 }
@@ -0,0 +1,127 @@
+import com.comp2042.GameConfig;
+import com.comp2042.model.BoardState;
+import com.comp2042.model.Difficulty;
+import com.comp2042.model.GameSnapshot;
+import com.comp2042.model.SaveGameStore;
+import com.comp2042.model.SimpleBoard;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the binary game snapshot and the {@code SaveGameStore} that persists it.
+ */
+public class GameSnapshotTest {
+
+    @TempDir
+    Path directory;
+
+    /**
+     * Constructs the test suite for {@code GameSnapshot}.
+     */
+    public GameSnapshotTest() {}
+
+    /** Plays a few bricks on a seeded board so every part of the state is non-trivial. */
+    private static SimpleBoard playedBoard() {
+        SimpleBoard board = new SimpleBoard(GameConfig.BOARD_HEIGHT, GameConfig.BOARD_WIDTH, 42L);
+        board.initializeWithObstacles();
+        board.createNewBrick();
+        board.swapHoldBrick();
+        for (int i = 0; i < 3; i++) {
+            board.moveBrickLeftMost();
+            board.hardDrop();
+            board.mergeBrickToBackground();
+            board.getScore().add(board.clearRows().getScoreBonus() + 10);
+            board.createNewBrick();
+        }
+        board.rotateLeftBrick();
+        board.moveBrickRight();
+        board.moveBrickDown();
+        return board;
+    }
+
+    @Test
+    @DisplayName("A snapshot encodes in under 200 bytes and decodes to the same game")
+    void testRoundTrip() {
+        SimpleBoard board = playedBoard();
+        GameSnapshot snapshot = new GameSnapshot(Difficulty.HARD, board.getSeed(), board.saveState(), 380.0, 10, 4, 12_345);
+
+        byte[] encoded = snapshot.encode();
+        assertTrue(encoded.length < 200, "encoded size " + encoded.length);
+
+        GameSnapshot decoded = GameSnapshot.decode(encoded);
+        assertEquals(Difficulty.HARD, decoded.getDifficulty());
+        assertEquals(42L, decoded.getSeed());
+        assertEquals(380.0, decoded.getGameSpeedMillis(), 1e-3);
+        assertEquals(10, decoded.getLinesRequiredForNextSpeedUp());
+        assertEquals(4, decoded.getPiecesPlaced());
+        assertEquals(12_345, decoded.getPlayedMillis());
+
+        BoardState state = decoded.getBoard();
+        assertArrayEquals(board.getBoardMatrix(), state.toMatrix());
+        assertEquals(board.getCurrentBrickType(), state.getCurrentType());
+        assertEquals(board.getCurrentRotation(), state.getRotation());
+        assertEquals(board.getViewData().getxPosition(), state.getX());
+        assertEquals(board.getViewData().getyPosition(), state.getY());
+        assertNotNull(state.getHoldType());
+        assertEquals(board.saveState().getUpcoming(), state.getUpcoming());
+        assertEquals(board.getScore().getScore(), state.getScore());
+    }
+
+    @Test
+    @DisplayName("Restoring a state puts the board back exactly")
+    void testRestoreState() {
+        SimpleBoard original = playedBoard();
+        BoardState state = original.saveState();
+
+        SimpleBoard restored = new SimpleBoard(GameConfig.BOARD_HEIGHT, GameConfig.BOARD_WIDTH, original.getSeed());
+        restored.restoreState(state);
+
+        assertArrayEquals(original.getBoardMatrix(), restored.getBoardMatrix());
+        assertArrayEquals(original.getViewData().getBrickData(), restored.getViewData().getBrickData());
+        assertEquals(original.getViewData().getxPosition(), restored.getViewData().getxPosition());
+        assertEquals(original.getViewData().getyPosition(), restored.getViewData().getyPosition());
+        assertArrayEquals(original.getHoldBrickShape(), restored.getHoldBrickShape());
+        assertEquals(state.getUpcoming(), restored.saveState().getUpcoming());
+        assertEquals(original.getScore().getScore(), restored.getScore().getScore());
+        // the hold was used for this brick's predecessor only, so swapping is allowed again
+        assertEquals(state.canSwap(), restored.swapHoldBrick());
+    }
+
+    @Test
+    @DisplayName("Corrupted data is rejected")
+    void testDecodeRejectsBadData() {
+        assertThrows(IllegalArgumentException.class, () -> GameSnapshot.decode(new byte[]{1, 2, 3}));
+        SimpleBoard board = playedBoard();
+        byte[] encoded = new GameSnapshot(Difficulty.EASY, 1, board.saveState(), 400, 5, 0, 0).encode();
+        byte[] truncated = Arrays.copyOf(encoded, encoded.length - 5);
+        assertThrows(IllegalArgumentException.class, () -> GameSnapshot.decode(truncated));
+    }
+
+    @Test
+    @DisplayName("The store keeps the latest save, writes it in the background and can clear it")
+    void testSaveGameStore() {
+        Path file = directory.resolve("savegame.dat");
+        SaveGameStore store = new SaveGameStore(file);
+        assertTrue(store.load().isEmpty());
+
+        SimpleBoard board = playedBoard();
+        store.saveLater(new GameSnapshot(Difficulty.NORMAL, 7, board.saveState(), 400, 5, 1, 100));
+        store.saveLater(new GameSnapshot(Difficulty.NORMAL, 7, board.saveState(), 400, 5, 2, 200));
+        assertEquals(2, store.load().orElseThrow().getPiecesPlaced());
+
+        SaveGameStore.flush();
+        assertEquals(2, new SaveGameStore(file).load().orElseThrow().getPiecesPlaced());
+
+        store.clear();
+        assertTrue(store.load().isEmpty());
+        SaveGameStore.flush();
+        assertFalse(Files.exists(file));
+    }
+}
@@ -1,28 +1,38 @@
 import com.comp2042.model.Difficulty;
 import com.comp2042.model.HighScoreManager;
+import com.comp2042.model.ProfileStore;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
-import java.io.File;
+import com.comp2042.GameConfig;
+import com.comp2042.model.LeaderboardEntry;
+import org.junit.jupiter.api.io.TempDir;
+
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 
 /**
- * Tests the core functionality and file I/O logic of the {@link HighScoreManager} class.
+ * Tests the core functionality and persistence logic of the {@link HighScoreManager} class.
  * This test suite verifies loading, saving, and persistence of high scores across
  * different difficulty levels, ensuring scores are correctly separated.
- * All tests clean up by deleting the temporary high score files (e.g., highscore_easy.txt)
- * after execution to prevent interference.
+ * Every test uses a fresh {@link ProfileStore} in a temporary directory to prevent interference.
  */
 public class HighScoreManagerTest {
 
-    private final String EASY_FILE = "highscore_easy.txt";
     private final String HARD_FILE = "highscore_hard.txt";
 
+    @TempDir
+    Path directory;
+
+    private ProfileStore profile;
+
     /**
      * Constructs the test suite for {@code HighScoreManager}.
      * This constructor is used by the JUnit test runner to instantiate the test class.
@@ -30,27 +40,32 @@ public class HighScoreManagerTest {
     public HighScoreManagerTest() {}
 
     /**
-     * Executes cleanup after every test method.
-     * Deletes the high score files created during the test to ensure a clean state for the next test
+     * Opens an empty profile before every test method.
      */
     @BeforeEach
+    void setUp() {
+        profile = new ProfileStore(directory);
+    }
+
+    /**
+     * Waits for queued profile writes, so none lands in the temporary directory while it is deleted.
+     */
     @AfterEach
     void tearDown() {
-        new File(EASY_FILE).delete();
-        new File(HARD_FILE).delete();
+        ProfileStore.flush();
     }
 
     /**
-     * Tests that a new manager loads the score as 0 when the corresponding file does not exist.
+     * Tests that a new manager loads the score as 0 when no game was saved.
      */
     @Test
-    @DisplayName("Test to load a high score when the targeting file doesnt exist")
+    @DisplayName("Test to load a high score when no game was saved")
     void testLoadingHighScore() {
         // Arrange
         // Act
-        HighScoreManager manager = new HighScoreManager(Difficulty.EASY);   // not exist
+        HighScoreManager manager = new HighScoreManager(Difficulty.EASY, profile);   // empty profile
         // Assert
-        assertEquals(0, manager.getHighScore());    // since the file doesnt exis
+        assertEquals(0, manager.getHighScore());    // since nothing was saved
     }
 
     /**
@@ -60,7 +75,7 @@ public class HighScoreManagerTest {
     @DisplayName("Test to save a new hgih score")
     void testSaveHighScore() {
         // Arrange
-        HighScoreManager manager = new HighScoreManager(Difficulty.EASY);
+        HighScoreManager manager = new HighScoreManager(Difficulty.EASY, profile);
         // Act
         boolean result = manager.saveHighScore(5000);
         // Assert
@@ -69,20 +84,18 @@ public class HighScoreManagerTest {
     }
 
     /**
-     * Tests loading a high score that was previously saved to the persistent file.
+     * Tests loading a high score from a legacy high score file, which the profile imports.
      * @throws IOException If file writing fails during setup.
      */
     @Test
     @DisplayName("Test loading a saved high score")
     void testLoadHighScore() throws IOException {
         // Arrange
-        // Prepare a file with high score
-        File file = new File(HARD_FILE);
-        java.io.FileWriter writer = new java.io.FileWriter(file);
-        writer.write("5000");
-        writer.close();
+        // Prepare a legacy file with high score in a directory without a profile
+        Path legacyDirectory = Files.createDirectory(directory.resolve("legacy"));
+        Files.writeString(legacyDirectory.resolve(HARD_FILE), "5000");
         // Act
-        HighScoreManager manager = new HighScoreManager(Difficulty.HARD);   // constructor will call loadHighScore() automatically
+        HighScoreManager manager = new HighScoreManager(Difficulty.HARD, new ProfileStore(legacyDirectory));
         // Assert
         assertEquals(5000, manager.getHighScore());
     }
@@ -94,7 +107,7 @@ public class HighScoreManagerTest {
     @DisplayName("Test to save a score with not the highest score")
     void testSaveHighScore_NotHighScore() {
         // Arrange (manager, save high score)
-        HighScoreManager manager = new HighScoreManager(Difficulty.HARD);
+        HighScoreManager manager = new HighScoreManager(Difficulty.HARD, profile);
         manager.saveHighScore(5000);
         // Act (try to save the score)
         boolean result = manager.saveHighScore(4999);
@@ -110,13 +123,49 @@ public class HighScoreManagerTest {
     @DisplayName("Test to see whether the high scores from different mode load to the correct file")
     void testDifficultSeparation() {
         // Arrange
-        HighScoreManager easyManager = new HighScoreManager(Difficulty.EASY);
-        HighScoreManager hardManager = new HighScoreManager(Difficulty.HARD);
+        HighScoreManager easyManager = new HighScoreManager(Difficulty.EASY, profile);
+        HighScoreManager hardManager = new HighScoreManager(Difficulty.HARD, profile);
         // Act
         easyManager.saveHighScore(10000);
         hardManager.saveHighScore(20000);
         // Assert
-        assertEquals(10000, new HighScoreManager(Difficulty.EASY).getHighScore());
-        assertEquals(20000, new HighScoreManager(Difficulty.HARD).getHighScore());
+        assertEquals(10000, new HighScoreManager(Difficulty.EASY, profile).getHighScore());
+        assertEquals(20000, new HighScoreManager(Difficulty.HARD, profile).getHighScore());
+        assertEquals(0, new HighScoreManager(Difficulty.NORMAL, profile).getHighScore());
+    }
+
+    /**
+     * Tests that the leaderboard keeps only the best games, sorted best first.
+     */
+    @Test
+    @DisplayName("Test that the leaderboard keeps the top games in order")
+    void testLeaderboardTopN() {
+        HighScoreManager manager = new HighScoreManager(Difficulty.EASY, profile);
+        for (int i = 1; i <= GameConfig.LEADERBOARD_SIZE + 5; i++) {
+            manager.saveScore(i * 100, i, i);
+        }
+        List<LeaderboardEntry> entries = manager.getLeaderboard();
+        assertEquals(GameConfig.LEADERBOARD_SIZE, entries.size());
+        assertEquals((GameConfig.LEADERBOARD_SIZE + 5) * 100, entries.getFirst().getScore());
+        assertEquals(600, entries.getLast().getScore());
+        assertFalse(manager.saveScore(50, 1, 1));   // too low to make the board
+    }
+
+    /**
+     * Tests that a flushed leaderboard is written to the profile and read back with all fields.
+     */
+    @Test
+    @DisplayName("Test that leaderboard entries survive a write and reload")
+    void testLeaderboardPersistence() {
+        new HighScoreManager(Difficulty.HARD, profile).saveScore(1200, 12, 42L);
+        HighScoreManager.flush();
+
+        assertFalse(Files.exists(directory.resolve(HARD_FILE)));
+        List<LeaderboardEntry> entries = new HighScoreManager(Difficulty.HARD, new ProfileStore(directory)).getLeaderboard();
+        assertEquals(1, entries.size());
+        LeaderboardEntry entry = entries.getFirst();
+        assertEquals(1200, entry.getScore());
+        assertEquals(12, entry.getLines());
+        assertEquals(42L, entry.getSeed());
     }
 }
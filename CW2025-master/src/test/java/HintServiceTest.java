@@ -0,0 +1,91 @@
+import com.comp2042.GameConfig;
+import com.comp2042.model.ai.AutoPlayer;
+import com.comp2042.model.ai.HeuristicEvaluator;
+import com.comp2042.model.ai.HintService;
+import com.comp2042.model.ai.Placement;
+import com.comp2042.model.bricks.BrickType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the background {@link HintService}: results are handed over once and stale ones are dropped.
+ */
+public class HintServiceTest {
+
+    private ExecutorService executor;
+    private int[][] board;
+
+    /**
+     * Constructs the test suite for {@code HintService}.
+     */
+    public HintServiceTest() {}
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newSingleThreadExecutor();
+        board = new int[GameConfig.BOARD_HEIGHT][GameConfig.BOARD_WIDTH];
+        // bottom row full except a one-wide gap at the right edge
+        for (int x = 0; x < GameConfig.BOARD_WIDTH - 1; x++) board[GameConfig.BOARD_HEIGHT - 1][x] = 8;
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("A requested hint is delivered once and recorded in the latency metric")
+    void testHintDelivered() throws InterruptedException {
+        CountDownLatch ready = new CountDownLatch(1);
+        HintService service = new HintService(new AutoPlayer(new HeuristicEvaluator()), executor, ready::countDown);
+
+        service.requestHint(board, BrickType.I);
+        assertTrue(ready.await(5, TimeUnit.SECONDS));
+
+        Placement hint = service.takeHint();
+        assertNotNull(hint);
+        assertEquals(BrickType.I, hint.getBrickType());
+        assertNull(service.takeHint());
+        assertEquals(1, service.getLatency().getCount());
+    }
+
+    @Test
+    @DisplayName("Only the hint of the latest request is handed out")
+    void testStaleHintDropped() throws InterruptedException {
+        Semaphore ready = new Semaphore(0);
+        HintService service = new HintService(new AutoPlayer(new HeuristicEvaluator()), executor, ready::release);
+
+        service.requestHint(board, BrickType.O);
+        assertTrue(ready.tryAcquire(5, TimeUnit.SECONDS));
+        // a new brick spawned before the UI took the old hint
+        service.requestHint(board, BrickType.T);
+        Placement hint = null;
+        while (hint == null && ready.tryAcquire(5, TimeUnit.SECONDS)) {
+            hint = service.takeHint();
+        }
+        assertNotNull(hint);
+        assertEquals(BrickType.T, hint.getBrickType());
+    }
+
+    @Test
+    @DisplayName("Cancelling discards a finished hint")
+    void testCancelDiscards() throws InterruptedException {
+        CountDownLatch ready = new CountDownLatch(1);
+        HintService service = new HintService(new AutoPlayer(new HeuristicEvaluator()), executor, ready::countDown);
+
+        service.requestHint(board, BrickType.L);
+        assertTrue(ready.await(5, TimeUnit.SECONDS));
+        service.cancel();
+        assertNull(service.takeHint());
+    }
+}
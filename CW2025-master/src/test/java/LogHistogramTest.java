@@ -0,0 +1,81 @@
+import com.comp2042.metrics.LogHistogram;
+import com.comp2042.model.Difficulty;
+import com.comp2042.model.history.DifficultyStatistics;
+import com.comp2042.model.history.GameRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the mergeable {@link LogHistogram} and the {@link DifficultyStatistics} built on it.
+ */
+public class LogHistogramTest {
+
+    /**
+     * Constructs the test suite for {@code LogHistogram}.
+     */
+    public LogHistogramTest() {}
+
+    @Test
+    @DisplayName("Percentiles are within the histogram's relative error")
+    void testPercentileAccuracy() {
+        Random random = new Random(1);
+        long[] values = new long[100_000];
+        LogHistogram histogram = new LogHistogram();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (long) Math.abs(random.nextGaussian() * 5000) + random.nextInt(100);
+            histogram.record(values[i]);
+        }
+        Arrays.sort(values);
+        for (double p : new double[]{50, 90, 99}) {
+            long exact = values[(int) Math.ceil(p / 100 * values.length) - 1];
+            assertEquals(exact, histogram.getPercentile(p), exact * 0.02 + 1, "p" + p);
+        }
+        assertEquals(values[0], histogram.getMin());
+        assertEquals(values[values.length - 1], histogram.getMax());
+    }
+
+    @Test
+    @DisplayName("Merging two histograms equals recording everything in one")
+    void testMerge() {
+        LogHistogram a = new LogHistogram();
+        LogHistogram b = new LogHistogram();
+        LogHistogram all = new LogHistogram();
+        for (int i = 0; i < 10_000; i++) {
+            (i % 2 == 0 ? a : b).record(i * 7L);
+            all.record(i * 7L);
+        }
+        a.merge(b);
+        assertEquals(all.getCount(), a.getCount());
+        assertEquals(all.getMean(), a.getMean());
+        for (double p : new double[]{1, 50, 90, 99, 100}) {
+            assertEquals(all.getPercentile(p), a.getPercentile(p));
+        }
+    }
+
+    @Test
+    @DisplayName("Small values are counted exactly and negatives are rejected")
+    void testSmallValues() {
+        LogHistogram histogram = new LogHistogram();
+        for (int i = 0; i < 10; i++) histogram.record(i);
+        assertEquals(4, histogram.getPercentile(50));
+        assertEquals(9, histogram.getPercentile(100));
+        assertThrows(IllegalArgumentException.class, () -> histogram.record(-1));
+    }
+
+    @Test
+    @DisplayName("Difficulty statistics report lines per minute over all games")
+    void testLinesPerMinute() {
+        DifficultyStatistics stats = new DifficultyStatistics();
+        stats.record(new GameRecord(0, Difficulty.NORMAL, 1, 1000, 10, 40, 60_000, 3));
+        stats.record(new GameRecord(1, Difficulty.NORMAL, 2, 3000, 20, 80, 120_000, 5));
+        assertEquals(2, stats.getGames());
+        assertEquals(10.0, stats.getLinesPerMinute(), 1e-9);
+        assertEquals(15.0, stats.getMeanLines(), 1e-9);
+        assertEquals(2000.0, stats.getMeanScore(), 1e-9);
+    }
+}
@@ -0,0 +1,93 @@
+import com.comp2042.GameConfig;
+import com.comp2042.model.ai.AutoPlayer;
+import com.comp2042.model.ai.BitBoard;
+import com.comp2042.model.ai.NeuralEvaluator;
+import com.comp2042.model.ai.NeuralNetwork;
+import com.comp2042.model.ai.Placement;
+import com.comp2042.model.bricks.BrickType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the {@link NeuralNetwork} weights format and the batched {@link NeuralEvaluator}.
+ */
+public class NeuralEvaluatorTest {
+
+    /**
+     * Constructs the test suite for {@code NeuralEvaluator}.
+     */
+    public NeuralEvaluatorTest() {}
+
+    private static BitBoard boardWithBottomRow(int emptyColumn) {
+        int[][] matrix = new int[GameConfig.BOARD_HEIGHT][GameConfig.BOARD_WIDTH];
+        for (int x = 0; x < GameConfig.BOARD_WIDTH; x++) {
+            if (x != emptyColumn) matrix[GameConfig.BOARD_HEIGHT - 1][x] = 8;
+        }
+        return BitBoard.fromMatrix(matrix);
+    }
+
+    @Test
+    @DisplayName("Weights survive a save and load round trip")
+    void testSaveLoadRoundTrip(@TempDir Path dir) throws IOException {
+        NeuralNetwork network = NeuralNetwork.random(7, NeuralEvaluator.INPUT_SIZE, 16, 1);
+        Path file = dir.resolve("net.bin");
+        network.save(file);
+
+        NeuralEvaluator original = new NeuralEvaluator(network);
+        NeuralEvaluator loaded = NeuralEvaluator.load(file);
+        BitBoard board = boardWithBottomRow(3);
+        assertEquals(original.evaluate(board, 1), loaded.evaluate(board, 1));
+    }
+
+    @Test
+    @DisplayName("A file without the magic number is rejected")
+    void testRejectsBadFile() {
+        assertThrows(IOException.class, () -> NeuralNetwork.load(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 0, 0, 0, 1})));
+    }
+
+    @Test
+    @DisplayName("Batched evaluation matches one-by-one evaluation")
+    void testBatchMatchesSingle() {
+        NeuralEvaluator evaluator = new NeuralEvaluator(NeuralNetwork.random(11, NeuralEvaluator.INPUT_SIZE, 32, 8, 1));
+        List<BitBoard> boards = List.of(BitBoard.empty(GameConfig.BOARD_WIDTH, GameConfig.BOARD_HEIGHT),
+                boardWithBottomRow(0), boardWithBottomRow(5), boardWithBottomRow(9));
+        int[] lines = {0, 1, 2, 4};
+        double[] batch = evaluator.evaluateBatch(boards, lines, List.of());
+        for (int i = 0; i < boards.size(); i++) {
+            assertEquals(evaluator.evaluate(boards.get(i), lines[i]), batch[i], 1e-5);
+        }
+    }
+
+    @Test
+    @DisplayName("Boards of another size than the network's are rejected")
+    void testRejectsOtherBoardSize() {
+        NeuralEvaluator evaluator = new NeuralEvaluator(NeuralNetwork.random(5, NeuralEvaluator.INPUT_SIZE, 8, 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> evaluator.evaluate(BitBoard.empty(GameConfig.BOARD_WIDTH + 2, GameConfig.BOARD_HEIGHT), 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> evaluator.evaluate(BitBoard.empty(GameConfig.BOARD_WIDTH, GameConfig.BOARD_HEIGHT - 5), 0));
+    }
+
+    @Test
+    @DisplayName("The auto player can choose placements with a neural evaluator")
+    void testAutoPlayerUsesNetwork() {
+        AutoPlayer player = new AutoPlayer(new NeuralEvaluator(NeuralNetwork.random(3, NeuralEvaluator.INPUT_SIZE, 16, 1)));
+        Placement placement = player.choosePlacement(boardWithBottomRow(4), BrickType.T,
+                List.of(BrickType.I, BrickType.O, BrickType.S, BrickType.Z, BrickType.L));
+        assertNotNull(placement);
+    }
+
+    @Test
+    @DisplayName("A network of the wrong size is rejected")
+    void testRejectsWrongInputSize() {
+        assertThrows(IllegalArgumentException.class, () -> new NeuralEvaluator(NeuralNetwork.random(1, 10, 1)));
+    }
+}
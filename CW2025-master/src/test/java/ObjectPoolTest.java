@@ -0,0 +1,54 @@
+import com.comp2042.view.ObjectPool;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the reuse and the cap of {@code ObjectPool}, which backs the notification overlay.
+ */
+public class ObjectPoolTest {
+
+    /**
+     * Constructs the test suite for {@code ObjectPool}.
+     */
+    public ObjectPoolTest() {}
+
+    @Test
+    @DisplayName("Many short-lived objects are served by a few allocations")
+    void testReuse() {
+        ObjectPool<StringBuilder> pool = new ObjectPool<>(StringBuilder::new, 3);
+        Deque<StringBuilder> shown = new ArrayDeque<>();
+        for (int i = 0; i < 1000; i++) {
+            shown.addLast(pool.acquire());
+            // notifications finish in the order they were shown, two at a time in flight
+            if (shown.size() > 2) pool.release(shown.pollFirst());
+        }
+        assertEquals(1000, pool.getAcquireCount());
+        assertEquals(3, pool.getCreatedCount());
+        assertEquals(0, pool.getRecycleCount());
+        assertEquals(2, pool.getActiveCount());
+    }
+
+    @Test
+    @DisplayName("Beyond the cap, the longest-used object is taken back")
+    void testCap() {
+        ObjectPool<Object> pool = new ObjectPool<>(Object::new, 2);
+        Object first = pool.acquire();
+        Object second = pool.acquire();
+        assertSame(first, pool.acquire());
+        assertSame(second, pool.acquire());
+        assertEquals(2, pool.getCreatedCount());
+        assertEquals(2, pool.getRecycleCount());
+        assertEquals(2, pool.getActiveCount());
+
+        pool.release(second);
+        pool.release(second);   // releasing twice is harmless
+        assertEquals(1, pool.getActiveCount());
+        assertSame(second, pool.acquire());
+        assertThrows(IllegalArgumentException.class, () -> new ObjectPool<>(Object::new, 0));
+    }
+}
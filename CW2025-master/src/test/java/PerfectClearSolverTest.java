@@ -0,0 +1,120 @@
+import com.comp2042.GameConfig;
+import com.comp2042.model.ai.BitBoard;
+import com.comp2042.model.ai.PerfectClearSolver;
+import com.comp2042.model.ai.Placement;
+import com.comp2042.model.ai.SolverResult;
+import com.comp2042.model.bricks.BrickType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the {@link PerfectClearSolver} on small puzzle positions.
+ * Each found solution is replayed on a {@link BitBoard} to check it really reaches the goal.
+ */
+public class PerfectClearSolverTest {
+
+    private PerfectClearSolver solver;
+    private int[][] board;
+
+    /**
+     * Constructs the test suite for {@code PerfectClearSolver}.
+     */
+    public PerfectClearSolverTest() {}
+
+    @BeforeEach
+    void setUp() {
+        solver = new PerfectClearSolver();
+        board = new int[GameConfig.BOARD_HEIGHT][GameConfig.BOARD_WIDTH];
+    }
+
+    /**
+     * Fills the bottom rows of the board, leaving the given columns empty.
+     */
+    private void fillBottomRows(int rows, int... emptyColumns) {
+        for (int y = GameConfig.BOARD_HEIGHT - rows; y < GameConfig.BOARD_HEIGHT; y++) {
+            for (int x = 0; x < GameConfig.BOARD_WIDTH; x++) {
+                board[y][x] = 8;
+            }
+            for (int x : emptyColumns) {
+                board[y][x] = 0;
+            }
+        }
+    }
+
+    /**
+     * Plays the placements on the board and returns the resulting board.
+     */
+    private BitBoard replay(List<Placement> placements) {
+        BitBoard result = BitBoard.fromMatrix(board);
+        for (Placement p : placements) {
+            assertFalse(result.collides(p.getShape(), p.getX(), p.getY()));
+            result = result.lock(p.getShape(), p.getX(), p.getY()).clearFullRows();
+        }
+        return result;
+    }
+
+    @Test
+    @DisplayName("An I brick clears a four-row well")
+    void testTetrisWell() {
+        fillBottomRows(4, 9);
+        SolverResult result = solver.solve(board, List.of(BrickType.I), null);
+        assertTrue(result.isSolved());
+        assertEquals(1, result.getPlacements().size());
+        assertTrue(replay(result.getPlacements()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("The solver holds the first brick when only the second one fits")
+    void testUsesHold() {
+        fillBottomRows(4, 9);
+        SolverResult result = solver.solve(board, List.of(BrickType.O, BrickType.I), null);
+        assertTrue(result.isSolved());
+        assertTrue(result.getPlacements().getFirst().usesHold());
+        assertTrue(replay(result.getPlacements()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("An odd number of filled cells is rejected by parity")
+    void testParityRejectsOddCells() {
+        board[GameConfig.BOARD_HEIGHT - 1][0] = 8;
+        SolverResult result = solver.solve(board, List.of(BrickType.I, BrickType.O, BrickType.T), null);
+        assertFalse(result.isSolved());
+        assertEquals(0, result.getNodesSearched());
+    }
+
+    @Test
+    @DisplayName("A two-line perfect clear from an empty board is found")
+    void testTwoLineClear() {
+        SolverResult result = solver.solve(board, List.of(BrickType.I, BrickType.I, BrickType.O, BrickType.J, BrickType.J), null);
+        assertTrue(result.isSolved());
+        assertTrue(replay(result.getPlacements()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Parallel mode finds a valid solution")
+    void testParallelSolve() {
+        List<BrickType> queue = List.of(BrickType.I, BrickType.O, BrickType.L, BrickType.J, BrickType.I,
+                BrickType.O, BrickType.L, BrickType.J, BrickType.O, BrickType.I);
+        SolverResult result = solver.solveParallel(board, queue, null, 4);
+        assertTrue(result.isSolved());
+        assertTrue(replay(result.getPlacements()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("The solver can build a target pattern")
+    void testTargetPattern() {
+        int[][] target = new int[GameConfig.BOARD_HEIGHT][GameConfig.BOARD_WIDTH];
+        for (int y = GameConfig.BOARD_HEIGHT - 2; y < GameConfig.BOARD_HEIGHT; y++) {
+            target[y][0] = 4;
+            target[y][1] = 4;
+        }
+        SolverResult result = solver.solveForPattern(board, target, List.of(BrickType.O), null, 1);
+        assertTrue(result.isSolved());
+        assertEquals(BitBoard.fromMatrix(target), replay(result.getPlacements()));
+    }
+}
@@ -0,0 +1,79 @@
+import com.comp2042.metrics.LogHistogram;
+import com.comp2042.metrics.PerformanceMonitor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the frame, input and tick measurements of {@code PerformanceMonitor}.
+ */
+public class PerformanceMonitorTest {
+
+    private static final long MS = 1_000_000L;
+
+    /**
+     * Constructs the test suite for {@code PerformanceMonitor}.
+     */
+    public PerformanceMonitorTest() {}
+
+    @Test
+    @DisplayName("A sample reports the frame rate, the frame-time buckets and the input latency")
+    void testSample() {
+        PerformanceMonitor monitor = new PerformanceMonitor();
+        long start = 1_000 * MS;
+        monitor.restart(start);
+        long now = start;
+        monitor.frame(now);
+        for (int i = 0; i < 59; i++) {
+            now += 16 * MS;
+            if (i == 10) monitor.markInput(now - 5 * MS);
+            monitor.frame(now);
+        }
+        now += 50 * MS;
+        monitor.frame(now);
+        monitor.getTickTime().record(2 * MS);
+
+        PerformanceMonitor.Sample sample = monitor.sample(start + 1000 * MS, 42);
+        assertEquals(60, sample.getFps(), 0.01);
+        assertEquals(0, sample.getFrameBucket(0));
+        assertEquals(59, sample.getFrameBucket(1));
+        assertEquals(1, sample.getFrameBucket(3));
+        assertEquals(16, sample.getFrameP50Millis(), 0.5);
+        assertEquals(50, sample.getFrameMaxMillis(), 0.01);
+        assertEquals(5, sample.getInputMeanMillis(), 0.01);
+        assertEquals(2, sample.getTickMeanMillis(), 0.01);
+        assertEquals(42, sample.getNodeCount());
+        assertTrue(sample.format().contains("nodes  42"), sample.format());
+    }
+
+    @Test
+    @DisplayName("Each sample only covers the frames since the previous one")
+    void testWindows() {
+        PerformanceMonitor monitor = new PerformanceMonitor();
+        monitor.restart(0);
+        monitor.frame(10 * MS);
+        monitor.frame(20 * MS);
+        monitor.markInput(25 * MS);
+        assertEquals(1, monitor.sample(500 * MS, 1).getFrameBucket(1));
+
+        PerformanceMonitor.Sample empty = monitor.sample(1000 * MS, 1);
+        assertEquals(0, empty.getFps());
+        assertEquals(0, empty.getInputMeanMillis());
+        assertEquals(1, monitor.getSampledFrameCount());
+    }
+
+    @Test
+    @DisplayName("A reset histogram starts empty")
+    void testHistogramReset() {
+        LogHistogram histogram = new LogHistogram();
+        histogram.record(5);
+        histogram.record(500);
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMax());
+        histogram.record(7);
+        assertEquals(7, histogram.getPercentile(50));
+        assertEquals(7, histogram.getMin());
+    }
+}
@@ -0,0 +1,116 @@
+import com.comp2042.model.ai.AutoPlayer;
+import com.comp2042.model.ai.BitBoard;
+import com.comp2042.model.ai.HeuristicEvaluator;
+import com.comp2042.model.ai.Placement;
+import com.comp2042.model.ai.PlacementGenerator;
+import com.comp2042.model.ai.PositionDatabase;
+import com.comp2042.model.ai.PositionDatabaseBuilder;
+import com.comp2042.model.ai.ZobristHash;
+import com.comp2042.model.bricks.BrickType;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the Zobrist hashing, the offline builder and the memory-mapped lookups of {@code PositionDatabase}.
+ */
+public class PositionDatabaseTest {
+
+    @TempDir
+    static Path directory;
+
+    private static Path file;
+    private static int written;
+
+    /**
+     * Constructs the test suite for {@code PositionDatabase}.
+     */
+    public PositionDatabaseTest() {}
+
+    /**
+     * Builds a one-brick-deep database for the standard board once for all tests.
+     *
+     * @throws IOException If the database cannot be written.
+     */
+    @BeforeAll
+    static void buildDatabase() throws IOException {
+        file = directory.resolve("positions.db");
+        written = new PositionDatabaseBuilder(new HeuristicEvaluator(), 10, 25, 1).build(file);
+    }
+
+    @Test
+    @DisplayName("The Zobrist hash depends only on the filled cells and the brick")
+    void testHash() {
+        int[] rows = new int[25];
+        rows[23] = 0b11;
+        rows[24] = 0b11;
+        BitBoard board = BitBoard.fromRows(10, rows);
+        long expected = ZobristHash.cellKey(0, 24) ^ ZobristHash.cellKey(1, 24) ^ ZobristHash.cellKey(0, 23)
+                ^ ZobristHash.cellKey(1, 23) ^ ZobristHash.typeKey(BrickType.T);
+
+        assertEquals(expected, ZobristHash.hash(board, BrickType.T));
+        assertNotEquals(ZobristHash.hash(board, BrickType.T), ZobristHash.hash(board, BrickType.S));
+        assertEquals(ZobristHash.typeKey(BrickType.I), ZobristHash.hash(BitBoard.empty(10, 25), BrickType.I));
+    }
+
+    @Test
+    @DisplayName("Stored positions return the same placement the search would choose")
+    void testLookupMatchesSearch() throws IOException {
+        PositionDatabase database = PositionDatabase.open(file);
+        AutoPlayer search = new AutoPlayer(new HeuristicEvaluator());
+        assertEquals(written, database.size());
+        assertTrue(database.size() > BrickType.values().length);
+
+        BitBoard empty = BitBoard.empty(10, 25);
+        for (BrickType type : BrickType.values()) {
+            PositionDatabase.Entry entry = database.lookup(empty, type);
+            assertNotNull(entry, type.name());
+            Placement expected = search.choosePlacement(empty, type);
+            assertEquals(expected.getRotation(), entry.getPlacement().getRotation());
+            assertEquals(expected.getX(), entry.getPlacement().getX());
+            assertEquals(expected.getY(), entry.getPlacement().getY());
+        }
+
+        // every position one brick deep is stored too
+        Placement first = PlacementGenerator.generate(empty, BrickType.L).getLast();
+        BitBoard deeper = empty.lock(first.getShape(), first.getX(), first.getY());
+        Placement expected = search.choosePlacement(deeper, BrickType.Z);
+        Placement stored = new AutoPlayer(new HeuristicEvaluator(), database).choosePlacement(deeper, BrickType.Z);
+        assertEquals(expected.getX(), stored.getX());
+        assertEquals(expected.getRotation(), stored.getRotation());
+        assertEquals(8, database.getHitCount());
+    }
+
+    @Test
+    @DisplayName("Positions that were not stored, or on another board size, are misses")
+    void testMisses() throws IOException {
+        PositionDatabase database = PositionDatabase.open(file);
+        BitBoard tall = BitBoard.fromRows(10, new int[]{0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
+                0, 0, 0b1111111110, 0b1111111110, 0b1111111110});
+
+        assertNull(database.lookup(tall, BrickType.I));
+        assertNull(database.lookup(BitBoard.empty(10, 20), BrickType.I));
+        assertEquals(2, database.getMissCount());
+        assertNotNull(new AutoPlayer(new HeuristicEvaluator(), database).choosePlacement(tall, BrickType.I));
+    }
+
+    @Test
+    @DisplayName("A file that is not a position database is rejected")
+    void testInvalidFile() throws IOException {
+        Path bad = directory.resolve("bad.db");
+        Files.write(bad, new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13});
+        assertThrows(IOException.class, () -> PositionDatabase.open(bad));
+
+        byte[] truncated = Files.readAllBytes(file);
+        Files.write(bad, Arrays.copyOf(truncated, truncated.length - 3));
+        assertThrows(IOException.class, () -> PositionDatabase.open(bad));
+    }
+}
@@ -0,0 +1,97 @@
+import com.comp2042.model.Difficulty;
+import com.comp2042.model.KeyAction;
+import com.comp2042.model.LeaderboardEntry;
+import com.comp2042.model.ProfileStore;
+import javafx.scene.input.KeyCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the binary format, checksum and legacy import of {@code ProfileStore}.
+ */
+public class ProfileStoreTest {
+
+    @TempDir
+    Path directory;
+
+    /**
+     * Constructs the test suite for {@code ProfileStore}.
+     */
+    public ProfileStoreTest() {}
+
+    /**
+     * Waits for queued profile writes, so none lands in the temporary directory while it is deleted.
+     */
+    @AfterEach
+    void tearDown() {
+        ProfileStore.flush();
+    }
+
+    @Test
+    @DisplayName("Key bindings and leaderboards survive a write and reopen")
+    void testRoundTrip() {
+        ProfileStore store = new ProfileStore(directory);
+        LocalDateTime date = LocalDateTime.of(2025, 11, 3, 14, 30, 5);
+        store.setKeyBindings(Map.of(KeyAction.HOLD, KeyCode.C));
+        store.setLeaderboard(Difficulty.NORMAL, List.of(new LeaderboardEntry(900, 9, date, 7L)));
+        ProfileStore.flush();
+
+        ProfileStore reopened = new ProfileStore(directory);
+
+        assertEquals(Map.of(KeyAction.HOLD, KeyCode.C), reopened.getKeyBindings());
+        LeaderboardEntry entry = reopened.getLeaderboard(Difficulty.NORMAL).getFirst();
+        assertEquals(900, entry.getScore());
+        assertEquals(9, entry.getLines());
+        assertEquals(date, entry.getDate());
+        assertEquals(7L, entry.getSeed());
+        assertTrue(reopened.getLeaderboard(Difficulty.EASY).isEmpty());
+    }
+
+    @Test
+    @DisplayName("The legacy settings and high score files are imported once and left in place")
+    void testLegacyImport() throws Exception {
+        Files.writeString(directory.resolve("settings.txt"), "MOVE_LEFT=LEFT\n");
+        Files.writeString(directory.resolve("highscore_easy.txt"), "300,3,2025-01-02T03:04:05,11\n");
+
+        ProfileStore store = new ProfileStore(directory);
+        ProfileStore.flush();
+
+        assertEquals(KeyCode.LEFT, store.getKeyBindings().get(KeyAction.MOVE_LEFT));
+        assertEquals(300, store.getLeaderboard(Difficulty.EASY).getFirst().getScore());
+        assertTrue(Files.exists(store.getFile()));
+        assertTrue(Files.exists(directory.resolve("settings.txt")));
+
+        // once the profile exists, edits to the legacy files are no longer imported on open
+        Files.writeString(directory.resolve("highscore_easy.txt"), "999\n");
+        assertEquals(300, new ProfileStore(directory).getLeaderboard(Difficulty.EASY).getFirst().getScore());
+    }
+
+    @Test
+    @DisplayName("A profile with a bad checksum is set aside and rebuilt from the legacy files")
+    void testCorruptProfile() throws Exception {
+        ProfileStore store = new ProfileStore(directory);
+        store.setLeaderboard(Difficulty.HARD, List.of(new LeaderboardEntry(500, 5, LocalDateTime.now(), 1L)));
+        ProfileStore.flush();
+        byte[] data = Files.readAllBytes(store.getFile());
+        data[data.length - 1] ^= 0x55;
+        Files.write(store.getFile(), data);
+        Files.writeString(directory.resolve("highscore_hard.txt"), "200\n");
+
+        ProfileStore reopened = new ProfileStore(directory);
+        ProfileStore.flush();
+
+        assertEquals(200, reopened.getLeaderboard(Difficulty.HARD).getFirst().getScore());
+        assertTrue(Files.exists(directory.resolve("profile.dat.corrupt")));
+        assertEquals(200, new ProfileStore(directory).getLeaderboard(Difficulty.HARD).getFirst().getScore());
+    }
+}
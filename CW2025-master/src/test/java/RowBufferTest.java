@@ -0,0 +1,146 @@
+import com.comp2042.model.ClearRow;
+import com.comp2042.model.MatrixOperations;
+import com.comp2042.model.RowBuffer;
+import com.comp2042.model.SimpleBoard;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the circular row storage of {@code RowBuffer} against the copying {@code MatrixOperations}.
+ */
+public class RowBufferTest {
+
+    /**
+     * Constructs the test suite for {@code RowBuffer}.
+     */
+    public RowBufferTest() {}
+
+    /** Builds a row with every cell filled except the given columns. */
+    private static int[] rowWithHoles(int columns, int... holes) {
+        int[] row = new int[columns];
+        Arrays.fill(row, 8);
+        for (int hole : holes) row[hole] = 0;
+        return row;
+    }
+
+    @Test
+    @DisplayName("Clearing rows gives the same board as MatrixOperations, wherever the base is")
+    void testRemoveFullRowsMatchesCheckRemoving() {
+        Random random = new Random(7);
+        RowBuffer buffer = new RowBuffer(12, 4);
+        int[][] expected = new int[12][4];
+        int[][] piece = {{3}};
+        for (int step = 0; step < 2000; step++) {
+            int x = random.nextInt(4);
+            int y = random.nextInt(12);
+            if (random.nextInt(10) == 0) {
+                // push a garbage row to move the base
+                int[] garbage = rowWithHoles(4, random.nextInt(4));
+                buffer.pushRow(garbage);
+                int[][] shifted = new int[12][];
+                System.arraycopy(expected, 1, shifted, 0, 11);
+                shifted[11] = garbage;
+                expected = shifted;
+            } else if (expected[y][x] == 0) {
+                buffer.merge(piece, x, y);
+                expected = MatrixOperations.merge(expected, piece, x, y);
+            }
+            ClearRow clearRow = MatrixOperations.checkRemoving(expected);
+            expected = clearRow.getNewMatrix();
+            assertEquals(clearRow.getLinesRemoved(), buffer.removeFullRows(), "step " + step);
+            assertArrayEquals(expected, buffer.toMatrix(), "step " + step);
+        }
+    }
+
+    @Test
+    @DisplayName("Pushing a row moves the others up and reports cells pushed off the top")
+    void testPushRow() {
+        RowBuffer buffer = new RowBuffer(3, 2);
+        int[] first = {1, 0};
+        assertFalse(buffer.pushRow(first));
+        assertFalse(buffer.pushRow(new int[]{0, 2}));
+        assertSame(first, buffer.getRow(1));
+        assertArrayEquals(new int[]{0, 2}, buffer.getRow(2));
+
+        assertFalse(buffer.pushRow(new int[]{3, 3}));
+        assertSame(first, buffer.getRow(0));
+        assertTrue(buffer.pushRow(new int[]{4, 4}));
+        assertThrows(IllegalArgumentException.class, () -> buffer.pushRow(new int[3]));
+    }
+
+    @Test
+    @DisplayName("Collisions and the top of the stack match a scan of the whole matrix")
+    void testIntersectsAndTopFilledRow() {
+        Random random = new Random(11);
+        RowBuffer buffer = new RowBuffer(10, 4);
+        int[][] piece = {{0, 5}, {5, 5}};
+        assertEquals(10, buffer.getTopFilledRow());
+        for (int step = 0; step < 2000; step++) {
+            int x = random.nextInt(6) - 2;
+            int y = random.nextInt(12) - 1;
+            int[][] matrix = buffer.toMatrix();
+            boolean expected = y < 0 ? !fits(matrix, piece, x, y) : MatrixOperations.intersect(matrix, piece, x, y);
+            assertEquals(expected, buffer.intersects(piece, x, y), "step " + step);
+            if (!expected) buffer.merge(piece, x, y);
+            if (random.nextInt(8) == 0) buffer.pushRow(rowWithHoles(4, random.nextInt(4)));
+            if (random.nextInt(50) == 0) buffer.clear();
+            buffer.removeFullRows();
+            assertEquals(scanTopFilledRow(buffer.toMatrix()), buffer.getTopFilledRow(), "step " + step);
+        }
+    }
+
+    /** Checks a shape that may reach above the board: every filled cell must be on the board and empty. */
+    private static boolean fits(int[][] matrix, int[][] shape, int x, int y) {
+        for (int j = 0; j < shape.length; j++) {
+            for (int i = 0; i < shape[j].length; i++) {
+                if (shape[j][i] == 0) continue;
+                int row = y + j;
+                int column = x + i;
+                if (row < 0 || row >= matrix.length || column < 0 || column >= matrix[row].length) return false;
+                if (matrix[row][column] != 0) return false;
+            }
+        }
+        return true;
+    }
+
+    private static int scanTopFilledRow(int[][] matrix) {
+        for (int row = 0; row < matrix.length; row++) {
+            for (int cell : matrix[row]) {
+                if (cell != 0) return row;
+            }
+        }
+        return matrix.length;
+    }
+
+    @Test
+    @DisplayName("Earlier matrices keep their rows after later merges and clears")
+    void testMatricesAreSnapshots() {
+        RowBuffer buffer = new RowBuffer(4, 2);
+        buffer.merge(new int[][]{{1, 0}}, 0, 3);
+        int[][] before = buffer.toMatrix();
+        int[][] copy = MatrixOperations.copy(before);
+        assertSame(before, buffer.toMatrix());
+
+        buffer.merge(new int[][]{{0, 2}}, 0, 3);
+        assertEquals(1, buffer.removeFullRows());
+        assertArrayEquals(copy, before);
+        assertArrayEquals(new int[4][2], buffer.toMatrix());
+    }
+
+    @Test
+    @DisplayName("A garbage row enters the board at the bottom")
+    void testBoardGarbageRow() {
+        SimpleBoard board = new SimpleBoard(25, 10, 3L);
+        board.newGame();
+        int[] garbage = rowWithHoles(10, 4);
+        assertFalse(board.insertGarbageRow(garbage));
+        assertArrayEquals(garbage, board.getRow(24));
+        assertArrayEquals(garbage, board.getBoardMatrix()[24]);
+        assertArrayEquals(new int[10], board.getRow(23));
+    }
+}
@@ -0,0 +1,121 @@
+import com.comp2042.model.GameSettings;
+import com.comp2042.model.KeyAction;
+import com.comp2042.model.ProfileStore;
+import com.comp2042.model.SettingsService;
+import javafx.scene.input.KeyCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the validation of {@code GameSettings} and the hot reload of {@code SettingsService}.
+ */
+public class SettingsServiceTest {
+
+    @TempDir
+    Path directory;
+
+    /**
+     * Constructs the test suite for {@code SettingsService}.
+     */
+    public SettingsServiceTest() {}
+
+    /**
+     * Waits for queued profile writes, so none lands in the temporary directory while it is deleted.
+     */
+    @AfterEach
+    void tearDown() {
+        ProfileStore.flush();
+    }
+
+    @Test
+    @DisplayName("Invalid and missing bindings of an imported file fall back to their defaults")
+    void testInvalidBindingsRepaired() throws Exception {
+        Path file = directory.resolve("settings.txt");
+        Files.writeString(file, "MOVE_LEFT=LEFT\nMOVE_RIGHT=NOT_A_KEY\n");
+
+        GameSettings settings = new GameSettings(new ProfileStore(directory));
+        ProfileStore.flush();
+
+        assertEquals(KeyCode.LEFT, settings.getKeyCode(KeyAction.MOVE_LEFT));
+        assertEquals(KeyCode.J, settings.getKeyCode(KeyAction.MOVE_RIGHT));
+        assertEquals(KeyCode.V, settings.getKeyCode("HOLD"));
+        assertEquals("MOVE_LEFT=LEFT\nMOVE_RIGHT=NOT_A_KEY\n", Files.readString(file));
+        assertEquals(KeyCode.J, new GameSettings(new ProfileStore(directory)).getKeyCode(KeyAction.MOVE_RIGHT));
+        assertThrows(IllegalArgumentException.class, () -> settings.getKeyCode("NO_SUCH_ACTION"));
+    }
+
+    @Test
+    @DisplayName("Editing the settings file reloads the bindings and notifies the listener")
+    void testHotReload() throws Exception {
+        Path file = directory.resolve("settings.txt");
+        GameSettings settings = new GameSettings(new ProfileStore(directory));
+        try (SettingsService service = new SettingsService(settings, file)) {
+            CountDownLatch changed = new CountDownLatch(1);
+            service.setListener(changed::countDown);
+
+            Files.writeString(file, "HOLD=C\n");
+
+            assertTrue(changed.await(10, TimeUnit.SECONDS), "listener was not notified");
+            assertEquals(KeyCode.C, service.getSettings().getKeyCode(KeyAction.HOLD));
+            assertEquals(KeyCode.F, service.getSettings().getKeyCode(KeyAction.MOVE_LEFT));
+        }
+        ProfileStore.flush();
+        assertEquals(KeyCode.C, new GameSettings(new ProfileStore(directory)).getKeyCode(KeyAction.HOLD));
+    }
+
+    @Test
+    @DisplayName("A reload keeps the current binding when the new value is invalid")
+    void testReloadKeepsValidBindings() throws Exception {
+        Path file = directory.resolve("settings.txt");
+        GameSettings settings = new GameSettings(new ProfileStore(directory));
+        try (SettingsService service = new SettingsService(settings, file)) {
+            CountDownLatch changed = new CountDownLatch(1);
+            service.setListener(changed::countDown);
+
+            Files.writeString(file, "MOVE_LEFT=BAD\nMOVE_RIGHT=K\n");
+
+            assertTrue(changed.await(10, TimeUnit.SECONDS), "listener was not notified");
+            assertEquals(KeyCode.F, service.getSettings().getKeyCode(KeyAction.MOVE_LEFT));
+            assertEquals(KeyCode.K, service.getSettings().getKeyCode(KeyAction.MOVE_RIGHT));
+            assertEquals("MOVE_LEFT=BAD\nMOVE_RIGHT=K\n", Files.readString(file));
+        }
+    }
+
+    @Test
+    @DisplayName("Editing one key of a stale file does not revert keys rebound in the game")
+    void testRebindThenEditOtherKey() throws Exception {
+        Path file = directory.resolve("settings.txt");
+        Files.writeString(file, "MOVE_LEFT=F\nHOLD=V\n");
+        ProfileStore profile = new ProfileStore(directory);
+        GameSettings settings = new GameSettings(profile);
+        ProfileStore.flush();
+        // the profile was saved after the file was written, so the file is not imported at start
+        Files.setLastModifiedTime(file, FileTime.fromMillis(profile.getLastSavedMillis() - 1000));
+        try (SettingsService service = new SettingsService(settings, file)) {
+            CountDownLatch changed = new CountDownLatch(1);
+            service.setListener(changed::countDown);
+
+            settings.setKeyCode(KeyAction.MOVE_LEFT, KeyCode.A);
+            settings.saveSettings();
+            Files.writeString(file, "MOVE_LEFT=F\nHOLD=C\n");
+
+            assertTrue(changed.await(10, TimeUnit.SECONDS), "listener was not notified");
+            assertEquals(KeyCode.C, settings.getKeyCode(KeyAction.HOLD));
+            assertEquals(KeyCode.A, settings.getKeyCode(KeyAction.MOVE_LEFT));
+        }
+        ProfileStore.flush();
+        GameSettings reloaded = new GameSettings(new ProfileStore(directory));
+        assertEquals(KeyCode.A, reloaded.getKeyCode(KeyAction.MOVE_LEFT));
+        assertEquals(KeyCode.C, reloaded.getKeyCode(KeyAction.HOLD));
+    }
+}
@@ -1,6 +1,7 @@
 import com.comp2042.GameConfig;
 import com.comp2042.model.Board;
 import com.comp2042.model.SimpleBoard;
+import com.comp2042.model.ViewData;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -96,4 +97,63 @@ public class SimpleBoardTest {
         // 4x1 bricks are now in the game screen
         assertEquals(4, count);
     }
+
+    /**
+     * Test that the queue and hold previews are versioned: moves keep the version and reuse
+     * the queue shapes, spawning and holding bump it
+     */
+    @Test
+    void testPreviewVersion() {
+        // Arrange
+        board.newGame();
+        ViewData before = board.getViewData();
+        // Act - moves do not touch the queue or the hold
+        board.moveBrickLeft();
+        board.rotateLeftBrick();
+        board.moveBrickDown();
+        ViewData moved = board.getViewData();
+        // Assert
+        assertEquals(before.getPreviewVersion(), moved.getPreviewVersion());
+        assertSame(before.getNextBrickData(), moved.getNextBrickData());
+
+        // Act - holding and spawning change the previews
+        board.swapHoldBrick();
+        ViewData held = board.getViewData();
+        board.createNewBrick();
+        ViewData spawned = board.getViewData();
+        // Assert
+        assertNotEquals(moved.getPreviewVersion(), held.getPreviewVersion());
+        assertNotEquals(held.getPreviewVersion(), spawned.getPreviewVersion());
+        assertNotSame(held.getNextBrickData(), spawned.getNextBrickData());
+    }
+
+    /**
+     * Test that a sandbox-sized board plays like a standard one: the brick spawns centred,
+     * its ghost lands on the floor and a hard drop stops there
+     */
+    @Test
+    void testLargeBoard() {
+        // Preparation
+        Board large = new SimpleBoard(GameConfig.SANDBOX_BOARD_HEIGHT, GameConfig.SANDBOX_BOARD_WIDTH, 5L);
+        large.newGame();
+        ViewData spawned = large.getViewData();
+        // Evaluation - the spawn column moves with the width
+        assertEquals(GameConfig.BRICK_SPAWN_X + (GameConfig.SANDBOX_BOARD_WIDTH - GameConfig.BOARD_WIDTH) / 2, spawned.getxPosition());
+        assertTrue(large.moveBrickLeft());
+        assertTrue(large.moveBrickRight());
+        // Execute
+        int ghostY = large.getViewData().getGhostYPosition();
+        int rowsDropped = large.hardDrop();
+        // Evaluation
+        assertEquals(ghostY, spawned.getyPosition() + rowsDropped);
+        assertTrue(rowsDropped > GameConfig.SANDBOX_BOARD_HEIGHT - 10);
+        assertFalse(large.moveBrickDown());
+
+        // the next ghost lands on the first brick
+        large.mergeBrickToBackground();
+        large.createNewBrick();
+        ViewData next = large.getViewData();
+        assertTrue(next.getGhostYPosition() < ghostY);
+        assertEquals(next.getGhostYPosition(), next.getyPosition() + large.hardDrop());
+    }
 }
@@ -0,0 +1,64 @@
+import com.comp2042.view.TileColors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the change tracking of {@code TileColors}, which decides which board cells are repainted.
+ */
+public class TileColorsTest {
+
+    /**
+     * Constructs the test suite for {@code TileColors}.
+     */
+    public TileColorsTest() {}
+
+    /** Sets every cell of a matrix and returns how many were reported as changed. */
+    private static int draw(TileColors colors, int[][] matrix) {
+        int changed = 0;
+        for (int i = 0; i < matrix.length; i++) {
+            for (int j = 0; j < matrix[i].length; j++) {
+                if (colors.set(i, j, matrix[i][j])) changed++;
+            }
+        }
+        return changed;
+    }
+
+    @Test
+    @DisplayName("Drawing the same matrix twice updates no cell the second time")
+    void testRedrawSameMatrix() {
+        Random random = new Random(3);
+        int[][] matrix = new int[23][10];
+        for (int[] row : matrix) {
+            for (int j = 0; j < row.length; j++) row[j] = random.nextInt(8);
+        }
+        TileColors colors = new TileColors(23, 10);
+        int changed = draw(colors, matrix);
+        assertEquals(changed, colors.getUpdateCount());
+        assertEquals(230 - changed, colors.getSkipCount());
+
+        assertEquals(0, draw(colors, matrix));
+        assertEquals(changed, colors.getUpdateCount());
+        assertEquals(460 - changed, colors.getSkipCount());
+    }
+
+    @Test
+    @DisplayName("Only the cells whose colour changed are updated")
+    void testChangedCells() {
+        TileColors colors = new TileColors(2, 2);
+        assertFalse(colors.set(0, 0, 0));
+        assertTrue(colors.set(0, 1, 5));
+        assertFalse(colors.set(0, 1, 5));
+        assertTrue(colors.set(0, 1, 0));
+        assertEquals(0, colors.get(0, 1));
+        assertEquals(2, colors.getUpdateCount());
+        assertEquals(2, colors.getSkipCount());
+
+        colors.countRepaintAll();
+        assertEquals(6, colors.getUpdateCount());
+        assertThrows(IllegalArgumentException.class, () -> new TileColors(0, 4));
+    }
+}
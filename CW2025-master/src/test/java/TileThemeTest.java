@@ -0,0 +1,58 @@
+import com.comp2042.view.TileTheme;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the tile rasterization of {@code TileTheme}, which needs no JavaFX toolkit.
+ */
+public class TileThemeTest {
+
+    /**
+     * Constructs the test suite for {@code TileTheme}.
+     */
+    public TileThemeTest() {}
+
+    @Test
+    @DisplayName("A rounded tile is opaque inside and fades out at the corners")
+    void testRoundedTile() {
+        int size = 20;
+        int[] pixels = TileTheme.CLASSIC.rasterize(4, size);
+        assertEquals(size * size, pixels.length);
+        assertEquals(0xFFFFFF00, pixels[10 * size + 10]);
+        assertEquals(0xFFFFFF00, pixels[10]);          // middle of the top edge
+        assertEquals(0, pixels[0] >>> 24);             // outside the corner arc
+        int edge = pixels[1] >>> 24;                   // on the arc
+        assertTrue(edge > 0 && edge < 255, "alpha " + edge);
+        assertEquals(0xFFFF00, pixels[1] & 0xFFFFFF);
+    }
+
+    @Test
+    @DisplayName("Square themes fill the whole tile, and empty cells stay transparent")
+    void testSquareAndEmptyTiles() {
+        for (int pixel : TileTheme.FLAT.rasterize(8, 6)) {
+            assertEquals(TileTheme.FLAT.getArgb(8), pixel);
+        }
+        for (int pixel : TileTheme.CLASSIC.rasterize(0, 6)) {
+            assertEquals(0, pixel);
+        }
+    }
+
+    @Test
+    @DisplayName("Unknown colour ids use the fallback colour")
+    void testFallback() {
+        assertEquals(0xFFFFFFFF, TileTheme.CLASSIC.getArgb(42));
+        assertEquals(0xFFFFFFFF, TileTheme.CLASSIC.getArgb(-1));
+        assertThrows(IllegalArgumentException.class, () -> TileTheme.CLASSIC.rasterize(1, 0));
+    }
+
+    @Test
+    @DisplayName("A high-resolution tile is the tile drawn at the larger size with a larger arc")
+    void testHighResolutionTile() {
+        TileTheme doubled = new TileTheme("Doubled", TileTheme.CLASSIC.getArc() * 2, 0xFFFFFFFF, new int[]{0, 0xFF00FFFF});
+        int[] pixels = TileTheme.CLASSIC.rasterize(1, 10, 2);
+        assertEquals(400, pixels.length);
+        assertArrayEquals(doubled.rasterize(1, 20), pixels);
+    }
+}
@@ -0,0 +1,59 @@
+import com.comp2042.model.Difficulty;
+import com.comp2042.model.ai.AutoPlayer;
+import com.comp2042.model.ai.GameOutcome;
+import com.comp2042.model.ai.HeadlessGame;
+import com.comp2042.model.ai.HeuristicEvaluator;
+import com.comp2042.model.ai.WeightTuner;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the seeded {@link HeadlessGame} simulation and the {@link WeightTuner} checkpointing.
+ */
+public class WeightTunerTest {
+
+    /**
+     * Constructs the test suite for {@code WeightTuner}.
+     */
+    public WeightTunerTest() {}
+
+    @Test
+    @DisplayName("The same seed always gives the same headless game")
+    void testHeadlessGameIsDeterministic() {
+        AutoPlayer player = new AutoPlayer(new HeuristicEvaluator());
+        GameOutcome first = new HeadlessGame(Difficulty.EXTRA, 1234L, player, 100).play();
+        GameOutcome second = new HeadlessGame(Difficulty.EXTRA, 1234L, player, 100).play();
+
+        assertEquals(first.getScore(), second.getScore());
+        assertEquals(first.getLinesCleared(), second.getLinesCleared());
+        assertEquals(first.getPiecesPlaced(), second.getPiecesPlaced());
+    }
+
+    @Test
+    @DisplayName("The default weights clear lines on an empty board")
+    void testAutoPlayerClearsLines() {
+        GameOutcome outcome = new HeadlessGame(Difficulty.EASY, 42L, new AutoPlayer(new HeuristicEvaluator()), 200).play();
+        assertTrue(outcome.getLinesCleared() > 0);
+    }
+
+    @Test
+    @DisplayName("A tuner resumes from its checkpoint file")
+    void testCheckpointResume(@TempDir Path dir) throws IOException {
+        Path checkpoint = dir.resolve("tuner.properties");
+        WeightTuner tuner = new WeightTuner(4, 1, 20, 2, 7L, checkpoint);
+        tuner.run(1);
+        assertTrue(Files.exists(checkpoint));
+
+        WeightTuner resumed = new WeightTuner(4, 1, 20, 2, 7L, checkpoint);
+        assertEquals(1, resumed.getGeneration());
+        assertEquals(tuner.getPopulation().size(), resumed.getPopulation().size());
+        assertArrayEquals(tuner.getPopulation().get(0), resumed.getPopulation().get(0));
+    }
+}
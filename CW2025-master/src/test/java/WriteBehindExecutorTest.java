@@ -0,0 +1,110 @@
+import com.comp2042.model.WriteBehindExecutor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the queueing, coalescing, bounding and metrics of {@code WriteBehindExecutor}.
+ */
+public class WriteBehindExecutorTest {
+
+    private final WriteBehindExecutor executor = new WriteBehindExecutor("test-writer", 3);
+    private final List<String> written = Collections.synchronizedList(new ArrayList<>());
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    /**
+     * Constructs the test suite for {@code WriteBehindExecutor}.
+     */
+    public WriteBehindExecutorTest() {}
+
+    /**
+     * Releases a blocked writer and stops the executor.
+     */
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.close();
+    }
+
+    /** Occupies the background thread until {@link #release} opens. */
+    private void blockWriter() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        started.await();
+    }
+
+    @Test
+    @DisplayName("Waiting writes with the same key are coalesced into the newest one")
+    void testCoalescing() throws InterruptedException {
+        blockWriter();
+        executor.write("a", () -> written.add("a1"));
+        executor.execute(() -> written.add("append"));
+        executor.write("a", () -> written.add("a2"));
+        executor.write("a", () -> written.add("a3"));
+
+        assertEquals(2, executor.getQueueDepth());
+        release.countDown();
+        executor.flush();
+
+        assertEquals(List.of("a3", "append"), written);
+        assertEquals(2, executor.getCoalescedCount());
+        assertEquals(0, executor.getQueueDepth());
+        assertEquals(3, executor.getWriteLatency().getCount());
+    }
+
+    @Test
+    @DisplayName("A full queue rejects new writes instead of blocking the caller")
+    void testBoundedQueue() throws InterruptedException {
+        blockWriter();
+        assertTrue(executor.execute(() -> written.add("1")));
+        assertTrue(executor.execute(() -> written.add("2")));
+        assertTrue(executor.write("k", () -> written.add("3")));
+
+        assertFalse(executor.execute(() -> written.add("4")));
+        assertTrue(executor.write("k", () -> written.add("5")));   // replaces a waiting write
+
+        release.countDown();
+        executor.flush();
+        assertEquals(List.of("1", "2", "5"), written);
+        assertEquals(1, executor.getRejectedCount());
+    }
+
+    @Test
+    @DisplayName("A failing write is counted and does not stop later writes")
+    void testFailure() {
+        executor.execute(() -> { throw new IOException("disk full"); });
+        executor.execute(() -> written.add("after"));
+        executor.flush();
+
+        assertEquals(1, executor.getFailedCount());
+        assertEquals(List.of("after"), written);
+    }
+
+    @Test
+    @DisplayName("A closed executor finishes its queue and rejects later writes")
+    void testClose() throws InterruptedException {
+        blockWriter();
+        executor.execute(() -> written.add("queued"));
+        release.countDown();
+        executor.close();
+
+        assertEquals(List.of("queued"), written);
+        assertFalse(executor.execute(() -> written.add("late")));
+        assertThrows(IllegalArgumentException.class, () -> new WriteBehindExecutor("bad", 0));
+    }
+}